@@ -0,0 +1,62 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import net.emaze.dysfunctional.contracts.dbc;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Passing preconditions through every dbc overload. Run with the GC profiler
+ * (as Benchmarks does) and compare gc.alloc.rate.norm: the fixed arity and
+ * lazy message overloads report zero bytes per operation, while varargs calls
+ * pay for the parameters array and boxing. Escape analysis is disabled, as it
+ * is in effect wherever the precondition does not get inlined.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-XX:-DoEscapeAnalysis")
+public class DbcBenchmark {
+
+    public Object value = new Object();
+    public long index = 1_000_000L;
+
+    @Benchmark
+    public void varargs() {
+        dbc.precondition(index >= 0, "%s is not in [%s, %s)", index, 0L, index);
+    }
+
+    @Benchmark
+    public void message() {
+        dbc.precondition(value != null, "cannot check a null value");
+    }
+
+    @Benchmark
+    public void objectParameter() {
+        dbc.precondition(value != null, "cannot check %s", value);
+    }
+
+    @Benchmark
+    public void longParameters() {
+        dbc.precondition(index >= 0, "%s is not in [0, %s)", index, index);
+    }
+
+    @Benchmark
+    public void lazyMessage() {
+        dbc.precondition(value != null, () -> "cannot check a null value");
+    }
+
+    @Benchmark
+    public void hotPrecondition() {
+        dbc.hotPrecondition(value != null, "cannot check a null value");
+    }
+}
@@ -0,0 +1,103 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import net.emaze.dysfunctional.Applications;
+import net.emaze.dysfunctional.Filtering;
+import net.emaze.dysfunctional.iterations.ArrayIterator;
+import net.emaze.dysfunctional.iterations.BatchIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * filter, takeWhile, slice against the equivalent stream pipelines; a
+ * transform and filter pipeline drained element by element and in batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilteringBenchmark {
+
+    private static final Predicate<Integer> IS_EVEN = i -> (i & 1) == 0;
+
+    @Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.LARGE})
+    public int size;
+    private List<Integer> values;
+    private Integer[] array;
+    private final Object[] batch = new Object[256];
+
+    @Setup
+    public void setup() {
+        values = Inputs.list(Inputs.integers(size));
+        array = values.toArray(new Integer[size]);
+    }
+
+    @Benchmark
+    public void filter(Blackhole bh) {
+        final Iterator<Integer> filtered = Filtering.filter(values, IS_EVEN);
+        while (filtered.hasNext()) {
+            bh.consume(filtered.next());
+        }
+    }
+
+    @Benchmark
+    public void filterStream(Blackhole bh) {
+        values.stream().filter(IS_EVEN).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void takeWhile(Blackhole bh) {
+        final int half = size / 2;
+        final Iterator<Integer> taken = Filtering.takeWhile(values, i -> i < half);
+        while (taken.hasNext()) {
+            bh.consume(taken.next());
+        }
+    }
+
+    @Benchmark
+    public void slice(Blackhole bh) {
+        final Iterator<Integer> sliced = Filtering.slice(size / 4, size / 2, values);
+        while (sliced.hasNext()) {
+            bh.consume(sliced.next());
+        }
+    }
+
+    @Benchmark
+    public void sliceStream(Blackhole bh) {
+        values.stream().skip(size / 4).limit(size / 2).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void pipeline(Blackhole bh) {
+        final Iterator<Integer> pipeline = Filtering.filter(Applications.transform(new ArrayIterator<>(array), i -> i * 3), IS_EVEN);
+        while (pipeline.hasNext()) {
+            bh.consume(pipeline.next());
+        }
+    }
+
+    @Benchmark
+    public void pipelineBatched(Blackhole bh) {
+        final BatchIterator<Integer> pipeline = (BatchIterator<Integer>) Filtering.filter(Applications.transform(new ArrayIterator<>(array), i -> i * 3), IS_EVEN);
+        for (int count = batch.length; count == batch.length;) {
+            count = pipeline.nextBatch(batch);
+            for (int i = 0; i != count; ++i) {
+                bh.consume(batch[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import net.emaze.dysfunctional.Groups;
+import net.emaze.dysfunctional.tuples.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * groupBy, partition, indexBy against the equivalent stream collectors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupsBenchmark {
+
+    private static final Function<Integer, Integer> TENANT = i -> i % 1024;
+
+    @Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.LARGE})
+    public int size;
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = Inputs.list(Inputs.integers(size));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupBy() {
+        return Groups.groupBy(values, TENANT);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> parallelGroupBy() {
+        return Groups.parallelGroupBy(values, TENANT, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> concurrentGroupBy() {
+        return Groups.concurrentGroupBy(values.iterator(), TENANT, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByParallelStream() {
+        return values.parallelStream().collect(Collectors.groupingBy(TENANT));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupByStream() {
+        return values.stream().collect(Collectors.groupingBy(TENANT));
+    }
+
+    @Benchmark
+    public Pair<List<Integer>, List<Integer>> partition() {
+        return Groups.partition(values, i -> (i & 1) == 0);
+    }
+
+    @Benchmark
+    public Map<Boolean, List<Integer>> partitionStream() {
+        return values.stream().collect(Collectors.partitioningBy(i -> (i & 1) == 0));
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> indexBy() {
+        return Groups.indexBy(values, Function.identity());
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> indexByStream() {
+        return values.stream().collect(Collectors.toMap(Function.identity(), Function.identity()));
+    }
+}
@@ -0,0 +1,29 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Input fixtures shared by the benchmark suites.
+ */
+public abstract class Inputs {
+
+    /**
+     * Small, medium and very large input sizes.
+     */
+    public static final String SMALL = "16";
+    public static final String MEDIUM = "65536";
+    public static final String LARGE = "4194304";
+
+    public static Integer[] integers(int size) {
+        final Integer[] values = new Integer[size];
+        for (int i = 0; i != size; ++i) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    public static List<Integer> list(Integer[] values) {
+        return Arrays.asList(values);
+    }
+}
@@ -0,0 +1,92 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.emaze.dysfunctional.Multiplexing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * k-way merge of sorted shards against collecting and sorting them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeBenchmark {
+
+    private static final Comparator<Integer> NATURAL = Comparator.naturalOrder();
+
+    @Param({Inputs.MEDIUM, Inputs.LARGE})
+    public int size;
+    @Param({"4", "64"})
+    public int shards;
+    private List<List<Integer>> sorted;
+
+    @Setup
+    public void setup() {
+        final Integer[] values = Inputs.integers(size);
+        sorted = new ArrayList<>();
+        for (int shard = 0; shard != shards; ++shard) {
+            sorted.add(new ArrayList<>());
+        }
+        for (int i = 0; i != values.length; ++i) {
+            sorted.get(i % shards).add(values[i]);
+        }
+        for (List<Integer> shard : sorted) {
+            Collections.sort(shard);
+        }
+    }
+
+    @Benchmark
+    public void merge(Blackhole bh) {
+        final Iterator<Integer> merged = Multiplexing.merge(NATURAL, iterators());
+        while (merged.hasNext()) {
+            bh.consume(merged.next());
+        }
+    }
+
+    @Benchmark
+    public void mergeTournament(Blackhole bh) {
+        final Iterator<Integer> merged = Multiplexing.mergeTournament(NATURAL, iterators());
+        while (merged.hasNext()) {
+            bh.consume(merged.next());
+        }
+    }
+
+    @Benchmark
+    public void collectAndSort(Blackhole bh) {
+        final List<Integer> all = new ArrayList<>(size);
+        for (List<Integer> shard : sorted) {
+            all.addAll(shard);
+        }
+        Collections.sort(all);
+        for (Integer value : all) {
+            bh.consume(value);
+        }
+    }
+
+    private Iterator<Iterator<Integer>> iterators() {
+        final List<Iterator<Integer>> iterators = new ArrayList<>(shards);
+        for (List<Integer> shard : sorted) {
+            iterators.add(shard.iterator());
+        }
+        return iterators.iterator();
+    }
+}
@@ -0,0 +1,84 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.emaze.dysfunctional.Multiplexing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * chain, roundrobin, unchain against the equivalent stream pipelines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiplexingBenchmark {
+
+    @Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.LARGE})
+    public int size;
+    private List<Integer> former;
+    private List<Integer> latter;
+
+    @Setup
+    public void setup() {
+        former = Inputs.list(Inputs.integers(size / 2));
+        latter = Inputs.list(Inputs.integers(size - size / 2));
+    }
+
+    @Benchmark
+    public void chain(Blackhole bh) {
+        final Iterator<Integer> chained = Multiplexing.chain(former.iterator(), latter.iterator());
+        while (chained.hasNext()) {
+            bh.consume(chained.next());
+        }
+    }
+
+    @Benchmark
+    public void chainStream(Blackhole bh) {
+        Stream.concat(former.stream(), latter.stream()).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void flatten(Blackhole bh) {
+        final Iterator<Integer> flattened = Multiplexing.flatten(former, latter);
+        while (flattened.hasNext()) {
+            bh.consume(flattened.next());
+        }
+    }
+
+    @Benchmark
+    public void flattenStream(Blackhole bh) {
+        Stream.of(former, latter).flatMap(List::stream).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void roundrobin(Blackhole bh) {
+        final Iterator<Integer> multiplexed = Multiplexing.roundrobin(former.iterator(), latter.iterator());
+        while (multiplexed.hasNext()) {
+            bh.consume(multiplexed.next());
+        }
+    }
+
+    @Benchmark
+    public void unchain(Blackhole bh) {
+        final Iterator<List<Integer>> channels = Multiplexing.unchain(64, former.iterator());
+        while (channels.hasNext()) {
+            bh.consume(channels.next());
+        }
+    }
+}
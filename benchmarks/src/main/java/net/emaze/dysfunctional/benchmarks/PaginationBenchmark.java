@@ -0,0 +1,57 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import net.emaze.dysfunctional.Pagination;
+import net.emaze.dysfunctional.tuples.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * page over iterators and collections against the equivalent stream pipeline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.LARGE})
+    public int size;
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = Inputs.list(Inputs.integers(size));
+    }
+
+    @Benchmark
+    public Pair<Integer, List<Integer>> lastPageOfIterator() {
+        return Pagination.page(Math.max(0, size - PAGE_SIZE), PAGE_SIZE, values.iterator());
+    }
+
+    @Benchmark
+    public Pair<Integer, List<Integer>> lastPageOfCollection() {
+        return Pagination.page(Math.max(0, size - PAGE_SIZE), PAGE_SIZE, values);
+    }
+
+    @Benchmark
+    public Pair<Long, List<Integer>> lastPageStream() {
+        final List<Integer> page = values.stream().skip(Math.max(0, size - PAGE_SIZE)).limit(PAGE_SIZE).collect(Collectors.toList());
+        return Pair.of((long) values.size(), page);
+    }
+}
@@ -0,0 +1,77 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.emaze.dysfunctional.Reductions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * reduce, any, count, maximum against the equivalent stream pipelines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReductionsBenchmark {
+
+    @Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.LARGE})
+    public int size;
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = Inputs.list(Inputs.integers(size));
+    }
+
+    @Benchmark
+    public Long reduce() {
+        return Reductions.reduce(values, (acc, e) -> acc + e, 0L);
+    }
+
+    @Benchmark
+    public Long reduceStream() {
+        return values.stream().reduce(0L, (acc, e) -> acc + e, Long::sum);
+    }
+
+    @Benchmark
+    public boolean any() {
+        return Reductions.any(values, i -> i < 0);
+    }
+
+    @Benchmark
+    public boolean anyStream() {
+        return values.stream().anyMatch(i -> i < 0);
+    }
+
+    @Benchmark
+    public long count() {
+        return Reductions.count(values);
+    }
+
+    @Benchmark
+    public long countStream() {
+        return values.stream().count();
+    }
+
+    @Benchmark
+    public Integer maximum() {
+        return Reductions.maximum(values.iterator(), Integer.MIN_VALUE);
+    }
+
+    @Benchmark
+    public Integer maximumStream() {
+        return values.stream().max(Integer::compare).orElse(Integer.MIN_VALUE);
+    }
+}
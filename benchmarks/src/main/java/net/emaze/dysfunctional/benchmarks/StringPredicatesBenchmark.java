@@ -0,0 +1,87 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import net.emaze.dysfunctional.Logic;
+import net.emaze.dysfunctional.strings.predicates.StringContainsAnyIgnoreCase;
+import net.emaze.dysfunctional.strings.predicates.StringContainsIgnoreCase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Filtering log lines by keywords ignoring case: a Logic.or of single needle
+ * predicates (lowercasing the line per keyword, or searching it through a
+ * precompiled matcher) against a single multi needle matcher.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringPredicatesBenchmark {
+
+    private static final int LINES = 1024;
+
+    @Param({"1", "16", "256"})
+    public int keywords;
+    private final List<String> lines = new ArrayList<>();
+    private Predicate<String> lowercasing;
+    private Predicate<String> orOfMatchers;
+    private Predicate<String> multiNeedle;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(23);
+        final List<String> needles = new ArrayList<>();
+        final List<Predicate<String>> lowercasingPredicates = new ArrayList<>();
+        final List<Predicate<String>> matcherPredicates = new ArrayList<>();
+        for (int i = 0; i != keywords; ++i) {
+            final String needle = "Keyword" + i + "X";
+            needles.add(needle);
+            lowercasingPredicates.add(haystack -> haystack.toLowerCase().contains(needle.toLowerCase()));
+            matcherPredicates.add(new StringContainsIgnoreCase(needle));
+        }
+        for (int i = 0; i != LINES; ++i) {
+            lines.add("2024-01-01T00:00:00Z INFO request " + random.nextLong() + " served in " + random.nextInt(1000) + "ms"
+                    + (i % 64 == 0 ? " KEYWORD" + random.nextInt(keywords) + "x" : ""));
+        }
+        lowercasing = Logic.Unary.or(lowercasingPredicates);
+        orOfMatchers = Logic.Unary.or(matcherPredicates);
+        multiNeedle = new StringContainsAnyIgnoreCase(needles);
+    }
+
+    @Benchmark
+    public void lowercasing(Blackhole bh) {
+        filter(lowercasing, bh);
+    }
+
+    @Benchmark
+    public void orOfMatchers(Blackhole bh) {
+        filter(orOfMatchers, bh);
+    }
+
+    @Benchmark
+    public void multiNeedle(Blackhole bh) {
+        filter(multiNeedle, bh);
+    }
+
+    private void filter(Predicate<String> predicate, Blackhole bh) {
+        for (String line : lines) {
+            bh.consume(predicate.test(line));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import net.emaze.dysfunctional.Windowing;
+import net.emaze.dysfunctional.windows.WindowMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * window, centered, trails against the equivalent stream pipelines: copied
+ * windows against streams copying every window, views against streams of
+ * subList views.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WindowingBenchmark {
+
+    @Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.LARGE})
+    public int size;
+    @Param({"3", "1025"})
+    public int windowSize;
+    private List<Integer> values;
+
+    @Setup
+    public void setup() {
+        values = Inputs.list(Inputs.integers(size));
+    }
+
+    @Benchmark
+    public void window(Blackhole bh) {
+        final Iterator<List<Integer>> windows = Windowing.window(windowSize, values);
+        while (windows.hasNext()) {
+            bh.consume(windows.next());
+        }
+    }
+
+    @Benchmark
+    public void windowView(Blackhole bh) {
+        final Iterator<List<Integer>> windows = Windowing.window(windowSize, values, WindowMode.View);
+        while (windows.hasNext()) {
+            bh.consume(windows.next());
+        }
+    }
+
+    @Benchmark
+    public void windowStream(Blackhole bh) {
+        IntStream.rangeClosed(0, values.size() - windowSize)
+                .mapToObj(start -> new ArrayList<>(values.subList(start, start + windowSize)))
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void windowViewStream(Blackhole bh) {
+        IntStream.rangeClosed(0, values.size() - windowSize)
+                .mapToObj(start -> values.subList(start, start + windowSize))
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void centered(Blackhole bh) {
+        final Iterator<List<Optional<Integer>>> windows = Windowing.centered(windowSize, values);
+        while (windows.hasNext()) {
+            bh.consume(windows.next());
+        }
+    }
+
+    @Benchmark
+    public void centeredView(Blackhole bh) {
+        final Iterator<List<Optional<Integer>>> windows = Windowing.centered(windowSize, values, WindowMode.View);
+        while (windows.hasNext()) {
+            bh.consume(windows.next());
+        }
+    }
+
+    @Benchmark
+    public void trails(Blackhole bh) {
+        final Iterator<Queue<Optional<Integer>>> trails = Windowing.trails(windowSize, values);
+        while (trails.hasNext()) {
+            bh.consume(trails.next());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import net.emaze.dysfunctional.iterations.ArrayIterator;
+import net.emaze.dysfunctional.iterations.SingletonIterator;
+import net.emaze.dysfunctional.iterations.TransformingIterator;
+import net.emaze.dysfunctional.multiplexing.ChainIterator;
+import net.emaze.dysfunctional.strings.JoinStrings;
+import net.emaze.dysfunctional.strings.ToLowerCase;
+import net.emaze.dysfunctional.strings.ToTitleCase;
+import net.emaze.dysfunctional.strings.WordCase;
+import net.emaze.dysfunctional.strings.WordsCaseConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Camel casing field names: composing iterators into a JoinStrings (as
+ * WordsToCamelCase used to), converting in a single pass, with a cache, and
+ * appending into a reused StringBuilder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordsCaseBenchmark {
+
+    private static final int FIELDS = 64;
+    private final String[][] fields = new String[FIELDS][];
+    private final StringBuilder reused = new StringBuilder();
+    private Function<String[], String> composed;
+    private WordsCaseConverter converter;
+    private WordsCaseConverter cached;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i != FIELDS; ++i) {
+            fields[i] = new String[]{"CUSTOMER", "billing", "Address" + i, "line"};
+        }
+        final ToLowerCase toLower = new ToLowerCase();
+        final ToTitleCase toTitle = new ToTitleCase();
+        composed = words -> {
+            final Iterator<String> iter = new ArrayIterator<String>(words);
+            final Iterator<String> head = new SingletonIterator<String>(toLower.apply(iter.next()));
+            final Iterator<String> tail = new TransformingIterator<String, String>(iter, toTitle);
+            return new JoinStrings<String>().apply(new ChainIterator<String>(ArrayIterator.of(head, tail)));
+        };
+        converter = new WordsCaseConverter(WordCase.Lower, WordCase.Title, "");
+        cached = new WordsCaseConverter(WordCase.Lower, WordCase.Title, "", FIELDS);
+    }
+
+    @Benchmark
+    public void composed(Blackhole bh) {
+        convert(composed, bh);
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole bh) {
+        convert(converter, bh);
+    }
+
+    @Benchmark
+    public void cached(Blackhole bh) {
+        convert(cached, bh);
+    }
+
+    @Benchmark
+    public void reusedBuilder(Blackhole bh) {
+        for (String[] words : fields) {
+            reused.setLength(0);
+            bh.consume(converter.appendTo(words, reused).length());
+        }
+    }
+
+    private void convert(Function<String[], String> function, Blackhole bh) {
+        for (String[] words : fields) {
+            bh.consume(function.apply(words));
+        }
+    }
+}
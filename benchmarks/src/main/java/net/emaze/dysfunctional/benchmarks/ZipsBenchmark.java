@@ -0,0 +1,83 @@
+package net.emaze.dysfunctional.benchmarks;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import net.emaze.dysfunctional.Zips;
+import net.emaze.dysfunctional.tuples.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * shortest, longest, counted against the equivalent stream pipelines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ZipsBenchmark {
+
+    @Param({Inputs.SMALL, Inputs.MEDIUM, Inputs.LARGE})
+    public int size;
+    private List<Integer> former;
+    private List<Integer> latter;
+
+    @Setup
+    public void setup() {
+        former = Inputs.list(Inputs.integers(size));
+        latter = Inputs.list(Inputs.integers(size / 2));
+    }
+
+    @Benchmark
+    public void shortest(Blackhole bh) {
+        final Iterator<Pair<Integer, Integer>> zipped = Zips.shortest(former, latter);
+        while (zipped.hasNext()) {
+            bh.consume(zipped.next());
+        }
+    }
+
+    @Benchmark
+    public void shortestStream(Blackhole bh) {
+        IntStream.range(0, Math.min(former.size(), latter.size()))
+                .mapToObj(i -> new SimpleImmutableEntry<>(former.get(i), latter.get(i)))
+                .forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void longest(Blackhole bh) {
+        final Iterator<Pair<Optional<Integer>, Optional<Integer>>> zipped = Zips.longest(former, latter);
+        while (zipped.hasNext()) {
+            bh.consume(zipped.next());
+        }
+    }
+
+    @Benchmark
+    public void counted(Blackhole bh) {
+        final Iterator<Pair<Integer, Integer>> counted = Zips.counted(former);
+        while (counted.hasNext()) {
+            bh.consume(counted.next());
+        }
+    }
+
+    @Benchmark
+    public void countedStream(Blackhole bh) {
+        IntStream.range(0, former.size())
+                .mapToObj(i -> new SimpleImmutableEntry<>(i, former.get(i)))
+                .forEach(bh::consume);
+    }
+}
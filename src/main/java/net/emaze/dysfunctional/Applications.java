@@ -3,17 +3,27 @@ package net.emaze.dysfunctional;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
+import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
 import net.emaze.dysfunctional.collections.ArrayListFactory;
 import net.emaze.dysfunctional.consumers.ConsumeIntoCollection;
 import net.emaze.dysfunctional.contracts.dbc;
 import net.emaze.dysfunctional.dispatching.delegates.Tapper;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
+import net.emaze.dysfunctional.iterations.ParallelMode;
+import net.emaze.dysfunctional.iterations.ParallelTransformingIterator;
+import net.emaze.dysfunctional.iterations.TransformingDoubleIterator;
+import net.emaze.dysfunctional.iterations.TransformingIntIterator;
 import net.emaze.dysfunctional.iterations.TransformingIterator;
+import net.emaze.dysfunctional.iterations.TransformingLongIterator;
 
 /**
- * transform, tap, each, map.
+ * transform, tap, each, map, parallelTransform, parallelEach, parallelMap.
  *
  * @author rferranti
  */
@@ -74,6 +84,51 @@ public abstract class Applications {
         return new TransformingIterator<>(new ArrayIterator<E>(array), function);
     }
 
+    /**
+     * Creates an iterator yielding the result of the transformation applied
+     * by the function on the ints of the source iterator, without boxing them.
+     * Named apart from transform so that implicitly typed lambdas do not make
+     * the call ambiguous. E.g:
+     * <code>transformInts([1,2,3], doubler) -> [2,4,6]</code>
+     *
+     * @param iterator the iterator where elements are fetched from
+     * @param function a function used to transform each element
+     * @return the transformed iterator
+     */
+    public static PrimitiveIterator.OfInt transformInts(PrimitiveIterator.OfInt iterator, IntUnaryOperator function) {
+        return new TransformingIntIterator(iterator, function);
+    }
+
+    /**
+     * Creates an iterator yielding the result of the transformation applied
+     * by the function on the longs of the source iterator, without boxing them.
+     * Named apart from transform so that implicitly typed lambdas do not make
+     * the call ambiguous. E.g:
+     * <code>transformLongs([1,2,3], doubler) -> [2,4,6]</code>
+     *
+     * @param iterator the iterator where elements are fetched from
+     * @param function a function used to transform each element
+     * @return the transformed iterator
+     */
+    public static PrimitiveIterator.OfLong transformLongs(PrimitiveIterator.OfLong iterator, LongUnaryOperator function) {
+        return new TransformingLongIterator(iterator, function);
+    }
+
+    /**
+     * Creates an iterator yielding the result of the transformation applied
+     * by the function on the doubles of the source iterator, without boxing them.
+     * Named apart from transform so that implicitly typed lambdas do not make
+     * the call ambiguous. E.g:
+     * <code>transformDoubles([1,2,3], doubler) -> [2,4,6]</code>
+     *
+     * @param iterator the iterator where elements are fetched from
+     * @param function a function used to transform each element
+     * @return the transformed iterator
+     */
+    public static PrimitiveIterator.OfDouble transformDoubles(PrimitiveIterator.OfDouble iterator, DoubleUnaryOperator function) {
+        return new TransformingDoubleIterator(iterator, function);
+    }
+
     /**
      * Creates an iterator yielding each element of the source iterator after
      * applying the passed consumer. This application is evaluated lazily when the
@@ -257,4 +312,173 @@ public abstract class Applications {
         final Function<Iterator<R>, ArrayList<R>> consumer = new ConsumeIntoCollection<>(new ArrayListFactory<R>());
         return consumer.apply(transformed);
     }
+
+    /**
+     * Creates an iterator yielding, in the encounter order, the result of the
+     * transformation applied on the executor by the function on the elements
+     * of the source iterator. At most concurrency elements are transformed at
+     * once, and at most concurrency results are pending. E.g:
+     * <code>
+     * parallelTransform([host1, host2], resolve, executor, 16) -> [ip1, ip2]
+     * </code>
+     *
+     * @param <R> the result iterator element type parameter
+     * @param <E> the input iterator element type parameter
+     * @param iterator the iterator where elements are fetched from
+     * @param function a function used to transform each element
+     * @param executor the executor the function is applied on
+     * @param concurrency the maximum number of elements transformed at once
+     * @return the transformed iterator
+     */
+    public static <R, E> Iterator<R> parallelTransform(Iterator<E> iterator, Function<E, R> function, Executor executor, int concurrency) {
+        return new ParallelTransformingIterator<>(iterator, function, executor, concurrency, concurrency, ParallelMode.Ordered);
+    }
+
+    /**
+     * Creates an iterator yielding the result of the transformation applied
+     * on the executor by the function on the elements of the source iterator.
+     * At most concurrency elements are transformed at once, and at most window
+     * results are pending. Results are yielded in the encounter order when
+     * mode is Ordered, in completion order when it is Unordered.
+     *
+     * @param <R> the result iterator element type parameter
+     * @param <E> the input iterator element type parameter
+     * @param iterator the iterator where elements are fetched from
+     * @param function a function used to transform each element
+     * @param executor the executor the function is applied on
+     * @param concurrency the maximum number of elements transformed at once
+     * @param window the maximum number of pending results (not smaller than
+     * concurrency)
+     * @param mode the order results are yielded in
+     * @return the transformed iterator
+     */
+    public static <R, E> Iterator<R> parallelTransform(Iterator<E> iterator, Function<E, R> function, Executor executor, int concurrency, int window, ParallelMode mode) {
+        return new ParallelTransformingIterator<>(iterator, function, executor, concurrency, window, mode);
+    }
+
+    /**
+     * Creates an iterator yielding, in the encounter order, the result of the
+     * transformation applied on the executor by the function on the elements
+     * of the source iterable. At most concurrency elements are transformed at
+     * once, and at most concurrency results are pending. E.g:
+     * <code>
+     * parallelTransform([host1, host2], resolve, executor, 16) -> [ip1, ip2]
+     * </code>
+     *
+     * @param <R> the result iterator element type parameter
+     * @param <E> the input iterable element type parameter
+     * @param iterable the iterable where elements are fetched from
+     * @param function a function used to transform each element
+     * @param executor the executor the function is applied on
+     * @param concurrency the maximum number of elements transformed at once
+     * @return the transformed iterator
+     */
+    public static <R, E> Iterator<R> parallelTransform(Iterable<E> iterable, Function<E, R> function, Executor executor, int concurrency) {
+        dbc.precondition(iterable != null, "cannot call parallelTransform with a null iterable");
+        return new ParallelTransformingIterator<>(iterable.iterator(), function, executor, concurrency, concurrency, ParallelMode.Ordered);
+    }
+
+    /**
+     * Creates an iterator yielding the result of the transformation applied
+     * on the executor by the function on the elements of the source iterable.
+     * At most concurrency elements are transformed at once, and at most window
+     * results are pending. Results are yielded in the encounter order when
+     * mode is Ordered, in completion order when it is Unordered.
+     *
+     * @param <R> the result iterator element type parameter
+     * @param <E> the input iterable element type parameter
+     * @param iterable the iterable where elements are fetched from
+     * @param function a function used to transform each element
+     * @param executor the executor the function is applied on
+     * @param concurrency the maximum number of elements transformed at once
+     * @param window the maximum number of pending results (not smaller than
+     * concurrency)
+     * @param mode the order results are yielded in
+     * @return the transformed iterator
+     */
+    public static <R, E> Iterator<R> parallelTransform(Iterable<E> iterable, Function<E, R> function, Executor executor, int concurrency, int window, ParallelMode mode) {
+        dbc.precondition(iterable != null, "cannot call parallelTransform with a null iterable");
+        return new ParallelTransformingIterator<>(iterable.iterator(), function, executor, concurrency, window, mode);
+    }
+
+    /**
+     * Applies a side effect on each elements of the source iterable, on the
+     * executor and in no particular order. At most concurrency elements are
+     * consumed at once. This application is evaluated eagerly: the call
+     * returns once every element is consumed.
+     *
+     * @param <E> the iterable element type parameter
+     * @param iterable the iterable where elements are fetched from
+     * @param consumer the consumer applied to every element fetched from the
+     * iterable
+     * @param executor the executor the consumer is applied on
+     * @param concurrency the maximum number of elements consumed at once
+     */
+    public static <E> void parallelEach(Iterable<E> iterable, Consumer<E> consumer, Executor executor, int concurrency) {
+        dbc.precondition(iterable != null, "cannot call parallelEach with a null iterable");
+        parallelEach(iterable.iterator(), consumer, executor, concurrency);
+    }
+
+    /**
+     * Applies a side effect on each elements of the source iterator, on the
+     * executor and in no particular order. At most concurrency elements are
+     * consumed at once. This application is evaluated eagerly: the call
+     * returns once every element is consumed.
+     *
+     * @param <E> the iterator element type parameter
+     * @param iterator the iterator where elements are fetched from
+     * @param consumer the consumer applied to every element fetched from the
+     * iterator
+     * @param executor the executor the consumer is applied on
+     * @param concurrency the maximum number of elements consumed at once
+     */
+    public static <E> void parallelEach(Iterator<E> iterator, Consumer<E> consumer, Executor executor, int concurrency) {
+        dbc.precondition(consumer != null, "cannot call parallelEach with a null consumer");
+        final Iterator<Void> consumed = new ParallelTransformingIterator<E, Void>(iterator, element -> {
+            consumer.accept(element);
+            return null;
+        }, executor, concurrency, concurrency, ParallelMode.Unordered);
+        while (consumed.hasNext()) {
+            consumed.next();
+        }
+    }
+
+    /**
+     * Creates a List yielding, in the encounter order, the result of the
+     * transformation applied on the executor by the function on the elements
+     * of the source iterable. At most concurrency elements are transformed at
+     * once. This transformation is evaluated eagerly.
+     *
+     * @param <R> the result iterator element type parameter
+     * @param <E> the input iterable element type parameter
+     * @param iterable the iterable where elements are fetched from
+     * @param function a function used to transform each element
+     * @param executor the executor the function is applied on
+     * @param concurrency the maximum number of elements transformed at once
+     * @return a List containing the transformed elements
+     */
+    public static <R, E> List<R> parallelMap(Iterable<E> iterable, Function<E, R> function, Executor executor, int concurrency) {
+        dbc.precondition(iterable != null, "cannot parallelMap from a null iterable");
+        return parallelMap(iterable.iterator(), function, executor, concurrency);
+    }
+
+    /**
+     * Creates a List yielding, in the encounter order, the result of the
+     * transformation applied on the executor by the function on the elements
+     * of the source iterator. At most concurrency elements are transformed at
+     * once. This transformation is evaluated eagerly.
+     *
+     * @param <R> the result iterator element type parameter
+     * @param <E> the input iterator element type parameter
+     * @param iterator the iterator where elements are fetched from
+     * @param function a function used to transform each element
+     * @param executor the executor the function is applied on
+     * @param concurrency the maximum number of elements transformed at once
+     * @return a List containing the transformed elements
+     */
+    public static <R, E> List<R> parallelMap(Iterator<E> iterator, Function<E, R> function, Executor executor, int concurrency) {
+        final ParallelTransformingIterator<E, R> transformed = new ParallelTransformingIterator<>(iterator, function, executor, concurrency, concurrency, ParallelMode.Ordered);
+        final Function<Iterator<R>, ArrayList<R>> consumer = new ConsumeIntoCollection<>(new ArrayListFactory<R>());
+        return consumer.apply(transformed);
+    }
 }
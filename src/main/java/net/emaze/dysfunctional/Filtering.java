@@ -1,16 +1,26 @@
 package net.emaze.dysfunctional;
 
 import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.RandomAccess;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
 import java.util.function.Predicate;
 import net.emaze.dysfunctional.contracts.dbc;
 import net.emaze.dysfunctional.filtering.AtMostMemoryIterator;
 import net.emaze.dysfunctional.filtering.DropWhile;
+import net.emaze.dysfunctional.filtering.FilteringDoubleIterator;
+import net.emaze.dysfunctional.filtering.FilteringIntIterator;
 import net.emaze.dysfunctional.filtering.FilteringIterator;
+import net.emaze.dysfunctional.filtering.FilteringLongIterator;
 import net.emaze.dysfunctional.filtering.MemoryIterator;
 import net.emaze.dysfunctional.filtering.TakeUpToIterator;
 import net.emaze.dysfunctional.filtering.TakeWhileIterator;
 import net.emaze.dysfunctional.filtering.UntilCount;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
+import net.emaze.dysfunctional.iterations.UnmodifiableIterator;
 
 /**
  * filter, takeLast, atMostLast, takeWhile, dropWhile, take, drop, slice.
@@ -68,6 +78,51 @@ public abstract class Filtering {
         return filter(new ArrayIterator<E>(array), predicate);
     }
 
+    /**
+     * Creates an iterator yielding the ints from the source iterator matching
+     * the given predicate, without boxing them. Named apart from filter so
+     * that implicitly typed lambdas do not make the call ambiguous. E.g:
+     * <code>filterInts([1,2,3,4], isEven) -> [2,4]</code>
+     *
+     * @param iterator the iterator where elements are fetched from
+     * @param predicate the predicate applied to each element
+     * @return an iterator containing the elements for which the predicate
+     * evaluates to true
+     */
+    public static PrimitiveIterator.OfInt filterInts(PrimitiveIterator.OfInt iterator, IntPredicate predicate) {
+        return new FilteringIntIterator(iterator, predicate);
+    }
+
+    /**
+     * Creates an iterator yielding the longs from the source iterator matching
+     * the given predicate, without boxing them. Named apart from filter so
+     * that implicitly typed lambdas do not make the call ambiguous. E.g:
+     * <code>filterLongs([1,2,3,4], isEven) -> [2,4]</code>
+     *
+     * @param iterator the iterator where elements are fetched from
+     * @param predicate the predicate applied to each element
+     * @return an iterator containing the elements for which the predicate
+     * evaluates to true
+     */
+    public static PrimitiveIterator.OfLong filterLongs(PrimitiveIterator.OfLong iterator, LongPredicate predicate) {
+        return new FilteringLongIterator(iterator, predicate);
+    }
+
+    /**
+     * Creates an iterator yielding the doubles from the source iterator matching
+     * the given predicate, without boxing them. Named apart from filter so
+     * that implicitly typed lambdas do not make the call ambiguous. E.g:
+     * <code>filterDoubles([1,2,3,4], isEven) -> [2,4]</code>
+     *
+     * @param iterator the iterator where elements are fetched from
+     * @param predicate the predicate applied to each element
+     * @return an iterator containing the elements for which the predicate
+     * evaluates to true
+     */
+    public static PrimitiveIterator.OfDouble filterDoubles(PrimitiveIterator.OfDouble iterator, DoublePredicate predicate) {
+        return new FilteringDoubleIterator(iterator, predicate);
+    }
+
     /**
      * Creates an iterator yielding last n elements from the source iterable.
      * Consuming the resulting iterator yields an IllegalArgumentException if
@@ -351,7 +406,8 @@ public abstract class Filtering {
     }
 
     /**
-     * Creates an iterator yielding a slice of the source iterable. E.g:
+     * Creates an iterator yielding a slice of the source iterable. Random
+     * access lists are not iterated up to the slice start. E.g:
      * <code>slice(1, 2, ["a", "b", "c", "d"]) ->  ["b", "c"]</code>
      *
      * @param <E> the iterator element type
@@ -362,6 +418,13 @@ public abstract class Filtering {
      */
     public static <E> Iterator<E> slice(long from, long howMany, Iterable<E> iterable) {
         dbc.precondition(iterable != null, "cannot call slice with a null iterable");
+        if (iterable instanceof RandomAccess && iterable instanceof List && from >= 0 && howMany >= 0) {
+            final List<E> list = (List<E>) iterable;
+            final int size = list.size();
+            final int begin = (int) Math.min(from, size);
+            final int end = howMany >= size - begin ? size : begin + (int) howMany;
+            return new UnmodifiableIterator<E>(list.subList(begin, end).iterator());
+        }
         final Iterator<E> dropping = new FilteringIterator<E>(iterable.iterator(), new DropWhile<E>(new UntilCount<E>(from)));
         return new TakeUpToIterator<E>(dropping, howMany);
     }
@@ -2,9 +2,14 @@ package net.emaze.dysfunctional;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -12,14 +17,21 @@ import net.emaze.dysfunctional.casts.Vary;
 import net.emaze.dysfunctional.collections.ArrayListFactory;
 import net.emaze.dysfunctional.collections.HashMapFactory;
 import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.groups.ConcurrentGroupBy;
 import net.emaze.dysfunctional.groups.GroupBy;
 import net.emaze.dysfunctional.groups.IndexBy;
+import net.emaze.dysfunctional.groups.ParallelGroupBy;
+import net.emaze.dysfunctional.groups.ParallelIndexBy;
+import net.emaze.dysfunctional.groups.ParallelPartitionBy;
 import net.emaze.dysfunctional.groups.PartitionBy;
+import net.emaze.dysfunctional.groups.SpillSerializer;
+import net.emaze.dysfunctional.groups.SpilledGroupsIterator;
+import net.emaze.dysfunctional.groups.SpillingGroupBy;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
 import net.emaze.dysfunctional.tuples.Pair;
 
 /**
- * groupBy, partition, indexBy.
+ * groupBy, partition, indexBy, their parallel variants and spillingGroupBy.
  *
  * @author rferranti
  */
@@ -443,4 +455,405 @@ public abstract class Groups {
     public static <K, V> Map<K, V> indexBy(V[] groupies, Function<V, K> indexer) {
         return new IndexBy<>(indexer, new HashMapFactory<>()).apply(new ArrayIterator<>(groupies));
     }
+
+    /**
+     * Groups elements from an iterator in parallel on the common fork join
+     * pool, yielding the same result of groupBy. E.g:
+     * <code> parallelGroupBy(["A1","A2","B1"], firstChar) -> {"A": ["A1", "A2"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @return a map containing grouped values
+     */
+    public static <K, V> Map<K, List<V>> parallelGroupBy(Iterator<V> groupies, Function<V, K> grouper) {
+        return parallelGroupBy(groupies, grouper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Groups elements from an iterator in parallel on the passed executor,
+     * yielding the same result of groupBy: chunks of the iterator are grouped
+     * concurrently into local maps, then merged in encounter order. E.g:
+     * <code> parallelGroupBy(["A1","A2","B1"], firstChar, executor) -> {"A": ["A1", "A2"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @param executor the executor grouping the chunks
+     * @return a map containing grouped values
+     */
+    public static <K, V> Map<K, List<V>> parallelGroupBy(Iterator<V> groupies, Function<V, K> grouper, Executor executor) {
+        final Supplier<List<V>> supplier = Compositions.compose(new Vary<ArrayList<V>, List<V>>(), new ArrayListFactory<V>());
+        return new ParallelGroupBy<>(grouper, supplier, new HashMapFactory<K, List<V>>(), executor).apply(groupies);
+    }
+
+    /**
+     * Groups elements from an iterable in parallel on the common fork join
+     * pool, yielding the same result of groupBy. E.g:
+     * <code> parallelGroupBy(["A1","A2","B1"], firstChar) -> {"A": ["A1", "A2"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @return a map containing grouped values
+     */
+    public static <K, V> Map<K, List<V>> parallelGroupBy(Iterable<V> groupies, Function<V, K> grouper) {
+        return parallelGroupBy(groupies, grouper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Groups elements from an iterable in parallel on the passed executor,
+     * yielding the same result of groupBy. E.g:
+     * <code> parallelGroupBy(["A1","A2","B1"], firstChar, executor) -> {"A": ["A1", "A2"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @param executor the executor grouping the chunks
+     * @return a map containing grouped values
+     */
+    public static <K, V> Map<K, List<V>> parallelGroupBy(Iterable<V> groupies, Function<V, K> grouper, Executor executor) {
+        dbc.precondition(groupies != null, "cannot parallelGroupBy with a null iterable");
+        return parallelGroupBy(groupies.iterator(), grouper, executor);
+    }
+
+    /**
+     * Groups elements from an array in parallel on the common fork join pool,
+     * yielding the same result of groupBy. E.g:
+     * <code> parallelGroupBy(["A1","A2","B1"], firstChar) -> {"A": ["A1", "A2"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @return a map containing grouped values
+     */
+    public static <K, V> Map<K, List<V>> parallelGroupBy(V[] groupies, Function<V, K> grouper) {
+        return parallelGroupBy(groupies, grouper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Groups elements from an array in parallel on the passed executor,
+     * yielding the same result of groupBy. E.g:
+     * <code> parallelGroupBy(["A1","A2","B1"], firstChar, executor) -> {"A": ["A1", "A2"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @param executor the executor grouping the chunks
+     * @return a map containing grouped values
+     */
+    public static <K, V> Map<K, List<V>> parallelGroupBy(V[] groupies, Function<V, K> grouper, Executor executor) {
+        return parallelGroupBy(new ArrayIterator<>(groupies), grouper, executor);
+    }
+
+    /**
+     * Groups elements from an iterator in parallel on the common fork join
+     * pool, straight into a concurrent map. No merge step is needed, but the
+     * order of the elements within every group is unspecified. E.g:
+     * <code> concurrentGroupBy(["A1","A2","B1"], firstChar) -> {"A": ["A2", "A1"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @return a concurrent map containing grouped values
+     */
+    public static <K, V> ConcurrentMap<K, List<V>> concurrentGroupBy(Iterator<V> groupies, Function<V, K> grouper) {
+        return concurrentGroupBy(groupies, grouper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Groups elements from an iterator in parallel on the passed executor,
+     * straight into a concurrent map. No merge step is needed, but the order
+     * of the elements within every group is unspecified. E.g:
+     * <code> concurrentGroupBy(["A1","A2","B1"], firstChar, executor) -> {"A": ["A2", "A1"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @param executor the executor grouping the chunks
+     * @return a concurrent map containing grouped values
+     */
+    public static <K, V> ConcurrentMap<K, List<V>> concurrentGroupBy(Iterator<V> groupies, Function<V, K> grouper, Executor executor) {
+        final Supplier<List<V>> supplier = Compositions.compose(new Vary<ArrayList<V>, List<V>>(), new ArrayListFactory<V>());
+        return new ConcurrentGroupBy<>(grouper, supplier, ConcurrentHashMap<K, List<V>>::new, executor).apply(groupies);
+    }
+
+    /**
+     * Groups elements from an iterable in parallel on the common fork join
+     * pool, straight into a concurrent map. No merge step is needed, but the
+     * order of the elements within every group is unspecified. E.g:
+     * <code> concurrentGroupBy(["A1","A2","B1"], firstChar) -> {"A": ["A2", "A1"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @return a concurrent map containing grouped values
+     */
+    public static <K, V> ConcurrentMap<K, List<V>> concurrentGroupBy(Iterable<V> groupies, Function<V, K> grouper) {
+        return concurrentGroupBy(groupies, grouper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Groups elements from an iterable in parallel on the passed executor,
+     * straight into a concurrent map. No merge step is needed, but the order
+     * of the elements within every group is unspecified. E.g:
+     * <code> concurrentGroupBy(["A1","A2","B1"], firstChar, executor) -> {"A": ["A2", "A1"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @param executor the executor grouping the chunks
+     * @return a concurrent map containing grouped values
+     */
+    public static <K, V> ConcurrentMap<K, List<V>> concurrentGroupBy(Iterable<V> groupies, Function<V, K> grouper, Executor executor) {
+        dbc.precondition(groupies != null, "cannot concurrentGroupBy with a null iterable");
+        return concurrentGroupBy(groupies.iterator(), grouper, executor);
+    }
+
+    /**
+     * Groups elements from an array in parallel on the common fork join pool,
+     * straight into a concurrent map. No merge step is needed, but the order
+     * of the elements within every group is unspecified. E.g:
+     * <code> concurrentGroupBy(["A1","A2","B1"], firstChar) -> {"A": ["A2", "A1"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @return a concurrent map containing grouped values
+     */
+    public static <K, V> ConcurrentMap<K, List<V>> concurrentGroupBy(V[] groupies, Function<V, K> grouper) {
+        return concurrentGroupBy(groupies, grouper, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Groups elements from an array in parallel on the passed executor,
+     * straight into a concurrent map. No merge step is needed, but the order
+     * of the elements within every group is unspecified. E.g:
+     * <code> concurrentGroupBy(["A1","A2","B1"], firstChar, executor) -> {"A": ["A2", "A1"], "B": ["B1"]}</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements, called concurrently
+     * @param executor the executor grouping the chunks
+     * @return a concurrent map containing grouped values
+     */
+    public static <K, V> ConcurrentMap<K, List<V>> concurrentGroupBy(V[] groupies, Function<V, K> grouper, Executor executor) {
+        return concurrentGroupBy(new ArrayIterator<>(groupies), grouper, executor);
+    }
+
+    /**
+     * Partitions elements from an iterator in parallel on the common fork join
+     * pool, yielding the same result of partition. E.g:
+     * <code> parallelPartition([1,2,3,4], isEven) -> ([2,4],[1,3])</code>
+     *
+     * @param <T> the element type
+     * @param values elements to be partitioned
+     * @param partitioner the predicate used to partition, called concurrently
+     * @return a pair containing partitioned elements
+     */
+    public static <T> Pair<List<T>, List<T>> parallelPartition(Iterator<T> values, Predicate<T> partitioner) {
+        return parallelPartition(values, partitioner, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Partitions elements from an iterator in parallel on the passed executor,
+     * yielding the same result of partition. E.g:
+     * <code> parallelPartition([1,2,3,4], isEven, executor) -> ([2,4],[1,3])</code>
+     *
+     * @param <T> the element type
+     * @param values elements to be partitioned
+     * @param partitioner the predicate used to partition, called concurrently
+     * @param executor the executor partitioning the chunks
+     * @return a pair containing partitioned elements
+     */
+    public static <T> Pair<List<T>, List<T>> parallelPartition(Iterator<T> values, Predicate<T> partitioner, Executor executor) {
+        final Supplier<List<T>> supplier = Compositions.compose(new Vary<ArrayList<T>, List<T>>(), new ArrayListFactory<T>());
+        return new ParallelPartitionBy<>(partitioner, supplier, supplier, executor).apply(values);
+    }
+
+    /**
+     * Partitions elements from an iterable in parallel on the common fork join
+     * pool, yielding the same result of partition. E.g:
+     * <code> parallelPartition([1,2,3,4], isEven) -> ([2,4],[1,3])</code>
+     *
+     * @param <T> the element type
+     * @param values elements to be partitioned
+     * @param partitioner the predicate used to partition, called concurrently
+     * @return a pair containing partitioned elements
+     */
+    public static <T> Pair<List<T>, List<T>> parallelPartition(Iterable<T> values, Predicate<T> partitioner) {
+        return parallelPartition(values, partitioner, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Partitions elements from an iterable in parallel on the passed executor,
+     * yielding the same result of partition. E.g:
+     * <code> parallelPartition([1,2,3,4], isEven, executor) -> ([2,4],[1,3])</code>
+     *
+     * @param <T> the element type
+     * @param values elements to be partitioned
+     * @param partitioner the predicate used to partition, called concurrently
+     * @param executor the executor partitioning the chunks
+     * @return a pair containing partitioned elements
+     */
+    public static <T> Pair<List<T>, List<T>> parallelPartition(Iterable<T> values, Predicate<T> partitioner, Executor executor) {
+        dbc.precondition(values != null, "cannot parallelPartition with a null iterable");
+        return parallelPartition(values.iterator(), partitioner, executor);
+    }
+
+    /**
+     * Partitions elements from an array in parallel on the common fork join
+     * pool, yielding the same result of partition. E.g:
+     * <code> parallelPartition([1,2,3,4], isEven) -> ([2,4],[1,3])</code>
+     *
+     * @param <T> the element type
+     * @param values elements to be partitioned
+     * @param partitioner the predicate used to partition, called concurrently
+     * @return a pair containing partitioned elements
+     */
+    public static <T> Pair<List<T>, List<T>> parallelPartition(T[] values, Predicate<T> partitioner) {
+        return parallelPartition(values, partitioner, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Partitions elements from an array in parallel on the passed executor,
+     * yielding the same result of partition. E.g:
+     * <code> parallelPartition([1,2,3,4], isEven, executor) -> ([2,4],[1,3])</code>
+     *
+     * @param <T> the element type
+     * @param values elements to be partitioned
+     * @param partitioner the predicate used to partition, called concurrently
+     * @param executor the executor partitioning the chunks
+     * @return a pair containing partitioned elements
+     */
+    public static <T> Pair<List<T>, List<T>> parallelPartition(T[] values, Predicate<T> partitioner, Executor executor) {
+        return parallelPartition(new ArrayIterator<>(values), partitioner, executor);
+    }
+
+    /**
+     * Indexes elements from an iterator in parallel on the common fork join
+     * pool, yielding the same result of indexBy. E.g:
+     * <code> parallelIndexBy([1,2,3,4], id) -> {1:1, 2:2, 3:3, 4:4}</code>
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param groupies elements to be indexed
+     * @param indexer the function used to index elements, called concurrently
+     * @return indexed elements in a map
+     */
+    public static <K, V> Map<K, V> parallelIndexBy(Iterator<V> groupies, Function<V, K> indexer) {
+        return parallelIndexBy(groupies, indexer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Indexes elements from an iterator in parallel on the passed executor,
+     * yielding the same result of indexBy. E.g:
+     * <code> parallelIndexBy([1,2,3,4], id, executor) -> {1:1, 2:2, 3:3, 4:4}</code>
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param groupies elements to be indexed
+     * @param indexer the function used to index elements, called concurrently
+     * @param executor the executor indexing the chunks
+     * @return indexed elements in a map
+     */
+    public static <K, V> Map<K, V> parallelIndexBy(Iterator<V> groupies, Function<V, K> indexer, Executor executor) {
+        return new ParallelIndexBy<>(indexer, new HashMapFactory<K, V>(), executor).apply(groupies);
+    }
+
+    /**
+     * Indexes elements from an iterable in parallel on the common fork join
+     * pool, yielding the same result of indexBy. E.g:
+     * <code> parallelIndexBy([1,2,3,4], id) -> {1:1, 2:2, 3:3, 4:4}</code>
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param groupies elements to be indexed
+     * @param indexer the function used to index elements, called concurrently
+     * @return indexed elements in a map
+     */
+    public static <K, V> Map<K, V> parallelIndexBy(Iterable<V> groupies, Function<V, K> indexer) {
+        return parallelIndexBy(groupies, indexer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Indexes elements from an iterable in parallel on the passed executor,
+     * yielding the same result of indexBy. E.g:
+     * <code> parallelIndexBy([1,2,3,4], id, executor) -> {1:1, 2:2, 3:3, 4:4}</code>
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param groupies elements to be indexed
+     * @param indexer the function used to index elements, called concurrently
+     * @param executor the executor indexing the chunks
+     * @return indexed elements in a map
+     */
+    public static <K, V> Map<K, V> parallelIndexBy(Iterable<V> groupies, Function<V, K> indexer, Executor executor) {
+        dbc.precondition(groupies != null, "cannot parallelIndexBy with a null iterable");
+        return parallelIndexBy(groupies.iterator(), indexer, executor);
+    }
+
+    /**
+     * Indexes elements from an array in parallel on the common fork join pool,
+     * yielding the same result of indexBy. E.g:
+     * <code> parallelIndexBy([1,2,3,4], id) -> {1:1, 2:2, 3:3, 4:4}</code>
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param groupies elements to be indexed
+     * @param indexer the function used to index elements, called concurrently
+     * @return indexed elements in a map
+     */
+    public static <K, V> Map<K, V> parallelIndexBy(V[] groupies, Function<V, K> indexer) {
+        return parallelIndexBy(groupies, indexer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Indexes elements from an array in parallel on the passed executor,
+     * yielding the same result of indexBy. E.g:
+     * <code> parallelIndexBy([1,2,3,4], id, executor) -> {1:1, 2:2, 3:3, 4:4}</code>
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @param groupies elements to be indexed
+     * @param indexer the function used to index elements, called concurrently
+     * @param executor the executor indexing the chunks
+     * @return indexed elements in a map
+     */
+    public static <K, V> Map<K, V> parallelIndexBy(V[] groupies, Function<V, K> indexer, Executor executor) {
+        return parallelIndexBy(new ArrayIterator<>(groupies), indexer, executor);
+    }
+
+    /**
+     * Groups elements from an iterator keeping at most maximumEntries elements
+     * in memory: beyond that, groups are spilled to temporary files as sorted
+     * runs and merged back lazily. Groups are yielded in key order, with their
+     * elements in encounter order. E.g:
+     * <code> spillingGroupBy(["B1","A1","A2"], firstChar, ...) -> [("A", ["A1", "A2"]), ("B", ["B1"])]</code>
+     *
+     * @param <K> the grouped key type
+     * @param <V> the grouped value type
+     * @param groupies elements to be grouped
+     * @param grouper the function used to group elements
+     * @param comparator the comparator used to sort the groups
+     * @param keys the serializer used to spill keys
+     * @param values the serializer used to spill values
+     * @param maximumEntries the number of elements kept in memory
+     * @return an iterator of the groups, to be closed if abandoned
+     */
+    public static <K, V> SpilledGroupsIterator<K, V> spillingGroupBy(Iterator<V> groupies, Function<V, K> grouper, Comparator<K> comparator, SpillSerializer<K> keys, SpillSerializer<V> values, long maximumEntries) {
+        return new SpillingGroupBy<>(grouper, comparator, keys, values, maximumEntries).apply(groupies);
+    }
 }
@@ -4,6 +4,7 @@ import net.emaze.dysfunctional.casts.Vary;
 import net.emaze.dysfunctional.collections.ArrayListFactory;
 import net.emaze.dysfunctional.contracts.dbc;
 import net.emaze.dysfunctional.dispatching.delegates.ConstantSupplier;
+import net.emaze.dysfunctional.filtering.SortedDistinctIterator;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
 import net.emaze.dysfunctional.iterations.TransformingIterator;
 import net.emaze.dysfunctional.multiplexing.*;
@@ -624,4 +625,163 @@ public abstract class Multiplexing {
         final Supplier<List<Optional<E>>> channelFactory = Compositions.compose(new Vary<ArrayList<Optional<E>>, List<Optional<E>>>(), new ArrayListFactory<Optional<E>>());
         return new UnchainLongestIterator<List<Optional<E>>, E>(channelsSizesProvider, new ArrayIterator<E>(array), channelFactory);
     }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator through a binary
+     * heap, in O(n log k) keeping only k elements in memory. The merge is
+     * stable.
+     * <code>
+     * merge(comparator, [1,4], [2,5], [1,3]) -> [1,1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param <I> the iterator type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E, I extends Iterator<E>> Iterator<E> merge(Comparator<E> comparator, Iterator<I> iterators) {
+        return new MergingIterator<E>(comparator, iterators);
+    }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator through a binary
+     * heap, in O(n log k) keeping only k elements in memory. The merge is
+     * stable.
+     * <code>
+     * merge(comparator, [1,4], [2,5], [1,3]) -> [1,1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param <I> the iterator type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E, I extends Iterator<E>> Iterator<E> merge(Comparator<E> comparator, Iterable<I> iterators) {
+        dbc.precondition(iterators != null, "cannot merge a null iterable");
+        return new MergingIterator<E>(comparator, iterators.iterator());
+    }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator through a binary
+     * heap, in O(n log k) keeping only k elements in memory. The merge is
+     * stable.
+     * <code>
+     * merge(comparator, [1,4], [2,5], [1,3]) -> [1,1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E> Iterator<E> merge(Comparator<E> comparator, Iterator<E>... iterators) {
+        return new MergingIterator<E>(comparator, ArrayIterator.of(iterators));
+    }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator, dropping the
+     * elements comparing equal to the previous one.
+     * <code>
+     * mergeDistinct(comparator, [1,4], [2,5], [1,3]) -> [1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param <I> the iterator type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E, I extends Iterator<E>> Iterator<E> mergeDistinct(Comparator<E> comparator, Iterator<I> iterators) {
+        return new SortedDistinctIterator<E>(new MergingIterator<E>(comparator, iterators), comparator);
+    }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator, dropping the
+     * elements comparing equal to the previous one.
+     * <code>
+     * mergeDistinct(comparator, [1,4], [2,5], [1,3]) -> [1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param <I> the iterator type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E, I extends Iterator<E>> Iterator<E> mergeDistinct(Comparator<E> comparator, Iterable<I> iterators) {
+        dbc.precondition(iterators != null, "cannot mergeDistinct a null iterable");
+        return new SortedDistinctIterator<E>(new MergingIterator<E>(comparator, iterators.iterator()), comparator);
+    }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator, dropping the
+     * elements comparing equal to the previous one.
+     * <code>
+     * mergeDistinct(comparator, [1,4], [2,5], [1,3]) -> [1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E> Iterator<E> mergeDistinct(Comparator<E> comparator, Iterator<E>... iterators) {
+        return new SortedDistinctIterator<E>(new MergingIterator<E>(comparator, ArrayIterator.of(iterators)), comparator);
+    }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator through a
+     * tournament tree, replacing every yielded element in ceil(log2 k)
+     * comparisons: prefer it to merge when k is large. The merge is stable.
+     * <code>
+     * mergeTournament(comparator, [1,4], [2,5], [1,3]) -> [1,1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param <I> the iterator type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E, I extends Iterator<E>> Iterator<E> mergeTournament(Comparator<E> comparator, Iterator<I> iterators) {
+        return new TournamentMergingIterator<E>(comparator, iterators);
+    }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator through a
+     * tournament tree, replacing every yielded element in ceil(log2 k)
+     * comparisons: prefer it to merge when k is large. The merge is stable.
+     * <code>
+     * mergeTournament(comparator, [1,4], [2,5], [1,3]) -> [1,1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param <I> the iterator type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E, I extends Iterator<E>> Iterator<E> mergeTournament(Comparator<E> comparator, Iterable<I> iterators) {
+        dbc.precondition(iterators != null, "cannot mergeTournament a null iterable");
+        return new TournamentMergingIterator<E>(comparator, iterators.iterator());
+    }
+
+    /**
+     * Lazily merges sorted iterators into a sorted iterator through a
+     * tournament tree, replacing every yielded element in ceil(log2 k)
+     * comparisons: prefer it to merge when k is large. The merge is stable.
+     * <code>
+     * mergeTournament(comparator, [1,4], [2,5], [1,3]) -> [1,1,2,3,4,5]
+     * </code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator the iterators are sorted by
+     * @param iterators the sorted iterators to be merged
+     * @return the merged iterator
+     */
+    public static <E> Iterator<E> mergeTournament(Comparator<E> comparator, Iterator<E>... iterators) {
+        return new TournamentMergingIterator<E>(comparator, ArrayIterator.of(iterators));
+    }
 }
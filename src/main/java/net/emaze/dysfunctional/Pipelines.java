@@ -1,9 +1,11 @@
 package net.emaze.dysfunctional;
 
 import java.util.Iterator;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import net.emaze.dysfunctional.dispatching.actions.TriConsumer;
+import net.emaze.dysfunctional.dispatching.composing.AsyncPipelinedConsumer;
 import net.emaze.dysfunctional.dispatching.composing.PipelinedConsumer;
 import net.emaze.dysfunctional.dispatching.composing.PipelinedBinaryConsumer;
 import net.emaze.dysfunctional.dispatching.composing.PipelinedTernaryConsumer;
@@ -105,6 +107,42 @@ public abstract class Pipelines {
         }
     }
 
+    /**
+     * asynchronous pipeline.
+     */
+    public abstract static class Async {
+
+        /**
+         * Creates an asynchronous pipeline where every action runs on its own
+         * daemon worker, fed by a bounded queue. The pipeline must be closed
+         * to drain the queued values.
+         *
+         * @param <T> the consumer parameter type
+         * @param actions the iterable of actions, in pipeline order
+         * @param capacity the capacity of every stage queue
+         * @return the asynchronous pipelined consumer
+         */
+        public static <T> AsyncPipelinedConsumer<T> pipeline(Iterable<Consumer<T>> actions, int capacity) {
+            return new AsyncPipelinedConsumer<T>(actions, capacity);
+        }
+
+        /**
+         * Creates an asynchronous pipeline where every action runs on its own
+         * worker created by the thread factory, fed by a bounded queue. The
+         * pipeline must be closed to drain the queued values.
+         *
+         * @param <T> the consumer parameter type
+         * @param actions the iterable of actions, in pipeline order
+         * @param capacity the capacity of every stage queue
+         * @param batchSize the maximum number of values a worker drains at once
+         * @param threadFactory the factory creating the workers
+         * @return the asynchronous pipelined consumer
+         */
+        public static <T> AsyncPipelinedConsumer<T> pipeline(Iterable<Consumer<T>> actions, int capacity, int batchSize, ThreadFactory threadFactory) {
+            return new AsyncPipelinedConsumer<T>(actions, capacity, batchSize, threadFactory);
+        }
+    }
+
     /**
      * Creates a pipeline from an consumer.
      *
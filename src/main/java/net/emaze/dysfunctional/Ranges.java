@@ -1,5 +1,6 @@
 package net.emaze.dysfunctional;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import net.emaze.dysfunctional.contracts.dbc;
@@ -12,9 +13,10 @@ import net.emaze.dysfunctional.ranges.Difference;
 import net.emaze.dysfunctional.ranges.Intersection;
 import net.emaze.dysfunctional.ranges.Range;
 import net.emaze.dysfunctional.ranges.Range.Endpoint;
+import net.emaze.dysfunctional.ranges.RangeIndex;
+import net.emaze.dysfunctional.ranges.Sweep;
 import net.emaze.dysfunctional.ranges.SymmetricDifference;
 import net.emaze.dysfunctional.ranges.Union;
-import net.emaze.dysfunctional.reductions.Reductor;
 
 /**
  *
@@ -106,31 +108,25 @@ public class Ranges<T> {
     }
 
     public Range<T> union(Range<T> first, Range<T> second, Range<T> third) {
-        final Union<T> union = new Union<T>(sequencer, comparator, emptyValue);
-        return union.apply(union.apply(first, second), third);
+        return sweep(Sweep.Operation.Union, Iterations.iterator(first, second, third));
     }
 
     public Range<T> union(Iterator<Range<T>> ranges) {
         dbc.precondition(ranges != null, "cannot evaluate union for a null iterator of ranges");
         dbc.precondition(ranges.hasNext(), "cannot evaluate union for an empty iterator of ranges");
-        final Union<T> union = new Union<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(union, ranges.next()).apply(ranges);
+        return sweep(Sweep.Operation.Union, ranges);
     }
 
     public Range<T> union(Iterable<Range<T>> ranges) {
         dbc.precondition(ranges != null, "cannot evaluate union for a null iterable of ranges");
         dbc.precondition(ranges.iterator().hasNext(), "cannot evaluate union for an empty iterable of ranges");
-        final Iterator<Range<T>> iterator = ranges.iterator();
-        final Union<T> union = new Union<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(union, iterator.next()).apply(iterator);
+        return sweep(Sweep.Operation.Union, ranges.iterator());
     }
 
     public Range<T> union(Range<T>... ranges) {
         dbc.precondition(ranges != null, "cannot evaluate union for a null array of ranges");
         dbc.precondition(ranges.length != 0, "cannot evaluate union for an empty array of ranges");
-        final Iterator<Range<T>> iterator = new ArrayIterator<Range<T>>(ranges);
-        final Union<T> union = new Union<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(union, iterator.next()).apply(iterator);
+        return sweep(Sweep.Operation.Union, new ArrayIterator<Range<T>>(ranges));
     }
 
     public Range<T> intersect(Range<T> lhs, Range<T> rhs) {
@@ -139,31 +135,25 @@ public class Ranges<T> {
     }
 
     public Range<T> intersect(Range<T> first, Range<T> second, Range<T> third) {
-        final Intersection<T> intersection = new Intersection<T>(sequencer, comparator, emptyValue);
-        return intersection.apply(intersection.apply(first, second), third);
+        return sweep(Sweep.Operation.Intersection, Iterations.iterator(first, second, third));
     }
 
     public Range<T> intersect(Iterator<Range<T>> ranges) {
         dbc.precondition(ranges != null, "cannot intersection a null iterator of ranges");
         dbc.precondition(ranges.hasNext(), "cannot intersection an empty iterator of ranges");
-        final Intersection<T> intersection = new Intersection<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(intersection, ranges.next()).apply(ranges);
+        return sweep(Sweep.Operation.Intersection, ranges);
     }
 
     public Range<T> intersect(Iterable<Range<T>> ranges) {
         dbc.precondition(ranges != null, "cannot intersect a null iterable of ranges");
         dbc.precondition(ranges.iterator().hasNext(), "cannot intersect an empty iterable of ranges");
-        final Intersection<T> intersection = new Intersection<T>(sequencer, comparator, emptyValue);
-        final Iterator<Range<T>> iterator = ranges.iterator();
-        return new Reductor<Range<T>, Range<T>>(intersection, iterator.next()).apply(iterator);
+        return sweep(Sweep.Operation.Intersection, ranges.iterator());
     }
 
     public Range<T> intersect(Range<T>... ranges) {
         dbc.precondition(ranges != null, "cannot intersect a null array of ranges");
         dbc.precondition(ranges.length != 0, "cannot intersect an empty array of ranges");
-        final Intersection<T> intersection = new Intersection<T>(sequencer, comparator, emptyValue);
-        final Iterator<Range<T>> iterator = new ArrayIterator<Range<T>>(ranges);
-        return new Reductor<Range<T>, Range<T>>(intersection, iterator.next()).apply(iterator);
+        return sweep(Sweep.Operation.Intersection, new ArrayIterator<Range<T>>(ranges));
     }
 
     public Range<T> symmetricDifference(Range<T> lhs, Range<T> rhs) {
@@ -172,31 +162,25 @@ public class Ranges<T> {
     }
 
     public Range<T> symmetricDifference(Range<T> first, Range<T> second, Range<T> third) {
-        final SymmetricDifference<T> symmetricDifference = new SymmetricDifference<T>(sequencer, comparator, emptyValue);
-        return symmetricDifference.apply(symmetricDifference.apply(first, second), third);
+        return sweep(Sweep.Operation.SymmetricDifference, Iterations.iterator(first, second, third));
     }
 
     public Range<T> symmetricDifference(Iterator<Range<T>> ranges) {
         dbc.precondition(ranges != null, "cannot evaluate symmetric difference for a null iterator of ranges");
         dbc.precondition(ranges.hasNext(), "cannot evaluate symmetric difference for an empty iterator of ranges");
-        final SymmetricDifference<T> symmetricDifference = new SymmetricDifference<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(symmetricDifference, ranges.next()).apply(ranges);
+        return sweep(Sweep.Operation.SymmetricDifference, ranges);
     }
 
     public Range<T> symmetricDifference(Iterable<Range<T>> ranges) {
         dbc.precondition(ranges != null, "cannot evaluate symmetric difference for a null iterable of ranges");
         dbc.precondition(ranges.iterator().hasNext(), "cannot evaluate symmetric difference for an empty iterable of ranges");
-        final Iterator<Range<T>> iterator = ranges.iterator();
-        final SymmetricDifference<T> symmetricDifference = new SymmetricDifference<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(symmetricDifference, iterator.next()).apply(iterator);
+        return sweep(Sweep.Operation.SymmetricDifference, ranges.iterator());
     }
 
     public Range<T> symmetricDifference(Range<T>... ranges) {
         dbc.precondition(ranges != null, "cannot evaluate symmetric difference for a null array of ranges");
         dbc.precondition(ranges.length != 0, "cannot evaluate symmetric difference for an empty array of ranges");
-        final Iterator<Range<T>> iterator = new ArrayIterator<Range<T>>(ranges);
-        final SymmetricDifference<T> symmetricDifference = new SymmetricDifference<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(symmetricDifference, iterator.next()).apply(iterator);
+        return sweep(Sweep.Operation.SymmetricDifference, new ArrayIterator<Range<T>>(ranges));
     }
 
     public Range<T> difference(Range<T> lhs, Range<T> rhs) {
@@ -205,30 +189,52 @@ public class Ranges<T> {
     }
 
     public Range<T> difference(Range<T> first, Range<T> second, Range<T> third) {
-        final Difference<T> difference = new Difference<T>(sequencer, comparator, emptyValue);
-        return difference.apply(difference.apply(first, second), third);
+        return sweep(Sweep.Operation.Difference, Iterations.iterator(first, second, third));
     }
 
     public Range<T> difference(Iterator<Range<T>> ranges) {
         dbc.precondition(ranges != null, "cannot evaluate difference for a null iterator of ranges");
         dbc.precondition(ranges.hasNext(), "cannot evaluate difference for an empty iterator of ranges");
-        final Difference<T> difference = new Difference<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(difference, ranges.next()).apply(ranges);
+        return sweep(Sweep.Operation.Difference, ranges);
     }
 
     public Range<T> difference(Iterable<Range<T>> ranges) {
         dbc.precondition(ranges != null, "cannot evaluate difference for a null iterable of ranges");
         dbc.precondition(ranges.iterator().hasNext(), "cannot evaluate difference for an empty iterable of ranges");
-        final Iterator<Range<T>> iterator = ranges.iterator();
-        final Difference<T> difference = new Difference<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(difference, iterator.next()).apply(iterator);
+        return sweep(Sweep.Operation.Difference, ranges.iterator());
     }
 
     public Range<T> difference(Range<T>... ranges) {
         dbc.precondition(ranges != null, "cannot evaluate difference for a null array of ranges");
         dbc.precondition(ranges.length != 0, "cannot evaluate difference for an empty array of ranges");
-        final Iterator<Range<T>> iterator = new ArrayIterator<Range<T>>(ranges);
-        final Difference<T> difference = new Difference<T>(sequencer, comparator, emptyValue);
-        return new Reductor<Range<T>, Range<T>>(difference, iterator.next()).apply(iterator);
+        return sweep(Sweep.Operation.Difference, new ArrayIterator<Range<T>>(ranges));
+    }
+
+    private Range<T> sweep(Sweep.Operation operation, Iterator<Range<T>> ranges) {
+        return new Sweep<T>(sequencer, comparator, emptyValue, operation).apply(ranges);
+    }
+
+    /**
+     * Creates an index answering containment and overlap queries over many,
+     * possibly overlapping, ranges in O(log n + k).
+     *
+     * @param ranges the ranges to be indexed
+     * @return the index
+     */
+    public RangeIndex<T> index(Iterable<Range<T>> ranges) {
+        dbc.precondition(ranges != null, "cannot index a null iterable of ranges");
+        return new RangeIndex<T>(comparator, ranges);
+    }
+
+    /**
+     * Creates an index answering containment and overlap queries over many,
+     * possibly overlapping, ranges in O(log n + k).
+     *
+     * @param ranges the ranges to be indexed
+     * @return the index
+     */
+    public RangeIndex<T> index(Range<T>... ranges) {
+        dbc.precondition(ranges != null, "cannot index a null array of ranges");
+        return new RangeIndex<T>(comparator, Arrays.asList(ranges));
     }
 }
@@ -2,19 +2,27 @@ package net.emaze.dysfunctional;
 
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.PrimitiveIterator;
 import java.util.function.BiFunction;
 import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 import net.emaze.dysfunctional.contracts.dbc;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
+import net.emaze.dysfunctional.numbers.statistics.DoubleStatistics;
+import net.emaze.dysfunctional.numbers.statistics.KahanSum;
+import net.emaze.dysfunctional.numbers.statistics.LongStatistics;
 import net.emaze.dysfunctional.order.ComparableComparator;
 import net.emaze.dysfunctional.reductions.Any;
-import net.emaze.dysfunctional.reductions.Count;
 import net.emaze.dysfunctional.reductions.Every;
 import net.emaze.dysfunctional.reductions.Reductor;
 
 /**
- * reduce, any, every, count, maximum, minimum.
+ * reduce, any, every, count, sum, statistics, maximum, minimum.
  *
  * @author rferranti
  */
@@ -160,7 +168,12 @@ public abstract class Reductions {
      * @return the size of the iterator
      */
     public static <E> long count(Iterator<E> iterator) {
-        return reduce(iterator, new Count<E>(), 0l);
+        dbc.precondition(iterator != null, "cannot call count with a null iterator");
+        long count = 0;
+        for (; iterator.hasNext(); iterator.next()) {
+            ++count;
+        }
+        return count;
     }
 
     /**
@@ -183,7 +196,7 @@ public abstract class Reductions {
      * @return the size of the iterator
      */
     public static <E> int counti(Iterator<E> iterator) {
-        final long value = reduce(iterator, new Count<E>(), 0l);
+        final long value = count(iterator);
         dbc.state(value <= Integer.MAX_VALUE, "iterator size overflows an integer");
         return (int) value;
     }
@@ -200,6 +213,121 @@ public abstract class Reductions {
         return counti(iterable.iterator());
     }
 
+    /**
+     * Sums the ints contained in the iterator into a long, without boxing them.
+     *
+     * @param iterator the iterator to be consumed
+     * @return the sum of the elements
+     */
+    public static long sum(PrimitiveIterator.OfInt iterator) {
+        dbc.precondition(iterator != null, "cannot call sum with a null iterator");
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the longs contained in the iterator, without boxing them.
+     *
+     * @param iterator the iterator to be consumed
+     * @return the sum of the elements
+     */
+    public static long sum(PrimitiveIterator.OfLong iterator) {
+        dbc.precondition(iterator != null, "cannot call sum with a null iterator");
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the doubles contained in the iterator, without boxing them.
+     *
+     * @param iterator the iterator to be consumed
+     * @return the sum of the elements
+     */
+    public static double sum(PrimitiveIterator.OfDouble iterator) {
+        dbc.precondition(iterator != null, "cannot call sum with a null iterator");
+        final KahanSum sum = new KahanSum();
+        iterator.forEachRemaining(sum);
+        return sum.value();
+    }
+
+    /**
+     * Accumulates count, sum, minimum, maximum, mean and variance of the ints
+     * contained in the iterator, without boxing them.
+     *
+     * @param iterator the iterator to be consumed
+     * @return the statistics
+     */
+    public static LongStatistics statistics(PrimitiveIterator.OfInt iterator) {
+        dbc.precondition(iterator != null, "cannot call statistics with a null iterator");
+        final LongStatistics statistics = new LongStatistics();
+        iterator.forEachRemaining((IntConsumer) statistics);
+        return statistics;
+    }
+
+    /**
+     * Accumulates count, sum, minimum, maximum, mean and variance of the longs
+     * contained in the iterator, without boxing them.
+     *
+     * @param iterator the iterator to be consumed
+     * @return the statistics
+     */
+    public static LongStatistics statistics(PrimitiveIterator.OfLong iterator) {
+        dbc.precondition(iterator != null, "cannot call statistics with a null iterator");
+        final LongStatistics statistics = new LongStatistics();
+        iterator.forEachRemaining((LongConsumer) statistics);
+        return statistics;
+    }
+
+    /**
+     * Accumulates count, compensated sum, minimum, maximum, mean and variance
+     * of the doubles contained in the iterator, without boxing them.
+     *
+     * @param iterator the iterator to be consumed
+     * @return the statistics
+     */
+    public static DoubleStatistics statistics(PrimitiveIterator.OfDouble iterator) {
+        dbc.precondition(iterator != null, "cannot call statistics with a null iterator");
+        final DoubleStatistics statistics = new DoubleStatistics();
+        iterator.forEachRemaining(statistics);
+        return statistics;
+    }
+
+    /**
+     * Creates a collector accumulating the statistics of the long values
+     * extracted from every element. Partial results of parallel streams are
+     * merged, and no value is boxed. E.g:
+     * <code>orders.stream().collect(longStatistics(Order::cents))</code>
+     *
+     * @param <T> the element type
+     * @param extractor the function extracting the value of each element
+     * @return the collector
+     */
+    public static <T> Collector<T, LongStatistics, LongStatistics> longStatistics(ToLongFunction<? super T> extractor) {
+        dbc.precondition(extractor != null, "cannot create a statistics collector with a null extractor");
+        return Collector.of(LongStatistics::new, (statistics, element) -> statistics.accept(extractor.applyAsLong(element)), LongStatistics::merge, Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Creates a collector accumulating the statistics of the double values
+     * extracted from every element. Partial results of parallel streams are
+     * merged, and no value is boxed. E.g:
+     * <code>orders.stream().collect(doubleStatistics(Order::amount))</code>
+     *
+     * @param <T> the element type
+     * @param extractor the function extracting the value of each element
+     * @return the collector
+     */
+    public static <T> Collector<T, DoubleStatistics, DoubleStatistics> doubleStatistics(ToDoubleFunction<? super T> extractor) {
+        dbc.precondition(extractor != null, "cannot create a statistics collector with a null extractor");
+        return Collector.of(DoubleStatistics::new, (statistics, element) -> statistics.accept(extractor.applyAsDouble(element)), DoubleStatistics::merge, Collector.Characteristics.IDENTITY_FINISH, Collector.Characteristics.UNORDERED);
+    }
+
     /**
      * Returns the max element contained in the iterator
      *
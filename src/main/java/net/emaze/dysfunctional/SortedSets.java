@@ -0,0 +1,161 @@
+package net.emaze.dysfunctional;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.sortedsets.GallopingIntersectionIterator;
+import net.emaze.dysfunctional.sortedsets.SortedDifferenceIterator;
+import net.emaze.dysfunctional.sortedsets.SortedIntersectionIterator;
+import net.emaze.dysfunctional.sortedsets.SortedSymmetricDifferenceIterator;
+import net.emaze.dysfunctional.sortedsets.SortedUnionIterator;
+
+/**
+ * union, intersect, gallopingIntersect, difference, symmetricDifference of
+ * sorted iterators. Every operation is lazy, walks both sides once holding
+ * just their heads, and treats duplicates as multisets.
+ */
+public abstract class SortedSets {
+
+    /**
+     * Lazily yields the union of two iterators sorted by the comparator. E.g:
+     * <code>union(comparator, [1,2,4], [2,3]) -> [1,2,3,4]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both iterators are sorted by
+     * @param former the former sorted iterator
+     * @param latter the latter sorted iterator
+     * @return the sorted union
+     */
+    public static <E> Iterator<E> union(Comparator<E> comparator, Iterator<E> former, Iterator<E> latter) {
+        return new SortedUnionIterator<>(former, latter, comparator);
+    }
+
+    /**
+     * Lazily yields the union of two iterables sorted by the comparator. E.g:
+     * <code>union(comparator, [1,2,4], [2,3]) -> [1,2,3,4]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both iterables are sorted by
+     * @param former the former sorted iterable
+     * @param latter the latter sorted iterable
+     * @return the sorted union
+     */
+    public static <E> Iterator<E> union(Comparator<E> comparator, Iterable<E> former, Iterable<E> latter) {
+        dbc.precondition(former != null, "cannot call union with a null former iterable");
+        dbc.precondition(latter != null, "cannot call union with a null latter iterable");
+        return new SortedUnionIterator<>(former.iterator(), latter.iterator(), comparator);
+    }
+
+    /**
+     * Lazily yields the intersection of two iterators sorted by the
+     * comparator. E.g:
+     * <code>intersect(comparator, [1,2,4], [2,3,4]) -> [2,4]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both iterators are sorted by
+     * @param former the former sorted iterator
+     * @param latter the latter sorted iterator
+     * @return the sorted intersection
+     */
+    public static <E> Iterator<E> intersect(Comparator<E> comparator, Iterator<E> former, Iterator<E> latter) {
+        return new SortedIntersectionIterator<>(former, latter, comparator);
+    }
+
+    /**
+     * Lazily yields the intersection of two iterables sorted by the
+     * comparator. E.g:
+     * <code>intersect(comparator, [1,2,4], [2,3,4]) -> [2,4]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both iterables are sorted by
+     * @param former the former sorted iterable
+     * @param latter the latter sorted iterable
+     * @return the sorted intersection
+     */
+    public static <E> Iterator<E> intersect(Comparator<E> comparator, Iterable<E> former, Iterable<E> latter) {
+        dbc.precondition(former != null, "cannot call intersect with a null former iterable");
+        dbc.precondition(latter != null, "cannot call intersect with a null latter iterable");
+        return new SortedIntersectionIterator<>(former.iterator(), latter.iterator(), comparator);
+    }
+
+    /**
+     * Lazily yields the intersection of a small sorted iterator and a large
+     * sorted random access list, galloping through the list in
+     * O(m log(n / m)) comparisons. E.g:
+     * <code>gallopingIntersect(comparator, [3,900], [1..1000]) -> [3,900]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both sides are sorted by
+     * @param smaller the smaller sorted iterator
+     * @param larger the larger sorted random access list
+     * @return the sorted intersection
+     */
+    public static <E> Iterator<E> gallopingIntersect(Comparator<E> comparator, Iterator<E> smaller, List<E> larger) {
+        return new GallopingIntersectionIterator<>(smaller, larger, comparator);
+    }
+
+    /**
+     * Lazily yields the elements of the former sorted iterator missing from
+     * the latter. E.g:
+     * <code>difference(comparator, [1,2,4], [2,3]) -> [1,4]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both iterators are sorted by
+     * @param former the sorted iterator elements are yielded from
+     * @param latter the sorted iterator of the elements to be removed
+     * @return the sorted difference
+     */
+    public static <E> Iterator<E> difference(Comparator<E> comparator, Iterator<E> former, Iterator<E> latter) {
+        return new SortedDifferenceIterator<>(former, latter, comparator);
+    }
+
+    /**
+     * Lazily yields the elements of the former sorted iterable missing from
+     * the latter. E.g:
+     * <code>difference(comparator, [1,2,4], [2,3]) -> [1,4]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both iterables are sorted by
+     * @param former the sorted iterable elements are yielded from
+     * @param latter the sorted iterable of the elements to be removed
+     * @return the sorted difference
+     */
+    public static <E> Iterator<E> difference(Comparator<E> comparator, Iterable<E> former, Iterable<E> latter) {
+        dbc.precondition(former != null, "cannot call difference with a null former iterable");
+        dbc.precondition(latter != null, "cannot call difference with a null latter iterable");
+        return new SortedDifferenceIterator<>(former.iterator(), latter.iterator(), comparator);
+    }
+
+    /**
+     * Lazily yields the elements occurring in just one of two iterators
+     * sorted by the comparator. E.g:
+     * <code>symmetricDifference(comparator, [1,2,4], [2,3]) -> [1,3,4]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both iterators are sorted by
+     * @param former the former sorted iterator
+     * @param latter the latter sorted iterator
+     * @return the sorted symmetric difference
+     */
+    public static <E> Iterator<E> symmetricDifference(Comparator<E> comparator, Iterator<E> former, Iterator<E> latter) {
+        return new SortedSymmetricDifferenceIterator<>(former, latter, comparator);
+    }
+
+    /**
+     * Lazily yields the elements occurring in just one of two iterables
+     * sorted by the comparator. E.g:
+     * <code>symmetricDifference(comparator, [1,2,4], [2,3]) -> [1,3,4]</code>
+     *
+     * @param <E> the element type
+     * @param comparator the comparator both iterables are sorted by
+     * @param former the former sorted iterable
+     * @param latter the latter sorted iterable
+     * @return the sorted symmetric difference
+     */
+    public static <E> Iterator<E> symmetricDifference(Comparator<E> comparator, Iterable<E> former, Iterable<E> latter) {
+        dbc.precondition(former != null, "cannot call symmetricDifference with a null former iterable");
+        dbc.precondition(latter != null, "cannot call symmetricDifference with a null latter iterable");
+        return new SortedSymmetricDifferenceIterator<>(former.iterator(), latter.iterator(), comparator);
+    }
+}
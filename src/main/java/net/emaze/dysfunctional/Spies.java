@@ -660,4 +660,158 @@ public abstract class Spies {
     public static <T1, T2, T3> TriPredicate<T1, T2, T3> monitor(TriPredicate<T1, T2, T3> predicate, AtomicLong calls) {
         return new TernaryMonitoringPredicate<T1, T2, T3>(predicate, calls);
     }
+
+    /**
+     * Meters calls, failures and latencies of a consumer.
+     *
+     * @param <T> the consumer parameter type
+     * @param consumer the consumer that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied consumer
+     */
+    public static <T> Consumer<T> monitor(Consumer<T> consumer, Meter meter) {
+        return new MeteringConsumer<T>(consumer, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a function.
+     *
+     * @param <T> the function parameter type
+     * @param <R> the function result type
+     * @param function the function that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied function
+     */
+    public static <T, R> Function<T, R> monitor(Function<T, R> function, Meter meter) {
+        return new MeteringFunction<>(function, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a predicate.
+     *
+     * @param <T> the predicate parameter type
+     * @param predicate the predicate that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied predicate
+     */
+    public static <T> Predicate<T> monitor(Predicate<T> predicate, Meter meter) {
+        return new MeteringPredicate<T>(predicate, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a proposition.
+     *
+     * @param proposition the proposition that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied proposition
+     */
+    public static BooleanSupplier monitor(BooleanSupplier proposition, Meter meter) {
+        return new MeteringProposition(proposition, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a supplier.
+     *
+     * @param <R> the supplier result type
+     * @param supplier the supplier that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied supplier
+     */
+    public static <R> Supplier<R> monitor(Supplier<R> supplier, Meter meter) {
+        return new MeteringSupplier<>(supplier, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a runnable.
+     *
+     * @param runnable the runnable that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied runnable
+     */
+    public static Runnable monitor(Runnable runnable, Meter meter) {
+        return new MeteringRunnable(runnable, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a binary consumer.
+     *
+     * @param <T1> the consumer first parameter type
+     * @param <T2> the consumer second parameter type
+     * @param consumer the consumer that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied consumer
+     */
+    public static <T1, T2> BiConsumer<T1, T2> monitor(BiConsumer<T1, T2> consumer, Meter meter) {
+        return new BinaryMeteringConsumer<T1, T2>(consumer, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a binary function.
+     *
+     * @param <T1> the function first parameter type
+     * @param <T2> the function second parameter type
+     * @param <R> the function result type
+     * @param function the function that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied function
+     */
+    public static <T1, T2, R> BiFunction<T1, T2, R> monitor(BiFunction<T1, T2, R> function, Meter meter) {
+        return new BinaryMeteringFunction<>(function, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a binary predicate
+     *
+     * @param <T1> the predicate first parameter type
+     * @param <T2> the predicate second parameter type
+     * @param predicate the predicate that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied predicate
+     */
+    public static <T1, T2> BiPredicate<T1, T2> monitor(BiPredicate<T1, T2> predicate, Meter meter) {
+        return new BinaryMeteringPredicate<T1, T2>(predicate, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a ternary consumer.
+     *
+     * @param <T1> the consumer first parameter type
+     * @param <T2> the consumer second parameter type
+     * @param <T3> the consumer third parameter type
+     * @param consumer the consumer that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied consumer
+     */
+    public static <T1, T2, T3> TriConsumer<T1, T2, T3> monitor(TriConsumer<T1, T2, T3> consumer, Meter meter) {
+        return new TernaryMeteringConsumer<T1, T2, T3>(consumer, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a ternary function.
+     *
+     * @param <R> the function result type
+     * @param <T1> the function first parameter type
+     * @param <T2> the function second parameter type
+     * @param <T3> the function third parameter type
+     * @param function the function that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied function
+     */
+    public static <T1, T2, T3, R> TriFunction<T1, T2, T3, R> monitor(TriFunction<T1, T2, T3, R> function, Meter meter) {
+        return new TernaryMeteringFunction<T1, T2, T3, R>(function, meter);
+    }
+
+    /**
+     * Meters calls, failures and latencies of a ternary predicate.
+     *
+     * @param <T1> the predicate first parameter type
+     * @param <T2> the predicate second parameter type
+     * @param <T3> the predicate third parameter type
+     * @param predicate the predicate that will be monitored
+     * @param meter the meter accumulating calls, failures and latencies
+     * @return the proxied predicate
+     */
+    public static <T1, T2, T3> TriPredicate<T1, T2, T3> monitor(TriPredicate<T1, T2, T3> predicate, Meter meter) {
+        return new TernaryMeteringPredicate<T1, T2, T3>(predicate, meter);
+    }
 }
@@ -5,6 +5,7 @@ import java.util.Iterator;
 import net.emaze.dysfunctional.contracts.dbc;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
 import net.emaze.dysfunctional.iterations.ConstantIterator;
+import net.emaze.dysfunctional.output.OutputIterator;
 import net.emaze.dysfunctional.strings.ConcatStrings;
 import net.emaze.dysfunctional.strings.InterposeStrings;
 import net.emaze.dysfunctional.strings.JoinStrings;
@@ -12,6 +13,10 @@ import net.emaze.dysfunctional.strings.JoinStrings;
 /**
  * concat, join, interpose, repeat.
  *
+ * concat, join and interpose can also stream into an OutputIterator (e.g an
+ * AppendableOutputIterator, a WriterOutputIterator or a
+ * ChannelOutputIterator), never building the resulting String.
+ *
  * @author rferranti
  */
 public abstract class Strings {
@@ -167,6 +172,124 @@ public abstract class Strings {
         return new InterposeStrings<T, V>().apply(values, new ConstantIterator<>(separator));
     }
 
+    /**
+     * Streams the concatenation of an iterable of Strings into the output.
+     *
+     * @param <O> the output iterator type
+     * @param iterable the iterable to be concatenated
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public static <O extends OutputIterator<String>> O concat(Iterable<String> iterable, O output) {
+        dbc.precondition(iterable != null, "cannot concat a null iterable");
+        return new ConcatStrings().into(iterable.iterator(), output);
+    }
+
+    /**
+     * Streams the concatenation of an iterator of Strings into the output.
+     *
+     * @param <O> the output iterator type
+     * @param iterator the iterator to be concatenated
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public static <O extends OutputIterator<String>> O concat(Iterator<String> iterator, O output) {
+        return new ConcatStrings().into(iterator, output);
+    }
+
+    /**
+     * Streams the stringified elements of an iterable into the output.
+     *
+     * @param <T> the iterable element type
+     * @param <O> the output iterator type
+     * @param iterable the iterable to be joined
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public static <T, O extends OutputIterator<String>> O join(Iterable<T> iterable, O output) {
+        dbc.precondition(iterable != null, "cannot join a null iterable");
+        return new JoinStrings<T>().into(iterable.iterator(), output);
+    }
+
+    /**
+     * Streams the stringified elements of an iterator into the output.
+     *
+     * @param <T> the iterator element type
+     * @param <O> the output iterator type
+     * @param iterator the iterator to be joined
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public static <T, O extends OutputIterator<String>> O join(Iterator<T> iterator, O output) {
+        return new JoinStrings<T>().into(iterator, output);
+    }
+
+    /**
+     * Streams stringified values from the source iterable, interposed with
+     * values from the separators, into the output.
+     *
+     * @param <T> the iterable element type
+     * @param <V> the separator type
+     * @param <O> the output iterator type
+     * @param values the source iterable
+     * @param separators the separators
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public static <T, V, O extends OutputIterator<String>> O interpose(Iterable<T> values, Iterator<V> separators, O output) {
+        dbc.precondition(values != null, "calling interpose with a null iterable");
+        return new InterposeStrings<T, V>().into(values.iterator(), separators, output);
+    }
+
+    /**
+     * Streams stringified values from the source iterator, interposed with
+     * values from the separators, into the output.
+     *
+     * @param <T> the iterator element type
+     * @param <V> the separator type
+     * @param <O> the output iterator type
+     * @param values the source iterator
+     * @param separators the separators
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public static <T, V, O extends OutputIterator<String>> O interpose(Iterator<T> values, Iterator<V> separators, O output) {
+        return new InterposeStrings<T, V>().into(values, separators, output);
+    }
+
+    /**
+     * Streams stringified values from the source iterable, interposed with
+     * the separator, into the output.
+     *
+     * @param <T> the iterable element type
+     * @param <V> the separator type
+     * @param <O> the output iterator type
+     * @param values the source iterable
+     * @param separator the separator
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public static <T, V, O extends OutputIterator<String>> O interpose(Iterable<T> values, V separator, O output) {
+        dbc.precondition(values != null, "cannot interpose from a null iterable");
+        return new InterposeStrings<T, V>().into(values.iterator(), new ConstantIterator<>(separator), output);
+    }
+
+    /**
+     * Streams stringified values from the source iterator, interposed with
+     * the separator, into the output.
+     *
+     * @param <T> the iterator element type
+     * @param <V> the separator type
+     * @param <O> the output iterator type
+     * @param values the source iterator
+     * @param separator the separator
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public static <T, V, O extends OutputIterator<String>> O interpose(Iterator<T> values, V separator, O output) {
+        return new InterposeStrings<T, V>().into(values, new ConstantIterator<>(separator), output);
+    }
+
     /**
      * Creates a String by repeating the source char.
      *
@@ -2,8 +2,10 @@ package net.emaze.dysfunctional;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PrimitiveIterator;
 import java.util.Queue;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -11,13 +13,28 @@ import java.util.function.UnaryOperator;
 import net.emaze.dysfunctional.casts.Vary;
 import net.emaze.dysfunctional.collections.ArrayListFactory;
 import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.IntToLongTransformingIterator;
+import net.emaze.dysfunctional.iterations.LongToDoubleTransformingIterator;
+import net.emaze.dysfunctional.iterations.TransformingDoubleIterator;
+import net.emaze.dysfunctional.iterations.TransformingIterator;
+import net.emaze.dysfunctional.numbers.policies.SubtractPolicy;
+import net.emaze.dysfunctional.numbers.policies.SumPolicy;
+import net.emaze.dysfunctional.order.ComparableComparator;
 import java.util.Optional;
 import net.emaze.dysfunctional.windows.CenteredWindowIterator;
+import net.emaze.dysfunctional.windows.CenteredWindowViewIterator;
 import net.emaze.dysfunctional.windows.PreciseWindowIterator;
+import net.emaze.dysfunctional.windows.PreciseWindowViewIterator;
+import net.emaze.dysfunctional.windows.SlidingDoubleSumIterator;
+import net.emaze.dysfunctional.windows.SlidingLongSumIterator;
+import net.emaze.dysfunctional.windows.SlidingMinimumIterator;
+import net.emaze.dysfunctional.windows.SlidingSumIterator;
 import net.emaze.dysfunctional.windows.TrailsIterator;
+import net.emaze.dysfunctional.windows.TrailsViewIterator;
+import net.emaze.dysfunctional.windows.WindowMode;
 
 /**
- * window, centered.
+ * window, centered, trails, sums, averages, minimums, maximums.
  *
  * @author rferranti
  */
@@ -87,6 +104,43 @@ public abstract class Windowing {
         return new PreciseWindowIterator<W, T>(iterable.iterator(), windowSize, supplier);
     }
 
+    /**
+     * Adapts an iterator to an iterator showing a sliding window of the
+     * contained elements. When mode is View every window is a read-only view
+     * of the same ring buffer, valid until the next call to next(). e.g:
+     * iterator: [1,2,3] windowSize: 2 -> [[1,2], [2,3]]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @param mode whether windows are copied or viewed
+     * @return the window iterator
+     */
+    public static <T> Iterator<List<T>> window(int windowSize, Iterator<T> iterator, WindowMode mode) {
+        dbc.precondition(mode != null, "cannot create a window iterator with a null mode");
+        if (mode == WindowMode.View) {
+            return new PreciseWindowViewIterator<T>(iterator, windowSize);
+        }
+        return window(windowSize, iterator);
+    }
+
+    /**
+     * Adapts an iterable to an iterator showing a sliding window of the
+     * contained elements. When mode is View every window is a read-only view
+     * of the same ring buffer, valid until the next call to next(). e.g:
+     * iterable: [1,2,3] windowSize: 2 -> [[1,2], [2,3]]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size
+     * @param iterable the iterable to be adapted
+     * @param mode whether windows are copied or viewed
+     * @return the window iterator
+     */
+    public static <T> Iterator<List<T>> window(int windowSize, Iterable<T> iterable, WindowMode mode) {
+        dbc.precondition(iterable != null, "cannot create a window iterator from a null iterable");
+        return window(windowSize, iterable.iterator(), mode);
+    }
+
     /**
      * Adapts an iterator to an iterator showing a sliding centered window of
      * the contained elements. e.g: iterator: [1,2,3] windowSize: 3 ->
@@ -155,6 +209,45 @@ public abstract class Windowing {
         return new CenteredWindowIterator<W, T>(iterable.iterator(), windowSize, supplier);
     }
 
+    /**
+     * Adapts an iterator to an iterator showing a sliding centered window of
+     * the contained elements. When mode is View every window is a read-only
+     * view of the same ring buffer, valid until the next call to next(). e.g:
+     * iterator: [1,2,3] windowSize: 3 -> [[nothing, just(1), just(2)],
+     * [just(1), just(2), just(3)], [just(2), just(3), nothing]]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size (must be an odd positive integer)
+     * @param iterator the iterator to be adapted
+     * @param mode whether windows are copied or viewed
+     * @return the window iterator
+     */
+    public static <T> Iterator<List<Optional<T>>> centered(int windowSize, Iterator<T> iterator, WindowMode mode) {
+        dbc.precondition(mode != null, "cannot create a centered window iterator with a null mode");
+        if (mode == WindowMode.View) {
+            return new CenteredWindowViewIterator<T>(iterator, windowSize);
+        }
+        return centered(windowSize, iterator);
+    }
+
+    /**
+     * Adapts an iterable to an iterator showing a sliding centered window of
+     * the contained elements. When mode is View every window is a read-only
+     * view of the same ring buffer, valid until the next call to next(). e.g:
+     * iterable: [1,2,3] windowSize: 3 -> [[nothing, just(1), just(2)],
+     * [just(1), just(2), just(3)], [just(2), just(3), nothing]]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size (must be an odd positive integer)
+     * @param iterable the iterable to be adapted
+     * @param mode whether windows are copied or viewed
+     * @return the window iterator
+     */
+    public static <T> Iterator<List<Optional<T>>> centered(int windowSize, Iterable<T> iterable, WindowMode mode) {
+        dbc.precondition(iterable != null, "cannot create a centered window iterator from a null iterable");
+        return centered(windowSize, iterable.iterator(), mode);
+    }
+
     /**
      * Adapts an iterator to an iterator showing predecessors of the contained
      * elements. This iterator always yields an alias to the same queue, beware
@@ -232,4 +325,314 @@ public abstract class Windowing {
         dbc.precondition(iterable != null, "cannot create a trails iterator from a null iterable");
         return new TrailsIterator<>(iterable.iterator(), trailSize, copy);
     }
+
+    /**
+     * Adapts an iterator to an iterator showing predecessors of the contained
+     * elements. When mode is View every trail is a read-only view of the same
+     * ring buffer, valid until the next call to next(). e.g:
+     * <code>
+     * iterator: [1,2,3,4], trailSize: 3 ->
+     * [[Nothing, Nothing, Just 1],[Nothing Just 1, Just 2], [Just 1, Just 2, Just 3], [Just 2, Just 3, Just 4]]
+     * </code>
+     *
+     * @param <T> the adapted iterator element type
+     * @param trailSize the trail size
+     * @param iterator the iterator to be adapted
+     * @param mode whether trails are copied or viewed
+     * @return the adapted iterator
+     */
+    public static <T> Iterator<List<Optional<T>>> trails(int trailSize, Iterator<T> iterator, WindowMode mode) {
+        dbc.precondition(mode != null, "cannot create a trails iterator with a null mode");
+        if (mode == WindowMode.View) {
+            return new TrailsViewIterator<T>(iterator, trailSize);
+        }
+        return new TrailsIterator<T, List<Optional<T>>>(iterator, trailSize, ArrayList::new);
+    }
+
+    /**
+     * Adapts an iterable to an iterator showing predecessors of the contained
+     * elements. When mode is View every trail is a read-only view of the same
+     * ring buffer, valid until the next call to next(). e.g:
+     * <code>
+     * iterable: [1,2,3,4], trailSize: 3 ->
+     * [[Nothing, Nothing, Just 1],[Nothing Just 1, Just 2], [Just 1, Just 2, Just 3], [Just 2, Just 3, Just 4]]
+     * </code>
+     *
+     * @param <T> the adapted iterator element type
+     * @param trailSize the trail size
+     * @param iterable the iterable to be adapted
+     * @param mode whether trails are copied or viewed
+     * @return the adapted iterator
+     */
+    public static <T> Iterator<List<Optional<T>>> trails(int trailSize, Iterable<T> iterable, WindowMode mode) {
+        dbc.precondition(iterable != null, "cannot create a trails iterator from a null iterable");
+        return trails(trailSize, iterable.iterator(), mode);
+    }
+
+    /**
+     * Adapts an iterator to an iterator of the sums of every sliding window.
+     * Sums are updated incrementally, so every window costs O(1). e.g:
+     * iterator: [1,2,3,4] windowSize: 2 -> [3, 5, 7]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @param sum the sum policy
+     * @param subtract the subtract policy
+     * @return the sums iterator
+     */
+    public static <T> Iterator<T> sums(int windowSize, Iterator<T> iterator, SumPolicy<T, T, T> sum, SubtractPolicy<T, T, T> subtract) {
+        return new SlidingSumIterator<T>(iterator, windowSize, sum, subtract);
+    }
+
+    /**
+     * Adapts an iterable to an iterator of the sums of every sliding window.
+     * Sums are updated incrementally, so every window costs O(1). e.g:
+     * iterable: [1,2,3,4] windowSize: 2 -> [3, 5, 7]
+     *
+     * @param <T> the iterable element type
+     * @param windowSize the window size
+     * @param iterable the iterable to be adapted
+     * @param sum the sum policy
+     * @param subtract the subtract policy
+     * @return the sums iterator
+     */
+    public static <T> Iterator<T> sums(int windowSize, Iterable<T> iterable, SumPolicy<T, T, T> sum, SubtractPolicy<T, T, T> subtract) {
+        dbc.precondition(iterable != null, "cannot create a sums iterator from a null iterable");
+        return new SlidingSumIterator<T>(iterable.iterator(), windowSize, sum, subtract);
+    }
+
+    /**
+     * Adapts an iterator to an iterator of the averages of every sliding
+     * window. Averages are updated incrementally, so every window costs O(1).
+     * e.g: iterator: [1,2,3,4] windowSize: 2 -> [1.5, 2.5, 3.5]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @param sum the sum policy
+     * @param subtract the subtract policy
+     * @return the averages iterator
+     */
+    public static <T extends Number> Iterator<Double> averages(int windowSize, Iterator<T> iterator, SumPolicy<T, T, T> sum, SubtractPolicy<T, T, T> subtract) {
+        final Iterator<T> sums = new SlidingSumIterator<T>(iterator, windowSize, sum, subtract);
+        return new TransformingIterator<>(sums, total -> total.doubleValue() / windowSize);
+    }
+
+    /**
+     * Adapts an iterable to an iterator of the averages of every sliding
+     * window. Averages are updated incrementally, so every window costs O(1).
+     * e.g: iterable: [1,2,3,4] windowSize: 2 -> [1.5, 2.5, 3.5]
+     *
+     * @param <T> the iterable element type
+     * @param windowSize the window size
+     * @param iterable the iterable to be adapted
+     * @param sum the sum policy
+     * @param subtract the subtract policy
+     * @return the averages iterator
+     */
+    public static <T extends Number> Iterator<Double> averages(int windowSize, Iterable<T> iterable, SumPolicy<T, T, T> sum, SubtractPolicy<T, T, T> subtract) {
+        dbc.precondition(iterable != null, "cannot create an averages iterator from a null iterable");
+        return averages(windowSize, iterable.iterator(), sum, subtract);
+    }
+
+    /**
+     * Adapts an int iterator to an iterator of the sums of every sliding
+     * window. Sums are kept as longs, so they cannot overflow for windows of
+     * ints, and no element is boxed. e.g: iterator: [1,2,3,4] windowSize: 2
+     * -> [3, 5, 7]
+     *
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @return the sums iterator
+     */
+    public static PrimitiveIterator.OfLong sums(int windowSize, PrimitiveIterator.OfInt iterator) {
+        return new SlidingLongSumIterator(new IntToLongTransformingIterator(iterator, value -> value), windowSize);
+    }
+
+    /**
+     * Adapts a long iterator to an iterator of the sums of every sliding
+     * window, without boxing any element. e.g: iterator: [1,2,3,4]
+     * windowSize: 2 -> [3, 5, 7]
+     *
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @return the sums iterator
+     */
+    public static PrimitiveIterator.OfLong sums(int windowSize, PrimitiveIterator.OfLong iterator) {
+        return new SlidingLongSumIterator(iterator, windowSize);
+    }
+
+    /**
+     * Adapts a double iterator to an iterator of the (compensated) sums of
+     * every sliding window, without boxing any element. e.g: iterator:
+     * [1,2,3,4] windowSize: 2 -> [3, 5, 7]
+     *
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @return the sums iterator
+     */
+    public static PrimitiveIterator.OfDouble sums(int windowSize, PrimitiveIterator.OfDouble iterator) {
+        return new SlidingDoubleSumIterator(iterator, windowSize);
+    }
+
+    /**
+     * Adapts an int iterator to an iterator of the averages of every sliding
+     * window, without boxing any element. e.g: iterator: [1,2,3,4]
+     * windowSize: 2 -> [1.5, 2.5, 3.5]
+     *
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @return the averages iterator
+     */
+    public static PrimitiveIterator.OfDouble averages(int windowSize, PrimitiveIterator.OfInt iterator) {
+        return new LongToDoubleTransformingIterator(sums(windowSize, iterator), total -> (double) total / windowSize);
+    }
+
+    /**
+     * Adapts a long iterator to an iterator of the averages of every sliding
+     * window, without boxing any element. e.g: iterator: [1,2,3,4]
+     * windowSize: 2 -> [1.5, 2.5, 3.5]
+     *
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @return the averages iterator
+     */
+    public static PrimitiveIterator.OfDouble averages(int windowSize, PrimitiveIterator.OfLong iterator) {
+        return new LongToDoubleTransformingIterator(sums(windowSize, iterator), total -> (double) total / windowSize);
+    }
+
+    /**
+     * Adapts a double iterator to an iterator of the averages of every sliding
+     * window, without boxing any element. e.g: iterator: [1,2,3,4]
+     * windowSize: 2 -> [1.5, 2.5, 3.5]
+     *
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @return the averages iterator
+     */
+    public static PrimitiveIterator.OfDouble averages(int windowSize, PrimitiveIterator.OfDouble iterator) {
+        return new TransformingDoubleIterator(sums(windowSize, iterator), total -> total / windowSize);
+    }
+
+    /**
+     * Adapts an iterator to an iterator of the minimum of every sliding
+     * window. Every window costs O(1) amortized. e.g: iterator: [3,1,4,1,5]
+     * windowSize: 2 -> [1, 1, 1, 1]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @param comparator the comparator used to evaluate the minimum
+     * @return the minimums iterator
+     */
+    public static <T> Iterator<T> minimums(int windowSize, Iterator<T> iterator, Comparator<T> comparator) {
+        return new SlidingMinimumIterator<T>(iterator, windowSize, comparator);
+    }
+
+    /**
+     * Adapts an iterable to an iterator of the minimum of every sliding
+     * window. Every window costs O(1) amortized. e.g: iterable: [3,1,4,1,5]
+     * windowSize: 2 -> [1, 1, 1, 1]
+     *
+     * @param <T> the iterable element type
+     * @param windowSize the window size
+     * @param iterable the iterable to be adapted
+     * @param comparator the comparator used to evaluate the minimum
+     * @return the minimums iterator
+     */
+    public static <T> Iterator<T> minimums(int windowSize, Iterable<T> iterable, Comparator<T> comparator) {
+        dbc.precondition(iterable != null, "cannot create a minimums iterator from a null iterable");
+        return new SlidingMinimumIterator<T>(iterable.iterator(), windowSize, comparator);
+    }
+
+    /**
+     * Adapts an iterator to an iterator of the minimum of every sliding
+     * window. Every window costs O(1) amortized. e.g: iterator: [3,1,4,1,5]
+     * windowSize: 2 -> [1, 1, 1, 1]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @return the minimums iterator
+     */
+    public static <T extends Comparable<T>> Iterator<T> minimums(int windowSize, Iterator<T> iterator) {
+        return new SlidingMinimumIterator<T>(iterator, windowSize, new ComparableComparator<T>());
+    }
+
+    /**
+     * Adapts an iterable to an iterator of the minimum of every sliding
+     * window. Every window costs O(1) amortized. e.g: iterable: [3,1,4,1,5]
+     * windowSize: 2 -> [1, 1, 1, 1]
+     *
+     * @param <T> the iterable element type
+     * @param windowSize the window size
+     * @param iterable the iterable to be adapted
+     * @return the minimums iterator
+     */
+    public static <T extends Comparable<T>> Iterator<T> minimums(int windowSize, Iterable<T> iterable) {
+        dbc.precondition(iterable != null, "cannot create a minimums iterator from a null iterable");
+        return new SlidingMinimumIterator<T>(iterable.iterator(), windowSize, new ComparableComparator<T>());
+    }
+
+    /**
+     * Adapts an iterator to an iterator of the maximum of every sliding
+     * window. Every window costs O(1) amortized. e.g: iterator: [3,1,4,1,5]
+     * windowSize: 2 -> [3, 4, 4, 5]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @param comparator the comparator used to evaluate the maximum
+     * @return the maximums iterator
+     */
+    public static <T> Iterator<T> maximums(int windowSize, Iterator<T> iterator, Comparator<T> comparator) {
+        dbc.precondition(comparator != null, "cannot create a maximums iterator with a null comparator");
+        return new SlidingMinimumIterator<T>(iterator, windowSize, comparator.reversed());
+    }
+
+    /**
+     * Adapts an iterable to an iterator of the maximum of every sliding
+     * window. Every window costs O(1) amortized. e.g: iterable: [3,1,4,1,5]
+     * windowSize: 2 -> [3, 4, 4, 5]
+     *
+     * @param <T> the iterable element type
+     * @param windowSize the window size
+     * @param iterable the iterable to be adapted
+     * @param comparator the comparator used to evaluate the maximum
+     * @return the maximums iterator
+     */
+    public static <T> Iterator<T> maximums(int windowSize, Iterable<T> iterable, Comparator<T> comparator) {
+        dbc.precondition(iterable != null, "cannot create a maximums iterator from a null iterable");
+        return maximums(windowSize, iterable.iterator(), comparator);
+    }
+
+    /**
+     * Adapts an iterator to an iterator of the maximum of every sliding
+     * window. Every window costs O(1) amortized. e.g: iterator: [3,1,4,1,5]
+     * windowSize: 2 -> [3, 4, 4, 5]
+     *
+     * @param <T> the iterator element type
+     * @param windowSize the window size
+     * @param iterator the iterator to be adapted
+     * @return the maximums iterator
+     */
+    public static <T extends Comparable<T>> Iterator<T> maximums(int windowSize, Iterator<T> iterator) {
+        return maximums(windowSize, iterator, new ComparableComparator<T>());
+    }
+
+    /**
+     * Adapts an iterable to an iterator of the maximum of every sliding
+     * window. Every window costs O(1) amortized. e.g: iterable: [3,1,4,1,5]
+     * windowSize: 2 -> [3, 4, 4, 5]
+     *
+     * @param <T> the iterable element type
+     * @param windowSize the window size
+     * @param iterable the iterable to be adapted
+     * @return the maximums iterator
+     */
+    public static <T extends Comparable<T>> Iterator<T> maximums(int windowSize, Iterable<T> iterable) {
+        dbc.precondition(iterable != null, "cannot create a maximums iterator from a null iterable");
+        return maximums(windowSize, iterable.iterator(), new ComparableComparator<T>());
+    }
 }
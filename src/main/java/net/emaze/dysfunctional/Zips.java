@@ -1,19 +1,20 @@
 package net.emaze.dysfunctional;
 
-import java.util.Comparator;
 import java.util.Iterator;
+import java.util.PrimitiveIterator;
 import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.convolutions.CountedDoubleIterator;
+import net.emaze.dysfunctional.convolutions.CountedIntIterator;
+import net.emaze.dysfunctional.convolutions.CountedLongIterator;
 import net.emaze.dysfunctional.convolutions.ZipLongestIterator;
 import net.emaze.dysfunctional.convolutions.ZipShortestIterator;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
+import net.emaze.dysfunctional.iterations.IntCounterIterator;
 import java.util.Optional;
-import net.emaze.dysfunctional.order.ComparableComparator;
-import net.emaze.dysfunctional.order.JustBeforeNothingComparator;
-import net.emaze.dysfunctional.order.NextIntegerSequencingPolicy;
-import net.emaze.dysfunctional.order.SequencingPolicy;
-import net.emaze.dysfunctional.ranges.DenseRange;
 import net.emaze.dysfunctional.ranges.Range;
-import net.emaze.dysfunctional.ranges.Range.Endpoint;
+import net.emaze.dysfunctional.tuples.IndexedDouble;
+import net.emaze.dysfunctional.tuples.IndexedInt;
+import net.emaze.dysfunctional.tuples.IndexedLong;
 import net.emaze.dysfunctional.tuples.Pair;
 
 /**
@@ -173,10 +174,52 @@ public abstract class Zips {
      * @return the resulting iterator
      */
     public static <T> Iterator<Pair<Integer, T>> counted(Iterator<T> iterator) {
-        final SequencingPolicy<Integer> sequencer = new NextIntegerSequencingPolicy();
-        final Comparator<Optional<Integer>> comparator = new JustBeforeNothingComparator<Integer>(new ComparableComparator<Integer>());
-        final Range<Integer> range = new DenseRange<Integer>(sequencer, comparator, Endpoint.Include, 0, Optional.of(Integer.MAX_VALUE), Endpoint.Include);
-        return new ZipShortestIterator<Integer, T>(range.iterator(), iterator);
+        return new ZipShortestIterator<Integer, T>(new IntCounterIterator(), iterator);
+    }
+
+    /**
+     * Creates an iterator yielding the ints of the source iterator and their
+     * index, neither of them boxed.
+     *
+     * <code>E.g:
+     * counted([7, 8, 9]) -> [(0,7), (1,8), (2,9)]
+     * </code>
+     *
+     * @param iterator the source iterator
+     * @return the resulting iterator
+     */
+    public static Iterator<IndexedInt> counted(PrimitiveIterator.OfInt iterator) {
+        return new CountedIntIterator(iterator);
+    }
+
+    /**
+     * Creates an iterator yielding the longs of the source iterator and their
+     * index, neither of them boxed.
+     *
+     * <code>E.g:
+     * counted([7L, 8L, 9L]) -> [(0,7L), (1,8L), (2,9L)]
+     * </code>
+     *
+     * @param iterator the source iterator
+     * @return the resulting iterator
+     */
+    public static Iterator<IndexedLong> counted(PrimitiveIterator.OfLong iterator) {
+        return new CountedLongIterator(iterator);
+    }
+
+    /**
+     * Creates an iterator yielding the doubles of the source iterator and their
+     * index, neither of them boxed.
+     *
+     * <code>E.g:
+     * counted([.5, 1.5]) -> [(0,.5), (1,1.5)]
+     * </code>
+     *
+     * @param iterator the source iterator
+     * @return the resulting iterator
+     */
+    public static Iterator<IndexedDouble> counted(PrimitiveIterator.OfDouble iterator) {
+        return new CountedDoubleIterator(iterator);
     }
 
     /**
@@ -193,10 +236,7 @@ public abstract class Zips {
      */
     public static <T> Iterator<Pair<Integer, T>> counted(Iterable<T> iterable) {
         dbc.precondition(iterable != null, "cannot call counted with a null iterable");
-        final SequencingPolicy<Integer> sequencer = new NextIntegerSequencingPolicy();
-        final Comparator<Optional<Integer>> comparator = new JustBeforeNothingComparator<Integer>(new ComparableComparator<Integer>());
-        final Range<Integer> range = new DenseRange<Integer>(sequencer, comparator, Endpoint.Include, 0, Optional.of(Integer.MAX_VALUE), Endpoint.Include);
-        return new ZipShortestIterator<Integer, T>(range.iterator(), iterable.iterator());
+        return new ZipShortestIterator<Integer, T>(new IntCounterIterator(), iterable.iterator());
     }
 
     /**
@@ -232,10 +272,7 @@ public abstract class Zips {
      */
     public static <T> Iterator<Pair<Integer, T>> counted(T... array) {
         dbc.precondition(array != null, "cannot call counted with a null array");
-        final SequencingPolicy<Integer> sequencer = new NextIntegerSequencingPolicy();
-        final Comparator<Optional<Integer>> comparator = new JustBeforeNothingComparator<Integer>(new ComparableComparator<Integer>());
-        final Range<Integer> range = new DenseRange<Integer>(sequencer, comparator, Endpoint.Include, 0, Optional.of(Integer.MAX_VALUE), Endpoint.Include);
-        return new ZipShortestIterator<Integer, T>(range.iterator(), new ArrayIterator<T>(array));
+        return new ZipShortestIterator<Integer, T>(new IntCounterIterator(), new ArrayIterator<T>(array));
     }
 
     /**
@@ -3,12 +3,13 @@ package net.emaze.dysfunctional.consumers;
 import java.util.Collection;
 import java.util.Iterator;
 import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.BatchIterator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
  * Consumes every element from the consumable into the collection provided by
- * the supplier.
+ * the supplier. A {@link BatchIterator} is consumed in batches.
  *
  * @param <E> the collection element type parameter
  * @param <R> the collection type parameter
@@ -16,6 +17,7 @@ import java.util.function.Supplier;
  */
 public class ConsumeIntoCollection<E, R extends Collection<E>> implements Function<Iterator<E>, R> {
 
+    private static final int BATCH_SIZE = 256;
     private final Supplier<R> supplier;
 
     public ConsumeIntoCollection(Supplier<R> supplier) {
@@ -27,9 +29,24 @@ public class ConsumeIntoCollection<E, R extends Collection<E>> implements Functi
     public R apply(Iterator<E> consumable) {
         dbc.precondition(consumable != null, "consuming a null iterator");
         final R out = supplier.get();
+        if (consumable instanceof BatchIterator) {
+            final Object[] batch = new Object[BATCH_SIZE];
+            for (int count = BATCH_SIZE; count == BATCH_SIZE;) {
+                count = ((BatchIterator<?>) consumable).nextBatch(batch);
+                for (int i = 0; i != count; ++i) {
+                    out.add(elementAt(batch, i));
+                }
+            }
+            return out;
+        }
         while (consumable.hasNext()) {
             out.add(consumable.next());
         }
         return out;
     }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(Object[] batch, int index) {
+        return (E) batch[index];
+    }
 }
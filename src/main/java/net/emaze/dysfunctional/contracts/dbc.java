@@ -1,12 +1,27 @@
 package net.emaze.dysfunctional.contracts;
 
+import java.util.function.Supplier;
+
 /**
  * Design by contract.
  *
+ * Fixed arity overloads let passing assertions allocate nothing: no varargs
+ * array is created and primitive parameters are not boxed. Messages are
+ * formatted only when an assertion fails, either from the format string or
+ * from a Supplier.
+ *
+ * Hot preconditions guard per-element paths where a failing assertion would
+ * fail anyway a few instructions later. They are enforced unless the
+ * {@value #STRIP_HOT_PRECONDITIONS_PROPERTY} system property is true, in
+ * which case the JIT removes them altogether.
+ *
  * @author rferranti
  */
 public abstract class dbc {
 
+    public static final String STRIP_HOT_PRECONDITIONS_PROPERTY = "net.emaze.dysfunctional.contracts.stripHotPreconditions";
+    private static final boolean HOT_PRECONDITIONS = !Boolean.getBoolean(STRIP_HOT_PRECONDITIONS_PROPERTY);
+
     /**
      * Enforces a state precondition, throwing an IllegalArgumentException if
      * the assertion fails.
@@ -22,6 +37,136 @@ public abstract class dbc {
         }
     }
 
+    /**
+     * Enforces a state precondition, throwing an IllegalArgumentException if
+     * the assertion fails.
+     *
+     * @param assertion the assertion to be enforced
+     * @param message the exception message
+     * @throws IllegalArgumentException if the assertion fails
+     */
+    public static void precondition(boolean assertion, String message) {
+        if (!assertion) {
+            throw new IllegalArgumentException(String.format(message));
+        }
+    }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalArgumentException if
+     * the assertion fails.
+     *
+     * @param assertion the assertion to be enforced
+     * @param format the exception message format string
+     * @param param the exception message parameter
+     * @throws IllegalArgumentException if the assertion fails
+     */
+    public static void precondition(boolean assertion, String format, Object param) {
+        if (!assertion) {
+            throw new IllegalArgumentException(String.format(format, param));
+        }
+    }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalArgumentException if
+     * the assertion fails.
+     *
+     * @param assertion the assertion to be enforced
+     * @param format the exception message format string
+     * @param first the first exception message parameter
+     * @param second the second exception message parameter
+     * @throws IllegalArgumentException if the assertion fails
+     */
+    public static void precondition(boolean assertion, String format, Object first, Object second) {
+        if (!assertion) {
+            throw new IllegalArgumentException(String.format(format, first, second));
+        }
+    }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalArgumentException if
+     * the assertion fails.
+     *
+     * @param assertion the assertion to be enforced
+     * @param format the exception message format string
+     * @param param the exception message parameter
+     * @throws IllegalArgumentException if the assertion fails
+     */
+    public static void precondition(boolean assertion, String format, long param) {
+        if (!assertion) {
+            throw new IllegalArgumentException(String.format(format, param));
+        }
+    }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalArgumentException if
+     * the assertion fails.
+     *
+     * @param assertion the assertion to be enforced
+     * @param format the exception message format string
+     * @param first the first exception message parameter
+     * @param second the second exception message parameter
+     * @throws IllegalArgumentException if the assertion fails
+     */
+    public static void precondition(boolean assertion, String format, long first, long second) {
+        if (!assertion) {
+            throw new IllegalArgumentException(String.format(format, first, second));
+        }
+    }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalArgumentException
+     * with the supplied message if the assertion fails. The supplier is called
+     * only on failure.
+     *
+     * @param assertion the assertion to be enforced
+     * @param message the exception message supplier
+     * @throws IllegalArgumentException if the assertion fails
+     */
+    public static void precondition(boolean assertion, Supplier<String> message) {
+        if (!assertion) {
+            throw new IllegalArgumentException(message.get());
+        }
+    }
+
+    /**
+     * Enforces a precondition on a hot path, throwing an
+     * IllegalArgumentException if the assertion fails. Not enforced when hot
+     * preconditions are stripped.
+     *
+     * @param assertion the assertion to be enforced
+     * @param message the exception message
+     * @throws IllegalArgumentException if the assertion fails
+     */
+    public static void hotPrecondition(boolean assertion, String message) {
+        if (HOT_PRECONDITIONS && !assertion) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * Enforces a precondition on a hot path, throwing an
+     * IllegalArgumentException with the supplied message if the assertion
+     * fails. Not enforced when hot preconditions are stripped.
+     *
+     * @param assertion the assertion to be enforced
+     * @param message the exception message supplier
+     * @throws IllegalArgumentException if the assertion fails
+     */
+    public static void hotPrecondition(boolean assertion, Supplier<String> message) {
+        if (HOT_PRECONDITIONS && !assertion) {
+            throw new IllegalArgumentException(message.get());
+        }
+    }
+
+    /**
+     * Tells whether hot preconditions are enforced.
+     *
+     * @return false when hot preconditions are stripped
+     */
+    public static boolean hotPreconditionsEnforced() {
+        return HOT_PRECONDITIONS;
+    }
+
     /**
      * Enforces a state precondition, throwing an IllegalStateException if the
      * assertion fails.
@@ -36,4 +181,63 @@ public abstract class dbc {
             throw new IllegalStateException(String.format(format, params));
         }
     }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalStateException if the
+     * assertion fails.
+     *
+     * @param assertion the assertion to be enforced
+     * @param message the exception message
+     * @throws IllegalStateException if the assertion fails
+     */
+    public static void state(boolean assertion, String message) {
+        if (!assertion) {
+            throw new IllegalStateException(String.format(message));
+        }
+    }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalStateException if the
+     * assertion fails.
+     *
+     * @param assertion the assertion to be enforced
+     * @param format the exception message format string
+     * @param param the exception message parameter
+     * @throws IllegalStateException if the assertion fails
+     */
+    public static void state(boolean assertion, String format, Object param) {
+        if (!assertion) {
+            throw new IllegalStateException(String.format(format, param));
+        }
+    }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalStateException if the
+     * assertion fails.
+     *
+     * @param assertion the assertion to be enforced
+     * @param format the exception message format string
+     * @param param the exception message parameter
+     * @throws IllegalStateException if the assertion fails
+     */
+    public static void state(boolean assertion, String format, long param) {
+        if (!assertion) {
+            throw new IllegalStateException(String.format(format, param));
+        }
+    }
+
+    /**
+     * Enforces a state precondition, throwing an IllegalStateException with
+     * the supplied message if the assertion fails. The supplier is called only
+     * on failure.
+     *
+     * @param assertion the assertion to be enforced
+     * @param message the exception message supplier
+     * @throws IllegalStateException if the assertion fails
+     */
+    public static void state(boolean assertion, Supplier<String> message) {
+        if (!assertion) {
+            throw new IllegalStateException(message.get());
+        }
+    }
 }
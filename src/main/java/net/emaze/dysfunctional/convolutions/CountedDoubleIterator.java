@@ -0,0 +1,35 @@
+package net.emaze.dysfunctional.convolutions;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+import net.emaze.dysfunctional.tuples.IndexedDouble;
+
+/**
+ * Pairs every double of the source iterator with its index, counting from zero
+ * up to Integer.MAX_VALUE, without boxing either of them.
+ */
+public class CountedDoubleIterator extends ReadOnlyIterator<IndexedDouble> {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private long index;
+
+    public CountedDoubleIterator(PrimitiveIterator.OfDouble iterator) {
+        dbc.precondition(iterator != null, "trying to create a CountedDoubleIterator from a null iterator");
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index <= Integer.MAX_VALUE && iterator.hasNext();
+    }
+
+    @Override
+    public IndexedDouble next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        return new IndexedDouble((int) index++, iterator.nextDouble());
+    }
+}
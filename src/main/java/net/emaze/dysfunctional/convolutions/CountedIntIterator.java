@@ -0,0 +1,35 @@
+package net.emaze.dysfunctional.convolutions;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+import net.emaze.dysfunctional.tuples.IndexedInt;
+
+/**
+ * Pairs every int of the source iterator with its index, counting from zero
+ * up to Integer.MAX_VALUE, without boxing either of them.
+ */
+public class CountedIntIterator extends ReadOnlyIterator<IndexedInt> {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private long index;
+
+    public CountedIntIterator(PrimitiveIterator.OfInt iterator) {
+        dbc.precondition(iterator != null, "trying to create a CountedIntIterator from a null iterator");
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index <= Integer.MAX_VALUE && iterator.hasNext();
+    }
+
+    @Override
+    public IndexedInt next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        return new IndexedInt((int) index++, iterator.nextInt());
+    }
+}
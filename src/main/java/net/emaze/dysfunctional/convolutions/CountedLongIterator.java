@@ -0,0 +1,35 @@
+package net.emaze.dysfunctional.convolutions;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+import net.emaze.dysfunctional.tuples.IndexedLong;
+
+/**
+ * Pairs every long of the source iterator with its index, counting from zero
+ * up to Integer.MAX_VALUE, without boxing either of them.
+ */
+public class CountedLongIterator extends ReadOnlyIterator<IndexedLong> {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private long index;
+
+    public CountedLongIterator(PrimitiveIterator.OfLong iterator) {
+        dbc.precondition(iterator != null, "trying to create a CountedLongIterator from a null iterator");
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index <= Integer.MAX_VALUE && iterator.hasNext();
+    }
+
+    @Override
+    public IndexedLong next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        return new IndexedLong((int) index++, iterator.nextLong());
+    }
+}
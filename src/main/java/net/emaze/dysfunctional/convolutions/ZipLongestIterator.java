@@ -1,7 +1,9 @@
 package net.emaze.dysfunctional.convolutions;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.BatchIterator;
 import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
 import java.util.Optional;
 import net.emaze.dysfunctional.options.OptionalIterator;
@@ -15,16 +17,22 @@ import net.emaze.dysfunctional.tuples.Pair;
  * @param <E2> the second iterator element type
  * @author rferranti
  */
-public class ZipLongestIterator<E1, E2> extends ReadOnlyIterator<Pair<Optional<E1>, Optional<E2>>> {
+public class ZipLongestIterator<E1, E2> extends ReadOnlyIterator<Pair<Optional<E1>, Optional<E2>>> implements BatchIterator<Pair<Optional<E1>, Optional<E2>>> {
 
     private final OptionalIterator<E1> former;
     private final OptionalIterator<E2> latter;
+    private final Iterator<E1> formerSource;
+    private final Iterator<E2> latterSource;
+    private Object[] formers;
+    private Object[] latters;
 
     public ZipLongestIterator(Iterator<E1> former, Iterator<E2> latter) {
         dbc.precondition(former != null, "trying to create a ZipLongestIterator from a null iterator (former)");
         dbc.precondition(latter != null, "trying to create a ZipLongestIterator from a null iterator (latter)");
         this.former = new OptionalIterator<E1>(former);
         this.latter = new OptionalIterator<E2>(latter);
+        this.formerSource = former;
+        this.latterSource = latter;
     }
 
     @Override
@@ -42,4 +50,33 @@ public class ZipLongestIterator<E1, E2> extends ReadOnlyIterator<Pair<Optional<E
     public Pair<Optional<E1>, Optional<E2>> next() {
         return Pair.of(former.next(), latter.next());
     }
+
+    @Override
+    public int nextBatch(Object[] buffer, int offset, int length) {
+        if (formers == null || formers.length < length) {
+            formers = new Object[length];
+            latters = new Object[length];
+        }
+        final int formersCount = BatchIterator.nextBatch(formerSource, formers, 0, length);
+        final int lattersCount = BatchIterator.nextBatch(latterSource, latters, 0, length);
+        final int count = Math.max(formersCount, lattersCount);
+        for (int i = 0; i != count; ++i) {
+            final Optional<E1> f = i < formersCount ? Optional.of(formerAt(i)) : Optional.<E1>empty();
+            final Optional<E2> l = i < lattersCount ? Optional.of(latterAt(i)) : Optional.<E2>empty();
+            buffer[offset + i] = Pair.of(f, l);
+        }
+        Arrays.fill(formers, 0, formersCount, null);
+        Arrays.fill(latters, 0, lattersCount, null);
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E1 formerAt(int index) {
+        return (E1) formers[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private E2 latterAt(int index) {
+        return (E2) latters[index];
+    }
 }
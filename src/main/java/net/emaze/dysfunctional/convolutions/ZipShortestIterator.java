@@ -1,16 +1,19 @@
 package net.emaze.dysfunctional.convolutions;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.BatchIterator;
+import net.emaze.dysfunctional.iterations.SplittableIterator;
 import net.emaze.dysfunctional.tuples.Pair;
 
 /**
- * Adapts two iterators yielding their shortest convolution (via a Pair<E1,E2>)
+ * Adapts two iterators yielding their shortest convolution (via a Pair<E1,E2>).
  * @param <E1> the first iterator element type
  * @param <E2> the second iterator element type
  * @author rferranti
  */
-public class ZipShortestIterator<E1, E2> implements Iterator<Pair<E1, E2>> {
+public class ZipShortestIterator<E1, E2> implements SplittableIterator<Pair<E1, E2>>, BatchIterator<Pair<E1, E2>> {
 
     private final Iterator<E1> former;
     private final Iterator<E2> latter;
@@ -37,4 +40,18 @@ public class ZipShortestIterator<E1, E2> implements Iterator<Pair<E1, E2>> {
         former.remove();
         latter.remove();
     }
+
+    @Override
+    public Spliterator<Pair<E1, E2>> spliterator() {
+        return new ZipShortestSpliterator<E1, E2>(SplittableIterator.spliterator(former), SplittableIterator.spliterator(latter));
+    }
+
+    @Override
+    public int nextBatch(Object[] buffer, int offset, int length) {
+        int count = 0;
+        while (count != length && former.hasNext() && latter.hasNext()) {
+            buffer[offset + count++] = Pair.of(former.next(), latter.next());
+        }
+        return count;
+    }
 }
@@ -0,0 +1,101 @@
+package net.emaze.dysfunctional.convolutions;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.multiplexing.ChainSpliterator;
+import net.emaze.dysfunctional.options.Box;
+import net.emaze.dysfunctional.tuples.Pair;
+
+/**
+ * Yields the shortest convolution of two spliterators. When both are sized
+ * and split at the same index the convolution is split along with them,
+ * otherwise a batch of pairs is buffered and split off.
+ *
+ * @param <E1> the first spliterator element type
+ * @param <E2> the second spliterator element type
+ */
+public class ZipShortestSpliterator<E1, E2> implements Spliterator<Pair<E1, E2>> {
+
+    private static final int BATCH_SIZE = 1024;
+    private Spliterator<E1> former;
+    private Spliterator<E2> latter;
+    private boolean aligned = true;
+
+    public ZipShortestSpliterator(Spliterator<E1> former, Spliterator<E2> latter) {
+        dbc.precondition(former != null, "trying to create a ZipShortestSpliterator from a null spliterator (former)");
+        dbc.precondition(latter != null, "trying to create a ZipShortestSpliterator from a null spliterator (latter)");
+        this.former = former;
+        this.latter = latter;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Pair<E1, E2>> action) {
+        dbc.precondition(action != null, "cannot advance with a null action");
+        final Box<E1> first = Box.empty();
+        if (!former.tryAdvance(first::setContent)) {
+            return false;
+        }
+        final Box<E2> second = Box.empty();
+        if (!latter.tryAdvance(second::setContent)) {
+            return false;
+        }
+        action.accept(Pair.of(first.getContent(), second.getContent()));
+        return true;
+    }
+
+    @Override
+    public Spliterator<Pair<E1, E2>> trySplit() {
+        final long size = former.getExactSizeIfKnown();
+        if (aligned && size != -1 && size == latter.getExactSizeIfKnown() && hasSubsized(former) && hasSubsized(latter)) {
+            final Spliterator<E1> formerPrefix = former.trySplit();
+            final Spliterator<E2> latterPrefix = latter.trySplit();
+            if (formerPrefix == null && latterPrefix == null) {
+                return null;
+            }
+            if (formerPrefix != null && latterPrefix != null && formerPrefix.getExactSizeIfKnown() == latterPrefix.getExactSizeIfKnown()) {
+                return new ZipShortestSpliterator<E1, E2>(formerPrefix, latterPrefix);
+            }
+            former = rejoin(formerPrefix, former);
+            latter = rejoin(latterPrefix, latter);
+            aligned = false;
+        }
+        return batch();
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.min(former.estimateSize(), latter.estimateSize());
+    }
+
+    @Override
+    public int characteristics() {
+        return former.characteristics() & latter.characteristics() & (Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    private Spliterator<Pair<E1, E2>> batch() {
+        final Object[] pairs = new Object[(int) Math.min(BATCH_SIZE, estimateSize())];
+        final Box<Pair<E1, E2>> pair = Box.empty();
+        int count = 0;
+        while (count != pairs.length && tryAdvance(pair::setContent)) {
+            pairs[count++] = pair.getContent();
+        }
+        if (count == 0) {
+            return null;
+        }
+        return Spliterators.spliterator(pairs, 0, count, Spliterator.ORDERED);
+    }
+
+    private static boolean hasSubsized(Spliterator<?> spliterator) {
+        return spliterator.hasCharacteristics(Spliterator.SUBSIZED);
+    }
+
+    private static <T> Spliterator<T> rejoin(Spliterator<T> prefix, Spliterator<T> suffix) {
+        if (prefix == null) {
+            return suffix;
+        }
+        return new ChainSpliterator<T>(Arrays.asList(prefix, suffix));
+    }
+}
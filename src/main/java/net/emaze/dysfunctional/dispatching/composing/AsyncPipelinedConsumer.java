@@ -0,0 +1,220 @@
+package net.emaze.dysfunctional.dispatching.composing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A composite unary functor with no return value running every composed
+ * consumer asynchronously. Each stage owns a bounded queue and a worker
+ * thread: accepted values flow through the stages in order, a stage blocks
+ * its upstream (down to the caller of accept) only when its queue is full, so
+ * fast stages keep running while a slow stage catches up. Workers drain up to
+ * batchSize values per queue access.
+ *
+ * A failing stage stops the pipeline: later values are discarded and the
+ * failure is rethrown by the following accept or by close. Closing drains
+ * every queued value, then waits for the workers to terminate.
+ *
+ * Values may be accepted concurrently, but not concurrently with close.
+ *
+ * @param <E> the type parameter
+ */
+public class AsyncPipelinedConsumer<E> implements Consumer<E>, AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final ThreadFactory DAEMON_THREAD_FACTORY = runnable -> {
+        final Thread thread = new Thread(runnable, "pipeline-stage");
+        thread.setDaemon(true);
+        return thread;
+    };
+    private static final Object END = new Object();
+    private final BlockingQueue<Object> head;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean closed;
+
+    /**
+     * Starts a worker for every stage through the thread factory.
+     *
+     * @param stages the consumers, in pipeline order
+     * @param capacity the capacity of every stage queue
+     * @param batchSize the maximum number of values a worker drains at once
+     * @param threadFactory the factory creating the stage workers (e.g a
+     * virtual thread factory, where available)
+     */
+    public AsyncPipelinedConsumer(Iterable<Consumer<E>> stages, int capacity, int batchSize, ThreadFactory threadFactory) {
+        dbc.precondition(stages != null, "cannot create a pipeline from a null iterable of consumers");
+        dbc.precondition(capacity > 0, "cannot create a pipeline with a non positive capacity");
+        dbc.precondition(batchSize > 0, "cannot create a pipeline with a non positive batch size");
+        dbc.precondition(threadFactory != null, "cannot create a pipeline with a null thread factory");
+        final List<Consumer<E>> consumers = new ArrayList<>();
+        for (Consumer<E> stage : stages) {
+            dbc.precondition(stage != null, "cannot create a pipeline with a null consumer");
+            consumers.add(stage);
+        }
+        dbc.precondition(!consumers.isEmpty(), "cannot create a pipeline without consumers");
+        final List<BlockingQueue<Object>> queues = new ArrayList<>();
+        for (int i = 0; i != consumers.size(); ++i) {
+            queues.add(new ArrayBlockingQueue<>(capacity));
+        }
+        this.head = queues.get(0);
+        for (int i = 0; i != consumers.size(); ++i) {
+            final BlockingQueue<Object> out = i + 1 == consumers.size() ? null : queues.get(i + 1);
+            final Thread worker = threadFactory.newThread(new Stage(consumers.get(i), queues.get(i), out, batchSize));
+            dbc.state(worker != null, "thread factory refused to create a pipeline worker");
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+    }
+
+    public AsyncPipelinedConsumer(Iterable<Consumer<E>> stages, int capacity) {
+        this(stages, capacity, DEFAULT_BATCH_SIZE, DAEMON_THREAD_FACTORY);
+    }
+
+    /**
+     * Enqueues the value to the first stage, waiting for room when its queue
+     * is full.
+     *
+     * @param value the value
+     */
+    @Override
+    public void accept(E value) {
+        dbc.state(!closed, "cannot accept values on a closed pipeline");
+        rethrowFailure();
+        putUninterruptibly(head, value);
+    }
+
+    /**
+     * Drains every accepted value through the stages, then waits for the
+     * workers to terminate. Rethrows the first stage failure, if any.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            putUninterruptibly(head, END);
+        }
+        boolean interrupted = false;
+        try {
+            for (Thread worker : workers) {
+                while (worker.isAlive()) {
+                    try {
+                        worker.join();
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    }
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        rethrowFailure();
+    }
+
+    private void rethrowFailure() {
+        final Throwable cause = failure.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+    }
+
+    private static void putUninterruptibly(BlockingQueue<Object> queue, Object value) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    queue.put(value);
+                    return;
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Object takeUninterruptibly(BlockingQueue<Object> queue) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return queue.take();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private class Stage implements Runnable {
+
+        private final Consumer<E> consumer;
+        private final BlockingQueue<Object> in;
+        private final BlockingQueue<Object> out;
+        private final int batchSize;
+
+        public Stage(Consumer<E> consumer, BlockingQueue<Object> in, BlockingQueue<Object> out, int batchSize) {
+            this.consumer = consumer;
+            this.in = in;
+            this.out = out;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void run() {
+            final List<Object> batch = new ArrayList<>(batchSize);
+            boolean ended = false;
+            while (!ended) {
+                batch.add(takeUninterruptibly(in));
+                in.drainTo(batch, batchSize - 1);
+                for (Object value : batch) {
+                    if (value == END) {
+                        ended = true;
+                        break;
+                    }
+                    process(value);
+                }
+                batch.clear();
+            }
+            if (out != null) {
+                putUninterruptibly(out, END);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void process(Object value) {
+            if (failure.get() != null) {
+                return;
+            }
+            try {
+                consumer.accept((E) value);
+            } catch (RuntimeException | Error ex) {
+                failure.compareAndSet(null, ex);
+                return;
+            }
+            if (out != null) {
+                putUninterruptibly(out, value);
+            }
+        }
+    }
+}
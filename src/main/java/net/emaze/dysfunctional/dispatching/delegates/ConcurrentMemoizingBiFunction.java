@@ -0,0 +1,40 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.function.BiFunction;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.tuples.Pair;
+
+/**
+ * A thread safe proxy that returns the value provided by the given function,
+ * evaluated once for each couple of parameters as long as it is retained by
+ * the {@link MemoizingCache}.
+ *
+ * @param <T1> the function first parameter type
+ * @param <T2> the function second parameter type
+ * @param <R> the function result type
+ */
+public class ConcurrentMemoizingBiFunction<T1, T2, R> implements BiFunction<T1, T2, R> {
+
+    private final BiFunction<T1, T2, R> function;
+    private final MemoizingCache<Pair<T1, T2>, R> cache;
+
+    public ConcurrentMemoizingBiFunction(BiFunction<T1, T2, R> function, int maximumSize) {
+        this(function, new MemoizingCache<Pair<T1, T2>, R>(maximumSize));
+    }
+
+    public ConcurrentMemoizingBiFunction(BiFunction<T1, T2, R> function, MemoizingCache<Pair<T1, T2>, R> cache) {
+        dbc.precondition(function != null, "Cannot create a memoizing function with a null function");
+        dbc.precondition(cache != null, "Cannot create a memoizing function with a null cache");
+        this.function = function;
+        this.cache = cache;
+    }
+
+    @Override
+    public R apply(T1 first, T2 second) {
+        return cache.get(Pair.of(first, second), pair -> function.apply(pair.first(), pair.second()));
+    }
+
+    public MemoizationStatistics statistics() {
+        return cache.statistics();
+    }
+}
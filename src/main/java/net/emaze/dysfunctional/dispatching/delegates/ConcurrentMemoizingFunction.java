@@ -0,0 +1,38 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.function.Function;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A thread safe proxy that returns the value provided by the given function,
+ * evaluated once for each parameter as long as it is retained by the
+ * {@link MemoizingCache}.
+ *
+ * @param <T> the function parameter type
+ * @param <R> the function result type
+ */
+public class ConcurrentMemoizingFunction<T, R> implements Function<T, R> {
+
+    private final Function<T, R> function;
+    private final MemoizingCache<T, R> cache;
+
+    public ConcurrentMemoizingFunction(Function<T, R> function, int maximumSize) {
+        this(function, new MemoizingCache<T, R>(maximumSize));
+    }
+
+    public ConcurrentMemoizingFunction(Function<T, R> function, MemoizingCache<T, R> cache) {
+        dbc.precondition(function != null, "Cannot create a memoizing function with a null function");
+        dbc.precondition(cache != null, "Cannot create a memoizing function with a null cache");
+        this.function = function;
+        this.cache = cache;
+    }
+
+    @Override
+    public R apply(T t) {
+        return cache.get(t, function);
+    }
+
+    public MemoizationStatistics statistics() {
+        return cache.statistics();
+    }
+}
@@ -0,0 +1,45 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A thread safe proxy that returns the value provided by the given supplier,
+ * evaluated exactly once. Once evaluated, get costs a volatile read. When the
+ * supplier throws nothing is cached and the next call evaluates it again.
+ *
+ * @param <T> the supplier parameter type
+ */
+public class ConcurrentMemoizingSupplier<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+    private volatile Holder<T> holder;
+
+    public ConcurrentMemoizingSupplier(Supplier<T> supplier) {
+        dbc.precondition(supplier != null, "Cannot create an only once supplier with a null supplier");
+        this.supplier = supplier;
+    }
+
+    @Override
+    public T get() {
+        final Holder<T> evaluated = holder;
+        if (evaluated != null) {
+            return evaluated.value;
+        }
+        synchronized (this) {
+            if (holder == null) {
+                holder = new Holder<T>(supplier.get());
+            }
+            return holder.value;
+        }
+    }
+
+    private static class Holder<T> {
+
+        private final T value;
+
+        public Holder(T value) {
+            this.value = value;
+        }
+    }
+}
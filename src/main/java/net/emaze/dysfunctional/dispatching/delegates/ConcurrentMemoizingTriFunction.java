@@ -0,0 +1,40 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.tuples.Triple;
+
+/**
+ * A thread safe proxy that returns the value provided by the given function,
+ * evaluated once for each triple of parameters as long as it is retained by
+ * the {@link MemoizingCache}.
+ *
+ * @param <T1> the function first parameter type
+ * @param <T2> the function second parameter type
+ * @param <T3> the function third parameter type
+ * @param <R> the function result type
+ */
+public class ConcurrentMemoizingTriFunction<T1, T2, T3, R> implements TriFunction<T1, T2, T3, R> {
+
+    private final TriFunction<T1, T2, T3, R> function;
+    private final MemoizingCache<Triple<T1, T2, T3>, R> cache;
+
+    public ConcurrentMemoizingTriFunction(TriFunction<T1, T2, T3, R> function, int maximumSize) {
+        this(function, new MemoizingCache<Triple<T1, T2, T3>, R>(maximumSize));
+    }
+
+    public ConcurrentMemoizingTriFunction(TriFunction<T1, T2, T3, R> function, MemoizingCache<Triple<T1, T2, T3>, R> cache) {
+        dbc.precondition(function != null, "Cannot create a memoizing function with a null function");
+        dbc.precondition(cache != null, "Cannot create a memoizing function with a null cache");
+        this.function = function;
+        this.cache = cache;
+    }
+
+    @Override
+    public R apply(T1 first, T2 second, T3 third) {
+        return cache.get(Triple.of(first, second, third), triple -> function.apply(triple.first(), triple.second(), triple.third()));
+    }
+
+    public MemoizationStatistics statistics() {
+        return cache.statistics();
+    }
+}
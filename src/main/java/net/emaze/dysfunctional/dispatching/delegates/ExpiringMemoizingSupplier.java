@@ -0,0 +1,64 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.time.TimeStrategy;
+import net.emaze.dysfunctional.tuples.Pair;
+
+/**
+ * A thread safe proxy that returns the value provided by the given supplier,
+ * evaluated again once the given time to live, measured through the
+ * {@link TimeStrategy}, has elapsed. Only one thread refreshes an expired
+ * value, the others wait for it.
+ *
+ * @param <T> the supplier parameter type
+ */
+public class ExpiringMemoizingSupplier<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+    private final TimeStrategy time;
+    private final long timeToLiveNanos;
+    private volatile Holder<T> holder;
+
+    public ExpiringMemoizingSupplier(Supplier<T> supplier, TimeStrategy time, long timeToLive, TimeUnit unit) {
+        dbc.precondition(supplier != null, "Cannot create an expiring supplier with a null supplier");
+        dbc.precondition(time != null, "Cannot create an expiring supplier with a null TimeStrategy");
+        dbc.precondition(timeToLive > 0, "Cannot create an expiring supplier with a non positive time to live");
+        dbc.precondition(unit != null, "Cannot create an expiring supplier with a null TimeUnit");
+        this.supplier = supplier;
+        this.time = time;
+        this.timeToLiveNanos = unit.toNanos(timeToLive);
+    }
+
+    @Override
+    public T get() {
+        final Holder<T> evaluated = holder;
+        if (evaluated != null && now() - evaluated.evaluatedAt < timeToLiveNanos) {
+            return evaluated.value;
+        }
+        synchronized (this) {
+            final long now = now();
+            if (holder == null || now - holder.evaluatedAt >= timeToLiveNanos) {
+                holder = new Holder<T>(supplier.get(), now);
+            }
+            return holder.value;
+        }
+    }
+
+    private long now() {
+        final Pair<Long, TimeUnit> current = time.currentTime();
+        return current.second().toNanos(current.first());
+    }
+
+    private static class Holder<T> {
+
+        private final T value;
+        private final long evaluatedAt;
+
+        public Holder(T value, long evaluatedAt) {
+            this.value = value;
+            this.evaluatedAt = evaluatedAt;
+        }
+    }
+}
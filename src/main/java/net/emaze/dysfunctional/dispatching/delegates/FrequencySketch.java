@@ -0,0 +1,54 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A count-min sketch estimating how often a hash has been seen. Counters are
+ * halved periodically so that the estimate favours recent popularity. Thread
+ * safe: increments racing with a halving may be halved or not, which only
+ * blurs an estimate that is approximate anyway.
+ */
+class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final int MINIMUM_WIDTH = 256;
+    private static final int[] SEEDS = {0x97cb3127, 0xb4f69e61, 0x5b3c7dd1, 0x8f5f3c5d};
+    private final AtomicIntegerArray counters;
+    private final int mask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    public FrequencySketch(int maximumSize) {
+        final int width = Integer.highestOneBit(Math.max(maximumSize, MINIMUM_WIDTH) - 1) << 1;
+        this.counters = new AtomicIntegerArray(width * DEPTH);
+        this.mask = width - 1;
+        this.sampleSize = 10 * width;
+    }
+
+    public void increment(int hash) {
+        for (int row = 0; row != DEPTH; ++row) {
+            counters.incrementAndGet(index(hash, row));
+        }
+        if (additions.incrementAndGet() == sampleSize) {
+            for (int i = 0; i != counters.length(); ++i) {
+                counters.getAndUpdate(i, counter -> counter >>> 1);
+            }
+            additions.addAndGet(-sampleSize / 2);
+        }
+    }
+
+    public int frequency(int hash) {
+        int frequency = Integer.MAX_VALUE;
+        for (int row = 0; row != DEPTH; ++row) {
+            frequency = Math.min(frequency, counters.get(index(hash, row)));
+        }
+        return frequency;
+    }
+
+    private int index(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+        h ^= h >>> 16;
+        return row * (mask + 1) + (h & mask);
+    }
+}
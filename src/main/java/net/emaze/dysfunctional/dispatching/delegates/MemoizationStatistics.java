@@ -0,0 +1,53 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+/**
+ * A snapshot of the counters of a {@link MemoizingCache}.
+ */
+public class MemoizationStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+
+    public MemoizationStatistics(long hits, long misses, long evictions, long expirations) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of loads, including the ones following an
+     * expiration
+     */
+    public long misses() {
+        return misses;
+    }
+
+    /**
+     * @return the number of entries discarded (or not retained) because the
+     * cache was full
+     */
+    public long evictions() {
+        return evictions;
+    }
+
+    public long expirations() {
+        return expirations;
+    }
+
+    public double hitRate() {
+        final long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits: %s, misses: %s, evictions: %s, expirations: %s", hits, misses, evictions, expirations);
+    }
+}
@@ -0,0 +1,247 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.time.TimeStrategy;
+import net.emaze.dysfunctional.tuples.Pair;
+
+/**
+ * A thread safe, size bounded cache backing the concurrent memoizing
+ * functions. Concurrent misses on the same key are loaded only once (the other
+ * callers wait for the loading one), entries can expire a fixed time after
+ * being written and, when full, the least recently used entry is evicted.
+ * With {@link Eviction#TinyLfu} a new entry is retained only when it has been
+ * requested at least as often as the entry it would evict.
+ *
+ * Reads never block on the eviction bookkeeping: the access frequency is
+ * always recorded, but when the lock is contended the recency update is
+ * skipped, making the recency order approximate under load.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class MemoizingCache<K, V> {
+
+    public enum Eviction {
+        Lru, TinyLfu;
+    }
+
+    private static final Object NULL_KEY = new Object();
+    private final ConcurrentMap<Object, Node<V>> entries = new ConcurrentHashMap<Object, Node<V>>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Node<V> sentinel = new Node<V>(null, 0);
+    private final int maximumSize;
+    private final Eviction eviction;
+    private final FrequencySketch sketch;
+    private final TimeStrategy time;
+    private final long expireAfterWriteNanos;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private int size;
+
+    public MemoizingCache(int maximumSize) {
+        this(maximumSize, Eviction.Lru);
+    }
+
+    public MemoizingCache(int maximumSize, Eviction eviction) {
+        this(maximumSize, eviction, null, 0, TimeUnit.NANOSECONDS);
+    }
+
+    public MemoizingCache(int maximumSize, Eviction eviction, TimeStrategy time, long expireAfterWrite, TimeUnit unit) {
+        dbc.precondition(maximumSize > 0, "cannot create a MemoizingCache with a non positive maximum size");
+        dbc.precondition(eviction != null, "cannot create a MemoizingCache with a null eviction");
+        dbc.precondition(time == null || expireAfterWrite > 0, "cannot create an expiring MemoizingCache with a non positive duration");
+        dbc.precondition(unit != null, "cannot create a MemoizingCache with a null TimeUnit");
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.sketch = eviction == Eviction.TinyLfu ? new FrequencySketch(maximumSize) : null;
+        this.time = time;
+        this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+    }
+
+    /**
+     * Yields the value cached for the key, loading it when missing or
+     * expired.
+     *
+     * @param key the key
+     * @param loader the function computing the value of a missing key
+     * @return the cached value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        dbc.precondition(loader != null, "cannot load a value with a null loader");
+        final Object mapKey = key == null ? NULL_KEY : key;
+        while (true) {
+            final Node<V> cached = entries.get(mapKey);
+            if (cached != null) {
+                if (!isExpired(cached)) {
+                    hits.increment();
+                    touch(mapKey, cached);
+                    return cached.await();
+                }
+                if (entries.remove(mapKey, cached)) {
+                    expirations.increment();
+                    unlink(cached);
+                }
+                continue;
+            }
+            final Node<V> created = new Node<V>(() -> loader.apply(key), now());
+            if (entries.putIfAbsent(mapKey, created) != null) {
+                continue;
+            }
+            misses.increment();
+            admit(mapKey, created);
+            created.task.run();
+            try {
+                return created.await();
+            } catch (RuntimeException | Error ex) {
+                if (entries.remove(mapKey, created)) {
+                    unlink(created);
+                }
+                throw ex;
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public MemoizationStatistics statistics() {
+        return new MemoizationStatistics(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private boolean isExpired(Node<V> node) {
+        return time != null && now() - node.writtenAt >= expireAfterWriteNanos;
+    }
+
+    private long now() {
+        if (time == null) {
+            return 0;
+        }
+        final Pair<Long, TimeUnit> current = time.currentTime();
+        return current.second().toNanos(current.first());
+    }
+
+    private void touch(Object key, Node<V> node) {
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (node.prev != null) {
+                detach(node);
+                append(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void admit(Object key, Node<V> candidate) {
+        lock.lock();
+        try {
+            if (entries.get(key) != candidate) {
+                return;
+            }
+            candidate.key = key;
+            if (sketch != null) {
+                sketch.increment(key.hashCode());
+            }
+            if (size == maximumSize) {
+                final Node<V> victim = sentinel.next;
+                if (sketch != null && sketch.frequency(key.hashCode()) < sketch.frequency(victim.key.hashCode())) {
+                    entries.remove(key, candidate);
+                    evictions.increment();
+                    return;
+                }
+                detach(victim);
+                entries.remove(victim.key, victim);
+                evictions.increment();
+            }
+            append(candidate);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unlink(Node<V> node) {
+        lock.lock();
+        try {
+            if (node.prev != null) {
+                detach(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(Node<V> node) {
+        node.prev = sentinel.prev;
+        node.next = sentinel;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+        ++size;
+    }
+
+    private void detach(Node<V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        --size;
+    }
+
+    private static class Node<V> {
+
+        private final FutureTask<V> task;
+        private final long writtenAt;
+        private Object key;
+        private Node<V> prev;
+        private Node<V> next;
+
+        public Node(Callable<V> loader, long writtenAt) {
+            this.task = loader == null ? null : new FutureTask<V>(loader);
+            this.writtenAt = writtenAt;
+        }
+
+        public V await() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return task.get();
+                    } catch (InterruptedException ex) {
+                        interrupted = true;
+                    } catch (ExecutionException ex) {
+                        final Throwable cause = ex.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw new IllegalStateException(cause);
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
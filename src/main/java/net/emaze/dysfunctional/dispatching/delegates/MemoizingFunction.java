@@ -30,8 +30,9 @@ public class MemoizingFunction<T, R> implements Function<T, R> {
 
     @Override
     public R apply(T t) {
-        if (cache.containsKey(t)) {
-            return cache.get(t);
+        final R cached = cache.get(t);
+        if (cached != null || cache.containsKey(t)) {
+            return cached;
         }
         final R result = function.apply(t);
         cache.put(t, result);
@@ -0,0 +1,35 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.BiConsumer;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a binary consumer metering its calls, failures and latencies.
+ *
+ * @param <T1> the first parameter type
+ * @param <T2> the second parameter type
+ */
+public class BinaryMeteringConsumer<T1, T2> implements BiConsumer<T1, T2> {
+
+    private final BiConsumer<T1, T2> nested;
+    private final Meter meter;
+
+    public BinaryMeteringConsumer(BiConsumer<T1, T2> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null consumer");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public void accept(T1 former, T2 latter) {
+        final long started = meter.started();
+        try {
+            nested.accept(former, latter);
+            meter.succeeded(started);
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.BiFunction;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a binary function metering its calls, failures and latencies.
+ *
+ * @param <T1> the first parameter type
+ * @param <T2> the second parameter type
+ * @param <R> the result type
+ */
+public class BinaryMeteringFunction<T1, T2, R> implements BiFunction<T1, T2, R> {
+
+    private final BiFunction<T1, T2, R> nested;
+    private final Meter meter;
+
+    public BinaryMeteringFunction(BiFunction<T1, T2, R> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null function");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public R apply(T1 former, T2 latter) {
+        final long started = meter.started();
+        try {
+            final R result = nested.apply(former, latter);
+            meter.succeeded(started);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
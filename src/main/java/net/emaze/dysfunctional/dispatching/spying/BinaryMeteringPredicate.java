@@ -0,0 +1,36 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.BiPredicate;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a binary predicate metering its calls, failures and latencies.
+ *
+ * @param <T1> the first parameter type
+ * @param <T2> the second parameter type
+ */
+public class BinaryMeteringPredicate<T1, T2> implements BiPredicate<T1, T2> {
+
+    private final BiPredicate<T1, T2> nested;
+    private final Meter meter;
+
+    public BinaryMeteringPredicate(BiPredicate<T1, T2> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null predicate");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public boolean test(T1 former, T2 latter) {
+        final long started = meter.started();
+        try {
+            final boolean result = nested.test(former, latter);
+            meter.succeeded(started);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A log-bucketed histogram of non negative longs. Every power of two is split
+ * in eight linear sub-buckets, so a value is recorded with a relative error
+ * below 12.5% in constant time and space. Buckets are striped counters.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+
+    public LatencyHistogram() {
+        for (int i = 0; i != BUCKETS; ++i) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void record(long value) {
+        counts[bucket(Math.max(value, 0))].increment();
+    }
+
+    public long[] snapshot(boolean reset) {
+        final long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i != BUCKETS; ++i) {
+            snapshot[i] = reset ? counts[i].sumThenReset() : counts[i].sum();
+        }
+        return snapshot;
+    }
+
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @param bucket the bucket index
+     * @return the greatest value recorded in the bucket
+     */
+    static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long subBucket = bucket % SUB_BUCKETS;
+        final long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+}
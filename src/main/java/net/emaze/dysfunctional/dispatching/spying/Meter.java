@@ -0,0 +1,93 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.time.TimeStrategy;
+import net.emaze.dysfunctional.tuples.Pair;
+
+/**
+ * Accumulates calls, failures and (optionally) latencies of the metering
+ * spies. Counters are striped, so many threads can go through the same spy
+ * without contending on a single memory location.
+ */
+public class Meter {
+
+    private final TimeStrategy time;
+    private final LatencyHistogram latencies;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final LongAccumulator maximumLatency = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates a meter counting calls and failures only.
+     */
+    public Meter() {
+        this.time = null;
+        this.latencies = null;
+    }
+
+    /**
+     * Creates a meter recording latencies as well, measured through the
+     * passed time strategy.
+     *
+     * @param time the time strategy
+     */
+    public Meter(TimeStrategy time) {
+        dbc.precondition(time != null, "cannot create a Meter with a null TimeStrategy");
+        this.time = time;
+        this.latencies = new LatencyHistogram();
+    }
+
+    /**
+     * @return the start time of a call, to be passed to succeeded or failed
+     */
+    public long started() {
+        if (time == null) {
+            return 0;
+        }
+        return now();
+    }
+
+    public void succeeded(long started) {
+        calls.increment();
+        record(started);
+    }
+
+    public void failed(long started) {
+        calls.increment();
+        failures.increment();
+        record(started);
+    }
+
+    public MeterSnapshot snapshot() {
+        return new MeterSnapshot(calls.sum(), failures.sum(), totalLatency.sum(), maximumLatency.get(), latencies == null ? new long[0] : latencies.snapshot(false));
+    }
+
+    /**
+     * Yields the current values, resetting them. Calls completing while the
+     * snapshot is taken may be split between this snapshot and the next one.
+     *
+     * @return the snapshot
+     */
+    public MeterSnapshot snapshotAndReset() {
+        return new MeterSnapshot(calls.sumThenReset(), failures.sumThenReset(), totalLatency.sumThenReset(), maximumLatency.getThenReset(), latencies == null ? new long[0] : latencies.snapshot(true));
+    }
+
+    private void record(long started) {
+        if (time == null) {
+            return;
+        }
+        final long elapsed = now() - started;
+        latencies.record(elapsed);
+        totalLatency.add(elapsed);
+        maximumLatency.accumulate(elapsed);
+    }
+
+    private long now() {
+        final Pair<Long, TimeUnit> current = time.currentTime();
+        return current.second().toNanos(current.first());
+    }
+}
@@ -0,0 +1,73 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * The values of a {@link Meter} at a given time. Latencies are in
+ * nanoseconds and are zero when the meter does not record them.
+ */
+public class MeterSnapshot {
+
+    private final long calls;
+    private final long failures;
+    private final long totalLatency;
+    private final long maximumLatency;
+    private final long[] latencies;
+
+    public MeterSnapshot(long calls, long failures, long totalLatency, long maximumLatency, long[] latencies) {
+        dbc.precondition(latencies != null, "cannot create a MeterSnapshot with null latencies");
+        this.calls = calls;
+        this.failures = failures;
+        this.totalLatency = totalLatency;
+        this.maximumLatency = maximumLatency;
+        this.latencies = latencies;
+    }
+
+    public long calls() {
+        return calls;
+    }
+
+    public long failures() {
+        return failures;
+    }
+
+    public double meanLatency() {
+        return calls == 0 ? 0 : (double) totalLatency / calls;
+    }
+
+    public long maximumLatency() {
+        return maximumLatency;
+    }
+
+    /**
+     * Estimates the latency under which the passed fraction of calls
+     * completed, with a relative error below 12.5%.
+     *
+     * @param quantile the fraction of calls, between 0 and 1
+     * @return the latency in nanoseconds
+     */
+    public long latencyAt(double quantile) {
+        dbc.precondition(quantile >= 0 && quantile <= 1, "quantile must be between 0 and 1, got %s", quantile);
+        long recorded = 0;
+        for (long count : latencies) {
+            recorded += count;
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(quantile * recorded));
+        long seen = 0;
+        for (int bucket = 0; bucket != latencies.length; ++bucket) {
+            seen += latencies[bucket];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestValue(bucket), maximumLatency);
+            }
+        }
+        return maximumLatency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("calls: %s, failures: %s, mean: %.0fns, p50: %sns, p99: %sns, max: %sns", calls, failures, meanLatency(), latencyAt(0.5), latencyAt(0.99), maximumLatency);
+    }
+}
@@ -0,0 +1,34 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.Consumer;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a consumer metering its calls, failures and latencies.
+ *
+ * @param <T> the parameter type
+ */
+public class MeteringConsumer<T> implements Consumer<T> {
+
+    private final Consumer<T> nested;
+    private final Meter meter;
+
+    public MeteringConsumer(Consumer<T> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null consumer");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public void accept(T value) {
+        final long started = meter.started();
+        try {
+            nested.accept(value);
+            meter.succeeded(started);
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
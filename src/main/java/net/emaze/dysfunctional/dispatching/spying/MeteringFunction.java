@@ -0,0 +1,36 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.Function;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a function metering its calls, failures and latencies.
+ *
+ * @param <T> the parameter type
+ * @param <R> the result type
+ */
+public class MeteringFunction<T, R> implements Function<T, R> {
+
+    private final Function<T, R> nested;
+    private final Meter meter;
+
+    public MeteringFunction(Function<T, R> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null function");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public R apply(T value) {
+        final long started = meter.started();
+        try {
+            final R result = nested.apply(value);
+            meter.succeeded(started);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
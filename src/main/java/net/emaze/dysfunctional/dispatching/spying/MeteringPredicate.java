@@ -0,0 +1,35 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.Predicate;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a predicate metering its calls, failures and latencies.
+ *
+ * @param <T> the parameter type
+ */
+public class MeteringPredicate<T> implements Predicate<T> {
+
+    private final Predicate<T> nested;
+    private final Meter meter;
+
+    public MeteringPredicate(Predicate<T> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null predicate");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public boolean test(T value) {
+        final long started = meter.started();
+        try {
+            final boolean result = nested.test(value);
+            meter.succeeded(started);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
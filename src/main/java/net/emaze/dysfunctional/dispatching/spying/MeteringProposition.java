@@ -0,0 +1,33 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.BooleanSupplier;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a proposition metering its calls, failures and latencies.
+ */
+public class MeteringProposition implements BooleanSupplier {
+
+    private final BooleanSupplier nested;
+    private final Meter meter;
+
+    public MeteringProposition(BooleanSupplier nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null proposition");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        final long started = meter.started();
+        try {
+            final boolean result = nested.getAsBoolean();
+            meter.succeeded(started);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a runnable metering its calls, failures and latencies.
+ */
+public class MeteringRunnable implements Runnable {
+
+    private final Runnable nested;
+    private final Meter meter;
+
+    public MeteringRunnable(Runnable nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null runnable");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public void run() {
+        final long started = meter.started();
+        try {
+            nested.run();
+            meter.succeeded(started);
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
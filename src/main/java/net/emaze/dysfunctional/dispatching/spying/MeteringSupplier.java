@@ -0,0 +1,35 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Proxies a supplier metering its calls, failures and latencies.
+ *
+ * @param <R> the result type
+ */
+public class MeteringSupplier<R> implements Supplier<R> {
+
+    private final Supplier<R> nested;
+    private final Meter meter;
+
+    public MeteringSupplier(Supplier<R> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null supplier");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public R get() {
+        final long started = meter.started();
+        try {
+            final R result = nested.get();
+            meter.succeeded(started);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
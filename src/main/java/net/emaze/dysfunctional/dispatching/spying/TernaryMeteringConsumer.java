@@ -0,0 +1,36 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.dispatching.actions.TriConsumer;
+
+/**
+ * Proxies a ternary consumer metering its calls, failures and latencies.
+ *
+ * @param <T1> the first parameter type
+ * @param <T2> the second parameter type
+ * @param <T3> the third parameter type
+ */
+public class TernaryMeteringConsumer<T1, T2, T3> implements TriConsumer<T1, T2, T3> {
+
+    private final TriConsumer<T1, T2, T3> nested;
+    private final Meter meter;
+
+    public TernaryMeteringConsumer(TriConsumer<T1, T2, T3> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null consumer");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public void accept(T1 first, T2 second, T3 third) {
+        final long started = meter.started();
+        try {
+            nested.accept(first, second, third);
+            meter.succeeded(started);
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.dispatching.delegates.TriFunction;
+
+/**
+ * Proxies a ternary function metering its calls, failures and latencies.
+ *
+ * @param <T1> the first parameter type
+ * @param <T2> the second parameter type
+ * @param <T3> the third parameter type
+ * @param <R> the result type
+ */
+public class TernaryMeteringFunction<T1, T2, T3, R> implements TriFunction<T1, T2, T3, R> {
+
+    private final TriFunction<T1, T2, T3, R> nested;
+    private final Meter meter;
+
+    public TernaryMeteringFunction(TriFunction<T1, T2, T3, R> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null function");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public R apply(T1 first, T2 second, T3 third) {
+        final long started = meter.started();
+        try {
+            final R result = nested.apply(first, second, third);
+            meter.succeeded(started);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
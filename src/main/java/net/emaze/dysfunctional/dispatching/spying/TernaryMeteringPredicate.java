@@ -0,0 +1,37 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.dispatching.logic.TriPredicate;
+
+/**
+ * Proxies a ternary predicate metering its calls, failures and latencies.
+ *
+ * @param <T1> the first parameter type
+ * @param <T2> the second parameter type
+ * @param <T3> the third parameter type
+ */
+public class TernaryMeteringPredicate<T1, T2, T3> implements TriPredicate<T1, T2, T3> {
+
+    private final TriPredicate<T1, T2, T3> nested;
+    private final Meter meter;
+
+    public TernaryMeteringPredicate(TriPredicate<T1, T2, T3> nested, Meter meter) {
+        dbc.precondition(nested != null, "cannot meter a null predicate");
+        dbc.precondition(meter != null, "cannot meter with a null Meter");
+        this.nested = nested;
+        this.meter = meter;
+    }
+
+    @Override
+    public boolean test(T1 first, T2 second, T3 third) {
+        final long started = meter.started();
+        try {
+            final boolean result = nested.test(first, second, third);
+            meter.succeeded(started);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            meter.failed(started);
+            throw ex;
+        }
+    }
+}
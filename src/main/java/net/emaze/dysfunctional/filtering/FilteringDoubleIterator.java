@@ -0,0 +1,43 @@
+package net.emaze.dysfunctional.filtering;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Iterates on the doubles of a primitive iterator which the predicate matches,
+ * without boxing them.
+ */
+public class FilteringDoubleIterator implements PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final DoublePredicate filter;
+    private boolean currentHasValue;
+    private double current;
+
+    public FilteringDoubleIterator(PrimitiveIterator.OfDouble iterator, DoublePredicate filter) {
+        dbc.precondition(iterator != null, "trying to create a FilteringDoubleIterator from a null iterator");
+        dbc.precondition(filter != null, "trying to create a FilteringDoubleIterator from a null filter");
+        this.iterator = iterator;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentHasValue && iterator.hasNext()) {
+            current = iterator.nextDouble();
+            currentHasValue = filter.test(current);
+        }
+        return currentHasValue;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        currentHasValue = false;
+        return current;
+    }
+}
@@ -0,0 +1,43 @@
+package net.emaze.dysfunctional.filtering;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Iterates on the ints of a primitive iterator which the predicate matches,
+ * without boxing them.
+ */
+public class FilteringIntIterator implements PrimitiveIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final IntPredicate filter;
+    private boolean currentHasValue;
+    private int current;
+
+    public FilteringIntIterator(PrimitiveIterator.OfInt iterator, IntPredicate filter) {
+        dbc.precondition(iterator != null, "trying to create a FilteringIntIterator from a null iterator");
+        dbc.precondition(filter != null, "trying to create a FilteringIntIterator from a null filter");
+        this.iterator = iterator;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentHasValue && iterator.hasNext()) {
+            current = iterator.nextInt();
+            currentHasValue = filter.test(current);
+        }
+        return currentHasValue;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        currentHasValue = false;
+        return current;
+    }
+}
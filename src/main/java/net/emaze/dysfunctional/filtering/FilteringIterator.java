@@ -1,9 +1,11 @@
 package net.emaze.dysfunctional.filtering;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Predicate;
+import net.emaze.dysfunctional.iterations.BatchIterator;
 
 
 /**
@@ -11,7 +13,7 @@ import java.util.function.Predicate;
  * @param <E> 
  * @author rferranti
  */
-public class FilteringIterator<E> implements Iterator<E> {
+public class FilteringIterator<E> implements BatchIterator<E> {
 
     private final Predicate<E> filter;
     private final Iterator<E> iterator;
@@ -52,4 +54,37 @@ public class FilteringIterator<E> implements Iterator<E> {
         iterator.remove();
     }
 
+    /**
+     * Pulls batches from the nested iterator straight into the buffer,
+     * compacting the matching elements in place.
+     */
+    @Override
+    public int nextBatch(Object[] buffer, int offset, int length) {
+        int count = 0;
+        if (currentHasValue && length != 0) {
+            buffer[offset + count++] = current;
+            currentHasValue = false;
+            current = null;
+        }
+        while (count != length) {
+            final int requested = length - count;
+            final int from = offset + count;
+            final int pulled = BatchIterator.nextBatch(iterator, buffer, from, requested);
+            for (int i = from; i != from + pulled; ++i) {
+                if (filter.test(elementAt(buffer, i))) {
+                    buffer[offset + count++] = buffer[i];
+                }
+            }
+            if (pulled != requested) {
+                break;
+            }
+        }
+        Arrays.fill(buffer, offset + count, offset + length, null);
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(Object[] batch, int index) {
+        return (E) batch[index];
+    }
 }
@@ -0,0 +1,43 @@
+package net.emaze.dysfunctional.filtering;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongPredicate;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Iterates on the longs of a primitive iterator which the predicate matches,
+ * without boxing them.
+ */
+public class FilteringLongIterator implements PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final LongPredicate filter;
+    private boolean currentHasValue;
+    private long current;
+
+    public FilteringLongIterator(PrimitiveIterator.OfLong iterator, LongPredicate filter) {
+        dbc.precondition(iterator != null, "trying to create a FilteringLongIterator from a null iterator");
+        dbc.precondition(filter != null, "trying to create a FilteringLongIterator from a null filter");
+        this.iterator = iterator;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentHasValue && iterator.hasNext()) {
+            current = iterator.nextLong();
+            currentHasValue = filter.test(current);
+        }
+        return currentHasValue;
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        currentHasValue = false;
+        return current;
+    }
+}
@@ -0,0 +1,57 @@
+package net.emaze.dysfunctional.filtering;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * Drops from a sorted iterator the elements comparing equal to the previously
+ * yielded one, keeping the first of every run of duplicates in O(1) memory.
+ * <code>
+ * [1,1,2,3,3,3] -> [1,2,3]
+ * </code>
+ *
+ * @param <E> the iterator element type
+ */
+public class SortedDistinctIterator<E> extends ReadOnlyIterator<E> {
+
+    private final Iterator<E> iterator;
+    private final Comparator<E> comparator;
+    private boolean yielded;
+    private E last;
+    private boolean prefetched;
+    private E next;
+
+    public SortedDistinctIterator(Iterator<E> iterator, Comparator<E> comparator) {
+        dbc.precondition(iterator != null, "trying to create a SortedDistinctIterator from a null iterator");
+        dbc.precondition(comparator != null, "trying to create a SortedDistinctIterator with a null comparator");
+        this.iterator = iterator;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!prefetched && iterator.hasNext()) {
+            final E candidate = iterator.next();
+            if (!yielded || comparator.compare(last, candidate) != 0) {
+                next = candidate;
+                prefetched = true;
+            }
+        }
+        return prefetched;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        prefetched = false;
+        yielded = true;
+        last = next;
+        next = null;
+        return last;
+    }
+}
@@ -4,14 +4,18 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Predicate;
+import net.emaze.dysfunctional.iterations.BatchIterator;
 import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
 
 /**
+ * Yields elements of the nested iterator as long as the predicate matches
+ * them. The nested iterator is never consumed past the first unmatched
+ * element, so batches are pulled from it element by element.
  *
  * @param <E> the iterator element Type
  * @author rferranti
  */
-public class TakeWhileIterator<E> extends ReadOnlyIterator<E> {
+public class TakeWhileIterator<E> extends ReadOnlyIterator<E> implements BatchIterator<E> {
 
     private final Predicate<E> filter;
     private final Iterator<E> iterator;
@@ -54,4 +58,13 @@ public class TakeWhileIterator<E> extends ReadOnlyIterator<E> {
         }
         throw new NoSuchElementException();
     }
+
+    @Override
+    public int nextBatch(Object[] buffer, int offset, int length) {
+        int count = 0;
+        while (count != length && hasNext()) {
+            buffer[offset + count++] = next();
+        }
+        return count;
+    }
 }
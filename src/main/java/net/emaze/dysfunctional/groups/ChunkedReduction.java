@@ -0,0 +1,98 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.BatchIterator;
+
+/**
+ * Splits an iterator into chunks reduced in parallel on an executor, then
+ * hands the partial results to a merger on the calling thread, in the chunks
+ * encounter order. At most a bounded number of chunks is in flight, so memory
+ * stays proportional to chunkSize * inFlight regardless of the iterator size,
+ * and merging overlaps with the reduction of the following chunks.
+ *
+ * @param <V> the element type
+ * @param <P> the partial result type
+ */
+class ChunkedReduction<V, P> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+    public static final int DEFAULT_IN_FLIGHT = 2 * Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Reduces the first length elements of a chunk to a partial result.
+     *
+     * @param <V> the element type
+     * @param <P> the partial result type
+     */
+    interface ChunkReducer<V, P> {
+
+        P reduce(V[] chunk, int length);
+    }
+
+    private final Executor executor;
+    private final int chunkSize;
+    private final int inFlight;
+
+    ChunkedReduction(Executor executor, int chunkSize, int inFlight) {
+        dbc.precondition(executor != null, "cannot reduce chunks with a null executor");
+        dbc.precondition(chunkSize > 0, "cannot reduce chunks with a non positive chunk size");
+        dbc.precondition(inFlight > 0, "cannot reduce chunks with a non positive number of chunks in flight");
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.inFlight = inFlight;
+    }
+
+    void reduce(Iterator<V> values, ChunkReducer<V, P> reducer, Consumer<P> merger) {
+        dbc.precondition(values != null, "cannot reduce a null iterator");
+        final Deque<CompletableFuture<P>> pending = new ArrayDeque<>();
+        try {
+            for (;;) {
+                final V[] chunk = newChunk(chunkSize);
+                final int length = BatchIterator.nextBatch(values, chunk, 0, chunkSize);
+                if (length == 0) {
+                    break;
+                }
+                pending.add(CompletableFuture.supplyAsync(() -> reducer.reduce(chunk, length), executor));
+                if (pending.size() == inFlight) {
+                    merger.accept(join(pending.poll()));
+                }
+                if (length != chunkSize) {
+                    break;
+                }
+            }
+            while (!pending.isEmpty()) {
+                merger.accept(join(pending.poll()));
+            }
+        } finally {
+            for (CompletableFuture<P> abandoned : pending) {
+                abandoned.cancel(false);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V[] newChunk(int size) {
+        return (V[]) new Object[size];
+    }
+
+    private static <P> P join(CompletableFuture<P> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
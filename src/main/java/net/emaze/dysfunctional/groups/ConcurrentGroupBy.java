@@ -0,0 +1,63 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A unary function grouping elements from an iterator in parallel straight
+ * into a shared concurrent map: chunks of the iterator are grouped on the
+ * executor with a single computeIfAbsent per element, and every group
+ * collection is guarded by its own monitor. Nothing has to be merged
+ * afterwards, but the order of the elements within a group is unspecified;
+ * use {@link ParallelGroupBy} when it matters.
+ *
+ * @param <M> the map type
+ * @param <C> the collection type
+ * @param <K> the map key type
+ * @param <V> the map value type
+ */
+public class ConcurrentGroupBy<M extends ConcurrentMap<K, C>, C extends Collection<V>, K, V> implements Function<Iterator<V>, M> {
+
+    private final Function<V, K> grouper;
+    private final Supplier<C> collectionProvider;
+    private final Supplier<M> mapProvider;
+    private final ChunkedReduction<V, Void> chunks;
+
+    public ConcurrentGroupBy(Function<V, K> grouper, Supplier<C> collectionProvider, Supplier<M> mapProvider, Executor executor, int chunkSize, int inFlight) {
+        dbc.precondition(grouper != null, "cannot group with a null grouper");
+        dbc.precondition(collectionProvider != null, "cannot group with a null collectionProvider");
+        dbc.precondition(mapProvider != null, "cannot group with a null mapProvider");
+        this.grouper = grouper;
+        this.collectionProvider = collectionProvider;
+        this.mapProvider = mapProvider;
+        this.chunks = new ChunkedReduction<>(executor, chunkSize, inFlight);
+    }
+
+    public ConcurrentGroupBy(Function<V, K> grouper, Supplier<C> collectionProvider, Supplier<M> mapProvider, Executor executor) {
+        this(grouper, collectionProvider, mapProvider, executor, ChunkedReduction.DEFAULT_CHUNK_SIZE, ChunkedReduction.DEFAULT_IN_FLIGHT);
+    }
+
+    @Override
+    public M apply(Iterator<V> groupies) {
+        dbc.precondition(groupies != null, "cannot group with a null iterator");
+        final M grouped = mapProvider.get();
+        final Function<K, C> newGroup = group -> collectionProvider.get();
+        chunks.reduce(groupies, (chunk, length) -> {
+            for (int i = 0; i != length; ++i) {
+                final V groupie = chunk[i];
+                final C group = grouped.computeIfAbsent(grouper.apply(groupie), newGroup);
+                synchronized (group) {
+                    group.add(groupie);
+                }
+            }
+            return null;
+        }, partial -> {
+        });
+        return grouped;
+    }
+}
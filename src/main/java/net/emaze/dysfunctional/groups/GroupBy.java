@@ -36,15 +36,11 @@ public class GroupBy<M extends Map<K, C>, C extends Collection<V>, K, V> impleme
     public M apply(Iterator<V> groupies) {
         dbc.precondition(groupies != null, "cannot group with a null iterator");
         final M grouped = mapProvider.get();
+        final Function<K, C> newGroup = group -> collectionProvider.get();
         while (groupies.hasNext()) {
             final V groupie = groupies.next();
-            final K group = grouper.apply(groupie);
-            if (!grouped.containsKey(group)) {
-                grouped.put(group, collectionProvider.get());
-            }
-            grouped.get(group).add(groupie);
+            grouped.computeIfAbsent(grouper.apply(groupie), newGroup).add(groupie);
         }
         return grouped;
-
     }
 }
@@ -0,0 +1,21 @@
+package net.emaze.dysfunctional.groups;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Spills integers in their fixed width big endian form.
+ */
+public class IntegerSpillSerializer implements SpillSerializer<Integer> {
+
+    @Override
+    public void write(DataOutput out, Integer value) throws IOException {
+        out.writeInt(value);
+    }
+
+    @Override
+    public Integer read(DataInput in) throws IOException {
+        return in.readInt();
+    }
+}
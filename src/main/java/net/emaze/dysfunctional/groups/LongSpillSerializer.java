@@ -0,0 +1,21 @@
+package net.emaze.dysfunctional.groups;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Spills longs in their fixed width big endian form.
+ */
+public class LongSpillSerializer implements SpillSerializer<Long> {
+
+    @Override
+    public void write(DataOutput out, Long value) throws IOException {
+        out.writeLong(value);
+    }
+
+    @Override
+    public Long read(DataInput in) throws IOException {
+        return in.readLong();
+    }
+}
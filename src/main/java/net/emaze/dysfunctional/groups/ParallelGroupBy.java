@@ -0,0 +1,70 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A unary function grouping elements from an iterator in parallel. The
+ * iterator is split into chunks, every chunk is grouped on the executor into
+ * a chunk local map and chunk maps are merged into the resulting map in
+ * encounter order: the result is the same a {@link GroupBy} would yield, keys
+ * order and elements order within every group included. The grouper and the
+ * collection provider are called from the executor threads.
+ *
+ * @param <M> the map type
+ * @param <C> the collection type
+ * @param <K> the map key type
+ * @param <V> the map value type
+ */
+public class ParallelGroupBy<M extends Map<K, C>, C extends Collection<V>, K, V> implements Function<Iterator<V>, M> {
+
+    private final Function<V, K> grouper;
+    private final Supplier<C> collectionProvider;
+    private final Supplier<M> mapProvider;
+    private final ChunkedReduction<V, Map<K, C>> chunks;
+
+    public ParallelGroupBy(Function<V, K> grouper, Supplier<C> collectionProvider, Supplier<M> mapProvider, Executor executor, int chunkSize, int inFlight) {
+        dbc.precondition(grouper != null, "cannot group with a null grouper");
+        dbc.precondition(collectionProvider != null, "cannot group with a null collectionProvider");
+        dbc.precondition(mapProvider != null, "cannot group with a null mapProvider");
+        this.grouper = grouper;
+        this.collectionProvider = collectionProvider;
+        this.mapProvider = mapProvider;
+        this.chunks = new ChunkedReduction<>(executor, chunkSize, inFlight);
+    }
+
+    public ParallelGroupBy(Function<V, K> grouper, Supplier<C> collectionProvider, Supplier<M> mapProvider, Executor executor) {
+        this(grouper, collectionProvider, mapProvider, executor, ChunkedReduction.DEFAULT_CHUNK_SIZE, ChunkedReduction.DEFAULT_IN_FLIGHT);
+    }
+
+    @Override
+    public M apply(Iterator<V> groupies) {
+        dbc.precondition(groupies != null, "cannot group with a null iterator");
+        final M grouped = mapProvider.get();
+        chunks.reduce(groupies, this::group, partial -> {
+            for (Map.Entry<K, C> group : partial.entrySet()) {
+                final C existing = grouped.putIfAbsent(group.getKey(), group.getValue());
+                if (existing != null) {
+                    existing.addAll(group.getValue());
+                }
+            }
+        });
+        return grouped;
+    }
+
+    private Map<K, C> group(V[] chunk, int length) {
+        final Map<K, C> grouped = new LinkedHashMap<>();
+        final Function<K, C> newGroup = group -> collectionProvider.get();
+        for (int i = 0; i != length; ++i) {
+            final V groupie = chunk[i];
+            grouped.computeIfAbsent(grouper.apply(groupie), newGroup).add(groupie);
+        }
+        return grouped;
+    }
+}
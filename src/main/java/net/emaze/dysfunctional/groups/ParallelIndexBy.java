@@ -0,0 +1,55 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A unary function indexing elements from an iterator in parallel: keys are
+ * computed on the executor, chunk by chunk, and chunk indexes are merged into
+ * the resulting map in encounter order, so the last element for a key wins
+ * just as with {@link IndexBy}.
+ *
+ * @param <M> the output Map type parameter
+ * @param <K> the key type parameter
+ * @param <V> the value type parameter
+ */
+public class ParallelIndexBy<M extends Map<K, V>, K, V> implements Function<Iterator<V>, M> {
+
+    private final Function<V, K> grouper;
+    private final Supplier<M> mapProvider;
+    private final ChunkedReduction<V, Map<K, V>> chunks;
+
+    public ParallelIndexBy(Function<V, K> grouper, Supplier<M> mapProvider, Executor executor, int chunkSize, int inFlight) {
+        dbc.precondition(grouper != null, "cannot index with a null grouper");
+        dbc.precondition(mapProvider != null, "cannot index with a null mapProvider");
+        this.grouper = grouper;
+        this.mapProvider = mapProvider;
+        this.chunks = new ChunkedReduction<>(executor, chunkSize, inFlight);
+    }
+
+    public ParallelIndexBy(Function<V, K> grouper, Supplier<M> mapProvider, Executor executor) {
+        this(grouper, mapProvider, executor, ChunkedReduction.DEFAULT_CHUNK_SIZE, ChunkedReduction.DEFAULT_IN_FLIGHT);
+    }
+
+    @Override
+    public M apply(Iterator<V> groupies) {
+        dbc.precondition(groupies != null, "cannot index with a null iterator");
+        final M indexed = mapProvider.get();
+        chunks.reduce(groupies, this::index, indexed::putAll);
+        return indexed;
+    }
+
+    private Map<K, V> index(V[] chunk, int length) {
+        final Map<K, V> indexed = new LinkedHashMap<>();
+        for (int i = 0; i != length; ++i) {
+            final V groupie = chunk[i];
+            indexed.put(grouper.apply(groupie), groupie);
+        }
+        return indexed;
+    }
+}
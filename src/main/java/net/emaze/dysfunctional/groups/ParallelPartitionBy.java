@@ -0,0 +1,66 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.tuples.Pair;
+
+/**
+ * A unary function partitioning elements from the passed iterator in
+ * parallel: the partitioner is evaluated on the executor, chunk by chunk, and
+ * chunk partitions are appended to the resulting collections in encounter
+ * order, yielding the same result a {@link PartitionBy} would.
+ *
+ * @param <T> the element type
+ * @param <CA> the accepted values collection type
+ * @param <CR> the rejected values collection type
+ */
+public class ParallelPartitionBy<T, CA extends Collection<T>, CR extends Collection<T>> implements Function<Iterator<T>, Pair<CA, CR>> {
+
+    private final Predicate<T> partitioner;
+    private final Supplier<CA> acceptedCollectionProvider;
+    private final Supplier<CR> rejectedCollectionProvider;
+    private final ChunkedReduction<T, Pair<List<T>, List<T>>> chunks;
+
+    public ParallelPartitionBy(Predicate<T> partitioner, Supplier<CA> acceptedCollectionProvider, Supplier<CR> rejectedCollectionProvider, Executor executor, int chunkSize, int inFlight) {
+        dbc.precondition(partitioner != null, "cannot partition using a null partitioner");
+        dbc.precondition(acceptedCollectionProvider != null, "cannot partition using a null collection supplier for accepted values");
+        dbc.precondition(rejectedCollectionProvider != null, "cannot partition using a null collection supplier for rejected values");
+        this.partitioner = partitioner;
+        this.acceptedCollectionProvider = acceptedCollectionProvider;
+        this.rejectedCollectionProvider = rejectedCollectionProvider;
+        this.chunks = new ChunkedReduction<>(executor, chunkSize, inFlight);
+    }
+
+    public ParallelPartitionBy(Predicate<T> partitioner, Supplier<CA> acceptedCollectionProvider, Supplier<CR> rejectedCollectionProvider, Executor executor) {
+        this(partitioner, acceptedCollectionProvider, rejectedCollectionProvider, executor, ChunkedReduction.DEFAULT_CHUNK_SIZE, ChunkedReduction.DEFAULT_IN_FLIGHT);
+    }
+
+    @Override
+    public Pair<CA, CR> apply(Iterator<T> values) {
+        dbc.precondition(values != null, "cannot partition a null iterator");
+        final CA accepted = acceptedCollectionProvider.get();
+        final CR refused = rejectedCollectionProvider.get();
+        chunks.reduce(values, this::partition, partial -> {
+            accepted.addAll(partial.first());
+            refused.addAll(partial.second());
+        });
+        return Pair.of(accepted, refused);
+    }
+
+    private Pair<List<T>, List<T>> partition(T[] chunk, int length) {
+        final List<T> accepted = new ArrayList<>();
+        final List<T> refused = new ArrayList<>();
+        for (int i = 0; i != length; ++i) {
+            final T value = chunk[i];
+            (partitioner.test(value) ? accepted : refused).add(value);
+        }
+        return Pair.of(accepted, refused);
+    }
+}
@@ -0,0 +1,19 @@
+package net.emaze.dysfunctional.groups;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes values to, and reads them back from, the runs spilled to disk by a
+ * {@link SpillingGroupBy}. Values must be read back in the same format, and
+ * consuming exactly the same bytes, they were written with.
+ *
+ * @param <T> the value type
+ */
+public interface SpillSerializer<T> {
+
+    void write(DataOutput out, T value) throws IOException;
+
+    T read(DataInput in) throws IOException;
+}
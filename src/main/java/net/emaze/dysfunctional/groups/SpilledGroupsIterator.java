@@ -0,0 +1,270 @@
+package net.emaze.dysfunctional.groups;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+import net.emaze.dysfunctional.tuples.Pair;
+
+/**
+ * Merges the sorted runs produced by a {@link SpillingGroupBy}, yielding every
+ * group once, in key order. Values of a group are streamed from the runs as
+ * they are consumed, so a group does not need to fit in memory; advancing to
+ * the next group (through hasNext or next) skips the values left unread and
+ * detaches the previous values iterator. Runs are deleted as soon as they are
+ * exhausted; close the iterator to delete them when it is abandoned earlier.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class SpilledGroupsIterator<K, V> extends ReadOnlyIterator<Pair<K, Iterator<V>>> implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final List<Run<K, V>> runs = new ArrayList<>();
+    private final Comparator<K> comparator;
+    private final PriorityQueue<Run<K, V>> heads;
+    private GroupValues<K, V> current;
+
+    SpilledGroupsIterator(List<File> spilled, List<Map.Entry<K, List<V>>> inMemory, Comparator<K> comparator, SpillSerializer<K> keys, SpillSerializer<V> values) {
+        this.comparator = comparator;
+        final Comparator<Run<K, V>> byKey = (former, latter) -> comparator.compare(former.key, latter.key);
+        this.heads = new PriorityQueue<>(Math.max(1, spilled.size() + 1), byKey.thenComparingInt(run -> run.index));
+        try {
+            for (File file : spilled) {
+                runs.add(new FileRun<>(runs.size(), file, keys, values));
+            }
+            runs.add(new MemoryRun<>(runs.size(), inMemory.iterator()));
+            for (Run<K, V> run : runs) {
+                enqueue(run);
+            }
+        } catch (RuntimeException ex) {
+            for (Run<K, V> run : runs) {
+                run.close();
+            }
+            for (File file : spilled.subList(Math.min(runs.size(), spilled.size()), spilled.size())) {
+                file.delete();
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        detach();
+        return !heads.isEmpty();
+    }
+
+    @Override
+    public Pair<K, Iterator<V>> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        final List<Run<K, V>> group = new ArrayList<>();
+        group.add(heads.poll());
+        while (!heads.isEmpty() && comparator.compare(group.get(0).key, heads.peek().key) == 0) {
+            group.add(heads.poll());
+        }
+        current = new GroupValues<>(group);
+        return Pair.of(group.get(0).key, current);
+    }
+
+    @Override
+    public void close() {
+        heads.clear();
+        current = null;
+        for (Run<K, V> run : runs) {
+            run.close();
+        }
+    }
+
+    private void detach() {
+        if (current == null) {
+            return;
+        }
+        for (Run<K, V> run : current.runs) {
+            while (run.remaining != 0) {
+                run.skipValue();
+            }
+            enqueue(run);
+        }
+        current.detached = true;
+        current = null;
+    }
+
+    private void enqueue(Run<K, V> run) {
+        if (run.advance()) {
+            heads.add(run);
+        } else {
+            run.close();
+        }
+    }
+
+    private static class GroupValues<K, V> extends ReadOnlyIterator<V> {
+
+        private final List<Run<K, V>> runs;
+        private int index;
+        private boolean detached;
+
+        public GroupValues(List<Run<K, V>> runs) {
+            this.runs = runs;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (detached) {
+                return false;
+            }
+            while (index != runs.size() && runs.get(index).remaining == 0) {
+                ++index;
+            }
+            return index != runs.size();
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("iterator is consumed");
+            }
+            return runs.get(index).nextValue();
+        }
+    }
+
+    private abstract static class Run<K, V> {
+
+        protected final int index;
+        protected K key;
+        protected int remaining;
+
+        protected Run(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Moves to the next group of the run.
+         *
+         * @return false when the run is exhausted
+         */
+        protected abstract boolean advance();
+
+        protected abstract V nextValue();
+
+        protected void skipValue() {
+            nextValue();
+        }
+
+        protected abstract void close();
+    }
+
+    private static class MemoryRun<K, V> extends Run<K, V> {
+
+        private final Iterator<Map.Entry<K, List<V>>> groups;
+        private List<V> values;
+
+        public MemoryRun(int index, Iterator<Map.Entry<K, List<V>>> groups) {
+            super(index);
+            this.groups = groups;
+        }
+
+        @Override
+        protected boolean advance() {
+            if (!groups.hasNext()) {
+                return false;
+            }
+            final Map.Entry<K, List<V>> group = groups.next();
+            key = group.getKey();
+            values = group.getValue();
+            remaining = values.size();
+            return true;
+        }
+
+        @Override
+        protected V nextValue() {
+            return values.get(values.size() - remaining--);
+        }
+
+        @Override
+        protected void skipValue() {
+            remaining = 0;
+        }
+
+        @Override
+        protected void close() {
+            values = null;
+        }
+    }
+
+    private static class FileRun<K, V> extends Run<K, V> {
+
+        private final File file;
+        private final SpillSerializer<K> keys;
+        private final SpillSerializer<V> values;
+        private final DataInputStream in;
+        private boolean closed;
+
+        public FileRun(int index, File file, SpillSerializer<K> keys, SpillSerializer<V> values) {
+            super(index);
+            this.file = file;
+            this.keys = keys;
+            this.values = values;
+            try {
+                this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+            } catch (IOException ex) {
+                throw new UncheckedIOException("cannot open a spilled run", ex);
+            }
+        }
+
+        @Override
+        protected boolean advance() {
+            dbc.state(!closed, "run is closed");
+            try {
+                if (!in.readBoolean()) {
+                    return false;
+                }
+                key = keys.read(in);
+                remaining = in.readInt();
+                return true;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("cannot read a spilled run", ex);
+            }
+        }
+
+        @Override
+        protected V nextValue() {
+            dbc.state(!closed, "run is closed");
+            try {
+                final V value = values.read(in);
+                --remaining;
+                return value;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("cannot read a spilled run", ex);
+            }
+        }
+
+        @Override
+        protected void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                in.close();
+            } catch (IOException ex) {
+                // the run is being discarded anyway
+            } finally {
+                file.delete();
+            }
+        }
+    }
+}
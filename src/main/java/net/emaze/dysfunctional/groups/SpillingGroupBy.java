@@ -0,0 +1,120 @@
+package net.emaze.dysfunctional.groups;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A unary function grouping elements from an iterator without holding every
+ * group in memory. Groups are accumulated in memory until the weight of the
+ * accumulated elements reaches the budget (by default every element weighs
+ * one, making the budget a number of entries); then they are sorted by key
+ * and spilled as a run to a temporary file through the serializers. The
+ * resulting iterator merges the runs lazily, yielding every group once, in key
+ * order, with its elements in encounter order. Only the local filesystem is
+ * used: runs are written to the passed directory (or to the default temporary
+ * directory) and deleted as soon as they are consumed, or when the resulting
+ * iterator is closed.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class SpillingGroupBy<K, V> implements Function<Iterator<V>, SpilledGroupsIterator<K, V>> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final Function<V, K> grouper;
+    private final Comparator<K> comparator;
+    private final SpillSerializer<K> keys;
+    private final SpillSerializer<V> values;
+    private final ToLongFunction<V> weigher;
+    private final long budget;
+    private final File directory;
+
+    public SpillingGroupBy(Function<V, K> grouper, Comparator<K> comparator, SpillSerializer<K> keys, SpillSerializer<V> values, ToLongFunction<V> weigher, long budget, File directory) {
+        dbc.precondition(grouper != null, "cannot group with a null grouper");
+        dbc.precondition(comparator != null, "cannot group with a null comparator");
+        dbc.precondition(keys != null, "cannot group with a null key serializer");
+        dbc.precondition(values != null, "cannot group with a null value serializer");
+        dbc.precondition(weigher != null, "cannot group with a null weigher");
+        dbc.precondition(budget > 0, "cannot group with a non positive budget");
+        this.grouper = grouper;
+        this.comparator = comparator;
+        this.keys = keys;
+        this.values = values;
+        this.weigher = weigher;
+        this.budget = budget;
+        this.directory = directory;
+    }
+
+    public SpillingGroupBy(Function<V, K> grouper, Comparator<K> comparator, SpillSerializer<K> keys, SpillSerializer<V> values, long maximumEntries) {
+        this(grouper, comparator, keys, values, value -> 1, maximumEntries, null);
+    }
+
+    @Override
+    public SpilledGroupsIterator<K, V> apply(Iterator<V> groupies) {
+        dbc.precondition(groupies != null, "cannot group with a null iterator");
+        final List<File> runs = new ArrayList<>();
+        final Function<K, List<V>> newGroup = group -> new ArrayList<>();
+        Map<K, List<V>> grouped = new HashMap<>();
+        long weight = 0;
+        try {
+            while (groupies.hasNext()) {
+                final V groupie = groupies.next();
+                grouped.computeIfAbsent(grouper.apply(groupie), newGroup).add(groupie);
+                weight += weigher.applyAsLong(groupie);
+                if (weight >= budget) {
+                    runs.add(spill(sorted(grouped)));
+                    grouped = new HashMap<>();
+                    weight = 0;
+                }
+            }
+        } catch (RuntimeException | Error ex) {
+            for (File run : runs) {
+                run.delete();
+            }
+            throw ex;
+        }
+        return new SpilledGroupsIterator<>(runs, sorted(grouped), comparator, keys, values);
+    }
+
+    private List<Map.Entry<K, List<V>>> sorted(Map<K, List<V>> grouped) {
+        final List<Map.Entry<K, List<V>>> entries = new ArrayList<>(grouped.entrySet());
+        entries.sort(Map.Entry.comparingByKey(comparator));
+        return entries;
+    }
+
+    private File spill(List<Map.Entry<K, List<V>>> groups) {
+        try {
+            final File run = File.createTempFile("dysfunctional-", ".run", directory);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run), BUFFER_SIZE))) {
+                for (Map.Entry<K, List<V>> group : groups) {
+                    out.writeBoolean(true);
+                    keys.write(out, group.getKey());
+                    out.writeInt(group.getValue().size());
+                    for (V value : group.getValue()) {
+                        values.write(out, value);
+                    }
+                }
+                out.writeBoolean(false);
+            } catch (IOException | RuntimeException ex) {
+                run.delete();
+                throw ex;
+            }
+            return run;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("cannot spill a run of groups", ex);
+        }
+    }
+}
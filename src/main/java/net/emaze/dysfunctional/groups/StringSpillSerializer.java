@@ -0,0 +1,27 @@
+package net.emaze.dysfunctional.groups;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Spills strings of any length as a length prefixed UTF-8 sequence (unlike
+ * writeUTF, which is limited to 65535 bytes).
+ */
+public class StringSpillSerializer implements SpillSerializer<String> {
+
+    @Override
+    public void write(DataOutput out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    public String read(DataInput in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
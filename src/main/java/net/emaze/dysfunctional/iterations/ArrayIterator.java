@@ -1,6 +1,8 @@
 package net.emaze.dysfunctional.iterations;
 
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import net.emaze.dysfunctional.contracts.dbc;
 
 /**
@@ -9,7 +11,7 @@ import net.emaze.dysfunctional.contracts.dbc;
  * @param <T> the element type
  * @author rferranti
  */
-public class ArrayIterator<T> extends ReadOnlyIterator<T> {
+public class ArrayIterator<T> extends ReadOnlyIterator<T> implements SplittableIterator<T>, BatchIterator<T> {
 
     private final T[] values;
     private int currentIndex = 0;
@@ -41,4 +43,17 @@ public class ArrayIterator<T> extends ReadOnlyIterator<T> {
         ++currentIndex;
         return element;
     }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(values, currentIndex, values.length, Spliterator.ORDERED);
+    }
+
+    @Override
+    public int nextBatch(Object[] buffer, int offset, int length) {
+        final int count = Math.min(length, values.length - currentIndex);
+        System.arraycopy(values, currentIndex, buffer, offset, count);
+        currentIndex += count;
+        return count;
+    }
 }
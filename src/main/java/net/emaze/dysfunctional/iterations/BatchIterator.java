@@ -0,0 +1,48 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.Iterator;
+
+/**
+ * An iterator able to yield many elements per call, sparing a couple of
+ * virtual calls per element to pipelines of batch iterators.
+ *
+ * @param <T> the element type
+ */
+public interface BatchIterator<T> extends Iterator<T> {
+
+    /**
+     * Writes the next elements in buffer[offset, offset + length). Fewer than
+     * length elements are written only when the iterator is exhausted.
+     *
+     * @param buffer the buffer to be filled
+     * @param offset the index of the first element to be written
+     * @param length the maximum number of elements to be written
+     * @return the number of elements written
+     */
+    int nextBatch(Object[] buffer, int offset, int length);
+
+    default int nextBatch(Object[] buffer) {
+        return nextBatch(buffer, 0, buffer.length);
+    }
+
+    /**
+     * Pulls a batch from the passed iterator, element by element when it is
+     * not a BatchIterator.
+     *
+     * @param iterator the source iterator
+     * @param buffer the buffer to be filled
+     * @param offset the index of the first element to be written
+     * @param length the maximum number of elements to be written
+     * @return the number of elements written
+     */
+    static int nextBatch(Iterator<?> iterator, Object[] buffer, int offset, int length) {
+        if (iterator instanceof BatchIterator) {
+            return ((BatchIterator<?>) iterator).nextBatch(buffer, offset, length);
+        }
+        int count = 0;
+        while (count != length && iterator.hasNext()) {
+            buffer[offset + count++] = iterator.next();
+        }
+        return count;
+    }
+}
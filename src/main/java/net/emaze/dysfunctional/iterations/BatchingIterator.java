@@ -0,0 +1,46 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.Iterator;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Adapts a foreign iterator to a {@link BatchIterator}, pulling batches
+ * element by element.
+ *
+ * @param <T> the element type
+ */
+public class BatchingIterator<T> implements BatchIterator<T> {
+
+    private final Iterator<T> iterator;
+
+    public BatchingIterator(Iterator<T> iterator) {
+        dbc.precondition(iterator != null, "trying to create a BatchingIterator from a null iterator");
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return iterator.next();
+    }
+
+    @Override
+    public void remove() {
+        iterator.remove();
+    }
+
+    @Override
+    public int nextBatch(Object[] buffer, int offset, int length) {
+        dbc.precondition(buffer != null, "cannot fill a null buffer");
+        dbc.precondition(offset >= 0 && length >= 0 && offset + length <= buffer.length, "batch [%s, %s) out of buffer bounds", offset, offset + length);
+        int count = 0;
+        while (count != length && iterator.hasNext()) {
+            buffer[offset + count++] = iterator.next();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,34 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Yields every int in [from, Integer.MAX_VALUE], in ascending order, without
+ * the sequencing and comparing overhead of a range iterator.
+ */
+public class IntCounterIterator implements PrimitiveIterator.OfInt {
+
+    private long current;
+
+    public IntCounterIterator(int from) {
+        this.current = from;
+    }
+
+    public IntCounterIterator() {
+        this(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current <= Integer.MAX_VALUE;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        return (int) current++;
+    }
+}
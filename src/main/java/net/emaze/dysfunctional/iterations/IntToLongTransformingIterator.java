@@ -0,0 +1,32 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntToLongFunction;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Yields the result of the transformation applied by the function on the
+ * ints of the source iterator, without boxing them.
+ */
+public class IntToLongTransformingIterator implements PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final IntToLongFunction function;
+
+    public IntToLongTransformingIterator(PrimitiveIterator.OfInt iterator, IntToLongFunction function) {
+        dbc.precondition(iterator != null, "trying to create a IntToLongTransformingIterator from a null iterator");
+        dbc.precondition(function != null, "trying to create a IntToLongTransformingIterator from a null function");
+        this.iterator = iterator;
+        this.function = function;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        return function.applyAsLong(iterator.nextInt());
+    }
+}
@@ -0,0 +1,32 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongToDoubleFunction;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Yields the result of the transformation applied by the function on the
+ * longs of the source iterator, without boxing them.
+ */
+public class LongToDoubleTransformingIterator implements PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final LongToDoubleFunction function;
+
+    public LongToDoubleTransformingIterator(PrimitiveIterator.OfLong iterator, LongToDoubleFunction function) {
+        dbc.precondition(iterator != null, "trying to create a LongToDoubleTransformingIterator from a null iterator");
+        dbc.precondition(function != null, "trying to create a LongToDoubleTransformingIterator from a null function");
+        this.iterator = iterator;
+        this.function = function;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return function.applyAsDouble(iterator.nextLong());
+    }
+}
@@ -0,0 +1,17 @@
+package net.emaze.dysfunctional.iterations;
+
+/**
+ * Controls the order parallel transformations yield their results in.
+ */
+public enum ParallelMode {
+
+    /**
+     * Results are yielded in the source encounter order, buffered in a
+     * bounded reorder window.
+     */
+    Ordered,
+    /**
+     * Results are yielded as soon as they are completed.
+     */
+    Unordered;
+}
@@ -0,0 +1,132 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Decorates an iterator adapting (via a function) consumed elements on an
+ * executor. At most concurrency elements are transformed at once, and at most
+ * window elements are pending (being transformed, or transformed but not yet
+ * yielded), so memory stays flat even on infinite iterators. Source elements
+ * are fetched on the consuming thread.
+ *
+ * In Ordered mode results are yielded in the encounter order, a slow element
+ * holding back the ones following it until the window fills up. In Unordered
+ * mode results are yielded in completion order.
+ *
+ * @param <T> the source element type
+ * @param <R> the resulting element type
+ */
+public class ParallelTransformingIterator<T, R> extends ReadOnlyIterator<R> {
+
+    private final Iterator<T> iterator;
+    private final Function<T, R> function;
+    private final Executor executor;
+    private final int window;
+    private final ParallelMode mode;
+    private final Semaphore running;
+    private final Queue<CompletableFuture<R>> pending = new ArrayDeque<>();
+    private final BlockingQueue<CompletableFuture<R>> completed = new LinkedBlockingQueue<>();
+
+    public ParallelTransformingIterator(Iterator<T> iterator, Function<T, R> function, Executor executor, int concurrency, int window, ParallelMode mode) {
+        dbc.precondition(iterator != null, "trying to create a ParallelTransformingIterator from a null iterator");
+        dbc.precondition(function != null, "trying to create a ParallelTransformingIterator with a null function");
+        dbc.precondition(executor != null, "trying to create a ParallelTransformingIterator with a null executor");
+        dbc.precondition(concurrency > 0, "trying to create a ParallelTransformingIterator with a non positive concurrency");
+        dbc.precondition(window >= concurrency, "trying to create a ParallelTransformingIterator with a window smaller than the concurrency");
+        dbc.precondition(mode != null, "trying to create a ParallelTransformingIterator with a null mode");
+        this.iterator = iterator;
+        this.function = function;
+        this.executor = executor;
+        this.window = window;
+        this.mode = mode;
+        this.running = new Semaphore(concurrency);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !pending.isEmpty() || iterator.hasNext();
+    }
+
+    @Override
+    public R next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        while (pending.size() < window && iterator.hasNext() && running.tryAcquire()) {
+            submit(iterator.next());
+        }
+        if (mode == ParallelMode.Unordered) {
+            final CompletableFuture<R> future = takeUninterruptibly(completed);
+            pending.remove(future);
+            return join(future);
+        }
+        while (!pending.peek().isDone() && pending.size() < window && iterator.hasNext()) {
+            // the head holds a permit until it is done: this returns at the latest then
+            running.acquireUninterruptibly();
+            submit(iterator.next());
+        }
+        return join(pending.poll());
+    }
+
+    private void submit(T element) {
+        final CompletableFuture<R> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return function.apply(element);
+                } finally {
+                    running.release();
+                }
+            }, executor);
+        } catch (RuntimeException ex) {
+            running.release();
+            throw ex;
+        }
+        pending.add(future);
+        if (mode == ParallelMode.Unordered) {
+            future.whenComplete((result, failure) -> completed.add(future));
+        }
+    }
+
+    private static <R> CompletableFuture<R> takeUninterruptibly(BlockingQueue<CompletableFuture<R>> queue) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return queue.take();
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
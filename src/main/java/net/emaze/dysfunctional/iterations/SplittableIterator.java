@@ -0,0 +1,33 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An iterator able to describe its remaining elements as a
+ * {@link Spliterator}, so that sequences created from it can be split and
+ * sized. Once the spliterator is obtained the iterator should not be used
+ * anymore.
+ *
+ * @param <T> the element type
+ */
+public interface SplittableIterator<T> extends Iterator<T> {
+
+    Spliterator<T> spliterator();
+
+    /**
+     * Yields the spliterator of the passed iterator when it is a
+     * SplittableIterator, an unsized one otherwise.
+     *
+     * @param <T> the element type
+     * @param iterator the iterator
+     * @return the spliterator
+     */
+    static <T> Spliterator<T> spliterator(Iterator<T> iterator) {
+        if (iterator instanceof SplittableIterator) {
+            return ((SplittableIterator<T>) iterator).spliterator();
+        }
+        return Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+    }
+}
@@ -0,0 +1,32 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleUnaryOperator;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Yields the result of the transformation applied by the function on the
+ * doubles of the source iterator, without boxing them.
+ */
+public class TransformingDoubleIterator implements PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iterator;
+    private final DoubleUnaryOperator function;
+
+    public TransformingDoubleIterator(PrimitiveIterator.OfDouble iterator, DoubleUnaryOperator function) {
+        dbc.precondition(iterator != null, "trying to create a TransformingDoubleIterator from a null iterator");
+        dbc.precondition(function != null, "trying to create a TransformingDoubleIterator from a null function");
+        this.iterator = iterator;
+        this.function = function;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        return function.applyAsDouble(iterator.nextDouble());
+    }
+}
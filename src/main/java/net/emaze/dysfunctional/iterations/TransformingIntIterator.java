@@ -0,0 +1,32 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Yields the result of the transformation applied by the function on the
+ * ints of the source iterator, without boxing them.
+ */
+public class TransformingIntIterator implements PrimitiveIterator.OfInt {
+
+    private final PrimitiveIterator.OfInt iterator;
+    private final IntUnaryOperator function;
+
+    public TransformingIntIterator(PrimitiveIterator.OfInt iterator, IntUnaryOperator function) {
+        dbc.precondition(iterator != null, "trying to create a TransformingIntIterator from a null iterator");
+        dbc.precondition(function != null, "trying to create a TransformingIntIterator from a null function");
+        this.iterator = iterator;
+        this.function = function;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return function.applyAsInt(iterator.nextInt());
+    }
+}
@@ -1,5 +1,6 @@
 package net.emaze.dysfunctional.iterations;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Function;
@@ -11,10 +12,11 @@ import java.util.function.Function;
  * @param <T> the source element type
  * @author rferranti
  */
-public class TransformingIterator<T, R> implements Iterator<R> {
+public class TransformingIterator<T, R> implements BatchIterator<R> {
 
     private final Function<T, R> transformer;
     private final Iterator<T> iterator;
+    private Object[] scratch;
 
     public TransformingIterator(Iterator<T> iterator, Function<T, R> transformer) {
         dbc.precondition(iterator != null, "trying to create a TransformingIterator from a null iterator");
@@ -37,4 +39,22 @@ public class TransformingIterator<T, R> implements Iterator<R> {
     public void remove() {
         iterator.remove();
     }
-}
\ No newline at end of file
+
+    @Override
+    public int nextBatch(Object[] buffer, int offset, int length) {
+        if (scratch == null || scratch.length < length) {
+            scratch = new Object[length];
+        }
+        final int count = BatchIterator.nextBatch(iterator, scratch, 0, length);
+        for (int i = 0; i != count; ++i) {
+            buffer[offset + i] = transformer.apply(elementAt(scratch, i));
+        }
+        Arrays.fill(scratch, 0, count, null);
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(Object[] batch, int index) {
+        return (T) batch[index];
+    }
+}
@@ -0,0 +1,32 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Yields the result of the transformation applied by the function on the
+ * longs of the source iterator, without boxing them.
+ */
+public class TransformingLongIterator implements PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iterator;
+    private final LongUnaryOperator function;
+
+    public TransformingLongIterator(PrimitiveIterator.OfLong iterator, LongUnaryOperator function) {
+        dbc.precondition(iterator != null, "trying to create a TransformingLongIterator from a null iterator");
+        dbc.precondition(function != null, "trying to create a TransformingLongIterator from a null function");
+        this.iterator = iterator;
+        this.function = function;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        return function.applyAsLong(iterator.nextLong());
+    }
+}
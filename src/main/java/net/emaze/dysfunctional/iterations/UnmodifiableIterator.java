@@ -0,0 +1,30 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.Iterator;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A read-only view of an iterator: hasNext and next are delegated, remove is
+ * always rejected.
+ *
+ * @param <T> the element type
+ */
+public class UnmodifiableIterator<T> extends ReadOnlyIterator<T> {
+
+    private final Iterator<T> iterator;
+
+    public UnmodifiableIterator(Iterator<T> iterator) {
+        dbc.precondition(iterator != null, "trying to create an UnmodifiableIterator from a null iterator");
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return iterator.next();
+    }
+}
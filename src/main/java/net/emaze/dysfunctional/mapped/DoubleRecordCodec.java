@@ -0,0 +1,19 @@
+package net.emaze.dysfunctional.mapped;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes doubles from their fixed width form, in the buffer byte order.
+ */
+public class DoubleRecordCodec implements RecordCodec<Double> {
+
+    @Override
+    public int width() {
+        return 8;
+    }
+
+    @Override
+    public Double decode(ByteBuffer buffer, int offset) {
+        return buffer.getDouble(offset);
+    }
+}
@@ -0,0 +1,19 @@
+package net.emaze.dysfunctional.mapped;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes integers from their fixed width form, in the buffer byte order.
+ */
+public class IntegerRecordCodec implements RecordCodec<Integer> {
+
+    @Override
+    public int width() {
+        return 4;
+    }
+
+    @Override
+    public Integer decode(ByteBuffer buffer, int offset) {
+        return buffer.getInt(offset);
+    }
+}
@@ -0,0 +1,19 @@
+package net.emaze.dysfunctional.mapped;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes longs from their fixed width form, in the buffer byte order.
+ */
+public class LongRecordCodec implements RecordCodec<Long> {
+
+    @Override
+    public int width() {
+        return 8;
+    }
+
+    @Override
+    public Long decode(ByteBuffer buffer, int offset) {
+        return buffer.getLong(offset);
+    }
+}
@@ -0,0 +1,123 @@
+package net.emaze.dysfunctional.mapped;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A read-only, random access list of the fixed width records of a memory
+ * mapped file region, decoded on access through a {@link RecordCodec}. No
+ * record is copied on the heap until it is decoded, and any record is reached
+ * in constant time from its index, so paging and slicing (e.g through
+ * Pagination.page or Filtering.slice) cost only the records they yield.
+ *
+ * Regions larger than a single mapping (2GB) are mapped as multiple segments,
+ * each holding a whole number of records.
+ *
+ * @param <T> the record type
+ */
+public class MappedRecords<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final long MAXIMUM_SEGMENT_SIZE = Integer.MAX_VALUE;
+    private final RecordCodec<T> codec;
+    private final ByteBuffer[] segments;
+    private final long segmentSize;
+    private final int size;
+
+    /**
+     * Maps the region of the channel starting at position and spanning size
+     * bytes. The mapping stays valid after the channel is closed.
+     *
+     * @param channel the channel to be mapped
+     * @param position the offset of the first record
+     * @param size the size in bytes of the region, a multiple of the record
+     * width
+     * @param order the byte order records are decoded with
+     * @param codec the codec decoding records
+     */
+    public MappedRecords(FileChannel channel, long position, long size, ByteOrder order, RecordCodec<T> codec) {
+        this(channel, position, size, order, codec, MAXIMUM_SEGMENT_SIZE);
+    }
+
+    /**
+     * Maps a whole file, decoding records in big endian byte order.
+     *
+     * @param file the file to be mapped
+     * @param codec the codec decoding records
+     */
+    public MappedRecords(File file, RecordCodec<T> codec) {
+        this(file, ByteOrder.BIG_ENDIAN, codec, MAXIMUM_SEGMENT_SIZE);
+    }
+
+    MappedRecords(File file, ByteOrder order, RecordCodec<T> codec, long maximumSegmentSize) {
+        dbc.precondition(file != null, "cannot map a null file");
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            final FileChannel channel = raf.getChannel();
+            this.codec = codec;
+            this.segments = map(channel, 0, channel.size(), order, codec, maximumSegmentSize);
+            this.segmentSize = segmentSize(codec, maximumSegmentSize);
+            this.size = records(channel.size(), codec);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    MappedRecords(FileChannel channel, long position, long size, ByteOrder order, RecordCodec<T> codec, long maximumSegmentSize) {
+        dbc.precondition(channel != null, "cannot map a null channel");
+        try {
+            this.codec = codec;
+            this.segments = map(channel, position, size, order, codec, maximumSegmentSize);
+            this.segmentSize = segmentSize(codec, maximumSegmentSize);
+            this.size = records(size, codec);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("index %s out of [0, %s)", index, size));
+        }
+        final long offset = (long) index * codec.width();
+        return codec.decode(segments[(int) (offset / segmentSize)], (int) (offset % segmentSize));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static ByteBuffer[] map(FileChannel channel, long position, long size, ByteOrder order, RecordCodec<?> codec, long maximumSegmentSize) throws IOException {
+        dbc.precondition(position >= 0, "cannot map a region at a negative position");
+        dbc.precondition(size >= 0, "cannot map a region of negative size");
+        dbc.precondition(order != null, "cannot map records with a null byte order");
+        dbc.precondition(codec != null, "cannot map records with a null codec");
+        dbc.precondition(codec.width() > 0, "cannot map records of non positive width");
+        dbc.precondition(size % codec.width() == 0, "cannot map a region of %s bytes into records of %s bytes", size, codec.width());
+        dbc.precondition(size / codec.width() <= Integer.MAX_VALUE, "cannot map more than %s records", Integer.MAX_VALUE);
+        final long segmentSize = segmentSize(codec, maximumSegmentSize);
+        final ByteBuffer[] segments = new ByteBuffer[(int) ((size + segmentSize - 1) / segmentSize)];
+        for (int i = 0; i != segments.length; ++i) {
+            final long offset = i * segmentSize;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + offset, Math.min(segmentSize, size - offset)).order(order);
+        }
+        return segments;
+    }
+
+    private static long segmentSize(RecordCodec<?> codec, long maximumSegmentSize) {
+        dbc.precondition(maximumSegmentSize >= codec.width(), "cannot map segments smaller than a record");
+        return maximumSegmentSize / codec.width() * codec.width();
+    }
+
+    private static int records(long size, RecordCodec<?> codec) {
+        return (int) (size / codec.width());
+    }
+}
@@ -0,0 +1,17 @@
+package net.emaze.dysfunctional.mapped;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the fixed width records of a {@link MappedRecords}. Decoding must
+ * use absolute reads only, never touching the buffer position, and consume
+ * at most width bytes from the passed offset.
+ *
+ * @param <T> the record type
+ */
+public interface RecordCodec<T> {
+
+    int width();
+
+    T decode(ByteBuffer buffer, int offset);
+}
@@ -2,16 +2,20 @@ package net.emaze.dysfunctional.multiplexing;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.BatchIterator;
 import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+import net.emaze.dysfunctional.iterations.SplittableIterator;
 
 /**
- * A composite iterator. Composed iterators are consumed in order.
+ * A composite iterator. Composed iterators are consumed in order. Its
+ * spliterator pulls composed iterators only when they are needed.
  *
  * @param <E> the element type
  * @author rferranti
  */
-public class ChainIterator<E> extends ReadOnlyIterator<E> {
+public class ChainIterator<E> extends ReadOnlyIterator<E> implements SplittableIterator<E>, BatchIterator<E> {
 
     private final Iterator<? extends Iterator<E>> iterators;
     private Iterator<E> current;
@@ -36,4 +40,18 @@ public class ChainIterator<E> extends ReadOnlyIterator<E> {
         }
         return current.next();
     }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new LazyChainSpliterator<E>(current == null ? null : SplittableIterator.spliterator(current), iterators);
+    }
+
+    @Override
+    public int nextBatch(Object[] buffer, int offset, int length) {
+        int count = 0;
+        while (count != length && hasNext()) {
+            count += BatchIterator.nextBatch(current, buffer, offset + count, length - count);
+        }
+        return count;
+    }
 }
@@ -0,0 +1,80 @@
+package net.emaze.dysfunctional.multiplexing;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A composite spliterator. Composed spliterators are traversed in order; a
+ * split yields the first half of them or, when only one is left, a split of
+ * it.
+ *
+ * @param <E> the element type
+ */
+public class ChainSpliterator<E> implements Spliterator<E> {
+
+    private final List<Spliterator<E>> parts;
+    private int first;
+    private final int last;
+
+    public ChainSpliterator(List<Spliterator<E>> parts) {
+        this(parts, 0, parts == null ? 0 : parts.size());
+    }
+
+    private ChainSpliterator(List<Spliterator<E>> parts, int first, int last) {
+        dbc.precondition(parts != null, "trying to create a ChainSpliterator from a null list of spliterators");
+        this.parts = parts;
+        this.first = first;
+        this.last = last;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        for (; first != last; ++first) {
+            if (parts.get(first).tryAdvance(action)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        for (; first != last; ++first) {
+            parts.get(first).forEachRemaining(action);
+        }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        if (last - first > 1) {
+            final int middle = (first + last) >>> 1;
+            final Spliterator<E> prefix = new ChainSpliterator<E>(parts, first, middle);
+            first = middle;
+            return prefix;
+        }
+        return first == last ? null : parts.get(first).trySplit();
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = 0;
+        for (int i = first; i != last; ++i) {
+            size += parts.get(i).estimateSize();
+            if (size < 0) {
+                return Long.MAX_VALUE;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        for (int i = first; i != last; ++i) {
+            characteristics &= parts.get(i).characteristics();
+        }
+        return estimateSize() == Long.MAX_VALUE ? characteristics & ~(Spliterator.SIZED | Spliterator.SUBSIZED) : characteristics;
+    }
+}
@@ -0,0 +1,82 @@
+package net.emaze.dysfunctional.multiplexing;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.SplittableIterator;
+
+/**
+ * A composite spliterator pulling composed iterators only when they are
+ * needed, so that chains of unbounded or expensive iterators can be
+ * traversed. Its size is unknown. A split yields the part already pulled,
+ * pulling one when none is, or a split of the last part.
+ *
+ * @param <E> the element type
+ */
+public class LazyChainSpliterator<E> implements Spliterator<E> {
+
+    private final Iterator<? extends Iterator<E>> iterators;
+    private Spliterator<E> current;
+
+    public LazyChainSpliterator(Iterator<? extends Iterator<E>> iterators) {
+        this(null, iterators);
+    }
+
+    public LazyChainSpliterator(Spliterator<E> current, Iterator<? extends Iterator<E>> iterators) {
+        dbc.precondition(iterators != null, "trying to create a LazyChainSpliterator from a null iterator of iterators");
+        this.current = current;
+        this.iterators = iterators;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        while (true) {
+            if (current != null && current.tryAdvance(action)) {
+                return true;
+            }
+            if (!iterators.hasNext()) {
+                current = null;
+                return false;
+            }
+            current = SplittableIterator.spliterator(iterators.next());
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        if (current != null) {
+            current.forEachRemaining(action);
+            current = null;
+        }
+        while (iterators.hasNext()) {
+            SplittableIterator.spliterator(iterators.next()).forEachRemaining(action);
+        }
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        if (current == null) {
+            if (!iterators.hasNext()) {
+                return null;
+            }
+            current = SplittableIterator.spliterator(iterators.next());
+        }
+        if (!iterators.hasNext()) {
+            return current.trySplit();
+        }
+        final Spliterator<E> prefix = current;
+        current = null;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED;
+    }
+}
@@ -0,0 +1,131 @@
+package net.emaze.dysfunctional.multiplexing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * Lazily merges sorted iterators into a sorted iterator through a binary heap
+ * of their heads: every element costs O(log k) comparisons and only k
+ * elements are held in memory. The merge is stable: equal elements are
+ * yielded in the order of the iterators they come from.
+ * <code>
+ * [1,4,7] [2,5] [3,6] -> [1,2,3,4,5,6,7]
+ * </code>
+ *
+ * @param <E> the iterator element type
+ */
+public class MergingIterator<E> extends ReadOnlyIterator<E> {
+
+    private final Iterator<? extends Iterator<E>> iterators;
+    private final Comparator<E> comparator;
+    private Iterator<E>[] sources;
+    private E[] heads;
+    private int[] indexes;
+    private int size = -1;
+
+    public <T extends Iterator<E>> MergingIterator(Comparator<E> comparator, Iterator<T> iterators) {
+        dbc.precondition(comparator != null, "trying to create a MergingIterator with a null comparator");
+        dbc.precondition(iterators != null, "trying to create a MergingIterator from a null iterator of iterators");
+        this.comparator = comparator;
+        this.iterators = iterators;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (size == -1) {
+            heapify();
+        }
+        return size != 0;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        final E top = heads[0];
+        if (sources[0].hasNext()) {
+            heads[0] = sources[0].next();
+        } else {
+            --size;
+            move(size, 0);
+            heads[size] = null;
+            sources[size] = null;
+        }
+        siftDown(0);
+        return top;
+    }
+
+    private void heapify() {
+        final List<Iterator<E>> nonEmpty = new ArrayList<>();
+        final List<Integer> positions = new ArrayList<>();
+        for (int position = 0; iterators.hasNext(); ++position) {
+            final Iterator<E> iterator = iterators.next();
+            if (iterator.hasNext()) {
+                nonEmpty.add(iterator);
+                positions.add(position);
+            }
+        }
+        size = nonEmpty.size();
+        sources = nonEmpty.toArray(newSources(size));
+        heads = newArray(size);
+        indexes = new int[size];
+        for (int i = 0; i != size; ++i) {
+            heads[i] = sources[i].next();
+            indexes[i] = positions.get(i);
+        }
+        for (int i = size / 2 - 1; i >= 0; --i) {
+            siftDown(i);
+        }
+    }
+
+    private void siftDown(int from) {
+        final Iterator<E> source = sources[from];
+        final E head = heads[from];
+        final int index = indexes[from];
+        int hole = from;
+        for (int child = 2 * hole + 1; child < size; child = 2 * hole + 1) {
+            if (child + 1 < size && precedes(child + 1, child)) {
+                ++child;
+            }
+            if (!precedes(heads[child], indexes[child], head, index)) {
+                break;
+            }
+            move(child, hole);
+            hole = child;
+        }
+        sources[hole] = source;
+        heads[hole] = head;
+        indexes[hole] = index;
+    }
+
+    private void move(int from, int to) {
+        sources[to] = sources[from];
+        heads[to] = heads[from];
+        indexes[to] = indexes[from];
+    }
+
+    private boolean precedes(int former, int latter) {
+        return precedes(heads[former], indexes[former], heads[latter], indexes[latter]);
+    }
+
+    private boolean precedes(E former, int formerIndex, E latter, int latterIndex) {
+        final int comparison = comparator.compare(former, latter);
+        return comparison < 0 || (comparison == 0 && formerIndex < latterIndex);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Iterator<T>[] newSources(int size) {
+        return (Iterator<T>[]) new Iterator<?>[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(int size) {
+        return (T[]) new Object[size];
+    }
+}
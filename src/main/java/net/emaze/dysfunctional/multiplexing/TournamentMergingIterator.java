@@ -0,0 +1,138 @@
+package net.emaze.dysfunctional.multiplexing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * Lazily merges sorted iterators into a sorted iterator through a tournament
+ * (loser) tree: internal nodes remember the loser of every match, so
+ * replacing the winner replays a single path to the root and costs exactly
+ * ceil(log2 k) comparisons, about half of what a binary heap needs. Prefer it
+ * to {@link MergingIterator} when merging many iterators. The merge is
+ * stable: equal elements are yielded in the order of the iterators they come
+ * from.
+ * <code>
+ * [1,4,7] [2,5] [3,6] -> [1,2,3,4,5,6,7]
+ * </code>
+ *
+ * @param <E> the iterator element type
+ */
+public class TournamentMergingIterator<E> extends ReadOnlyIterator<E> {
+
+    private static final int NONE = -1;
+    private final Iterator<? extends Iterator<E>> iterators;
+    private final Comparator<E> comparator;
+    private Iterator<E>[] sources;
+    private E[] heads;
+    private boolean[] exhausted;
+    private int[] tree;
+
+    public <T extends Iterator<E>> TournamentMergingIterator(Comparator<E> comparator, Iterator<T> iterators) {
+        dbc.precondition(comparator != null, "trying to create a TournamentMergingIterator with a null comparator");
+        dbc.precondition(iterators != null, "trying to create a TournamentMergingIterator from a null iterator of iterators");
+        this.comparator = comparator;
+        this.iterators = iterators;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (tree == null) {
+            build();
+        }
+        return tree.length != 0 && !exhausted[tree[0]];
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        final int winner = tree[0];
+        final E value = heads[winner];
+        if (sources[winner].hasNext()) {
+            heads[winner] = sources[winner].next();
+        } else {
+            heads[winner] = null;
+            exhausted[winner] = true;
+        }
+        replay(winner);
+        return value;
+    }
+
+    private void build() {
+        final List<Iterator<E>> all = new ArrayList<>();
+        while (iterators.hasNext()) {
+            all.add(iterators.next());
+        }
+        final int k = all.size();
+        sources = all.toArray(newSources(k));
+        heads = newArray(k);
+        exhausted = new boolean[k];
+        tree = new int[k];
+        for (int i = 0; i != k; ++i) {
+            tree[i] = NONE;
+            if (sources[i].hasNext()) {
+                heads[i] = sources[i].next();
+            } else {
+                exhausted[i] = true;
+            }
+        }
+        for (int leaf = k - 1; leaf >= 0; --leaf) {
+            int winner = leaf;
+            int node = (leaf + k) / 2;
+            for (; node > 0; node /= 2) {
+                if (tree[node] == NONE) {
+                    tree[node] = winner;
+                    break;
+                }
+                if (beats(tree[node], winner)) {
+                    final int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            if (node == 0) {
+                tree[0] = winner;
+            }
+        }
+    }
+
+    private void replay(int leaf) {
+        final int k = tree.length;
+        int winner = leaf;
+        for (int node = (leaf + k) / 2; node > 0; node /= 2) {
+            if (beats(tree[node], winner)) {
+                final int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    private boolean beats(int former, int latter) {
+        if (exhausted[former]) {
+            return false;
+        }
+        if (exhausted[latter]) {
+            return true;
+        }
+        final int comparison = comparator.compare(heads[former], heads[latter]);
+        return comparison < 0 || (comparison == 0 && former < latter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Iterator<T>[] newSources(int size) {
+        return (Iterator<T>[]) new Iterator<?>[size];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(int size) {
+        return (T[]) new Object[size];
+    }
+}
@@ -7,6 +7,9 @@ import net.emaze.dysfunctional.tuples.Pair;
 
 /**
  * A binary function accumulating sum and count of passed values on a pair.
+ * Allocates a pair per value: on primitive values prefer
+ * {@link net.emaze.dysfunctional.numbers.statistics.LongStatistics} or
+ * {@link net.emaze.dysfunctional.numbers.statistics.DoubleStatistics}.
  *
  * @author rferranti
  * @param <T> the value type.
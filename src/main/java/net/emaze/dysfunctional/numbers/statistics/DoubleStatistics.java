@@ -0,0 +1,107 @@
+package net.emaze.dysfunctional.numbers.statistics;
+
+import java.util.function.DoubleConsumer;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A mutable, primitive backed accumulator of count, sum, minimum, maximum,
+ * mean and variance of double values. Accepting a value allocates nothing;
+ * the sum is compensated through a {@link KahanSum}, the variance is kept
+ * through Welford's update and partial results are combined with
+ * {@link #merge(DoubleStatistics)}. Not thread safe.
+ */
+public class DoubleStatistics implements DoubleConsumer {
+
+    private final KahanSum sum = new KahanSum();
+    private long count;
+    private double minimum = Double.POSITIVE_INFINITY;
+    private double maximum = Double.NEGATIVE_INFINITY;
+    private double mean;
+    private double squaredDeviations;
+
+    @Override
+    public void accept(double value) {
+        ++count;
+        sum.accept(value);
+        minimum = Math.min(minimum, value);
+        maximum = Math.max(maximum, value);
+        final double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+    }
+
+    /**
+     * Combines the values accepted by another accumulator into this one.
+     *
+     * @param other the accumulator to be merged
+     * @return this accumulator
+     */
+    public DoubleStatistics merge(DoubleStatistics other) {
+        dbc.precondition(other != null, "cannot merge a null DoubleStatistics");
+        if (other.count == 0) {
+            return this;
+        }
+        final long total = count + other.count;
+        final double delta = other.mean - mean;
+        squaredDeviations += other.squaredDeviations + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+        count = total;
+        sum.merge(other.sum);
+        minimum = Math.min(minimum, other.minimum);
+        maximum = Math.max(maximum, other.maximum);
+        return this;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return the compensated sum
+     */
+    public double sum() {
+        return sum.value();
+    }
+
+    /**
+     * @return the minimum value, positive infinity when nothing was accepted
+     */
+    public double minimum() {
+        return minimum;
+    }
+
+    /**
+     * @return the maximum value, negative infinity when nothing was accepted
+     */
+    public double maximum() {
+        return maximum;
+    }
+
+    /**
+     * @return the arithmetic mean of the compensated sum, 0 when nothing was
+     * accepted
+     */
+    public double mean() {
+        return count == 0 ? 0 : sum() / count;
+    }
+
+    /**
+     * @return the population variance, 0 when nothing was accepted
+     */
+    public double variance() {
+        return count == 0 ? 0 : squaredDeviations / count;
+    }
+
+    /**
+     * @return the (unbiased) sample variance, 0 when less than two values were
+     * accepted
+     */
+    public double sampleVariance() {
+        return count < 2 ? 0 : squaredDeviations / (count - 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DoubleStatistics(count=%s, sum=%s, min=%s, max=%s, mean=%s, variance=%s)", count, sum(), minimum, maximum, mean(), variance());
+    }
+}
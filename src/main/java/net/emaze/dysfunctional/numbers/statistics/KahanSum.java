@@ -0,0 +1,67 @@
+package net.emaze.dysfunctional.numbers.statistics;
+
+import java.util.function.DoubleConsumer;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A mutable, compensated (Kahan-Babuska-Neumaier) double sum: the low order
+ * bits lost by every addition are accumulated apart and given back by
+ * {@link #value()}, so the error does not grow with the number of terms.
+ * Not thread safe: accumulate per thread, then {@link #merge(KahanSum)}.
+ */
+public class KahanSum implements DoubleConsumer {
+
+    private double sum;
+    private double compensation;
+    private double simpleSum;
+
+    @Override
+    public void accept(double value) {
+        simpleSum += value;
+        add(value);
+    }
+
+    /**
+     * Adds another partial sum to this one.
+     *
+     * @param other the sum to be merged
+     * @return this sum
+     */
+    public KahanSum merge(KahanSum other) {
+        dbc.precondition(other != null, "cannot merge a null KahanSum");
+        simpleSum += other.simpleSum;
+        add(other.sum);
+        add(other.compensation);
+        return this;
+    }
+
+    /**
+     * The compensated sum of every accepted value. When the plain sum is
+     * infinite (or NaN) the compensation is meaningless and the plain sum is
+     * returned as is.
+     *
+     * @return the sum
+     */
+    public double value() {
+        final double value = sum + compensation;
+        if (Double.isNaN(value) && Double.isInfinite(simpleSum)) {
+            return simpleSum;
+        }
+        return value;
+    }
+
+    private void add(double value) {
+        final double t = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - t) + value;
+        } else {
+            compensation += (value - t) + sum;
+        }
+        sum = t;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("KahanSum(%s)", value());
+    }
+}
@@ -0,0 +1,110 @@
+package net.emaze.dysfunctional.numbers.statistics;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A mutable, primitive backed accumulator of count, sum, minimum, maximum,
+ * mean and variance of long (or int) values. Accepting a value allocates
+ * nothing; the variance is kept through Welford's update and partial results
+ * are combined with {@link #merge(LongStatistics)}, so the accumulator can be
+ * used per thread (or per stream segment) and merged afterwards. Not thread
+ * safe.
+ */
+public class LongStatistics implements LongConsumer, IntConsumer {
+
+    private long count;
+    private long sum;
+    private long minimum = Long.MAX_VALUE;
+    private long maximum = Long.MIN_VALUE;
+    private double mean;
+    private double squaredDeviations;
+
+    @Override
+    public void accept(int value) {
+        accept((long) value);
+    }
+
+    @Override
+    public void accept(long value) {
+        ++count;
+        sum += value;
+        minimum = Math.min(minimum, value);
+        maximum = Math.max(maximum, value);
+        final double delta = value - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (value - mean);
+    }
+
+    /**
+     * Combines the values accepted by another accumulator into this one.
+     *
+     * @param other the accumulator to be merged
+     * @return this accumulator
+     */
+    public LongStatistics merge(LongStatistics other) {
+        dbc.precondition(other != null, "cannot merge a null LongStatistics");
+        if (other.count == 0) {
+            return this;
+        }
+        final long total = count + other.count;
+        final double delta = other.mean - mean;
+        squaredDeviations += other.squaredDeviations + delta * delta * ((double) count * other.count / total);
+        mean += delta * other.count / total;
+        count = total;
+        sum += other.sum;
+        minimum = Math.min(minimum, other.minimum);
+        maximum = Math.max(maximum, other.maximum);
+        return this;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * @return the minimum value, Long.MAX_VALUE when nothing was accepted
+     */
+    public long minimum() {
+        return minimum;
+    }
+
+    /**
+     * @return the maximum value, Long.MIN_VALUE when nothing was accepted
+     */
+    public long maximum() {
+        return maximum;
+    }
+
+    /**
+     * @return the arithmetic mean, 0 when nothing was accepted
+     */
+    public double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * @return the population variance, 0 when nothing was accepted
+     */
+    public double variance() {
+        return count == 0 ? 0 : squaredDeviations / count;
+    }
+
+    /**
+     * @return the (unbiased) sample variance, 0 when less than two values were
+     * accepted
+     */
+    public double sampleVariance() {
+        return count < 2 ? 0 : squaredDeviations / (count - 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LongStatistics(count=%s, sum=%s, min=%s, max=%s, mean=%s, variance=%s)", count, sum, minimum, maximum, mean(), variance());
+    }
+}
@@ -0,0 +1,42 @@
+package net.emaze.dysfunctional.output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * An output iterator appending every element to an Appendable (e.g a
+ * StringBuilder, a PrintStream or a CharBuffer) as soon as it is received.
+ *
+ * @param <A> the appendable type
+ */
+public class AppendableOutputIterator<A extends Appendable> implements OutputIterator<String> {
+
+    private final A appendable;
+
+    public AppendableOutputIterator(A appendable) {
+        dbc.precondition(appendable != null, "cannot create an AppendableOutputIterator with a null appendable");
+        this.appendable = appendable;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    public void next(String element) {
+        try {
+            appendable.append(element);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @return the appendable elements are appended to
+     */
+    public A appendable() {
+        return appendable;
+    }
+}
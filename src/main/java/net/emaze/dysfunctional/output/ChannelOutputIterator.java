@@ -0,0 +1,102 @@
+package net.emaze.dysfunctional.output;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * An output iterator encoding elements into a WritableByteChannel through a
+ * reusable encoder and a pair of fixed size buffers: memory stays constant
+ * however much is written. Encoded bytes reach the channel whenever the
+ * buffer fills up and on flush, which must be called once done writing.
+ * Malformed and unmappable characters are replaced, as String.getBytes does.
+ * The channel is never closed.
+ */
+public class ChannelOutputIterator implements OutputIterator<String>, Flushable {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+
+    public ChannelOutputIterator(WritableByteChannel channel, Charset charset, int bufferSize) {
+        dbc.precondition(channel != null, "cannot create a ChannelOutputIterator with a null channel");
+        dbc.precondition(charset != null, "cannot create a ChannelOutputIterator with a null charset");
+        dbc.precondition(bufferSize > 1, "cannot create a ChannelOutputIterator with a buffer smaller than two characters");
+        this.channel = channel;
+        this.encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.bytes = ByteBuffer.allocate((int) Math.ceil(bufferSize * (double) encoder.maxBytesPerChar()));
+    }
+
+    public ChannelOutputIterator(WritableByteChannel channel, Charset charset) {
+        this(channel, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    public void next(String element) {
+        final String value = String.valueOf(element);
+        for (int from = 0; from != value.length();) {
+            final int to = Math.min(value.length(), from + chars.remaining());
+            chars.put(value, from, to);
+            from = to;
+            chars.flip();
+            encode(false);
+            chars.compact();
+        }
+    }
+
+    /**
+     * Encodes pending characters and writes every encoded byte to the channel.
+     */
+    @Override
+    public void flush() {
+        chars.flip();
+        encode(true);
+        chars.clear();
+        while (encoder.flush(bytes).isOverflow()) {
+            drain();
+        }
+        drain();
+        encoder.reset();
+    }
+
+    private void encode(boolean endOfInput) {
+        for (;;) {
+            final CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            if (!result.isOverflow()) {
+                return;
+            }
+            drain();
+        }
+    }
+
+    private void drain() {
+        bytes.flip();
+        try {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            bytes.clear();
+        }
+    }
+}
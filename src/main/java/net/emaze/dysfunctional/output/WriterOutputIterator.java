@@ -0,0 +1,44 @@
+package net.emaze.dysfunctional.output;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * An output iterator writing every element to a Writer as soon as it is
+ * received. The writer is neither flushed nor closed, unless flush is called.
+ */
+public class WriterOutputIterator implements OutputIterator<String>, Flushable {
+
+    private final Writer writer;
+
+    public WriterOutputIterator(Writer writer) {
+        dbc.precondition(writer != null, "cannot create a WriterOutputIterator with a null writer");
+        this.writer = writer;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    public void next(String element) {
+        try {
+            writer.write(String.valueOf(element));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
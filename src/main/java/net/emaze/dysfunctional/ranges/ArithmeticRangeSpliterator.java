@@ -0,0 +1,68 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A spliterator over the integral values in [ begin, end ), split
+ * arithmetically in halves.
+ *
+ * @param <T> the element type
+ */
+public class ArithmeticRangeSpliterator<T> implements Spliterator<T> {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+    private final LongFunction<T> boxer;
+    private long current;
+    private final long end;
+
+    public ArithmeticRangeSpliterator(long begin, long end, LongFunction<T> boxer) {
+        dbc.precondition(begin <= end, "trying to create an ArithmeticRangeSpliterator with begin (%s) greater than end (%s)", begin, end);
+        dbc.precondition(end - begin >= 0, "trying to create an ArithmeticRangeSpliterator spanning more than Long.MAX_VALUE values");
+        dbc.precondition(boxer != null, "trying to create an ArithmeticRangeSpliterator with a null boxer");
+        this.current = begin;
+        this.end = end;
+        this.boxer = boxer;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        dbc.precondition(action != null, "cannot advance with a null action");
+        if (current == end) {
+            return false;
+        }
+        action.accept(boxer.apply(current++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        dbc.precondition(action != null, "cannot advance with a null action");
+        for (; current != end; ++current) {
+            action.accept(boxer.apply(current));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final long middle = current + (end - current) / 2;
+        if (middle == current) {
+            return null;
+        }
+        final Spliterator<T> prefix = new ArithmeticRangeSpliterator<T>(current, middle, boxer);
+        current = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - current;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
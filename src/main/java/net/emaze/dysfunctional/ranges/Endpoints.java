@@ -0,0 +1,15 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.util.Optional;
+
+/**
+ * Endpoint arrays shared by the range implementations binary searching over
+ * their bounds.
+ */
+abstract class Endpoints {
+
+    @SuppressWarnings("unchecked")
+    static <T> Optional<T>[] newEndpoints(int size) {
+        return (Optional<T>[]) new Optional<?>[size];
+    }
+}
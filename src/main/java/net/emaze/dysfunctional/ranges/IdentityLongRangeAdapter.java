@@ -0,0 +1,25 @@
+package net.emaze.dysfunctional.ranges;
+
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Adapts Long ranges to a {@link LongRangeSet}.
+ */
+public class IdentityLongRangeAdapter implements LongRangeAdapter<Long> {
+
+    @Override
+    public long toLong(Long value) {
+        dbc.precondition(value != null, "cannot adapt a null Long to long");
+        return value;
+    }
+
+    @Override
+    public Long fromLong(long value) {
+        return value;
+    }
+
+    @Override
+    public long maximum() {
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,37 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.net.Inet4Address;
+import java.net.UnknownHostException;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Adapts Inet4Address ranges to a {@link LongRangeSet}, mapping every address
+ * to its unsigned 32 bit value.
+ */
+public class Inet4AddressLongRangeAdapter implements LongRangeAdapter<Inet4Address> {
+
+    private static final long MAXIMUM = 0xffffffffL;
+
+    @Override
+    public long toLong(Inet4Address value) {
+        dbc.precondition(value != null, "cannot adapt a null Inet4Address to long");
+        final byte[] octets = value.getAddress();
+        return (octets[0] & 0xffL) << 24 | (octets[1] & 0xffL) << 16 | (octets[2] & 0xffL) << 8 | (octets[3] & 0xffL);
+    }
+
+    @Override
+    public Inet4Address fromLong(long value) {
+        dbc.precondition(value >= 0 && value <= MAXIMUM, "cannot adapt %s to Inet4Address", value);
+        final byte[] octets = new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+        try {
+            return (Inet4Address) Inet4Address.getByAddress(octets);
+        } catch (UnknownHostException ex) {
+            throw new IllegalStateException("Never happens: UnknownHostException building a Inet4Address from octets", ex);
+        }
+    }
+
+    @Override
+    public long maximum() {
+        return MAXIMUM;
+    }
+}
@@ -0,0 +1,26 @@
+package net.emaze.dysfunctional.ranges;
+
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Adapts Integer ranges to a {@link LongRangeSet}.
+ */
+public class IntegerLongRangeAdapter implements LongRangeAdapter<Integer> {
+
+    @Override
+    public long toLong(Integer value) {
+        dbc.precondition(value != null, "cannot adapt a null Integer to long");
+        return value;
+    }
+
+    @Override
+    public Integer fromLong(long value) {
+        dbc.precondition(value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE, "cannot adapt %s to Integer", value);
+        return (int) value;
+    }
+
+    @Override
+    public long maximum() {
+        return Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,107 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A closed range of primitive longs: [first, last]. Being closed, it can
+ * include Long.MAX_VALUE.
+ */
+public final class LongRange implements Iterable<Long> {
+
+    private final long first;
+    private final long last;
+
+    public LongRange(long first, long last) {
+        dbc.precondition(first <= last, "trying to create a LongRange with first (%s) greater than last (%s)", first, last);
+        this.first = first;
+        this.last = last;
+    }
+
+    public static LongRange closed(long first, long last) {
+        return new LongRange(first, last);
+    }
+
+    public static LongRange degenerate(long value) {
+        return new LongRange(value, value);
+    }
+
+    public long first() {
+        return first;
+    }
+
+    public long last() {
+        return last;
+    }
+
+    public boolean contains(long value) {
+        return first <= value && value <= last;
+    }
+
+    public boolean overlaps(LongRange other) {
+        dbc.precondition(other != null, "checking for overlaps between a LongRange and null");
+        return first <= other.last && other.first <= last;
+    }
+
+    /**
+     * @return the number of contained values, saturated to Long.MAX_VALUE
+     */
+    public long size() {
+        final long size = last - first + 1;
+        return size <= 0 ? Long.MAX_VALUE : size;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongRangeIterator(first, last);
+    }
+
+    @Override
+    public boolean equals(Object rhs) {
+        if (rhs instanceof LongRange == false) {
+            return false;
+        }
+        final LongRange other = (LongRange) rhs;
+        return this.first == other.first && this.last == other.last;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(first) * 31 + Long.hashCode(last);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("[%s-%s]", first, last);
+    }
+
+    static class LongRangeIterator implements PrimitiveIterator.OfLong {
+
+        private final long last;
+        private long next;
+        private boolean consumed;
+
+        public LongRangeIterator(long first, long last) {
+            this.next = first;
+            this.last = last;
+            this.consumed = first > last;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !consumed;
+        }
+
+        @Override
+        public long nextLong() {
+            if (consumed) {
+                throw new NoSuchElementException("iterator is consumed");
+            }
+            final long current = next;
+            consumed = current == last;
+            ++next;
+            return current;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package net.emaze.dysfunctional.ranges;
+
+/**
+ * Maps range elements to longs (and back) preserving their order, so that
+ * ranges of T can be handled as a {@link LongRangeSet}.
+ *
+ * @param <T> the range element type
+ */
+public interface LongRangeAdapter<T> {
+
+    long toLong(T value);
+
+    T fromLong(long value);
+
+    /**
+     * @return the long mapped to the greatest element of T
+     */
+    long maximum();
+}
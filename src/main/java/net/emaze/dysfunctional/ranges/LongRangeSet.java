@@ -0,0 +1,354 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * An immutable set of longs stored as sorted, non-overlapping, non-adjacent
+ * closed ranges in two parallel primitive arrays. Set operations are linear
+ * merges of the operands, contains is a binary search and nothing is ever
+ * boxed.
+ */
+public final class LongRangeSet implements Iterable<Long> {
+
+    private static final LongRangeSet EMPTY = new LongRangeSet(new long[0], new long[0], 0);
+    private final long[] firsts;
+    private final long[] lasts;
+    private final int count;
+
+    private LongRangeSet(long[] firsts, long[] lasts, int count) {
+        this.firsts = firsts;
+        this.lasts = lasts;
+        this.count = count;
+    }
+
+    public static LongRangeSet empty() {
+        return EMPTY;
+    }
+
+    public static LongRangeSet closed(long first, long last) {
+        dbc.precondition(first <= last, "trying to create a LongRangeSet with first (%s) greater than last (%s)", first, last);
+        return new LongRangeSet(new long[]{first}, new long[]{last}, 1);
+    }
+
+    public static LongRangeSet of(LongRange... ranges) {
+        dbc.precondition(ranges != null, "trying to create a LongRangeSet from a null array of ranges");
+        return of(Arrays.asList(ranges));
+    }
+
+    /**
+     * Creates a set from (possibly unsorted and overlapping) ranges.
+     *
+     * @param ranges the ranges
+     * @return the set
+     */
+    public static LongRangeSet of(Iterable<LongRange> ranges) {
+        dbc.precondition(ranges != null, "trying to create a LongRangeSet from null ranges");
+        final List<LongRange> sorted = new ArrayList<LongRange>();
+        for (LongRange range : ranges) {
+            dbc.precondition(range != null, "trying to create a LongRangeSet containing a null range");
+            sorted.add(range);
+        }
+        Collections.sort(sorted, Comparator.comparingLong(LongRange::first));
+        final Builder builder = new Builder(sorted.size());
+        for (LongRange range : sorted) {
+            builder.append(range.first(), range.last());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Converts a range to a set of longs.
+     *
+     * @param <T> the range element type
+     * @param range the range to be converted
+     * @param adapter the adapter mapping range elements to longs
+     * @return the set
+     */
+    public static <T> LongRangeSet of(Range<T> range, LongRangeAdapter<T> adapter) {
+        dbc.precondition(range != null, "trying to create a LongRangeSet from a null range");
+        dbc.precondition(adapter != null, "trying to create a LongRangeSet with a null adapter");
+        final Builder builder = new Builder(range.densified().size());
+        for (DenseRange<T> dense : range.densified()) {
+            final long first = adapter.toLong(dense.begin());
+            final long last = dense.end().isPresent() ? adapter.toLong(dense.end().get()) - 1 : adapter.maximum();
+            if (first <= last) {
+                builder.append(first, last);
+            }
+        }
+        return builder.build();
+    }
+
+    public boolean contains(long value) {
+        final int candidate = lastStartingAtOrBefore(value);
+        return candidate != -1 && value <= lasts[candidate];
+    }
+
+    public boolean overlaps(LongRangeSet other) {
+        dbc.precondition(other != null, "checking for overlaps between a LongRangeSet and null");
+        int i = 0;
+        int j = 0;
+        while (i != count && j != other.count) {
+            if (firsts[i] <= other.lasts[j] && other.firsts[j] <= lasts[i]) {
+                return true;
+            }
+            if (lasts[i] < other.lasts[j]) {
+                ++i;
+            } else {
+                ++j;
+            }
+        }
+        return false;
+    }
+
+    public LongRangeSet union(LongRangeSet other) {
+        dbc.precondition(other != null, "cannot evaluate union with a null LongRangeSet");
+        final Builder builder = new Builder(count + other.count);
+        int i = 0;
+        int j = 0;
+        while (i != count || j != other.count) {
+            if (j == other.count || (i != count && firsts[i] <= other.firsts[j])) {
+                builder.append(firsts[i], lasts[i]);
+                ++i;
+            } else {
+                builder.append(other.firsts[j], other.lasts[j]);
+                ++j;
+            }
+        }
+        return builder.build();
+    }
+
+    public LongRangeSet intersection(LongRangeSet other) {
+        dbc.precondition(other != null, "cannot evaluate intersection with a null LongRangeSet");
+        final Builder builder = new Builder(Math.min(count, other.count));
+        int i = 0;
+        int j = 0;
+        while (i != count && j != other.count) {
+            final long first = Math.max(firsts[i], other.firsts[j]);
+            final long last = Math.min(lasts[i], other.lasts[j]);
+            if (first <= last) {
+                builder.append(first, last);
+            }
+            if (lasts[i] < other.lasts[j]) {
+                ++i;
+            } else {
+                ++j;
+            }
+        }
+        return builder.build();
+    }
+
+    public LongRangeSet difference(LongRangeSet other) {
+        dbc.precondition(other != null, "cannot evaluate difference with a null LongRangeSet");
+        final Builder builder = new Builder(count + other.count);
+        int j = 0;
+        for (int i = 0; i != count; ++i) {
+            long first = firsts[i];
+            final long last = lasts[i];
+            while (j != other.count && other.lasts[j] < first) {
+                ++j;
+            }
+            boolean exhausted = false;
+            for (int k = j; k != other.count && other.firsts[k] <= last; ++k) {
+                if (other.firsts[k] > first) {
+                    builder.append(first, other.firsts[k] - 1);
+                }
+                if (other.lasts[k] >= last) {
+                    exhausted = true;
+                    break;
+                }
+                first = other.lasts[k] + 1;
+            }
+            if (!exhausted) {
+                builder.append(first, last);
+            }
+        }
+        return builder.build();
+    }
+
+    public LongRangeSet symmetricDifference(LongRangeSet other) {
+        dbc.precondition(other != null, "cannot evaluate symmetric difference with a null LongRangeSet");
+        return this.difference(other).union(other.difference(this));
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return the number of disjoint ranges
+     */
+    public int ranges() {
+        return count;
+    }
+
+    public LongRange range(int index) {
+        dbc.precondition(index >= 0 && index < count, "range index %s out of bounds for %s ranges", index, count);
+        return new LongRange(firsts[index], lasts[index]);
+    }
+
+    /**
+     * @return the number of contained values, saturated to Long.MAX_VALUE
+     */
+    public long size() {
+        long size = 0;
+        for (int i = 0; i != count; ++i) {
+            final long rangeSize = lasts[i] - firsts[i] + 1;
+            if (rangeSize <= 0 || size + rangeSize < 0) {
+                return Long.MAX_VALUE;
+            }
+            size += rangeSize;
+        }
+        return size;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new Values();
+    }
+
+    /**
+     * Iterates the contained values converted through the adapter.
+     *
+     * @param <T> the adapted element type
+     * @param adapter the adapter
+     * @return the iterator
+     */
+    public <T> Iterator<T> iterator(final LongRangeAdapter<T> adapter) {
+        dbc.precondition(adapter != null, "cannot iterate a LongRangeSet with a null adapter");
+        final PrimitiveIterator.OfLong values = iterator();
+        return new ReadOnlyIterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return adapter.fromLong(values.nextLong());
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object rhs) {
+        if (rhs instanceof LongRangeSet == false) {
+            return false;
+        }
+        final LongRangeSet other = (LongRangeSet) rhs;
+        if (this.count != other.count) {
+            return false;
+        }
+        for (int i = 0; i != count; ++i) {
+            if (this.firsts[i] != other.firsts[i] || this.lasts[i] != other.lasts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 17;
+        for (int i = 0; i != count; ++i) {
+            hash = hash * 37 + Long.hashCode(firsts[i]);
+            hash = hash * 37 + Long.hashCode(lasts[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i != count; ++i) {
+            if (i != 0) {
+                builder.append(',');
+            }
+            builder.append('[').append(firsts[i]).append('-').append(lasts[i]).append(']');
+        }
+        return builder.append(']').toString();
+    }
+
+    private int lastStartingAtOrBefore(long value) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (firsts[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    private class Values implements PrimitiveIterator.OfLong {
+
+        private int range = 0;
+        private PrimitiveIterator.OfLong current = count == 0 ? null : new LongRange.LongRangeIterator(firsts[0], lasts[0]);
+
+        @Override
+        public boolean hasNext() {
+            return current != null && current.hasNext();
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("iterator is consumed");
+            }
+            final long value = current.nextLong();
+            if (!current.hasNext()) {
+                ++range;
+                current = range == count ? null : new LongRange.LongRangeIterator(firsts[range], lasts[range]);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Accumulates ranges sorted by first, coalescing overlapping and adjacent
+     * ones.
+     */
+    private static class Builder {
+
+        private long[] firsts;
+        private long[] lasts;
+        private int count = 0;
+
+        public Builder(int capacity) {
+            this.firsts = new long[Math.max(capacity, 1)];
+            this.lasts = new long[Math.max(capacity, 1)];
+        }
+
+        public void append(long first, long last) {
+            if (count != 0 && (lasts[count - 1] == Long.MAX_VALUE || first <= lasts[count - 1] + 1)) {
+                lasts[count - 1] = Math.max(lasts[count - 1], last);
+                return;
+            }
+            if (count == firsts.length) {
+                firsts = Arrays.copyOf(firsts, count * 2);
+                lasts = Arrays.copyOf(lasts, count * 2);
+            }
+            firsts[count] = first;
+            lasts[count] = last;
+            ++count;
+        }
+
+        public LongRangeSet build() {
+            if (count == 0) {
+                return EMPTY;
+            }
+            return new LongRangeSet(firsts, lasts, count);
+        }
+    }
+}
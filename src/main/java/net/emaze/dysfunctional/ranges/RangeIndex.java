@@ -0,0 +1,160 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * An immutable index answering which of many (possibly overlapping) ranges
+ * contain an element or overlap a range. Ranges are split into their dense
+ * parts, sorted by lower bound and arranged as an implicit interval tree where
+ * every node knows the greatest upper bound of its subtree: a query costs
+ * O(log n + k) where k is the number of matching parts. Empty ranges are never
+ * matched.
+ *
+ * @param <T> the range element type
+ */
+public class RangeIndex<T> {
+
+    private final Comparator<Optional<T>> comparator;
+    private final List<Range<T>> ranges;
+    private final Optional<T>[] begins;
+    private final Optional<T>[] ends;
+    private final Optional<T>[] greatestEnds;
+    private final int[] owners;
+
+    public RangeIndex(Comparator<Optional<T>> comparator, Iterable<? extends Range<T>> ranges) {
+        dbc.precondition(comparator != null, "cannot create a RangeIndex<T> with a null Comparator<T>");
+        dbc.precondition(ranges != null, "cannot create a RangeIndex<T> from null ranges");
+        this.comparator = comparator;
+        this.ranges = new ArrayList<Range<T>>();
+        final List<Part<T>> parts = new ArrayList<Part<T>>();
+        for (Range<T> range : ranges) {
+            dbc.precondition(range != null, "cannot create a RangeIndex<T> containing a null range");
+            for (DenseRange<T> dense : range.densified()) {
+                final Optional<T> begin = Optional.of(dense.begin());
+                if (comparator.compare(begin, dense.end()) < 0) {
+                    parts.add(new Part<T>(begin, dense.end(), this.ranges.size()));
+                }
+            }
+            this.ranges.add(range);
+        }
+        Collections.sort(parts, (lhs, rhs) -> comparator.compare(lhs.begin, rhs.begin));
+        this.begins = Endpoints.newEndpoints(parts.size());
+        this.ends = Endpoints.newEndpoints(parts.size());
+        this.greatestEnds = Endpoints.newEndpoints(parts.size());
+        this.owners = new int[parts.size()];
+        for (int i = 0; i != parts.size(); ++i) {
+            begins[i] = parts.get(i).begin;
+            ends[i] = parts.get(i).end;
+            owners[i] = parts.get(i).owner;
+        }
+        computeGreatestEnds(0, parts.size());
+    }
+
+    /**
+     * Yields the indexed ranges containing the element, in insertion order.
+     *
+     * @param element the element to be looked up
+     * @return the matching ranges
+     */
+    public List<Range<T>> containing(T element) {
+        dbc.precondition(element != null, "cannot look up a null element in a RangeIndex<T>");
+        final Optional<T> probe = Optional.of(element);
+        final BitSet matches = new BitSet(ranges.size());
+        collect(0, begins.length, probe, probe, true, matches);
+        return matching(matches);
+    }
+
+    /**
+     * Yields the indexed ranges overlapping the passed one, in insertion
+     * order.
+     *
+     * @param range the range to be looked up
+     * @return the matching ranges
+     */
+    public List<Range<T>> overlapping(Range<T> range) {
+        dbc.precondition(range != null, "cannot look up a null range in a RangeIndex<T>");
+        final BitSet matches = new BitSet(ranges.size());
+        for (DenseRange<T> dense : range.densified()) {
+            final Optional<T> begin = Optional.of(dense.begin());
+            if (comparator.compare(begin, dense.end()) < 0) {
+                collect(0, begins.length, begin, dense.end(), false, matches);
+            }
+        }
+        return matching(matches);
+    }
+
+    /**
+     * @return the number of indexed ranges
+     */
+    public int size() {
+        return ranges.size();
+    }
+
+    /**
+     * Collects owners of parts in [low, high) ending after lower and beginning
+     * before upper (or at upper, when inclusive).
+     */
+    private void collect(int low, int high, Optional<T> lower, Optional<T> upper, boolean inclusive, BitSet matches) {
+        if (low >= high) {
+            return;
+        }
+        final int mid = (low + high) >>> 1;
+        if (comparator.compare(greatestEnds[mid], lower) <= 0) {
+            return;
+        }
+        collect(low, mid, lower, upper, inclusive, matches);
+        final int beginVsUpper = comparator.compare(begins[mid], upper);
+        if (beginVsUpper > 0 || (beginVsUpper == 0 && !inclusive)) {
+            return;
+        }
+        if (comparator.compare(ends[mid], lower) > 0) {
+            matches.set(owners[mid]);
+        }
+        collect(mid + 1, high, lower, upper, inclusive, matches);
+    }
+
+    private Optional<T> computeGreatestEnds(int low, int high) {
+        if (low >= high) {
+            return Optional.empty();
+        }
+        final int mid = (low + high) >>> 1;
+        Optional<T> greatest = ends[mid];
+        final Optional<T> left = computeGreatestEnds(low, mid);
+        if (low < mid && comparator.compare(left, greatest) > 0) {
+            greatest = left;
+        }
+        final Optional<T> right = computeGreatestEnds(mid + 1, high);
+        if (mid + 1 < high && comparator.compare(right, greatest) > 0) {
+            greatest = right;
+        }
+        greatestEnds[mid] = greatest;
+        return greatest;
+    }
+
+    private List<Range<T>> matching(BitSet matches) {
+        final List<Range<T>> matching = new ArrayList<Range<T>>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i != -1; i = matches.nextSetBit(i + 1)) {
+            matching.add(ranges.get(i));
+        }
+        return matching;
+    }
+
+    private static class Part<T> {
+
+        private final Optional<T> begin;
+        private final Optional<T> end;
+        private final int owner;
+
+        public Part(Optional<T> begin, Optional<T> end, int owner) {
+            this.begin = begin;
+            this.end = end;
+            this.owner = owner;
+        }
+    }
+}
@@ -1,20 +1,26 @@
 package net.emaze.dysfunctional.ranges;
 
 import java.util.Comparator;
-import java.util.Iterator;
-import net.emaze.dysfunctional.contracts.dbc;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongFunction;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.SplittableIterator;
+import net.emaze.dysfunctional.order.NextIntegerSequencingPolicy;
+import net.emaze.dysfunctional.order.NextLongSequencingPolicy;
 import net.emaze.dysfunctional.order.Order;
 import net.emaze.dysfunctional.order.SequencingPolicy;
 
 /**
  * Yields values generated from a Sequencing<T> policy in a given
- * range [ begin, end )
+ * range [ begin, end ). Bounded ranges of integers and longs are split
+ * arithmetically.
  *
  * @param <T>
  * @author rferranti
  */
-public class RangeIterator<T> implements Iterator<T> {
+public class RangeIterator<T> implements SplittableIterator<T> {
 
     private final SequencingPolicy<T> policy;
     private T current;
@@ -50,4 +56,39 @@ public class RangeIterator<T> implements Iterator<T> {
     @Override
     public void remove() {
     }
+
+    /**
+     * Bounded ranges sequenced by NextIntegerSequencingPolicy or
+     * NextLongSequencingPolicy are split arithmetically over [current, end):
+     * this path ignores the comparator and assumes the natural ordering of the
+     * values. Other ranges are not split.
+     *
+     * @return a spliterator over the remaining values
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        if (end.isPresent() && policy instanceof NextIntegerSequencingPolicy) {
+            final long from = (Integer) current;
+            final long to = Math.max(from, (Integer) end.get());
+            return new ArithmeticRangeSpliterator<T>(from, to, RangeIterator.<T>integers());
+        }
+        if (end.isPresent() && policy instanceof NextLongSequencingPolicy) {
+            final long from = (Long) current;
+            final long to = Math.max(from, (Long) end.get());
+            if (to - from >= 0) {
+                return new ArithmeticRangeSpliterator<T>(from, to, RangeIterator.<T>longs());
+            }
+        }
+        return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> LongFunction<T> integers() {
+        return value -> (T) Integer.valueOf((int) value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> LongFunction<T> longs() {
+        return value -> (T) Long.valueOf(value);
+    }
 }
@@ -21,6 +21,9 @@ public class SparseRange<T> implements Range<T> {
 
     private final List<DenseRange<T>> densified;
     private final Comparator<Optional<T>> comparator;
+    private final Optional<T>[] begins;
+    private final Optional<T>[] ends;
+    private final boolean sortedAndDisjoint;
 
     public SparseRange(SequencingPolicy<T> sequencer, Comparator<Optional<T>> comparator, List<DenseRange<T>> densified) {
         dbc.precondition(sequencer != null, "trying to create a SparseRange<T> with a null SequencingPolicy<T>");
@@ -28,16 +31,28 @@ public class SparseRange<T> implements Range<T> {
         dbc.precondition(densified != null, "trying to create a SparseRange<T> from a null ranges");
         dbc.precondition(!densified.isEmpty(), "trying to create a SparseRange<T> from zero non-empty ranges");
         dbc.precondition(densified.size() > 1, "trying to create a SparseRange<T> when a DenseRange<T> should be created");
-        // We are not checking isSorted(densified) && !any(densified, isOverlapping) as it's definitely not cheap.
-        // Using MakeRange<T> (as any client code should not needing to mess with internals should) enforces SparseRange is 
-        // constructed as it should.
+        // We are not rejecting unsorted or overlapping ranges: using MakeRange<T> (as any client code should not needing
+        // to mess with internals should) enforces SparseRange is constructed as it should. When it is, lookups binary
+        // search the endpoints, otherwise they fall back to a linear scan.
         this.densified = densified;
         this.comparator = comparator;
+        this.begins = Endpoints.newEndpoints(densified.size());
+        this.ends = Endpoints.newEndpoints(densified.size());
+        for (int i = 0; i != densified.size(); ++i) {
+            begins[i] = Optional.of(densified.get(i).begin());
+            ends[i] = densified.get(i).end();
+        }
+        this.sortedAndDisjoint = isSortedAndDisjoint();
     }
 
     @Override
     public boolean contains(final T element) {
-        return new Any<DenseRange<T>>(new RangeNotContaining<T>(element)).test(densified.iterator());
+        if (!sortedAndDisjoint) {
+            return new Any<DenseRange<T>>(new RangeNotContaining<T>(element)).test(densified.iterator());
+        }
+        final Optional<T> probe = Optional.of(element);
+        final int candidate = lastBeginningAtOrBefore(probe);
+        return candidate != -1 && comparator.compare(probe, ends[candidate]) < 0;
     }
 
     @Override
@@ -66,7 +81,7 @@ public class SparseRange<T> implements Range<T> {
         if (rhs instanceof SparseRange == false) {
             return false;
         }
-        final SparseRange<T> other = (SparseRange<T>) rhs;
+        final SparseRange<?> other = (SparseRange<?>) rhs;
         return this.densified.equals(other.densified);
     }
 
@@ -84,11 +99,65 @@ public class SparseRange<T> implements Range<T> {
     @Override
     public boolean overlaps(final Range<T> other) {
         dbc.precondition(other != null, "checking for overlaps between a SparseRange<T> and null");
-        return new Any<DenseRange<T>>(new RangeOverlappingWith<DenseRange<T>, T>(other)).test(densified.iterator());
+        if (!sortedAndDisjoint) {
+            return new Any<DenseRange<T>>(new RangeOverlappingWith<DenseRange<T>, T>(other)).test(densified.iterator());
+        }
+        for (DenseRange<T> range : other.densified()) {
+            final int candidate = firstEndingAfter(Optional.of(range.begin()));
+            if (candidate != densified.size() && comparator.compare(begins[candidate], range.end()) < 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public List<DenseRange<T>> densified() {
         return densified;
     }
+
+    private boolean isSortedAndDisjoint() {
+        for (int i = 1; i != densified.size(); ++i) {
+            if (comparator.compare(ends[i - 1], begins[i]) > 0 || comparator.compare(begins[i], ends[i]) >= 0) {
+                return false;
+            }
+        }
+        return comparator.compare(begins[0], ends[0]) < 0;
+    }
+
+    /**
+     * @return the index of the last range beginning at or before the probe, -1
+     * if there is none
+     */
+    private int lastBeginningAtOrBefore(Optional<T> probe) {
+        int low = 0;
+        int high = begins.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(begins[mid], probe) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    /**
+     * @return the index of the first range ending after the probe, the number
+     * of ranges if there is none
+     */
+    private int firstEndingAfter(Optional<T> probe) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(ends[mid], probe) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
 }
@@ -8,7 +8,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.function.*;
 import java.util.stream.*;
 import net.emaze.dysfunctional.consumers.FirstElement;
@@ -26,13 +25,13 @@ import net.emaze.dysfunctional.filtering.Nth;
 import net.emaze.dysfunctional.filtering.TakeUpToIterator;
 import net.emaze.dysfunctional.filtering.TakeWhileIterator;
 import net.emaze.dysfunctional.filtering.UntilCount;
+import net.emaze.dysfunctional.iterations.SplittableIterator;
 
 public interface Sequence<T> extends Stream<T> {
 
     static <T> Sequence<T> from(Iterator<T> iterator) {
         dbc.precondition(iterator != null, "Cannot create a sequence from a null iterator");
-        final Spliterator<T> splitIterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
-        return new DefaultSequence<>(StreamSupport.stream(splitIterator, false));
+        return new DefaultSequence<>(StreamSupport.stream(SplittableIterator.spliterator(iterator), false));
     }
 
     static <T> Sequence<T> from(Stream<T> stream) {
@@ -0,0 +1,93 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * Lazily yields the intersection of a (small) sorted iterator and a (large)
+ * sorted random access list, galloping through the list: for every element of
+ * the iterator the list is probed at exponentially growing distances from the
+ * last match, then binary searched. Intersecting m elements with n costs
+ * O(m log(n / m)) comparisons instead of the O(m + n) of a lockstep walk, and
+ * the list elements which are skipped are never touched. Duplicates are
+ * handled as multisets, as in {@link SortedIntersectionIterator}.
+ * <code>
+ * [3,900], [1..1000] -> [3,900]
+ * </code>
+ *
+ * @param <E> the element type
+ */
+public class GallopingIntersectionIterator<E> extends ReadOnlyIterator<E> {
+
+    private final Iterator<E> smaller;
+    private final List<E> larger;
+    private final Comparator<E> comparator;
+    private int position;
+    private boolean prefetched;
+    private E next;
+
+    public GallopingIntersectionIterator(Iterator<E> smaller, List<E> larger, Comparator<E> comparator) {
+        dbc.precondition(smaller != null, "cannot create a GallopingIntersectionIterator with a null iterator");
+        dbc.precondition(larger != null, "cannot create a GallopingIntersectionIterator with a null list");
+        dbc.precondition(larger instanceof RandomAccess, "cannot create a GallopingIntersectionIterator with a list not supporting random access");
+        dbc.precondition(comparator != null, "cannot create a GallopingIntersectionIterator with a null comparator");
+        this.smaller = smaller;
+        this.larger = larger;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!prefetched && position != larger.size() && smaller.hasNext()) {
+            final E candidate = smaller.next();
+            position = gallop(candidate);
+            if (position != larger.size() && comparator.compare(larger.get(position), candidate) == 0) {
+                ++position;
+                next = candidate;
+                prefetched = true;
+            }
+        }
+        return prefetched;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        prefetched = false;
+        final E yielded = next;
+        next = null;
+        return yielded;
+    }
+
+    /**
+     * @return the index of the first element, from the current position, not
+     * preceding the target (or the list size)
+     */
+    private int gallop(E target) {
+        final int size = larger.size();
+        int low = position;
+        int high = position;
+        long step = 1;
+        while (high < size && comparator.compare(larger.get(high), target) < 0) {
+            low = high + 1;
+            high = (int) Math.min(position + step, size);
+            step <<= 1;
+        }
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (comparator.compare(larger.get(middle), target) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
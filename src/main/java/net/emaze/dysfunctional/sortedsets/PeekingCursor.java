@@ -0,0 +1,57 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An iterator wrapper exposing its head without consuming it. The head is
+ * fetched from the iterator when first needed.
+ *
+ * @param <E> the element type
+ */
+class PeekingCursor<E> {
+
+    private final Iterator<E> iterator;
+    private boolean fetched;
+    private boolean present;
+    private E head;
+
+    PeekingCursor(Iterator<E> iterator) {
+        this.iterator = iterator;
+    }
+
+    boolean present() {
+        fetch();
+        return present;
+    }
+
+    E head() {
+        if (!present()) {
+            throw new NoSuchElementException("cursor is consumed");
+        }
+        return head;
+    }
+
+    E pop() {
+        final E popped = head();
+        advance();
+        return popped;
+    }
+
+    void advance() {
+        fetch();
+        pull();
+    }
+
+    private void fetch() {
+        if (!fetched) {
+            pull();
+            fetched = true;
+        }
+    }
+
+    private void pull() {
+        present = iterator.hasNext();
+        head = present ? iterator.next() : null;
+    }
+}
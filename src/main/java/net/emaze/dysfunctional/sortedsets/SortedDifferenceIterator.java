@@ -0,0 +1,44 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Lazily yields the elements of the former sorted iterator missing from the
+ * latter one, sorted by the same comparator. Duplicates are handled as
+ * multisets: an element occurring m times in the former and n times in the
+ * latter is yielded max(m - n, 0) times.
+ * <code>
+ * [1,2,2,4], [2,3] -> [1,2,4]
+ * </code>
+ *
+ * @param <E> the element type
+ */
+public class SortedDifferenceIterator<E> extends SortedSetIterator<E> {
+
+    public SortedDifferenceIterator(Iterator<E> former, Iterator<E> latter, Comparator<E> comparator) {
+        super(former, latter, comparator);
+    }
+
+    @Override
+    protected boolean exhausted() {
+        return !former.present();
+    }
+
+    @Override
+    protected void step() {
+        if (!latter.present()) {
+            emit(former.pop());
+            return;
+        }
+        final int comparison = compareHeads();
+        if (comparison < 0) {
+            emit(former.pop());
+        } else if (comparison > 0) {
+            latter.advance();
+        } else {
+            former.advance();
+            latter.advance();
+        }
+    }
+}
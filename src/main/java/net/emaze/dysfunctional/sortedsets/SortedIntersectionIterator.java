@@ -0,0 +1,40 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Lazily yields the intersection of two iterators sorted by the same
+ * comparator, stopping as soon as either side is exhausted. Duplicates are
+ * handled as multisets: an element occurring m times in the former and n
+ * times in the latter is yielded min(m, n) times.
+ * <code>
+ * [1,2,2,4], [2,3,4] -> [2,4]
+ * </code>
+ *
+ * @param <E> the element type
+ */
+public class SortedIntersectionIterator<E> extends SortedSetIterator<E> {
+
+    public SortedIntersectionIterator(Iterator<E> former, Iterator<E> latter, Comparator<E> comparator) {
+        super(former, latter, comparator);
+    }
+
+    @Override
+    protected boolean exhausted() {
+        return !former.present() || !latter.present();
+    }
+
+    @Override
+    protected void step() {
+        final int comparison = compareHeads();
+        if (comparison < 0) {
+            former.advance();
+        } else if (comparison > 0) {
+            latter.advance();
+        } else {
+            latter.advance();
+            emit(former.pop());
+        }
+    }
+}
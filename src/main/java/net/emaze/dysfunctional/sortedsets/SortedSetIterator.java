@@ -0,0 +1,70 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * Base of the set operations on two iterators sorted by the same comparator:
+ * both sides are walked in lockstep, holding just their heads, and nothing is
+ * ever materialized. Subclasses decide, one step at a time, what to yield.
+ *
+ * @param <E> the element type
+ */
+abstract class SortedSetIterator<E> extends ReadOnlyIterator<E> {
+
+    protected final PeekingCursor<E> former;
+    protected final PeekingCursor<E> latter;
+    protected final Comparator<E> comparator;
+    private boolean prefetched;
+    private E next;
+
+    protected SortedSetIterator(Iterator<E> former, Iterator<E> latter, Comparator<E> comparator) {
+        dbc.precondition(former != null, "cannot create a sorted set iterator with a null former iterator");
+        dbc.precondition(latter != null, "cannot create a sorted set iterator with a null latter iterator");
+        dbc.precondition(comparator != null, "cannot create a sorted set iterator with a null comparator");
+        this.former = new PeekingCursor<>(former);
+        this.latter = new PeekingCursor<>(latter);
+        this.comparator = comparator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!prefetched && !exhausted()) {
+            step();
+        }
+        return prefetched;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        prefetched = false;
+        final E yielded = next;
+        next = null;
+        return yielded;
+    }
+
+    protected void emit(E value) {
+        next = value;
+        prefetched = true;
+    }
+
+    protected int compareHeads() {
+        return comparator.compare(former.head(), latter.head());
+    }
+
+    /**
+     * @return true when no more element can be yielded
+     */
+    protected abstract boolean exhausted();
+
+    /**
+     * Advances at least one side, possibly yielding an element.
+     */
+    protected abstract void step();
+}
@@ -0,0 +1,48 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Lazily yields the elements of two iterators sorted by the same comparator
+ * occurring in just one of them. Duplicates are handled as multisets: an
+ * element occurring m times in the former and n times in the latter is
+ * yielded |m - n| times.
+ * <code>
+ * [1,2,2,4], [2,3] -> [1,2,3,4]
+ * </code>
+ *
+ * @param <E> the element type
+ */
+public class SortedSymmetricDifferenceIterator<E> extends SortedSetIterator<E> {
+
+    public SortedSymmetricDifferenceIterator(Iterator<E> former, Iterator<E> latter, Comparator<E> comparator) {
+        super(former, latter, comparator);
+    }
+
+    @Override
+    protected boolean exhausted() {
+        return !former.present() && !latter.present();
+    }
+
+    @Override
+    protected void step() {
+        if (!latter.present()) {
+            emit(former.pop());
+            return;
+        }
+        if (!former.present()) {
+            emit(latter.pop());
+            return;
+        }
+        final int comparison = compareHeads();
+        if (comparison < 0) {
+            emit(former.pop());
+        } else if (comparison > 0) {
+            emit(latter.pop());
+        } else {
+            former.advance();
+            latter.advance();
+        }
+    }
+}
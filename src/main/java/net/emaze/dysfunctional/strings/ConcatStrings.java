@@ -4,6 +4,7 @@ import java.util.Iterator;
 import net.emaze.dysfunctional.consumers.ConsumeIntoOutputIterator;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Function;
+import net.emaze.dysfunctional.output.OutputIterator;
 import net.emaze.dysfunctional.output.StringOutputIterator;
 
 /**
@@ -13,9 +14,20 @@ public class ConcatStrings implements Function<Iterator<String>, String> {
 
     @Override
     public String apply(Iterator<String> iterator) {
+        return into(iterator, new StringOutputIterator()).toString();
+    }
+
+    /**
+     * Streams the concatenation of an iterator of String into the output.
+     *
+     * @param <O> the output iterator type
+     * @param iterator the iterator to be concatenated
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public <O extends OutputIterator<String>> O into(Iterator<String> iterator, O output) {
         dbc.precondition(iterator != null, "cannot concat a null iterator");
-        final StringOutputIterator output = new StringOutputIterator();
-        final ConsumeIntoOutputIterator<String> pipe = new ConsumeIntoOutputIterator<String>(output);
-        return pipe.apply(iterator).toString();
+        new ConsumeIntoOutputIterator<String>(output).apply(iterator);
+        return output;
     }
 }
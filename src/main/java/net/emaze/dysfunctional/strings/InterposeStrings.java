@@ -6,6 +6,7 @@ import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.BiFunction;
 import net.emaze.dysfunctional.iterations.TransformingIterator;
 import net.emaze.dysfunctional.multiplexing.InterposingIterator;
+import net.emaze.dysfunctional.output.OutputIterator;
 import net.emaze.dysfunctional.output.StringOutputIterator;
 
 /**
@@ -18,13 +19,27 @@ public class InterposeStrings<T, V> implements BiFunction<Iterator<T>, Iterator<
 
     @Override
     public String apply(Iterator<T> values, Iterator<V> separators) {
+        return into(values, separators, new StringOutputIterator()).toString();
+    }
+
+    /**
+     * Streams the stringified values, interposed with the stringified
+     * separators, into the output.
+     *
+     * @param <O> the output iterator type
+     * @param values the values
+     * @param separators the separators
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public <O extends OutputIterator<String>> O into(Iterator<T> values, Iterator<V> separators, O output) {
         dbc.precondition(values != null, "calling interpose with a null values");
         dbc.precondition(separators != null, "calling interpose with a null separators");
         final Iterator<String> input = new InterposingIterator<String>(
                 new TransformingIterator<>(values, new ToStringTransformer<T>()),
                 new TransformingIterator<>(separators, new ToStringTransformer<V>()));
-        final StringOutputIterator output = new StringOutputIterator();
         final ConsumeIntoOutputIterator<String> pipe = new ConsumeIntoOutputIterator<String>(output);
-        return pipe.apply(input).toString();
+        pipe.apply(input);
+        return output;
     }
 }
@@ -5,6 +5,7 @@ import net.emaze.dysfunctional.consumers.ConsumeIntoOutputIterator;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Function;
 import net.emaze.dysfunctional.iterations.TransformingIterator;
+import net.emaze.dysfunctional.output.OutputIterator;
 import net.emaze.dysfunctional.output.StringOutputIterator;
 
 /**
@@ -16,10 +17,21 @@ public class JoinStrings<T> implements Function<Iterator<T>, String> {
 
     @Override
     public String apply(Iterator<T> iterator) {
+        return into(iterator, new StringOutputIterator()).toString();
+    }
+
+    /**
+     * Streams the stringified elements of the iterator into the output.
+     *
+     * @param <O> the output iterator type
+     * @param iterator the iterator to be joined
+     * @param output the output iterator
+     * @return the output iterator
+     */
+    public <O extends OutputIterator<String>> O into(Iterator<T> iterator, O output) {
         dbc.precondition(iterator != null, "cannot join a null iterator");
-        final StringOutputIterator output = new StringOutputIterator();
         final ConsumeIntoOutputIterator<String> pipe = new ConsumeIntoOutputIterator<String>(output);
-        final Iterator<String> elements = new TransformingIterator<>(iterator, new ToStringTransformer<T>());
-        return pipe.apply(elements).toString();
+        pipe.apply(new TransformingIterator<>(iterator, new ToStringTransformer<T>()));
+        return output;
     }
 }
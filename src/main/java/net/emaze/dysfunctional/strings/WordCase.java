@@ -0,0 +1,99 @@
+package net.emaze.dysfunctional.strings;
+
+import java.util.Locale;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * The case a word is converted to, appending it into a StringBuilder in a
+ * single pass. Words made of ASCII characters only are converted in place,
+ * character by character; any other word falls back to the String case
+ * conversion in the default locale, yielding the same result.
+ */
+public enum WordCase {
+
+    /**
+     * "oNe" => "one"
+     */
+    Lower {
+        @Override
+        void append(String word, StringBuilder into, boolean ascii) {
+            dbc.precondition(word != null, "cannot lowercase a null word");
+            final int start = into.length();
+            for (int i = 0; ascii && i != word.length(); ++i) {
+                final char c = word.charAt(i);
+                ascii = c < 0x80;
+                into.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+            }
+            if (!ascii) {
+                into.setLength(start);
+                into.append(word.toLowerCase());
+            }
+        }
+    },
+    /**
+     * "oNe" => "ONE"
+     */
+    Upper {
+        @Override
+        void append(String word, StringBuilder into, boolean ascii) {
+            dbc.precondition(word != null, "cannot uppercase a null word");
+            final int start = into.length();
+            for (int i = 0; ascii && i != word.length(); ++i) {
+                final char c = word.charAt(i);
+                ascii = c < 0x80;
+                into.append(c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c);
+            }
+            if (!ascii) {
+                into.setLength(start);
+                into.append(word.toUpperCase());
+            }
+        }
+    },
+    /**
+     * "oNe" => "One"
+     */
+    Title {
+        @Override
+        void append(String word, StringBuilder into, boolean ascii) {
+            dbc.precondition(word != null, "cannot titleCase a null word");
+            dbc.precondition(!word.isEmpty(), "cannot titleCase an empty word");
+            final int start = into.length();
+            into.append(Character.toUpperCase(word.charAt(0)));
+            for (int i = 1; ascii && i != word.length(); ++i) {
+                final char c = word.charAt(i);
+                ascii = c < 0x80;
+                into.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+            }
+            if (!ascii) {
+                into.setLength(start + 1);
+                into.append(word.substring(1).toLowerCase());
+            }
+        }
+    };
+
+    /**
+     * Appends the word, converted to this case, into the StringBuilder.
+     *
+     * @param word the word to be converted
+     * @param into the StringBuilder the converted word is appended to
+     * @return the StringBuilder
+     */
+    public StringBuilder appendTo(String word, StringBuilder into) {
+        dbc.precondition(into != null, "cannot append into a null StringBuilder");
+        append(word, into, asciiFastPath());
+        return into;
+    }
+
+    abstract void append(String word, StringBuilder into, boolean ascii);
+
+    /**
+     * Turkic locales case ASCII 'i' and 'I' into dotless and dotted non ASCII
+     * letters: the character by character conversion is only exact elsewhere.
+     *
+     * @return true when ASCII words can be converted character by character
+     */
+    static boolean asciiFastPath() {
+        final String language = Locale.getDefault().getLanguage();
+        return !"tr".equals(language) && !"az".equals(language);
+    }
+}
@@ -0,0 +1,88 @@
+package net.emaze.dysfunctional.strings;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.dispatching.delegates.MemoizingCache;
+
+/**
+ * Converts an array of words into a single String in a single pass: the first
+ * word is converted to a case, every other word to another case, and the
+ * glyph is interposed between words. E.g:
+ * <code>["oNe","tWo","threE"] => "oneTwoThree"</code> with (Lower, Title, "").
+ *
+ * Words can be appended into a caller provided StringBuilder, allocating
+ * nothing but the StringBuilder growth. When created with a maximum cache
+ * size, converted Strings are kept in a bounded, least recently used cache
+ * keyed by the words, sparing repeated conversions of the same identifiers.
+ */
+public class WordsCaseConverter implements Function<String[], String> {
+
+    private static final int MAXIMUM_PRESIZE = 1 << 20;
+    private final WordCase firstWordCase;
+    private final WordCase otherWordsCase;
+    private final String glyph;
+    private final MemoizingCache<List<String>, String> cache;
+
+    public WordsCaseConverter(WordCase firstWordCase, WordCase otherWordsCase, String glyph) {
+        dbc.precondition(firstWordCase != null, "cannot create a WordsCaseConverter with a null firstWordCase");
+        dbc.precondition(otherWordsCase != null, "cannot create a WordsCaseConverter with a null otherWordsCase");
+        dbc.precondition(glyph != null, "cannot create a WordsCaseConverter with a null glyph");
+        this.firstWordCase = firstWordCase;
+        this.otherWordsCase = otherWordsCase;
+        this.glyph = glyph;
+        this.cache = null;
+    }
+
+    public WordsCaseConverter(WordCase firstWordCase, WordCase otherWordsCase, String glyph, int maximumCacheSize) {
+        dbc.precondition(firstWordCase != null, "cannot create a WordsCaseConverter with a null firstWordCase");
+        dbc.precondition(otherWordsCase != null, "cannot create a WordsCaseConverter with a null otherWordsCase");
+        dbc.precondition(glyph != null, "cannot create a WordsCaseConverter with a null glyph");
+        dbc.precondition(maximumCacheSize > 0, "cannot create a WordsCaseConverter with a non positive maximumCacheSize");
+        this.firstWordCase = firstWordCase;
+        this.otherWordsCase = otherWordsCase;
+        this.glyph = glyph;
+        this.cache = new MemoizingCache<List<String>, String>(maximumCacheSize);
+    }
+
+    @Override
+    public String apply(String[] words) {
+        dbc.precondition(words != null, "cannot convert a null array of words");
+        if (cache == null) {
+            return convert(words);
+        }
+        return cache.get(Arrays.asList(words.clone()), key -> convert(words));
+    }
+
+    /**
+     * Appends the converted words into the StringBuilder. The cache, if any,
+     * is not used.
+     *
+     * @param words the words to be converted
+     * @param into the StringBuilder the converted words are appended to
+     * @return the StringBuilder
+     */
+    public StringBuilder appendTo(String[] words, StringBuilder into) {
+        dbc.precondition(words != null, "cannot convert a null array of words");
+        dbc.precondition(into != null, "cannot append into a null StringBuilder");
+        final boolean ascii = WordCase.asciiFastPath();
+        for (int i = 0; i != words.length; ++i) {
+            if (i == 0) {
+                firstWordCase.append(words[i], into, ascii);
+            } else {
+                into.append(glyph);
+                otherWordsCase.append(words[i], into, ascii);
+            }
+        }
+        return into;
+    }
+
+    private String convert(String[] words) {
+        long length = glyph.length() * (long) Math.max(0, words.length - 1);
+        for (String word : words) {
+            length += word == null ? 0 : word.length();
+        }
+        return appendTo(words, new StringBuilder((int) Math.min(length, MAXIMUM_PRESIZE))).toString();
+    }
+}
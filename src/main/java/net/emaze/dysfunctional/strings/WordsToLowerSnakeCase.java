@@ -1,11 +1,7 @@
 package net.emaze.dysfunctional.strings;
 
-import java.util.Iterator;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Function;
-import net.emaze.dysfunctional.iterations.ArrayIterator;
-import net.emaze.dysfunctional.iterations.SingletonIterator;
-import net.emaze.dysfunctional.iterations.TransformingIterator;
 
 /**
  * ["oNe","tWo","threE"], "-" => "one-two-three"
@@ -14,18 +10,16 @@ import net.emaze.dysfunctional.iterations.TransformingIterator;
  */
 public class WordsToLowerSnakeCase implements Function<String[], String> {
 
-    private final ToLowerCase toLower = new ToLowerCase();
-    private final String snakeGlyph;
+    private final WordsCaseConverter converter;
 
     public WordsToLowerSnakeCase(String snakeGlyph) {
         dbc.precondition(snakeGlyph != null, "cannot create WordsToLowerSnakeCase with a null snakeGlyph");
-        this.snakeGlyph = snakeGlyph;
+        this.converter = new WordsCaseConverter(WordCase.Lower, WordCase.Lower, snakeGlyph);
     }
 
     @Override
     public String apply(String[] words) {
         dbc.precondition(words != null, "cannot lowerSnakeCase a null array of words");
-        final Iterator<String> values = new TransformingIterator<String, String>(new ArrayIterator<String>(words), toLower);
-        return new InterposeStrings<String, String>().apply(values, new SingletonIterator<String>(snakeGlyph));
+        return converter.apply(words);
     }
 }
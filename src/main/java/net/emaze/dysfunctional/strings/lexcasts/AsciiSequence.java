@@ -0,0 +1,45 @@
+package net.emaze.dysfunctional.strings.lexcasts;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A CharSequence view (no copy) of a slice of single byte characters.
+ */
+class AsciiSequence implements CharSequence {
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    public AsciiSequence(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.format("index %s out of [0, %s)", index, length));
+        }
+        return (char) (bytes[offset + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || start > end || end > length) {
+            throw new IndexOutOfBoundsException(String.format("[%s, %s) out of [0, %s)", start, end, length));
+        }
+        return new AsciiSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
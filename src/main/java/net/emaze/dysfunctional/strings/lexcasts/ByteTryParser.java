@@ -3,6 +3,7 @@ package net.emaze.dysfunctional.strings.lexcasts;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Function;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  *
@@ -20,10 +21,10 @@ public class ByteTryParser implements Function<String, Optional<Byte>> {
 
     @Override
     public Optional<Byte> apply(String parsee) {
-        try {
-            return Optional.of(Byte.parseByte(parsee, radix));
-        } catch (NumberFormatException ex) {
+        final OptionalInt parsed = NumberLexer.tryParseInt(parsee, radix);
+        if (!parsed.isPresent() || parsed.getAsInt() < Byte.MIN_VALUE || parsed.getAsInt() > Byte.MAX_VALUE) {
             return Optional.empty();
         }
+        return Optional.of((byte) parsed.getAsInt());
     }
 }
@@ -2,6 +2,7 @@ package net.emaze.dysfunctional.strings.lexcasts;
 
 import java.util.function.Function;
 import java.util.Optional;
+import java.util.OptionalDouble;
 
 /**
  *
@@ -11,13 +12,7 @@ public class DoubleTryParser implements Function<String, Optional<Double>> {
 
     @Override
     public Optional<Double> apply(String parsee) {
-        if (parsee == null) {
-            return Optional.empty();
-        }
-        try {
-            return Optional.of(Double.parseDouble(parsee));
-        } catch (NumberFormatException ex) {
-            return Optional.empty();
-        }
+        final OptionalDouble parsed = NumberLexer.tryParseDouble(parsee);
+        return parsed.isPresent() ? Optional.of(parsed.getAsDouble()) : Optional.empty();
     }
 }
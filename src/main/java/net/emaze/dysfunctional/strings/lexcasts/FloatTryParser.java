@@ -11,13 +11,10 @@ public class FloatTryParser implements Function<String, Optional<Float>> {
 
     @Override
     public Optional<Float> apply(String parsee) {
-        if (parsee == null) {
-            return Optional.empty();
-        }
-        try {
-            return Optional.of(Float.parseFloat(parsee));
-        } catch (NumberFormatException ex) {
+        if (!NumberLexer.tryParseDouble(parsee).isPresent()) {
             return Optional.empty();
         }
+        // valid: parsing cannot throw, and float rounding must not go through a double
+        return Optional.of(Float.parseFloat(parsee));
     }
 }
@@ -3,6 +3,7 @@ package net.emaze.dysfunctional.strings.lexcasts;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Function;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  *
@@ -20,10 +21,7 @@ public class IntegerTryParser implements Function<String, Optional<Integer>> {
 
     @Override
     public Optional<Integer> apply(String parsee) {
-        try {
-            return Optional.of(Integer.parseInt(parsee, radix));
-        } catch (NumberFormatException ex) {
-            return Optional.empty();
-        }
+        final OptionalInt parsed = NumberLexer.tryParseInt(parsee, radix);
+        return parsed.isPresent() ? Optional.of(parsed.getAsInt()) : Optional.empty();
     }
 }
@@ -3,6 +3,7 @@ package net.emaze.dysfunctional.strings.lexcasts;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Function;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  *
@@ -20,10 +21,7 @@ public class LongTryParser implements Function<String, Optional<Long>> {
 
     @Override
     public Optional<Long> apply(String parsee) {
-        try {
-            return Optional.of(Long.parseLong(parsee, radix));
-        } catch (NumberFormatException ex) {
-            return Optional.empty();
-        }
+        final OptionalLong parsed = NumberLexer.tryParseLong(parsee, radix);
+        return parsed.isPresent() ? Optional.of(parsed.getAsLong()) : Optional.empty();
     }
 }
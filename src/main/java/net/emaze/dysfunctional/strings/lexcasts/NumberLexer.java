@@ -0,0 +1,317 @@
+package net.emaze.dysfunctional.strings.lexcasts;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Validates and parses numbers in a single pass, never throwing on malformed
+ * input: an empty optional is returned instead, without allocating. Numbers
+ * can be parsed from a slice of any CharSequence, or straight out of a byte[]
+ * slice of ASCII characters, without building a String.
+ *
+ * Integers follow the Integer.parseInt / Long.parseLong grammar. Doubles
+ * follow the Double.parseDouble grammar: decimal doubles with at most 15
+ * significant digits and a power of ten within 10^22 are computed exactly
+ * with a single correctly rounded operation, any other valid double falls
+ * back to Double.parseDouble.
+ */
+public abstract class NumberLexer {
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+        1e21, 1e22
+    };
+    private static final int MAXIMUM_EXACT_DIGITS = 15;
+    /**
+     * Exponents are saturated here: far beyond any finite double, yet small
+     * enough that folding in every digit of an int sized input cannot
+     * overflow a long nor bring a saturated power back into the exact range.
+     */
+    private static final long MAXIMUM_EXPONENT = 1L << 40;
+
+    /**
+     * Parses an int in the given radix.
+     *
+     * @param parsee the characters to be parsed (can be null)
+     * @param radix the radix
+     * @return the parsed int, or nothing if parsee is not a valid int
+     */
+    public static OptionalInt tryParseInt(CharSequence parsee, int radix) {
+        if (parsee == null) {
+            return OptionalInt.empty();
+        }
+        return tryParseInt(parsee, 0, parsee.length(), radix);
+    }
+
+    /**
+     * Parses an int in the given radix from the characters in [from, to).
+     *
+     * @param parsee the characters to be parsed
+     * @param from the index of the first character
+     * @param to the index past the last character
+     * @param radix the radix
+     * @return the parsed int, or nothing if the slice is not a valid int
+     */
+    public static OptionalInt tryParseInt(CharSequence parsee, int from, int to, int radix) {
+        dbc.precondition(parsee != null, "cannot parse a null sequence");
+        dbc.precondition(from >= 0 && from <= to && to <= parsee.length(), "cannot parse [%s, %s) out of the sequence bounds", from, to);
+        dbc.precondition(radix >= Character.MIN_RADIX && radix <= Character.MAX_RADIX, "radix should be in range [MIN_RADIX, MAX_RADIX]");
+        if (from == to) {
+            return OptionalInt.empty();
+        }
+        final char first = parsee.charAt(from);
+        final boolean negative = first == '-';
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        final int multiplicationLimit = limit / radix;
+        int index = negative || first == '+' ? from + 1 : from;
+        if (index == to) {
+            return OptionalInt.empty();
+        }
+        int result = 0;
+        for (; index != to; ++index) {
+            final int digit = Character.digit(parsee.charAt(index), radix);
+            if (digit < 0 || result < multiplicationLimit) {
+                return OptionalInt.empty();
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return OptionalInt.empty();
+            }
+            result -= digit;
+        }
+        return OptionalInt.of(negative ? result : -result);
+    }
+
+    /**
+     * Parses an int in the given radix from the ASCII characters in
+     * [offset, offset + length).
+     *
+     * @param parsee the bytes to be parsed
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param radix the radix
+     * @return the parsed int, or nothing if the slice is not a valid int
+     */
+    public static OptionalInt tryParseInt(byte[] parsee, int offset, int length, int radix) {
+        dbc.precondition(parsee != null, "cannot parse a null array");
+        dbc.precondition(offset >= 0 && length >= 0 && length <= parsee.length - offset, "cannot parse %s bytes at %s out of the array bounds", length, offset);
+        return tryParseInt(new AsciiSequence(parsee, offset, length), 0, length, radix);
+    }
+
+    /**
+     * Parses a long in the given radix.
+     *
+     * @param parsee the characters to be parsed (can be null)
+     * @param radix the radix
+     * @return the parsed long, or nothing if parsee is not a valid long
+     */
+    public static OptionalLong tryParseLong(CharSequence parsee, int radix) {
+        if (parsee == null) {
+            return OptionalLong.empty();
+        }
+        return tryParseLong(parsee, 0, parsee.length(), radix);
+    }
+
+    /**
+     * Parses a long in the given radix from the characters in [from, to).
+     *
+     * @param parsee the characters to be parsed
+     * @param from the index of the first character
+     * @param to the index past the last character
+     * @param radix the radix
+     * @return the parsed long, or nothing if the slice is not a valid long
+     */
+    public static OptionalLong tryParseLong(CharSequence parsee, int from, int to, int radix) {
+        dbc.precondition(parsee != null, "cannot parse a null sequence");
+        dbc.precondition(from >= 0 && from <= to && to <= parsee.length(), "cannot parse [%s, %s) out of the sequence bounds", from, to);
+        dbc.precondition(radix >= Character.MIN_RADIX && radix <= Character.MAX_RADIX, "radix should be in range [MIN_RADIX, MAX_RADIX]");
+        if (from == to) {
+            return OptionalLong.empty();
+        }
+        final char first = parsee.charAt(from);
+        final boolean negative = first == '-';
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multiplicationLimit = limit / radix;
+        int index = negative || first == '+' ? from + 1 : from;
+        if (index == to) {
+            return OptionalLong.empty();
+        }
+        long result = 0;
+        for (; index != to; ++index) {
+            final int digit = Character.digit(parsee.charAt(index), radix);
+            if (digit < 0 || result < multiplicationLimit) {
+                return OptionalLong.empty();
+            }
+            result *= radix;
+            if (result < limit + digit) {
+                return OptionalLong.empty();
+            }
+            result -= digit;
+        }
+        return OptionalLong.of(negative ? result : -result);
+    }
+
+    /**
+     * Parses a long in the given radix from the ASCII characters in
+     * [offset, offset + length).
+     *
+     * @param parsee the bytes to be parsed
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @param radix the radix
+     * @return the parsed long, or nothing if the slice is not a valid long
+     */
+    public static OptionalLong tryParseLong(byte[] parsee, int offset, int length, int radix) {
+        dbc.precondition(parsee != null, "cannot parse a null array");
+        dbc.precondition(offset >= 0 && length >= 0 && length <= parsee.length - offset, "cannot parse %s bytes at %s out of the array bounds", length, offset);
+        return tryParseLong(new AsciiSequence(parsee, offset, length), 0, length, radix);
+    }
+
+    /**
+     * Parses a double.
+     *
+     * @param parsee the characters to be parsed (can be null)
+     * @return the parsed double, or nothing if parsee is not a valid double
+     */
+    public static OptionalDouble tryParseDouble(CharSequence parsee) {
+        if (parsee == null) {
+            return OptionalDouble.empty();
+        }
+        return tryParseDouble(parsee, 0, parsee.length());
+    }
+
+    /**
+     * Parses a double from the characters in [from, to).
+     *
+     * @param parsee the characters to be parsed
+     * @param from the index of the first character
+     * @param to the index past the last character
+     * @return the parsed double, or nothing if the slice is not a valid double
+     */
+    public static OptionalDouble tryParseDouble(CharSequence parsee, int from, int to) {
+        dbc.precondition(parsee != null, "cannot parse a null sequence");
+        dbc.precondition(from >= 0 && from <= to && to <= parsee.length(), "cannot parse [%s, %s) out of the sequence bounds", from, to);
+        while (from != to && parsee.charAt(from) <= ' ') {
+            ++from;
+        }
+        while (to != from && parsee.charAt(to - 1) <= ' ') {
+            --to;
+        }
+        if (from == to) {
+            return OptionalDouble.empty();
+        }
+        int index = from;
+        final boolean negative = parsee.charAt(index) == '-';
+        if (negative || parsee.charAt(index) == '+') {
+            ++index;
+        }
+        if (matches(parsee, index, to, "NaN")) {
+            return OptionalDouble.of(Double.NaN);
+        }
+        if (matches(parsee, index, to, "Infinity")) {
+            return OptionalDouble.of(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+        }
+        if (index + 1 < to && parsee.charAt(index) == '0' && (parsee.charAt(index + 1) == 'x' || parsee.charAt(index + 1) == 'X')) {
+            return hexadecimal(parsee, from, to);
+        }
+        final char last = parsee.charAt(to - 1);
+        if (last == 'd' || last == 'D' || last == 'f' || last == 'F') {
+            --to;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int droppedDigits = 0;
+        int fractionDigits = 0;
+        boolean anyDigit = false;
+        for (; index != to && isDigit(parsee.charAt(index)); ++index) {
+            anyDigit = true;
+            if (significantDigits < 19) {
+                mantissa = mantissa * 10 + (parsee.charAt(index) - '0');
+                significantDigits += mantissa == 0 ? 0 : 1;
+            } else {
+                ++droppedDigits;
+            }
+        }
+        if (index != to && parsee.charAt(index) == '.') {
+            for (++index; index != to && isDigit(parsee.charAt(index)); ++index) {
+                anyDigit = true;
+                if (significantDigits < 19) {
+                    mantissa = mantissa * 10 + (parsee.charAt(index) - '0');
+                    significantDigits += mantissa == 0 ? 0 : 1;
+                    ++fractionDigits;
+                }
+            }
+        }
+        if (!anyDigit) {
+            return OptionalDouble.empty();
+        }
+        long exponent = 0;
+        if (index != to && (parsee.charAt(index) == 'e' || parsee.charAt(index) == 'E')) {
+            ++index;
+            final boolean negativeExponent = index != to && parsee.charAt(index) == '-';
+            if (index != to && (negativeExponent || parsee.charAt(index) == '+')) {
+                ++index;
+            }
+            if (index == to) {
+                return OptionalDouble.empty();
+            }
+            for (; index != to && isDigit(parsee.charAt(index)); ++index) {
+                exponent = Math.min(exponent * 10 + (parsee.charAt(index) - '0'), MAXIMUM_EXPONENT);
+            }
+            exponent = negativeExponent ? -exponent : exponent;
+        }
+        if (index != to) {
+            return OptionalDouble.empty();
+        }
+        if (mantissa == 0) {
+            return OptionalDouble.of(negative ? -0.0 : 0.0);
+        }
+        final long power = exponent + droppedDigits - fractionDigits;
+        if (significantDigits <= MAXIMUM_EXACT_DIGITS && power >= -22 && power <= 22) {
+            final double exact = power < 0 ? mantissa / POWERS_OF_TEN[(int) -power] : mantissa * POWERS_OF_TEN[(int) power];
+            return OptionalDouble.of(negative ? -exact : exact);
+        }
+        return OptionalDouble.of(Double.parseDouble(parsee.subSequence(from, to).toString()));
+    }
+
+    /**
+     * Parses a double from the ASCII characters in [offset, offset + length).
+     *
+     * @param parsee the bytes to be parsed
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return the parsed double, or nothing if the slice is not a valid double
+     */
+    public static OptionalDouble tryParseDouble(byte[] parsee, int offset, int length) {
+        dbc.precondition(parsee != null, "cannot parse a null array");
+        dbc.precondition(offset >= 0 && length >= 0 && length <= parsee.length - offset, "cannot parse %s bytes at %s out of the array bounds", length, offset);
+        return tryParseDouble(new AsciiSequence(parsee, offset, length), 0, length);
+    }
+
+    private static OptionalDouble hexadecimal(CharSequence parsee, int from, int to) {
+        try {
+            return OptionalDouble.of(Double.parseDouble(parsee.subSequence(from, to).toString()));
+        } catch (NumberFormatException ex) {
+            return OptionalDouble.empty();
+        }
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean matches(CharSequence parsee, int from, int to, String expected) {
+        if (to - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i != expected.length(); ++i) {
+            if (parsee.charAt(from + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
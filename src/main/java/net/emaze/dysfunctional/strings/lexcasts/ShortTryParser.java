@@ -3,6 +3,7 @@ package net.emaze.dysfunctional.strings.lexcasts;
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Function;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
  *
@@ -20,10 +21,10 @@ public class ShortTryParser implements Function<String, Optional<Short>> {
 
     @Override
     public Optional<Short> apply(String parsee) {
-        try {
-            return Optional.of(Short.parseShort(parsee, radix));
-        } catch (NumberFormatException ex) {
+        final OptionalInt parsed = NumberLexer.tryParseInt(parsee, radix);
+        if (!parsed.isPresent() || parsed.getAsInt() < Short.MIN_VALUE || parsed.getAsInt() > Short.MAX_VALUE) {
             return Optional.empty();
         }
+        return Optional.of((short) parsed.getAsInt());
     }
 }
@@ -0,0 +1,133 @@
+package net.emaze.dysfunctional.strings.matching;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A precompiled Aho-Corasick automaton searching many needles at once,
+ * optionally ignoring case. Searching costs one pass over the haystack
+ * regardless of the number of needles, and allocates nothing.
+ *
+ * Transitions of every state are kept as a sorted array of characters,
+ * binary searched while matching.
+ */
+public class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+    private final boolean ignoreCase;
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[] matchLengths;
+
+    public AhoCorasickMatcher(Iterable<String> needles, boolean ignoreCase) {
+        dbc.precondition(needles != null, "cannot create an AhoCorasickMatcher with null needles");
+        this.ignoreCase = ignoreCase;
+        final List<Map<Character, Integer>> trie = new ArrayList<>();
+        final List<Integer> lengths = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        lengths.add(0);
+        for (String needle : needles) {
+            dbc.precondition(needle != null, "cannot create an AhoCorasickMatcher with a null needle");
+            int state = ROOT;
+            for (int i = 0; i != needle.length(); ++i) {
+                final char c = ignoreCase ? CaseFolding.fold(needle.charAt(i)) : needle.charAt(i);
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(c, next);
+                    trie.add(new TreeMap<>());
+                    lengths.add(0);
+                }
+                state = next;
+            }
+            // the empty needle matches at the root: its length is marked as 1
+            lengths.set(state, Math.max(needle.length(), 1));
+        }
+        final int states = trie.size();
+        this.labels = new char[states][];
+        this.targets = new int[states][];
+        this.failures = new int[states];
+        this.matchLengths = new int[states];
+        for (int state = 0; state != states; ++state) {
+            final Map<Character, Integer> transitions = trie.get(state);
+            labels[state] = new char[transitions.size()];
+            targets[state] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> transition : transitions.entrySet()) {
+                labels[state][i] = transition.getKey();
+                targets[state][i] = transition.getValue();
+                ++i;
+            }
+            matchLengths[state] = lengths.get(state);
+        }
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : targets[ROOT]) {
+            failures[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            for (int i = 0; i != labels[state].length; ++i) {
+                final int child = targets[state][i];
+                failures[child] = transition(failures[state], labels[state][i]);
+                if (matchLengths[child] == 0) {
+                    matchLengths[child] = matchLengths[failures[child]];
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Searches the needles in the haystack.
+     *
+     * @param haystack the characters to be searched
+     * @return the index of the first needle occurrence ending first, or -1
+     */
+    public int indexIn(CharSequence haystack) {
+        dbc.precondition(haystack != null, "cannot search a null haystack");
+        if (matchLengths[ROOT] != 0) {
+            return 0;
+        }
+        int state = ROOT;
+        for (int i = 0; i != haystack.length(); ++i) {
+            final char c = ignoreCase ? CaseFolding.fold(haystack.charAt(i)) : haystack.charAt(i);
+            state = transition(state, c);
+            if (matchLengths[state] != 0) {
+                return i + 1 - matchLengths[state];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Tells whether any needle occurs in the haystack.
+     *
+     * @param haystack the characters to be searched
+     * @return true if any needle occurs in the haystack
+     */
+    public boolean containedIn(CharSequence haystack) {
+        return indexIn(haystack) != -1;
+    }
+
+    private int transition(int from, char c) {
+        int state = from;
+        while (true) {
+            final int index = Arrays.binarySearch(labels[state], c);
+            if (index >= 0) {
+                return targets[state][index];
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failures[state];
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package net.emaze.dysfunctional.strings.matching;
+
+/**
+ * Folds characters to a case insensitive form, consistently with
+ * String.equalsIgnoreCase and String.regionMatches: two characters match
+ * ignoring case when they fold to the same character. ASCII characters are
+ * folded without table lookups.
+ */
+public abstract class CaseFolding {
+
+    /**
+     * Folds a character.
+     *
+     * @param c the character to be folded
+     * @return the folded character
+     */
+    public static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -0,0 +1,74 @@
+package net.emaze.dysfunctional.strings.matching;
+
+import java.util.Arrays;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A precompiled Boyer-Moore-Horspool search for a single needle, optionally
+ * ignoring case. Searching allocates nothing: haystack characters are folded
+ * one at a time while comparing. Shifts are looked up in a 256 entries table
+ * indexed by the low byte of the (folded) character, so non Latin-1 needles
+ * get conservative, yet correct, shifts.
+ */
+public class HorspoolMatcher {
+
+    private static final int TABLE_SIZE = 256;
+    private final char[] needle;
+    private final boolean ignoreCase;
+    private final int[] shifts = new int[TABLE_SIZE];
+
+    public HorspoolMatcher(String needle, boolean ignoreCase) {
+        dbc.precondition(needle != null, "cannot create a HorspoolMatcher with a null needle");
+        this.ignoreCase = ignoreCase;
+        this.needle = new char[needle.length()];
+        for (int i = 0; i != needle.length(); ++i) {
+            this.needle[i] = ignoreCase ? CaseFolding.fold(needle.charAt(i)) : needle.charAt(i);
+        }
+        Arrays.fill(shifts, this.needle.length);
+        for (int i = 0; i < this.needle.length - 1; ++i) {
+            shifts[this.needle[i] & (TABLE_SIZE - 1)] = this.needle.length - 1 - i;
+        }
+    }
+
+    /**
+     * Searches the needle in the haystack.
+     *
+     * @param haystack the characters to be searched
+     * @return the index of the first occurrence of the needle, or -1
+     */
+    public int indexIn(CharSequence haystack) {
+        dbc.precondition(haystack != null, "cannot search a null haystack");
+        if (needle.length == 0) {
+            return 0;
+        }
+        final int last = needle.length - 1;
+        for (int from = 0; from + last < haystack.length();) {
+            final char tail = fold(haystack.charAt(from + last));
+            int i = last;
+            if (tail == needle[last]) {
+                while (i > 0 && fold(haystack.charAt(from + i - 1)) == needle[i - 1]) {
+                    --i;
+                }
+                if (i == 0) {
+                    return from;
+                }
+            }
+            from += shifts[tail & (TABLE_SIZE - 1)];
+        }
+        return -1;
+    }
+
+    /**
+     * Tells whether the needle occurs in the haystack.
+     *
+     * @param haystack the characters to be searched
+     * @return true if the needle occurs in the haystack
+     */
+    public boolean containedIn(CharSequence haystack) {
+        return indexIn(haystack) != -1;
+    }
+
+    private char fold(char c) {
+        return ignoreCase ? CaseFolding.fold(c) : c;
+    }
+}
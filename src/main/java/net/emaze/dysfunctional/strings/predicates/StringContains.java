@@ -14,7 +14,7 @@ public class StringContains implements Predicate<String> {
 
     @Override
     public boolean test(String haystack) {
-        dbc.precondition(haystack != null, "cannot check if a needle is contained in a null haystack");
+        dbc.hotPrecondition(haystack != null, "cannot check if a needle is contained in a null haystack");
         return haystack.contains(needle);
     }
 }
@@ -0,0 +1,26 @@
+package net.emaze.dysfunctional.strings.predicates;
+
+import java.util.function.Predicate;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.strings.matching.AhoCorasickMatcher;
+
+/**
+ * Tests whether any of the needles is contained in the haystack, in a
+ * single pass whatever the number of needles. Replaces the Logic.or of many
+ * per-needle predicates.
+ */
+public class StringContainsAny implements Predicate<String> {
+
+    private final AhoCorasickMatcher needles;
+
+    public StringContainsAny(Iterable<String> needles) {
+        dbc.precondition(needles != null, "cannot create StringContainsAny with null needles");
+        this.needles = new AhoCorasickMatcher(needles, false);
+    }
+
+    @Override
+    public boolean test(String haystack) {
+        dbc.hotPrecondition(haystack != null, "cannot check if a needle is contained in a null haystack");
+        return needles.containedIn(haystack);
+    }
+}
@@ -0,0 +1,26 @@
+package net.emaze.dysfunctional.strings.predicates;
+
+import java.util.function.Predicate;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.strings.matching.AhoCorasickMatcher;
+
+/**
+ * Tests whether any of the needles is contained in the haystack ignoring case, in a
+ * single pass whatever the number of needles. Replaces the Logic.or of many
+ * per-needle predicates.
+ */
+public class StringContainsAnyIgnoreCase implements Predicate<String> {
+
+    private final AhoCorasickMatcher needles;
+
+    public StringContainsAnyIgnoreCase(Iterable<String> needles) {
+        dbc.precondition(needles != null, "cannot create StringContainsAnyIgnoreCase with null needles");
+        this.needles = new AhoCorasickMatcher(needles, true);
+    }
+
+    @Override
+    public boolean test(String haystack) {
+        dbc.hotPrecondition(haystack != null, "cannot check if a needle is contained in a null haystack");
+        return needles.containedIn(haystack);
+    }
+}
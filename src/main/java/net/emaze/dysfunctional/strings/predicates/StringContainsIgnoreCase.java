@@ -2,19 +2,20 @@ package net.emaze.dysfunctional.strings.predicates;
 
 import net.emaze.dysfunctional.contracts.dbc;
 import java.util.function.Predicate;
+import net.emaze.dysfunctional.strings.matching.HorspoolMatcher;
 
 public class StringContainsIgnoreCase implements Predicate<String> {
 
-    private final String needle;
+    private final HorspoolMatcher needle;
 
     public StringContainsIgnoreCase(String needle) {
         dbc.precondition(needle != null, "cannot create StringContainsIgnoreCase with a null needle");
-        this.needle = needle.toLowerCase();
+        this.needle = new HorspoolMatcher(needle, true);
     }
 
     @Override
     public boolean test(String haystack) {
-        dbc.precondition(haystack != null, "cannot check if a needle is contained in a null haystack");
-        return haystack.toLowerCase().contains(needle);
+        dbc.hotPrecondition(haystack != null, "cannot check if a needle is contained in a null haystack");
+        return needle.containedIn(haystack);
     }
 }
@@ -14,7 +14,7 @@ public class StringEndsWith implements Predicate<String> {
 
     @Override
     public boolean test(String haystack) {
-        dbc.precondition(haystack != null, "cannot check 'ends with' with a null haystack");
+        dbc.hotPrecondition(haystack != null, "cannot check 'ends with' with a null haystack");
         return haystack.endsWith(needle);
     }
 }
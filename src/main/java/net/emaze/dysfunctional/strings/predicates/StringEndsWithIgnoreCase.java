@@ -9,12 +9,12 @@ public class StringEndsWithIgnoreCase implements Predicate<String> {
 
     public StringEndsWithIgnoreCase(String needle) {
         dbc.precondition(needle != null, "cannot create StringEndsWithIgnoreCase with a null needle");
-        this.needle = needle.toLowerCase();
+        this.needle = needle;
     }
 
     @Override
     public boolean test(String haystack) {
-        dbc.precondition(haystack != null, "cannot check 'ends with' with a null haystack");
-        return haystack.toLowerCase().endsWith(needle);
+        dbc.hotPrecondition(haystack != null, "cannot check 'ends with' with a null haystack");
+        return haystack.regionMatches(true, haystack.length() - needle.length(), needle, 0, needle.length());
     }
 }
@@ -14,7 +14,7 @@ public class StringEqualsIgnoreCase implements Predicate<String> {
 
     @Override
     public boolean test(String rhs) {
-        dbc.precondition(rhs != null, "cannot check equalsIgnoreCase vs a null rhs");
+        dbc.hotPrecondition(rhs != null, "cannot check equalsIgnoreCase vs a null rhs");
         return lhs.equalsIgnoreCase(rhs);
     }
 }
@@ -14,7 +14,7 @@ public class StringStartsWith implements Predicate<String> {
 
     @Override
     public boolean test(String haystack) {
-        dbc.precondition(haystack != null, "cannot check 'starts with' with a null haystack");
+        dbc.hotPrecondition(haystack != null, "cannot check 'starts with' with a null haystack");
         return haystack.startsWith(needle);
     }
 }
@@ -9,12 +9,12 @@ public class StringStartsWithIgnoreCase implements Predicate<String> {
 
     public StringStartsWithIgnoreCase(String needle) {
         dbc.precondition(needle != null, "cannot create StringStartsWithIgnoreCase with a null needle");
-        this.needle = needle.toLowerCase();
+        this.needle = needle;
     }
 
     @Override
     public boolean test(String haystack) {
-        dbc.precondition(haystack != null, "cannot check 'starts with' with a null haystack");
-        return haystack.toLowerCase().startsWith(needle);
+        dbc.hotPrecondition(haystack != null, "cannot check 'starts with' with a null haystack");
+        return haystack.regionMatches(true, 0, needle, 0, needle.length());
     }
 }
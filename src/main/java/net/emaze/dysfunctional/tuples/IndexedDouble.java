@@ -0,0 +1,46 @@
+package net.emaze.dysfunctional.tuples;
+
+/**
+ * An index and the double found at that index, both held unboxed.
+ */
+public class IndexedDouble {
+
+    private final int index;
+    private final double value;
+
+    public IndexedDouble(int index, double value) {
+        this.index = index;
+        this.value = value;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public double value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object rhs) {
+        if (rhs instanceof IndexedDouble == false) {
+            return false;
+        }
+        final IndexedDouble other = (IndexedDouble) rhs;
+        return this.index == other.index && Double.compare(this.value, other.value) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * index + Double.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(%s,%s)", index, value);
+    }
+
+    public static IndexedDouble of(int index, double value) {
+        return new IndexedDouble(index, value);
+    }
+}
@@ -0,0 +1,46 @@
+package net.emaze.dysfunctional.tuples;
+
+/**
+ * An index and the int found at that index, both held unboxed.
+ */
+public class IndexedInt {
+
+    private final int index;
+    private final int value;
+
+    public IndexedInt(int index, int value) {
+        this.index = index;
+        this.value = value;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public int value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object rhs) {
+        if (rhs instanceof IndexedInt == false) {
+            return false;
+        }
+        final IndexedInt other = (IndexedInt) rhs;
+        return this.index == other.index && this.value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * index + value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(%s,%s)", index, value);
+    }
+
+    public static IndexedInt of(int index, int value) {
+        return new IndexedInt(index, value);
+    }
+}
@@ -0,0 +1,46 @@
+package net.emaze.dysfunctional.tuples;
+
+/**
+ * An index and the long found at that index, both held unboxed.
+ */
+public class IndexedLong {
+
+    private final int index;
+    private final long value;
+
+    public IndexedLong(int index, long value) {
+        this.index = index;
+        this.value = value;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public long value() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object rhs) {
+        if (rhs instanceof IndexedLong == false) {
+            return false;
+        }
+        final IndexedLong other = (IndexedLong) rhs;
+        return this.index == other.index && this.value == other.value;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * index + Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("(%s,%s)", index, value);
+    }
+
+    public static IndexedLong of(int index, long value) {
+        return new IndexedLong(index, value);
+    }
+}
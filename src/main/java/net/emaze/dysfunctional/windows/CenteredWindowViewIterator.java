@@ -0,0 +1,68 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * [1,2,3,4,5], 3 -> (-,1,2), (1,2,3), (2,3,4), (3,4,5), (4,5,-). Every window
+ * is a read-only view of the same ring buffer: it is valid until the next call
+ * to next().
+ *
+ * @param <T> the element type
+ */
+public class CenteredWindowViewIterator<T> extends ReadOnlyIterator<List<Optional<T>>> {
+
+    private final Iterator<T> iter;
+    private final int windowSize;
+    private final RingBuffer<Optional<T>> window;
+    private boolean freshIterator = true;
+
+    public CenteredWindowViewIterator(Iterator<T> iter, int windowSize) {
+        dbc.precondition(iter != null, "cannot create a CenteredWindowViewIterator with a null iterator");
+        dbc.precondition(windowSize > 2, "cannot create a CenteredWindowViewIterator with a non positive or 1 window size");
+        dbc.precondition(windowSize % 2 == 1, "cannot create a CenteredWindowViewIterator with an even windowSize");
+        this.iter = iter;
+        this.windowSize = windowSize;
+        this.window = new RingBuffer<Optional<T>>(windowSize);
+        for (int i = 0; i != windowSize / 2; ++i) {
+            window.add(Optional.<T>empty());
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        fillWindow();
+        return !isConsumed();
+    }
+
+    @Override
+    public List<Optional<T>> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        if (!freshIterator) {
+            window.add(pull());
+        }
+        freshIterator = false;
+        return window.view();
+    }
+
+    private boolean isConsumed() {
+        final int center = windowSize / 2;
+        return !window.get(freshIterator ? center : center + 1).isPresent();
+    }
+
+    private Optional<T> pull() {
+        return iter.hasNext() ? Optional.of(iter.next()) : Optional.<T>empty();
+    }
+
+    private void fillWindow() {
+        while (!window.isFull()) {
+            window.add(pull());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * [1,2,3,4,5], 3 -> (1,2,3), (2,3,4), (3,4,5). Every window is a read-only
+ * view of the same ring buffer: it is valid until the next call to next().
+ *
+ * @param <T> the element type
+ */
+public class PreciseWindowViewIterator<T> extends ReadOnlyIterator<List<T>> {
+
+    private final Iterator<T> iter;
+    private final RingBuffer<T> window;
+    private boolean yielded = false;
+
+    public PreciseWindowViewIterator(Iterator<T> iter, int windowSize) {
+        dbc.precondition(iter != null, "cannot create a PreciseWindowViewIterator with a null iterator");
+        dbc.precondition(windowSize > 0, "cannot create a PreciseWindowViewIterator with a non positive window size");
+        this.iter = iter;
+        this.window = new RingBuffer<T>(windowSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!window.isFull()) {
+            tryFillWindow();
+            return window.isFull();
+        }
+        return !yielded || iter.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        if (yielded) {
+            window.add(iter.next());
+        }
+        yielded = true;
+        return window.view();
+    }
+
+    private void tryFillWindow() {
+        while (!window.isFull() && iter.hasNext()) {
+            window.add(iter.next());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * A fixed capacity, array backed circular buffer. Adding to a full buffer
+ * evicts the oldest element. Every operation is O(1).
+ *
+ * @param <T> the element type
+ */
+public class RingBuffer<T> {
+
+    private final Object[] elements;
+    private final List<T> view = new View();
+    private int head = 0;
+    private int size = 0;
+
+    public RingBuffer(int capacity) {
+        dbc.precondition(capacity > 0, "cannot create a RingBuffer with a non positive capacity");
+        this.elements = new Object[capacity];
+    }
+
+    /**
+     * Appends an element, evicting the oldest one when the buffer is full.
+     *
+     * @param element the element to be added
+     */
+    public void add(T element) {
+        if (size == elements.length) {
+            elements[head] = element;
+            head = advance(head);
+            return;
+        }
+        elements[(head + size) % elements.length] = element;
+        ++size;
+    }
+
+    /**
+     * Removes the oldest element.
+     *
+     * @return the removed element
+     * @throws NoSuchElementException if the buffer is empty
+     */
+    public T remove() {
+        if (size == 0) {
+            throw new NoSuchElementException("ring buffer is empty");
+        }
+        @SuppressWarnings("unchecked")
+        final T removed = (T) elements[head];
+        elements[head] = null;
+        head = advance(head);
+        --size;
+        return removed;
+    }
+
+    /**
+     * Yields the element at the given position, 0 being the oldest.
+     *
+     * @param index the element position
+     * @return the element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("index %s out of bounds for size %s", index, size));
+        }
+        return (T) elements[(head + index) % elements.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    public boolean isFull() {
+        return size == elements.length;
+    }
+
+    /**
+     * A read-only, zero-copy view of the buffer, oldest element first. The
+     * view reflects every subsequent change to the buffer.
+     *
+     * @return the view
+     */
+    public List<T> view() {
+        return view;
+    }
+
+    private int advance(int index) {
+        return index + 1 == elements.length ? 0 : index + 1;
+    }
+
+    private class View extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int index) {
+            return RingBuffer.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Object[] toArray() {
+            final Object[] copy = new Object[size];
+            final int tail = Math.min(size, elements.length - head);
+            System.arraycopy(elements, head, copy, 0, tail);
+            System.arraycopy(elements, 0, copy, tail, size - tail);
+            return copy;
+        }
+    }
+}
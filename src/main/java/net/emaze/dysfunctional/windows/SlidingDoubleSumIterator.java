@@ -0,0 +1,69 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Yields the sum of every sliding window of a double iterator, updating it
+ * incrementally over a double[] ring so that no element is ever boxed. Both
+ * the incoming and the outgoing terms go through a Neumaier compensated
+ * summation, so rounding errors do not build up along the sequence.
+ * [1,2,3,4,5], 3 -> 6, 9, 12
+ */
+public class SlidingDoubleSumIterator implements PrimitiveIterator.OfDouble {
+
+    private final PrimitiveIterator.OfDouble iter;
+    private final double[] window;
+    private int filled;
+    private int oldest;
+    private double total;
+    private double compensation;
+    private boolean yielded = false;
+
+    public SlidingDoubleSumIterator(PrimitiveIterator.OfDouble iter, int windowSize) {
+        dbc.precondition(iter != null, "cannot create a SlidingDoubleSumIterator with a null iterator");
+        dbc.precondition(windowSize > 0, "cannot create a SlidingDoubleSumIterator with a non positive window size");
+        this.iter = iter;
+        this.window = new double[windowSize];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (filled != window.length) {
+            while (filled != window.length && iter.hasNext()) {
+                final double element = iter.nextDouble();
+                window[filled++] = element;
+                add(element);
+            }
+            return filled == window.length;
+        }
+        return !yielded || iter.hasNext();
+    }
+
+    @Override
+    public double nextDouble() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        if (yielded) {
+            final double incoming = iter.nextDouble();
+            add(incoming);
+            add(-window[oldest]);
+            window[oldest] = incoming;
+            oldest = (oldest + 1) % window.length;
+        }
+        yielded = true;
+        return total + compensation;
+    }
+
+    private void add(double value) {
+        final double sum = total + value;
+        if (Math.abs(total) >= Math.abs(value)) {
+            compensation += (total - sum) + value;
+        } else {
+            compensation += (value - sum) + total;
+        }
+        total = sum;
+    }
+}
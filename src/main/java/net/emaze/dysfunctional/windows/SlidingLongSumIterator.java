@@ -0,0 +1,55 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import net.emaze.dysfunctional.contracts.dbc;
+
+/**
+ * Yields the sum of every sliding window of a long iterator, updating it
+ * incrementally over a long[] ring so that no element is ever boxed.
+ * [1,2,3,4,5], 3 -> 6, 9, 12
+ */
+public class SlidingLongSumIterator implements PrimitiveIterator.OfLong {
+
+    private final PrimitiveIterator.OfLong iter;
+    private final long[] window;
+    private int filled;
+    private int oldest;
+    private long total;
+    private boolean yielded = false;
+
+    public SlidingLongSumIterator(PrimitiveIterator.OfLong iter, int windowSize) {
+        dbc.precondition(iter != null, "cannot create a SlidingLongSumIterator with a null iterator");
+        dbc.precondition(windowSize > 0, "cannot create a SlidingLongSumIterator with a non positive window size");
+        this.iter = iter;
+        this.window = new long[windowSize];
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (filled != window.length) {
+            while (filled != window.length && iter.hasNext()) {
+                final long element = iter.nextLong();
+                window[filled++] = element;
+                total += element;
+            }
+            return filled == window.length;
+        }
+        return !yielded || iter.hasNext();
+    }
+
+    @Override
+    public long nextLong() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        if (yielded) {
+            final long incoming = iter.nextLong();
+            total += incoming - window[oldest];
+            window[oldest] = incoming;
+            oldest = (oldest + 1) % window.length;
+        }
+        yielded = true;
+        return total;
+    }
+}
@@ -0,0 +1,78 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * Yields the minimum of every sliding window according to the comparator
+ * (pass a reversed comparator to get the maximum). Candidates are kept in a
+ * monotonic deque, so each window costs O(1) amortized regardless of its size.
+ * [3,1,4,1,5], 3 -> 1, 1, 1
+ *
+ * @param <T> the element type
+ */
+public class SlidingMinimumIterator<T> extends ReadOnlyIterator<T> {
+
+    private final Iterator<T> iter;
+    private final int windowSize;
+    private final Comparator<T> comparator;
+    private final Object[] values;
+    private final long[] candidates;
+    private int front = 0;
+    private int candidatesCount = 0;
+    private long index = 0;
+
+    public SlidingMinimumIterator(Iterator<T> iter, int windowSize, Comparator<T> comparator) {
+        dbc.precondition(iter != null, "cannot create a SlidingMinimumIterator with a null iterator");
+        dbc.precondition(windowSize > 0, "cannot create a SlidingMinimumIterator with a non positive window size");
+        dbc.precondition(comparator != null, "cannot create a SlidingMinimumIterator with a null comparator");
+        this.iter = iter;
+        this.windowSize = windowSize;
+        this.comparator = comparator;
+        this.values = new Object[windowSize];
+        this.candidates = new long[windowSize];
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index < windowSize - 1 && iter.hasNext()) {
+            push(iter.next());
+        }
+        return index >= windowSize - 1 && iter.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        push(iter.next());
+        return valueAt(candidates[front]);
+    }
+
+    private void push(T element) {
+        if (candidatesCount != 0 && candidates[front] <= index - windowSize) {
+            front = (front + 1) % windowSize;
+            --candidatesCount;
+        }
+        while (candidatesCount != 0 && comparator.compare(valueAt(candidates[back()]), element) >= 0) {
+            --candidatesCount;
+        }
+        values[(int) (index % windowSize)] = element;
+        candidates[(front + candidatesCount) % windowSize] = index;
+        ++candidatesCount;
+        ++index;
+    }
+
+    private int back() {
+        return (front + candidatesCount - 1) % windowSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T valueAt(long position) {
+        return (T) values[(int) (position % windowSize)];
+    }
+}
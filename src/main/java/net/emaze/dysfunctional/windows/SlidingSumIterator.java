@@ -0,0 +1,68 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+import net.emaze.dysfunctional.numbers.policies.SubtractPolicy;
+import net.emaze.dysfunctional.numbers.policies.SumPolicy;
+
+/**
+ * Yields the sum of every sliding window, updating it incrementally: the
+ * incoming element is summed and the outgoing one subtracted, so each window
+ * costs O(1) regardless of its size. [1,2,3,4,5], 3 -> 6, 9, 12
+ *
+ * @param <T> the element type
+ */
+public class SlidingSumIterator<T> extends ReadOnlyIterator<T> {
+
+    private final Iterator<T> iter;
+    private final SumPolicy<T, T, T> sum;
+    private final SubtractPolicy<T, T, T> subtract;
+    private final RingBuffer<T> window;
+    private T total;
+    private boolean yielded = false;
+
+    public SlidingSumIterator(Iterator<T> iter, int windowSize, SumPolicy<T, T, T> sum, SubtractPolicy<T, T, T> subtract) {
+        dbc.precondition(iter != null, "cannot create a SlidingSumIterator with a null iterator");
+        dbc.precondition(windowSize > 0, "cannot create a SlidingSumIterator with a non positive window size");
+        dbc.precondition(sum != null, "cannot create a SlidingSumIterator with a null sum policy");
+        dbc.precondition(subtract != null, "cannot create a SlidingSumIterator with a null subtract policy");
+        this.iter = iter;
+        this.sum = sum;
+        this.subtract = subtract;
+        this.window = new RingBuffer<T>(windowSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!window.isFull()) {
+            tryFillWindow();
+            return window.isFull();
+        }
+        return !yielded || iter.hasNext();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        if (yielded) {
+            final T incoming = iter.next();
+            final T outgoing = window.remove();
+            window.add(incoming);
+            total = subtract.subtract(sum.sum(total, incoming), outgoing);
+        }
+        yielded = true;
+        return total;
+    }
+
+    private void tryFillWindow() {
+        while (!window.isFull() && iter.hasNext()) {
+            final T element = iter.next();
+            total = window.size() == 0 ? element : sum.sum(total, element);
+            window.add(element);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import net.emaze.dysfunctional.contracts.dbc;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+
+/**
+ * [1,2,3,4], 3 -> (Nothing, Nothing, Just 1), (Nothing, Just 1, Just 2), (Just
+ * 1, Just 2, Just 3), (Just 2, Just 3, Just 4). Every trail is a read-only view
+ * of the same ring buffer: it is valid until the next call to next().
+ *
+ * @param <T> the element type
+ */
+public class TrailsViewIterator<T> extends ReadOnlyIterator<List<Optional<T>>> {
+
+    private final Iterator<T> iter;
+    private final RingBuffer<Optional<T>> trails;
+
+    public TrailsViewIterator(Iterator<T> iter, int trailSize) {
+        dbc.precondition(iter != null, "cannot create a TrailsViewIterator with a null iterator");
+        dbc.precondition(trailSize > 0, "cannot create a TrailsViewIterator with a non positive window size");
+        this.iter = iter;
+        this.trails = new RingBuffer<Optional<T>>(trailSize);
+        for (int i = 0; i != trailSize; ++i) {
+            trails.add(Optional.<T>empty());
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iter.hasNext();
+    }
+
+    @Override
+    public List<Optional<T>> next() {
+        if (!iter.hasNext()) {
+            throw new NoSuchElementException("iterator is consumed");
+        }
+        trails.add(Optional.of(iter.next()));
+        return trails.view();
+    }
+}
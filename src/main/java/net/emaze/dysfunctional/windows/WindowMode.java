@@ -0,0 +1,17 @@
+package net.emaze.dysfunctional.windows;
+
+/**
+ * Controls what window iterators yield.
+ */
+public enum WindowMode {
+
+    /**
+     * Every window is copied into a fresh collection.
+     */
+    Copy,
+    /**
+     * Every window is a read-only view of the iterator internal buffer, valid
+     * until the next call to next().
+     */
+    View;
+}
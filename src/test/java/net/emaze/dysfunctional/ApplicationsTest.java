@@ -2,14 +2,21 @@ package net.emaze.dysfunctional;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import net.emaze.dysfunctional.dispatching.actions.Noop;
+import net.emaze.dysfunctional.iterations.IntCounterIterator;
+import net.emaze.dysfunctional.iterations.ParallelMode;
 import net.emaze.dysfunctional.options.Box;
 import net.emaze.dysfunctional.testing.O;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,6 +32,7 @@ import org.junit.runners.Suite;
     ApplicationsTest.Map.class,
     ApplicationsTest.Tap.class,
     ApplicationsTest.Each.class,
+    ApplicationsTest.Parallel.class,
     ApplicationsTest.Facade.class
 })
 public class ApplicationsTest {
@@ -52,6 +60,24 @@ public class ApplicationsTest {
             Assert.assertEquals(Arrays.asList(source), Consumers.all(got));
         }
 
+        @Test
+        public void canTransformInts() {
+            final PrimitiveIterator.OfInt got = Applications.transformInts(Arrays.stream(new int[]{1, 2}).iterator(), i -> i * 2);
+            Assert.assertEquals(2, got.nextInt());
+        }
+
+        @Test
+        public void canTransformLongs() {
+            final PrimitiveIterator.OfLong got = Applications.transformLongs(Arrays.stream(new long[]{1, 2}).iterator(), l -> l * 2);
+            Assert.assertEquals(2l, got.nextLong());
+        }
+
+        @Test
+        public void canTransformDoubles() {
+            final PrimitiveIterator.OfDouble got = Applications.transformDoubles(Arrays.stream(new double[]{1, 2}).iterator(), d -> d * 2);
+            Assert.assertEquals(2, got.nextDouble(), 0);
+        }
+
         @Test(expected = IllegalArgumentException.class)
         public void cannotCallTransformWithNullIterable() {
             final Iterable<Object> iterable = null;
@@ -193,6 +219,71 @@ public class ApplicationsTest {
         }
     }
 
+    public static class Parallel {
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        @After
+        public void shutdown() {
+            executor.shutdownNow();
+        }
+
+        @Test
+        public void canParallelTransformAnIterator() {
+            final Iterator<Integer> transformed = Applications.parallelTransform(Arrays.asList(1, 2, 3).iterator(), i -> i * 2, executor, 2);
+            Assert.assertEquals(Arrays.asList(2, 4, 6), Consumers.all(transformed));
+        }
+
+        @Test
+        public void canParallelTransformAnIterable() {
+            final Iterator<Integer> transformed = Applications.parallelTransform(Arrays.asList(1, 2, 3), i -> i * 2, executor, 2);
+            Assert.assertEquals(Arrays.asList(2, 4, 6), Consumers.all(transformed));
+        }
+
+        @Test
+        public void canParallelTransformUnordered() {
+            final Iterator<Integer> transformed = Applications.parallelTransform(Arrays.asList(1, 2, 3), i -> i * 2, executor, 2, 4, ParallelMode.Unordered);
+            final List<Integer> got = Consumers.all(transformed);
+            Collections.sort(got);
+            Assert.assertEquals(Arrays.asList(2, 4, 6), got);
+        }
+
+        @Test
+        public void canParallelTransformAnInfiniteIterator() {
+            final Iterator<Integer> transformed = Applications.parallelTransform(new IntCounterIterator(), i -> i * 2, executor, 2);
+            Assert.assertEquals(Arrays.asList(0, 2, 4), Consumers.all(Filtering.take(3, transformed)));
+        }
+
+        @Test
+        public void canParallelMap() {
+            Assert.assertEquals(Arrays.asList(2, 4, 6), Applications.parallelMap(Arrays.asList(1, 2, 3), i -> i * 2, executor, 2));
+        }
+
+        @Test
+        public void parallelEachPerformsActionForEachElement() {
+            final AtomicLong calls = new AtomicLong();
+            Applications.parallelEach(Arrays.asList(new Object(), new Object()), Spies.monitor(new Noop<Object>(), calls), executor, 2);
+            Assert.assertEquals(2l, calls.get());
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotCallParallelTransformWithNullIterable() {
+            final Iterable<Object> iterable = null;
+            Applications.parallelTransform(iterable, o -> o, executor, 1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotCallParallelEachWithNullConsumer() {
+            Applications.parallelEach(Iterations.iterable(), null, executor, 1);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotCallParallelMapWithNullIterable() {
+            final Iterable<Object> iterable = null;
+            Applications.parallelMap(iterable, o -> o, executor, 1);
+        }
+    }
+
     public static class Facade {
 
         @Test
@@ -1,9 +1,11 @@
 package net.emaze.dysfunctional;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.PrimitiveIterator;
 import net.emaze.dysfunctional.dispatching.logic.Always;
 import net.emaze.dysfunctional.dispatching.logic.Never;
 import org.junit.Assert;
@@ -38,6 +40,24 @@ public class FilteringTest {
         Assert.assertEquals(0, Consumers.all(got).size());
     }
 
+    @Test
+    public void canFilterInts() {
+        final PrimitiveIterator.OfInt got = Filtering.filterInts(Arrays.stream(new int[]{1, 2, 3, 4}).iterator(), i -> i > 2);
+        Assert.assertEquals(3, got.nextInt());
+    }
+
+    @Test
+    public void canFilterLongs() {
+        final PrimitiveIterator.OfLong got = Filtering.filterLongs(Arrays.stream(new long[]{1, 2, 3, 4}).iterator(), l -> l > 2);
+        Assert.assertEquals(3l, got.nextLong());
+    }
+
+    @Test
+    public void canFilterDoubles() {
+        final PrimitiveIterator.OfDouble got = Filtering.filterDoubles(Arrays.stream(new double[]{1, 2, 3, 4}).iterator(), d -> d > 2);
+        Assert.assertEquals(3, got.nextDouble(), 0);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void cannotCallFilterWithANullIterable() {
         final Iterable<Object> iterable = null;
@@ -202,6 +222,27 @@ public class FilteringTest {
         Filtering.slice(1, 2, iterable);
     }
 
+    @Test
+    public void canSliceARandomAccessList() {
+        final List<Integer> source = Arrays.asList(0, 1, 2, 3);
+        Assert.assertEquals(Arrays.asList(1, 2), Consumers.all(Filtering.slice(1, 2, source)));
+    }
+
+    @Test
+    public void slicingARandomAccessListBeyondItsSizeYieldsTheTail() {
+        final List<Integer> source = Arrays.asList(0, 1, 2, 3);
+        Assert.assertEquals(Arrays.asList(3), Consumers.all(Filtering.slice(3, Long.MAX_VALUE, source)));
+        Assert.assertEquals(Collections.emptyList(), Consumers.all(Filtering.slice(Long.MAX_VALUE, 2, source)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void slicingARandomAccessListYieldsAReadOnlyIterator() {
+        final List<Integer> source = new ArrayList<Integer>(Arrays.asList(0, 1, 2, 3));
+        final Iterator<Integer> sliced = Filtering.slice(1, 2, source);
+        sliced.next();
+        sliced.remove();
+    }
+
     @Test
     public void canSliceAnArray() {
         final Integer[] source = {0, 1};
@@ -8,6 +8,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import net.emaze.dysfunctional.GroupsTest.FacadeTest;
@@ -19,6 +20,9 @@ import net.emaze.dysfunctional.collections.HashMapFactory;
 import net.emaze.dysfunctional.collections.HashSetFactory;
 import net.emaze.dysfunctional.collections.LinkedHashMapFactory;
 import net.emaze.dysfunctional.dispatching.logic.Always;
+import net.emaze.dysfunctional.groups.IntegerSpillSerializer;
+import net.emaze.dysfunctional.groups.SpilledGroupsIterator;
+import net.emaze.dysfunctional.order.ComparableComparator;
 import net.emaze.dysfunctional.testing.O;
 import net.emaze.dysfunctional.tuples.Pair;
 import org.junit.Assert;
@@ -35,6 +39,8 @@ import org.junit.runners.Suite;
     GroupByTest.class,
     PartitionByTest.class,
     IndexByTest.class,
+    GroupsTest.ParallelTest.class,
+    GroupsTest.SpillingTest.class,
     FacadeTest.class})
 public class GroupsTest {
 
@@ -311,6 +317,115 @@ public class GroupsTest {
         }
     }
 
+    public static class ParallelTest {
+
+        @Test
+        public void canGroupInParallelOnTheCommonPool() {
+            final Map<O, List<O>> grouped = Groups.parallelGroupBy(Iterations.iterator(O.ONE, O.ANOTHER, O.ONE), Function.identity());
+            Assert.assertEquals(Arrays.asList(O.ONE, O.ONE), grouped.get(O.ONE));
+        }
+
+        @Test
+        public void canGroupAnIterableInParallel() {
+            final Map<O, List<O>> grouped = Groups.parallelGroupBy(Iterations.iterable(O.ONE, O.ANOTHER), Function.identity(), ForkJoinPool.commonPool());
+            Assert.assertEquals(Arrays.asList(O.ANOTHER), grouped.get(O.ANOTHER));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotGroupANullIterableInParallel() {
+            final Iterable<O> values = null;
+            Groups.parallelGroupBy(values, Function.identity(), ForkJoinPool.commonPool());
+        }
+
+        @Test
+        public void canGroupConcurrently() {
+            final Map<O, List<O>> grouped = Groups.concurrentGroupBy(Iterations.iterator(O.ONE, O.ANOTHER), Function.identity(), ForkJoinPool.commonPool());
+            Assert.assertEquals(Arrays.asList(O.ONE), grouped.get(O.ONE));
+        }
+
+        @Test
+        public void canPartitionInParallel() {
+            final Pair<List<O>, List<O>> partitioned = Groups.parallelPartition(Iterations.iterator(O.ONE, O.ANOTHER), O.ONE::equals, ForkJoinPool.commonPool());
+            Assert.assertEquals(Pair.of(Arrays.asList(O.ONE), Arrays.asList(O.ANOTHER)), partitioned);
+        }
+
+        @Test
+        public void canIndexInParallel() {
+            final Map<O, O> indexed = Groups.parallelIndexBy(Iterations.iterator(O.ONE, O.ANOTHER), Function.identity(), ForkJoinPool.commonPool());
+            Assert.assertEquals(O.ANOTHER, indexed.get(O.ANOTHER));
+        }
+
+        @Test
+        public void canGroupAnArrayInParallel() {
+            final Map<O, List<O>> grouped = Groups.parallelGroupBy(new O[]{O.ONE, O.ANOTHER, O.ONE}, Function.identity());
+            Assert.assertEquals(Arrays.asList(O.ONE, O.ONE), grouped.get(O.ONE));
+        }
+
+        @Test
+        public void canGroupAnIterableConcurrentlyOnTheCommonPool() {
+            final Map<O, List<O>> grouped = Groups.concurrentGroupBy(Iterations.iterable(O.ONE, O.ANOTHER), Function.identity());
+            Assert.assertEquals(Arrays.asList(O.ANOTHER), grouped.get(O.ANOTHER));
+        }
+
+        @Test
+        public void canGroupAnArrayConcurrently() {
+            final Map<O, List<O>> grouped = Groups.concurrentGroupBy(new O[]{O.ONE, O.ANOTHER}, Function.identity(), ForkJoinPool.commonPool());
+            Assert.assertEquals(Arrays.asList(O.ONE), grouped.get(O.ONE));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotGroupANullIterableConcurrently() {
+            final Iterable<O> values = null;
+            Groups.concurrentGroupBy(values, Function.identity());
+        }
+
+        @Test
+        public void canPartitionAnIterableInParallelOnTheCommonPool() {
+            final Pair<List<O>, List<O>> partitioned = Groups.parallelPartition(Iterations.iterable(O.ONE, O.ANOTHER), O.ONE::equals);
+            Assert.assertEquals(Pair.of(Arrays.asList(O.ONE), Arrays.asList(O.ANOTHER)), partitioned);
+        }
+
+        @Test
+        public void canPartitionAnArrayInParallel() {
+            final Pair<List<O>, List<O>> partitioned = Groups.parallelPartition(new O[]{O.ONE, O.ANOTHER}, O.ONE::equals, ForkJoinPool.commonPool());
+            Assert.assertEquals(Pair.of(Arrays.asList(O.ONE), Arrays.asList(O.ANOTHER)), partitioned);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotPartitionANullIterableInParallel() {
+            final Iterable<O> values = null;
+            Groups.parallelPartition(values, O.ONE::equals);
+        }
+
+        @Test
+        public void canIndexAnIterableInParallelOnTheCommonPool() {
+            final Map<O, O> indexed = Groups.parallelIndexBy(Iterations.iterable(O.ONE, O.ANOTHER), Function.identity());
+            Assert.assertEquals(O.ONE, indexed.get(O.ONE));
+        }
+
+        @Test
+        public void canIndexAnArrayInParallel() {
+            final Map<O, O> indexed = Groups.parallelIndexBy(new O[]{O.ONE, O.ANOTHER}, Function.identity(), ForkJoinPool.commonPool());
+            Assert.assertEquals(O.ANOTHER, indexed.get(O.ANOTHER));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotIndexANullIterableInParallel() {
+            final Iterable<O> values = null;
+            Groups.parallelIndexBy(values, Function.identity());
+        }
+    }
+
+    public static class SpillingTest {
+
+        @Test
+        public void canGroupSpillingToDisk() {
+            final SpilledGroupsIterator<Integer, Integer> grouped = Groups.spillingGroupBy(Iterations.iterator(3, 1, 3), Function.identity(), new ComparableComparator<Integer>(), new IntegerSpillSerializer(), new IntegerSpillSerializer(), 1);
+            Assert.assertEquals(Integer.valueOf(1), grouped.next().first());
+            Assert.assertEquals(Arrays.asList(3, 3), Consumers.all(grouped.next().second()));
+        }
+    }
+
     public static class FacadeTest {
 
         @Test
@@ -2,11 +2,13 @@ package net.emaze.dysfunctional;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import net.emaze.dysfunctional.collections.ArrayListFactory;
 import java.util.function.Supplier;
 import java.util.Optional;
+import net.emaze.dysfunctional.order.ComparableComparator;
 import net.emaze.dysfunctional.testing.O;
 import org.junit.Assert;
 import org.junit.Test;
@@ -27,6 +29,7 @@ import org.junit.runners.Suite;
         MultiplexingTest.Roundrobin.class,
         MultiplexingTest.Cycle.class,
         MultiplexingTest.Unchain.class,
+        MultiplexingTest.Merge.class,
         MultiplexingTest.Facade.class
 })
 public class MultiplexingTest {
@@ -416,6 +419,44 @@ public class MultiplexingTest {
         }
     }
 
+    public static class Merge {
+
+        private static final Comparator<Integer> COMPARATOR = new ComparableComparator<Integer>();
+
+        @Test
+        public void canMergeFromIterator() {
+            final Iterator<Iterator<Integer>> iterators = Iterations.iterator(Iterations.iterator(1, 3), Iterations.iterator(2, 3));
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 3), Consumers.all(Multiplexing.merge(COMPARATOR, iterators)));
+        }
+
+        @Test
+        public void canMergeFromIterable() {
+            final List<Iterator<Integer>> iterators = Arrays.asList(Iterations.iterator(1, 3), Iterations.iterator(2, 3));
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 3), Consumers.all(Multiplexing.merge(COMPARATOR, iterators)));
+        }
+
+        @Test
+        public void canMergeFromArray() {
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 3), Consumers.all(Multiplexing.merge(COMPARATOR, Iterations.iterator(1, 3), Iterations.iterator(2, 3))));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotMergeNullIterable() {
+            final Iterable<Iterator<Integer>> iterable = null;
+            Multiplexing.merge(COMPARATOR, iterable);
+        }
+
+        @Test
+        public void canMergeDistinct() {
+            Assert.assertEquals(Arrays.asList(1, 2, 3), Consumers.all(Multiplexing.mergeDistinct(COMPARATOR, Iterations.iterator(1, 3), Iterations.iterator(1, 2, 3))));
+        }
+
+        @Test
+        public void canMergeThroughATournament() {
+            Assert.assertEquals(Arrays.asList(1, 1, 2, 3, 3), Consumers.all(Multiplexing.mergeTournament(COMPARATOR, Iterations.iterator(1, 3), Iterations.iterator(1, 2, 3))));
+        }
+    }
+
     public static class Facade {
 
         @Test
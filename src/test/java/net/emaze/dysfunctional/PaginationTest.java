@@ -137,6 +137,14 @@ public class PaginationTest {
             Assert.assertEquals(Integer.valueOf(1), page.first());
         }
 
+        @Test
+        public void pagingARandomAccessCollectionLeavesTheSourceUntouched() {
+            final List<Integer> source = new ArrayList<Integer>(Arrays.asList(1, 2, 3));
+            final Pair<Integer, List<Integer>> page = Pagination.page(1, 1, source);
+            page.second().clear();
+            Assert.assertEquals(Arrays.asList(1, 2, 3), source);
+        }
+
         @Test
         public void canPageLongCollectionToCollection() {
             Pair<Long, ArrayList<Integer>> page = Pagination.LongPages.page(0l, 1l, Arrays.asList(1), new ArrayList<Integer>());
@@ -1,6 +1,10 @@
 package net.emaze.dysfunctional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import junit.framework.Assert;
 import java.util.function.Consumer;
 import java.util.function.BiConsumer;
@@ -8,6 +12,8 @@ import net.emaze.dysfunctional.dispatching.actions.BinaryNoop;
 import net.emaze.dysfunctional.dispatching.actions.Noop;
 import net.emaze.dysfunctional.dispatching.actions.TriConsumer;
 import net.emaze.dysfunctional.dispatching.actions.TernaryNoop;
+import net.emaze.dysfunctional.dispatching.composing.AsyncPipelinedConsumer;
+import net.emaze.dysfunctional.PipelinesTest.AsyncTest;
 import net.emaze.dysfunctional.PipelinesTest.BinaryTest;
 import net.emaze.dysfunctional.PipelinesTest.FacadeTest;
 import net.emaze.dysfunctional.PipelinesTest.PipesTest;
@@ -27,6 +33,7 @@ import org.junit.runners.Suite;
     UnaryTest.class,
     BinaryTest.class,
     TernaryTest.class,
+    AsyncTest.class,
     PipesTest.class,
     FacadeTest.class
 })
@@ -83,6 +90,27 @@ public class PipelinesTest {
         }
     }
 
+    public static class AsyncTest {
+
+        @Test
+        public void canCreateAsyncPipelineFromAnIterable() {
+            final List<O> got = Collections.synchronizedList(new ArrayList<O>());
+            try (AsyncPipelinedConsumer<O> pipeline = Pipelines.Async.pipeline(Iterations.<Consumer<O>>iterable(got::add), 1)) {
+                pipeline.accept(O.ONE);
+            }
+            Assert.assertEquals(Arrays.asList(O.ONE), got);
+        }
+
+        @Test
+        public void canCreateAsyncPipelineWithAThreadFactory() {
+            final List<O> got = Collections.synchronizedList(new ArrayList<O>());
+            try (AsyncPipelinedConsumer<O> pipeline = Pipelines.Async.pipeline(Iterations.<Consumer<O>>iterable(got::add), 1, 1, AsyncPipelinedConsumer.DAEMON_THREAD_FACTORY)) {
+                pipeline.accept(O.ONE);
+            }
+            Assert.assertEquals(Arrays.asList(O.ONE), got);
+        }
+    }
+
     public static class PipesTest {
 
         @Test
@@ -180,6 +208,10 @@ public class PipelinesTest {
             new Pipelines.Unary() {};
         }
         @Test
+        public void asyncIsNotFinal(){
+            new Pipelines.Async() {};
+        }
+        @Test
         public void binaryIsNotFinal(){
             new Pipelines.Binary() {};
         }
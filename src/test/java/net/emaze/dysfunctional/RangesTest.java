@@ -4,6 +4,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import net.emaze.dysfunctional.RangesTest.RangeDifferenceTest;
 import net.emaze.dysfunctional.RangesTest.RangeFactoryTest;
+import net.emaze.dysfunctional.RangesTest.RangeIndexTest;
 import net.emaze.dysfunctional.RangesTest.RangeIntersectTest;
 import net.emaze.dysfunctional.RangesTest.RangeSymmetricDifferenceTest;
 import net.emaze.dysfunctional.RangesTest.RangeUnionTest;
@@ -13,6 +14,7 @@ import net.emaze.dysfunctional.order.ComparableComparator;
 import net.emaze.dysfunctional.order.NextIntegerSequencingPolicy;
 import net.emaze.dysfunctional.ranges.Range;
 import net.emaze.dysfunctional.ranges.Range.Endpoint;
+import net.emaze.dysfunctional.ranges.RangeIndex;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -29,7 +31,8 @@ import org.junit.runners.Suite;
     RangeUnionTest.class,
     RangeIntersectTest.class,
     RangeSymmetricDifferenceTest.class,
-    RangeDifferenceTest.class
+    RangeDifferenceTest.class,
+    RangeIndexTest.class
 })
 public class RangesTest {
 
@@ -452,4 +455,32 @@ public class RangesTest {
             ranges.difference(array);
         }
     }
-}
\ No newline at end of file
+
+    public static class RangeIndexTest {
+
+        @Test
+        public void canIndexAnIterableOfRanges() {
+            final Ranges<Integer> ranges = new Ranges<Integer>(new ComparableComparator<Integer>(), new NextIntegerSequencingPolicy(), 0);
+            final Range<Integer> lhs = ranges.closed(0, 5);
+            final Range<Integer> rhs = ranges.closed(3, 8);
+            final RangeIndex<Integer> index = ranges.index(Iterations.iterable(lhs, rhs));
+            Assert.assertEquals(Arrays.asList(lhs, rhs), index.containing(4));
+        }
+
+        @Test
+        public void canIndexAnArrayOfRanges() {
+            final Ranges<Integer> ranges = new Ranges<Integer>(new ComparableComparator<Integer>(), new NextIntegerSequencingPolicy(), 0);
+            final Range<Integer> lhs = ranges.closed(0, 5);
+            final Range<Integer> rhs = ranges.closed(3, 8);
+            final RangeIndex<Integer> index = ranges.index(lhs, rhs);
+            Assert.assertEquals(Arrays.asList(rhs), index.overlapping(ranges.closed(7, 9)));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void indexingNullIterableYieldsException() {
+            final Ranges<Integer> ranges = new Ranges<Integer>(new ComparableComparator<Integer>(), new NextIntegerSequencingPolicy(), 0);
+            final Iterable<Range<Integer>> iterable = null;
+            ranges.index(iterable);
+        }
+    }
+}
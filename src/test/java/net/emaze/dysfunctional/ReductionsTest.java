@@ -2,7 +2,11 @@ package net.emaze.dysfunctional;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
 import net.emaze.dysfunctional.dispatching.logic.IsTrue;
+import net.emaze.dysfunctional.numbers.statistics.DoubleStatistics;
+import net.emaze.dysfunctional.numbers.statistics.LongStatistics;
 import net.emaze.dysfunctional.order.ComparableComparator;
 import net.emaze.dysfunctional.reductions.Count;
 import org.junit.Assert;
@@ -19,6 +23,8 @@ import org.junit.runners.Suite;
     ReductionsTest.Reduce.class,
     ReductionsTest.CountLong.class,
     ReductionsTest.CountInteger.class,
+    ReductionsTest.Sum.class,
+    ReductionsTest.Statistics.class,
     ReductionsTest.Maximum.class,
     ReductionsTest.Minimum.class,
     ReductionsTest.Any.class,
@@ -92,6 +98,75 @@ public class ReductionsTest {
         }
     }
 
+    public static class Sum {
+
+        @Test
+        public void canSumInts() {
+            Assert.assertEquals(6l, Reductions.sum(Arrays.stream(new int[]{1, 2, 3}).iterator()));
+        }
+
+        @Test
+        public void summingIntsDoesNotOverflow() {
+            Assert.assertEquals(2l * Integer.MAX_VALUE, Reductions.sum(Arrays.stream(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}).iterator()));
+        }
+
+        @Test
+        public void canSumLongs() {
+            Assert.assertEquals(6l, Reductions.sum(Arrays.stream(new long[]{1, 2, 3}).iterator()));
+        }
+
+        @Test
+        public void canSumDoubles() {
+            Assert.assertEquals(6.5, Reductions.sum(Arrays.stream(new double[]{1, 2, 3.5}).iterator()), 0);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotCallSumWithNullIterator() {
+            final PrimitiveIterator.OfInt iterator = null;
+            Reductions.sum(iterator);
+        }
+    }
+
+    public static class Statistics {
+
+        @Test
+        public void canAccumulateStatisticsOfInts() {
+            final LongStatistics got = Reductions.statistics(Arrays.stream(new int[]{1, 2, 3}).iterator());
+            Assert.assertEquals(6l, got.sum());
+            Assert.assertEquals(3l, got.maximum());
+        }
+
+        @Test
+        public void canAccumulateStatisticsOfLongs() {
+            final LongStatistics got = Reductions.statistics(Arrays.stream(new long[]{1, 2, 3}).iterator());
+            Assert.assertEquals(2, got.mean(), 0);
+        }
+
+        @Test
+        public void canAccumulateStatisticsOfDoubles() {
+            final DoubleStatistics got = Reductions.statistics(Arrays.stream(new double[]{1, 2, 3}).iterator());
+            Assert.assertEquals(1, got.minimum(), 0);
+        }
+
+        @Test
+        public void canCollectLongStatisticsInParallel() {
+            final LongStatistics got = LongStream.rangeClosed(1, 10000).boxed().parallel().collect(Reductions.longStatistics(Long::longValue));
+            Assert.assertEquals(10000l, got.count());
+            Assert.assertEquals(50005000l, got.sum());
+        }
+
+        @Test
+        public void canCollectDoubleStatisticsInParallel() {
+            final DoubleStatistics got = LongStream.rangeClosed(1, 10000).boxed().parallel().collect(Reductions.doubleStatistics(Long::doubleValue));
+            Assert.assertEquals(5000.5, got.mean(), 1e-9);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotCreateCollectorWithNullExtractor() {
+            Reductions.longStatistics(null);
+        }
+    }
+
     public static class Maximum {
 
         @Test
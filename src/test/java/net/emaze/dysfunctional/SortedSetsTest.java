@@ -0,0 +1,183 @@
+package net.emaze.dysfunctional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+import net.emaze.dysfunctional.order.ComparableComparator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+
+@RunWith(Suite.class)
+@Suite.SuiteClasses({
+    SortedSetsTest.Union.class,
+    SortedSetsTest.Intersect.class,
+    SortedSetsTest.Difference.class,
+    SortedSetsTest.SymmetricDifference.class,
+    SortedSetsTest.Laziness.class,
+    SortedSetsTest.Facade.class
+})
+public class SortedSetsTest {
+
+    private static final Comparator<Integer> COMPARATOR = new ComparableComparator<Integer>();
+    private static final List<Integer> FORMER = Arrays.asList(1, 2, 4);
+    private static final List<Integer> LATTER = Arrays.asList(2, 3);
+
+    public static class Union {
+
+        @Test
+        public void canUnionIterators() {
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 4), Consumers.all(SortedSets.union(COMPARATOR, FORMER.iterator(), LATTER.iterator())));
+        }
+
+        @Test
+        public void canUnionIterables() {
+            Assert.assertEquals(Arrays.asList(1, 2, 3, 4), Consumers.all(SortedSets.union(COMPARATOR, FORMER, LATTER)));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotUnionNullFormerIterable() {
+            final Iterable<Integer> former = null;
+            SortedSets.union(COMPARATOR, former, LATTER);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotUnionNullLatterIterable() {
+            final Iterable<Integer> latter = null;
+            SortedSets.union(COMPARATOR, FORMER, latter);
+        }
+    }
+
+    public static class Intersect {
+
+        @Test
+        public void canIntersectIterators() {
+            Assert.assertEquals(Arrays.asList(2), Consumers.all(SortedSets.intersect(COMPARATOR, FORMER.iterator(), LATTER.iterator())));
+        }
+
+        @Test
+        public void canIntersectIterables() {
+            Assert.assertEquals(Arrays.asList(2), Consumers.all(SortedSets.intersect(COMPARATOR, FORMER, LATTER)));
+        }
+
+        @Test
+        public void canGallopingIntersect() {
+            Assert.assertEquals(Arrays.asList(2), Consumers.all(SortedSets.gallopingIntersect(COMPARATOR, LATTER.iterator(), FORMER)));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotIntersectNullFormerIterable() {
+            final Iterable<Integer> former = null;
+            SortedSets.intersect(COMPARATOR, former, LATTER);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotIntersectNullLatterIterable() {
+            final Iterable<Integer> latter = null;
+            SortedSets.intersect(COMPARATOR, FORMER, latter);
+        }
+    }
+
+    public static class Difference {
+
+        @Test
+        public void canDifferenceIterators() {
+            Assert.assertEquals(Arrays.asList(1, 4), Consumers.all(SortedSets.difference(COMPARATOR, FORMER.iterator(), LATTER.iterator())));
+        }
+
+        @Test
+        public void canDifferenceIterables() {
+            Assert.assertEquals(Arrays.asList(1, 4), Consumers.all(SortedSets.difference(COMPARATOR, FORMER, LATTER)));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotDifferenceNullFormerIterable() {
+            final Iterable<Integer> former = null;
+            SortedSets.difference(COMPARATOR, former, LATTER);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotDifferenceNullLatterIterable() {
+            final Iterable<Integer> latter = null;
+            SortedSets.difference(COMPARATOR, FORMER, latter);
+        }
+    }
+
+    public static class SymmetricDifference {
+
+        @Test
+        public void canSymmetricDifferenceIterators() {
+            Assert.assertEquals(Arrays.asList(1, 3, 4), Consumers.all(SortedSets.symmetricDifference(COMPARATOR, FORMER.iterator(), LATTER.iterator())));
+        }
+
+        @Test
+        public void canSymmetricDifferenceIterables() {
+            Assert.assertEquals(Arrays.asList(1, 3, 4), Consumers.all(SortedSets.symmetricDifference(COMPARATOR, FORMER, LATTER)));
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotSymmetricDifferenceNullFormerIterable() {
+            final Iterable<Integer> former = null;
+            SortedSets.symmetricDifference(COMPARATOR, former, LATTER);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotSymmetricDifferenceNullLatterIterable() {
+            final Iterable<Integer> latter = null;
+            SortedSets.symmetricDifference(COMPARATOR, FORMER, latter);
+        }
+    }
+
+    public static class Laziness {
+
+        @Test
+        public void unionDoesNotTouchSourcesUntilConsumed() {
+            SortedSets.union(COMPARATOR, new Untouchable(), new Untouchable());
+        }
+
+        @Test
+        public void intersectDoesNotTouchSourcesUntilConsumed() {
+            SortedSets.intersect(COMPARATOR, new Untouchable(), new Untouchable());
+        }
+
+        @Test
+        public void gallopingIntersectDoesNotTouchSourcesUntilConsumed() {
+            SortedSets.gallopingIntersect(COMPARATOR, new Untouchable(), LATTER);
+        }
+
+        @Test
+        public void differenceDoesNotTouchSourcesUntilConsumed() {
+            SortedSets.difference(COMPARATOR, new Untouchable(), new Untouchable());
+        }
+
+        @Test
+        public void symmetricDifferenceDoesNotTouchSourcesUntilConsumed() {
+            SortedSets.symmetricDifference(COMPARATOR, new Untouchable(), new Untouchable());
+        }
+
+        private static class Untouchable extends ReadOnlyIterator<Integer> {
+
+            @Override
+            public boolean hasNext() {
+                throw new AssertionError("source touched");
+            }
+
+            @Override
+            public Integer next() {
+                throw new AssertionError("source touched");
+            }
+        }
+    }
+
+    public static class Facade {
+
+        @Test
+        public void facadeIsNotFinal() {
+            new SortedSets() {
+            };
+        }
+    }
+}
@@ -23,6 +23,7 @@ import net.emaze.dysfunctional.dispatching.logic.BinaryAlways;
 import net.emaze.dysfunctional.dispatching.logic.TernaryAlways;
 import net.emaze.dysfunctional.dispatching.logic.TriPredicate;
 import net.emaze.dysfunctional.dispatching.logic.Yes;
+import net.emaze.dysfunctional.dispatching.spying.Meter;
 import net.emaze.dysfunctional.options.Box;
 import net.emaze.dysfunctional.testing.O;
 import org.junit.Assert;
@@ -37,7 +38,8 @@ import org.junit.runners.Suite;
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
     SpiesTest.Spy.class,
-    SpiesTest.Monitor.class
+    SpiesTest.Monitor.class,
+    SpiesTest.Metering.class
 })
 public class SpiesTest {
 
@@ -386,4 +388,88 @@ public class SpiesTest {
             Assert.assertNotNull(monitor);
         }
     }
+
+    public static class Metering {
+
+        private final Meter meter = new Meter();
+
+        @Test
+        public void canMeterARunnable() {
+            final Runnable monitor = Spies.monitor(new Slacker(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterAProvider() {
+            final Supplier<O> monitor = Spies.monitor(new ConstantSupplier<O>(O.ONE), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterAProposition() {
+            final BooleanSupplier monitor = Spies.monitor(new Yes(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterAnAction() {
+            final Consumer<O> monitor = Spies.monitor(new Noop<O>(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterADelegate() {
+            final Function<O, O> monitor = Spies.monitor(Function.identity(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterAPredicate() {
+            final Predicate<O> monitor = Spies.monitor(new Always<O>(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterABinaryAction() {
+            final BiConsumer<O, O> monitor = Spies.monitor(new BinaryNoop<O, O>(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterABinaryDelegate() {
+            final BiFunction<O, O, O> monitor = Spies.monitor(new FirstParam<O, O>(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterABinaryPredicate() {
+            final BiPredicate<O, O> monitor = Spies.monitor(new BinaryAlways<O, O>(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterATernaryAction() {
+            final TriConsumer<O, O, O> monitor = Spies.monitor(new TernaryNoop<O, O, O>(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterATernaryDelegate() {
+            final TriFunction<O, O, O, O> monitor = Spies.monitor(new FirstParamOfThree<O, O, O>(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void canMeterATernaryPredicate() {
+            final TriPredicate<O, O, O> monitor = Spies.monitor(new TernaryAlways<O, O, O>(), meter);
+            Assert.assertNotNull(monitor);
+        }
+
+        @Test
+        public void meteredCallsAreCounted() {
+            final Function<O, O> metered = Spies.monitor(Function.identity(), meter);
+            metered.apply(O.ONE);
+            Assert.assertEquals(1, meter.snapshot().calls());
+        }
+    }
 }
@@ -4,6 +4,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import junit.framework.Assert;
 import net.emaze.dysfunctional.iterations.ConstantIterator;
+import net.emaze.dysfunctional.output.AppendableOutputIterator;
+import net.emaze.dysfunctional.output.StringOutputIterator;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -18,6 +20,7 @@ import org.junit.runners.Suite;
     StringsTest.Join.class,
     StringsTest.Interpose.class,
     StringsTest.Repeat.class,
+    StringsTest.Streaming.class,
     StringsTest.Facade.class
 })
 public class StringsTest {
@@ -218,6 +221,75 @@ public class StringsTest {
         }
     }
 
+    public static class Streaming {
+
+        @Test
+        public void canConcatIterableIntoOutput() {
+            final StringBuilder builder = new StringBuilder("0");
+            Strings.concat(Arrays.asList("1", "2"), new AppendableOutputIterator<>(builder));
+            Assert.assertEquals("012", builder.toString());
+        }
+
+        @Test
+        public void canConcatIteratorIntoOutput() {
+            final StringOutputIterator output = Strings.concat(Arrays.asList("1", "2").iterator(), new StringOutputIterator());
+            Assert.assertEquals("12", output.toString());
+        }
+
+        @Test
+        public void canJoinIterableIntoOutput() {
+            final StringOutputIterator output = Strings.join(Arrays.asList(1, 2, 3), new StringOutputIterator());
+            Assert.assertEquals("123", output.toString());
+        }
+
+        @Test
+        public void canJoinIteratorIntoOutput() {
+            final StringOutputIterator output = Strings.join(Arrays.asList(1, 2, 3).iterator(), new StringOutputIterator());
+            Assert.assertEquals("123", output.toString());
+        }
+
+        @Test
+        public void canInterposeIterableWithSeparatorIntoOutput() {
+            final StringOutputIterator output = Strings.interpose(Arrays.asList(1, 2, 3), ",", new StringOutputIterator());
+            Assert.assertEquals("1,2,3", output.toString());
+        }
+
+        @Test
+        public void canInterposeIteratorWithSeparatorIntoOutput() {
+            final StringOutputIterator output = Strings.interpose(Arrays.asList(1, 2, 3).iterator(), ",", new StringOutputIterator());
+            Assert.assertEquals("1,2,3", output.toString());
+        }
+
+        @Test
+        public void canInterposeIterableWithSeparatorsIntoOutput() {
+            final StringOutputIterator output = Strings.interpose(Arrays.asList(1, 2, 3, 4, 5), Arrays.asList("-", ",", "-", ",").iterator(), new StringOutputIterator());
+            Assert.assertEquals("1-2,3-4,5", output.toString());
+        }
+
+        @Test
+        public void canInterposeIteratorWithSeparatorsIntoOutput() {
+            final StringOutputIterator output = Strings.interpose(Arrays.asList(1, 2, 3).iterator(), new ConstantIterator<>("-"), new StringOutputIterator());
+            Assert.assertEquals("1-2-3", output.toString());
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotJoinIntoANullOutput() {
+            Strings.join(Arrays.asList(1, 2, 3), (StringOutputIterator) null);
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotConcatANullIterableIntoOutput() {
+            final Iterable<String> nullIterable = null;
+            Strings.concat(nullIterable, new StringOutputIterator());
+        }
+
+        @Test(expected = IllegalArgumentException.class)
+        public void cannotInterposeANullIterableIntoOutput() {
+            final Iterable<Integer> nullIterable = null;
+            Strings.interpose(nullIterable, ",", new StringOutputIterator());
+        }
+    }
+
     public static class Facade {
 
         @Test
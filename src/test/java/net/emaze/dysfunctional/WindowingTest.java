@@ -1,14 +1,18 @@
 package net.emaze.dysfunctional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import net.emaze.dysfunctional.casts.Vary;
 import net.emaze.dysfunctional.collections.ArrayListFactory;
+import net.emaze.dysfunctional.numbers.operations.IntegerOperations;
 import net.emaze.dysfunctional.testing.O;
+import net.emaze.dysfunctional.windows.WindowMode;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -129,6 +133,123 @@ public class WindowingTest {
         Windowing.trails(3, iterable, Function.identity());
     }
 
+    @Test
+    public void windowViewsYieldSameWindowsAsCopies() {
+        final Iterable<O> iterable = Iterations.iterable(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final List<List<O>> got = new ArrayList<>();
+        Windowing.window(2, iterable, WindowMode.View).forEachRemaining(w -> got.add(new ArrayList<>(w)));
+        Assert.assertEquals(Consumers.all(Windowing.window(2, iterable, WindowMode.Copy)), got);
+    }
+
+    @Test
+    public void centeredViewsYieldSameWindowsAsCopies() {
+        final Iterable<O> iterable = Iterations.iterable(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final List<List<Optional<O>>> got = new ArrayList<>();
+        Windowing.centered(3, iterable, WindowMode.View).forEachRemaining(w -> got.add(new ArrayList<>(w)));
+        Assert.assertEquals(Consumers.all(Windowing.centered(3, iterable, WindowMode.Copy)), got);
+    }
+
+    @Test
+    public void trailsViewsYieldSameTrailsAsCopies() {
+        final Iterable<O> iterable = Iterations.iterable(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final List<List<Optional<O>>> got = new ArrayList<>();
+        Windowing.trails(2, iterable, WindowMode.View).forEachRemaining(w -> got.add(new ArrayList<>(w)));
+        Assert.assertEquals(Consumers.all(Windowing.trails(2, iterable, WindowMode.Copy)), got);
+    }
+
+    @Test
+    public void trailsCopiesAreNotAliased() {
+        final Iterator<List<Optional<O>>> trails = Windowing.trails(1, Iterations.iterator(O.ONE, O.ANOTHER), WindowMode.Copy);
+        final List<Optional<O>> first = trails.next();
+        trails.next();
+        Assert.assertEquals(Arrays.asList(Optional.of(O.ONE)), first);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWindowWithNullModeYieldsException() {
+        Windowing.window(3, Iterations.iterator(O.ONE), (WindowMode) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWindowViewWithNullIterableYieldsException() {
+        final Iterable<O> iterable = null;
+        Windowing.window(3, iterable, WindowMode.View);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingCenteredWindowViewWithNullIterableYieldsException() {
+        final Iterable<O> iterable = null;
+        Windowing.centered(3, iterable, WindowMode.View);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingTrailsViewWithNullIterableYieldsException() {
+        final Iterable<O> iterable = null;
+        Windowing.trails(3, iterable, WindowMode.View);
+    }
+
+    @Test
+    public void canComputeSlidingSums() {
+        final IntegerOperations ops = new IntegerOperations();
+        final Iterator<Integer> sums = Windowing.sums(2, Iterations.iterable(1, 2, 3, 4), ops, ops);
+        Assert.assertEquals(Arrays.asList(3, 5, 7), Consumers.all(sums));
+    }
+
+    @Test
+    public void canComputeSlidingSumsOfInts() {
+        final PrimitiveIterator.OfLong sums = Windowing.sums(2, Arrays.stream(new int[]{1, 2, 3, 4}).iterator());
+        final List<Long> got = new ArrayList<>();
+        sums.forEachRemaining((long sum) -> got.add(sum));
+        Assert.assertEquals(Arrays.asList(3l, 5l, 7l), got);
+    }
+
+    @Test
+    public void canComputeSlidingAveragesOfLongs() {
+        final PrimitiveIterator.OfDouble averages = Windowing.averages(2, Arrays.stream(new long[]{1, 2, 3, 4}).iterator());
+        final List<Double> got = new ArrayList<>();
+        averages.forEachRemaining((double average) -> got.add(average));
+        Assert.assertEquals(Arrays.asList(1.5, 2.5, 3.5), got);
+    }
+
+    @Test
+    public void canComputeSlidingAveragesOfDoubles() {
+        final PrimitiveIterator.OfDouble averages = Windowing.averages(2, Arrays.stream(new double[]{1, 2, 3, 4}).iterator());
+        final List<Double> got = new ArrayList<>();
+        averages.forEachRemaining((double average) -> got.add(average));
+        Assert.assertEquals(Arrays.asList(1.5, 2.5, 3.5), got);
+    }
+
+    @Test
+    public void canComputeSlidingAverages() {
+        final IntegerOperations ops = new IntegerOperations();
+        final Iterator<Double> averages = Windowing.averages(2, Iterations.iterable(1, 2, 3, 4), ops, ops);
+        Assert.assertEquals(Arrays.asList(1.5, 2.5, 3.5), Consumers.all(averages));
+    }
+
+    @Test
+    public void canComputeSlidingMinimums() {
+        final Iterator<Integer> minimums = Windowing.minimums(2, Iterations.iterable(3, 1, 4, 1, 5));
+        Assert.assertEquals(Arrays.asList(1, 1, 1, 1), Consumers.all(minimums));
+    }
+
+    @Test
+    public void canComputeSlidingMaximums() {
+        final Iterator<Integer> maximums = Windowing.maximums(2, Iterations.iterable(3, 1, 4, 1, 5));
+        Assert.assertEquals(Arrays.asList(3, 4, 4, 5), Consumers.all(maximums));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSumsWithNullIterableYieldsException() {
+        final IntegerOperations ops = new IntegerOperations();
+        final Iterable<Integer> iterable = null;
+        Windowing.sums(3, iterable, ops, ops);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingMaximumsWithNullComparatorYieldsException() {
+        Windowing.maximums(3, Iterations.iterator(1), null);
+    }
+
     @Test
     public void facadeIsNotFinal() {
         new Windowing() {
@@ -5,12 +5,18 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import net.emaze.dysfunctional.order.ComparableComparator;
 import net.emaze.dysfunctional.order.NextIntegerSequencingPolicy;
 import net.emaze.dysfunctional.ranges.DenseRange;
 import net.emaze.dysfunctional.ranges.Range.Endpoint;
 import net.emaze.dysfunctional.order.JustBeforeNothingComparator;
 import net.emaze.dysfunctional.ranges.Range;
+import net.emaze.dysfunctional.tuples.IndexedDouble;
+import net.emaze.dysfunctional.tuples.IndexedInt;
+import net.emaze.dysfunctional.tuples.IndexedLong;
 import net.emaze.dysfunctional.tuples.Pair;
 import org.junit.Assert;
 import org.junit.Test;
@@ -125,6 +131,16 @@ public class ZipsTest {
         Zips.longest(former, latter);
     }
 
+    @Test
+    public void canMakeAPrimitiveIteratorCounted() {
+        final Iterator<IndexedInt> ints = Zips.counted(IntStream.of(7, 8).iterator());
+        Assert.assertEquals(Arrays.asList(IndexedInt.of(0, 7), IndexedInt.of(1, 8)), Consumers.all(ints));
+        final Iterator<IndexedLong> longs = Zips.counted(LongStream.of(7L).iterator());
+        Assert.assertEquals(Arrays.asList(IndexedLong.of(0, 7L)), Consumers.all(longs));
+        final Iterator<IndexedDouble> doubles = Zips.counted(DoubleStream.of(.5).iterator());
+        Assert.assertEquals(Arrays.asList(IndexedDouble.of(0, .5)), Consumers.all(doubles));
+    }
+
     @Test
     public void canMakeAnIterableCounted() {
         final Iterable<String> bucket = Iterations.iterable("a", "b");
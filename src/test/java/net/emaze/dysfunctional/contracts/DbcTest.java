@@ -1,5 +1,7 @@
 package net.emaze.dysfunctional.contracts;
 
+import java.util.function.Supplier;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -8,6 +10,10 @@ import org.junit.Test;
  */
 public class DbcTest {
 
+    private static final Supplier<String> UNCALLED = () -> {
+        throw new AssertionError("message supplier called on a passing assertion");
+    };
+
     @Test(expected = IllegalArgumentException.class)
     public void failingPreconditionYieldsIllegalArgumentException() {
         dbc.precondition(false, "i'm a precondition failed message");
@@ -18,6 +24,73 @@ public class DbcTest {
         dbc.state(false, "i'm a precondition failed message");
     }
 
+    @Test
+    public void failingPreconditionFormatsObjectParameters() {
+        try {
+            dbc.precondition(false, "%s and %s", "former", "latter");
+            Assert.fail("expected a failed precondition");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertEquals("former and latter", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void failingPreconditionFormatsLongParameters() {
+        try {
+            dbc.precondition(false, "%s out of %s", 3, 2L);
+            Assert.fail("expected a failed precondition");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertEquals("3 out of 2", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void failingPreconditionFormatsVarargsParameters() {
+        try {
+            dbc.precondition(false, "%s%s%s", "a", "b", "c");
+            Assert.fail("expected a failed precondition");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertEquals("abc", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void failingPreconditionYieldsTheSuppliedMessage() {
+        try {
+            dbc.precondition(false, () -> "supplied");
+            Assert.fail("expected a failed precondition");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertEquals("supplied", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void failingStatePreconditionYieldsTheSuppliedMessage() {
+        try {
+            dbc.state(false, () -> "supplied");
+            Assert.fail("expected a failed state precondition");
+        } catch (IllegalStateException ex) {
+            Assert.assertEquals("supplied", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void passingPreconditionsDoNotCallTheMessageSupplier() {
+        dbc.precondition(true, UNCALLED);
+        dbc.state(true, UNCALLED);
+        dbc.hotPrecondition(true, UNCALLED);
+    }
+
+    @Test
+    public void hotPreconditionsAreEnforcedByDefault() {
+        Assert.assertTrue(dbc.hotPreconditionsEnforced());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void failingHotPreconditionYieldsIllegalArgumentException() {
+        dbc.hotPrecondition(false, "i'm a hot precondition failed message");
+    }
+
     @Test
     public void dbcFacadeIsNotFinal() {
         new dbc() {
@@ -0,0 +1,34 @@
+package net.emaze.dysfunctional.convolutions;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import net.emaze.dysfunctional.tuples.IndexedInt;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CountedIntIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateACountedIntIteratorFromANullIterator() {
+        new CountedIntIterator(null);
+    }
+
+    @Test
+    public void pairsEveryIntWithItsIndex() {
+        final Iterator<IndexedInt> iterator = new CountedIntIterator(IntStream.of(5, 3).iterator());
+        final IndexedInt first = iterator.next();
+        final IndexedInt second = iterator.next();
+        Assert.assertEquals(0, first.index());
+        Assert.assertEquals(5, first.value());
+        Assert.assertEquals(1, second.index());
+        Assert.assertEquals(3, second.value());
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumedIteratorYieldsException() {
+        final Iterator<IndexedInt> iterator = new CountedIntIterator(IntStream.empty().iterator());
+        iterator.next();
+    }
+}
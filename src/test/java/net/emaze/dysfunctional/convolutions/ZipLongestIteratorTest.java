@@ -4,6 +4,7 @@ import java.util.Iterator;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
 import java.util.Optional;
 import net.emaze.dysfunctional.tuples.Pair;
+import java.util.Arrays;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -63,4 +64,12 @@ public class ZipLongestIteratorTest {
         ZipLongestIterator<Integer, Integer> zipli = new ZipLongestIterator<Integer, Integer>(former, latter);
         Assert.assertFalse(zipli.hasNext());
     }
+
+    @Test
+    public void nextBatchPadsTheShortestWithNothing() {
+        final ZipLongestIterator<Integer, Integer> zip = new ZipLongestIterator<Integer, Integer>(new ArrayIterator<Integer>(new Integer[]{1, 2}), new ArrayIterator<Integer>(new Integer[]{3}));
+        final Object[] buffer = new Object[3];
+        final int got = zip.nextBatch(buffer);
+        Assert.assertEquals(Arrays.<Object>asList(2, Pair.of(Optional.of(2), Optional.empty())), Arrays.asList(got, buffer[1]));
+    }
 }
@@ -3,8 +3,10 @@ package net.emaze.dysfunctional.convolutions;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import net.emaze.dysfunctional.Consumers;
 import net.emaze.dysfunctional.iterations.ArrayIterator;
 import net.emaze.dysfunctional.tuples.Pair;
+import java.util.Arrays;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -67,4 +69,27 @@ public class ZipShortestIteratorTest {
         zipsi.remove();
         Assert.assertEquals(0, former.size() + latter.size());
     }
+
+    @Test
+    public void nextBatchYieldsTheShortestConvolution() {
+        final ZipShortestIterator<Integer, Integer> zip = new ZipShortestIterator<Integer, Integer>(new ArrayIterator<Integer>(new Integer[]{1, 2, 3}), new ArrayIterator<Integer>(new Integer[]{4, 5}));
+        final Object[] buffer = new Object[3];
+        final int got = zip.nextBatch(buffer);
+        Assert.assertEquals(Arrays.<Object>asList(2, Pair.of(1, 4), Pair.of(2, 5)), Arrays.asList(got, buffer[0], buffer[1]));
+    }
+
+    @Test
+    public void nextBatchDoesNotConsumeUnpairedFormerElements() {
+        final Iterator<Integer> former = new ArrayIterator<Integer>(new Integer[]{1, 2, 3});
+        final ZipShortestIterator<Integer, Integer> zip = new ZipShortestIterator<Integer, Integer>(former, new ArrayIterator<Integer>(new Integer[]{4}));
+        zip.nextBatch(new Object[3]);
+        Assert.assertEquals(Integer.valueOf(2), former.next());
+    }
+
+    @Test
+    public void consumingAllDoesNotOverDrainTheFormer() {
+        final Iterator<Integer> former = new ArrayIterator<Integer>(new Integer[]{1, 2, 3});
+        Consumers.all(new ZipShortestIterator<Integer, Integer>(former, new ArrayIterator<Integer>(new Integer[]{4})));
+        Assert.assertTrue(former.hasNext());
+    }
 }
@@ -0,0 +1,57 @@
+package net.emaze.dysfunctional.convolutions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import net.emaze.dysfunctional.iterations.ArrayIterator;
+import net.emaze.dysfunctional.tuples.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ZipShortestSpliteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullFormerYieldsException() {
+        new ZipShortestSpliterator<Object, Object>(null, new ArrayList<Object>().spliterator());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullLatterYieldsException() {
+        new ZipShortestSpliterator<Object, Object>(new ArrayList<Object>().spliterator(), null);
+    }
+
+    @Test
+    public void equallySizedSpliteratorsAreSplitAligned() {
+        final Spliterator<Pair<Integer, Integer>> spliterator = new ZipShortestSpliterator<Integer, Integer>(Arrays.asList(1, 2, 3, 4).spliterator(), Arrays.asList(5, 6, 7, 8).spliterator());
+        final Spliterator<Pair<Integer, Integer>> prefix = spliterator.trySplit();
+        Assert.assertEquals(2, prefix.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void sizeIsTheShortest() {
+        final Spliterator<Pair<Integer, Integer>> spliterator = new ZipShortestSpliterator<Integer, Integer>(Arrays.asList(1, 2, 3).spliterator(), Arrays.asList(5, 6).spliterator());
+        Assert.assertEquals(2, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void parallelConvolutionOfDifferentlySizedIteratorsIsOrdered() {
+        final Integer[] formers = new Integer[5000];
+        final Integer[] latters = new Integer[3001];
+        for (int i = 0; i != formers.length; ++i) {
+            formers[i] = i;
+        }
+        for (int i = 0; i != latters.length; ++i) {
+            latters[i] = -i;
+        }
+        final ZipShortestIterator<Integer, Integer> zip = new ZipShortestIterator<Integer, Integer>(new ArrayIterator<Integer>(formers), new ArrayIterator<Integer>(latters));
+        final List<Pair<Integer, Integer>> got = StreamSupport.stream(zip.spliterator(), true).collect(Collectors.toList());
+        final List<Pair<Integer, Integer>> expected = new ArrayList<Pair<Integer, Integer>>();
+        for (int i = 0; i != latters.length; ++i) {
+            expected.add(Pair.of(i, -i));
+        }
+        Assert.assertEquals(expected, got);
+    }
+}
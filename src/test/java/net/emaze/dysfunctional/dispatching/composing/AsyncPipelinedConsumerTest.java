@@ -0,0 +1,125 @@
+package net.emaze.dysfunctional.dispatching.composing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import net.emaze.dysfunctional.Iterations;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AsyncPipelinedConsumerTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullIterableYieldsException() {
+        new AsyncPipelinedConsumer<String>(null, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithoutConsumersYieldsException() {
+        new AsyncPipelinedConsumer<String>(Iterations.<Consumer<String>>iterable(), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNonPositiveCapacityYieldsException() {
+        new AsyncPipelinedConsumer<String>(Iterations.<Consumer<String>>iterable(value -> {
+        }), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNonPositiveBatchSizeYieldsException() {
+        new AsyncPipelinedConsumer<String>(Iterations.<Consumer<String>>iterable(value -> {
+        }), 1, 0, AsyncPipelinedConsumer.DAEMON_THREAD_FACTORY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullThreadFactoryYieldsException() {
+        new AsyncPipelinedConsumer<String>(Iterations.<Consumer<String>>iterable(value -> {
+        }), 1, 1, null);
+    }
+
+    @Test
+    public void valuesFlowThroughEveryStageInOrder() {
+        final List<String> bucket = Collections.synchronizedList(new ArrayList<String>());
+        final List<Consumer<Integer>> stages = Arrays.<Consumer<Integer>>asList(value -> bucket.add("former" + value), value -> bucket.add("latter" + value));
+        try (AsyncPipelinedConsumer<Integer> pipeline = new AsyncPipelinedConsumer<Integer>(stages, 1)) {
+            pipeline.accept(1);
+            pipeline.accept(2);
+        }
+        Assert.assertEquals(Arrays.asList("former1", "former2"), filter(bucket, "former"));
+        Assert.assertEquals(Arrays.asList("latter1", "latter2"), filter(bucket, "latter"));
+    }
+
+    @Test
+    public void closingDrainsEveryAcceptedValue() {
+        final List<Integer> got = Collections.synchronizedList(new ArrayList<Integer>());
+        final List<Consumer<Integer>> stages = Arrays.<Consumer<Integer>>asList(value -> {
+        }, got::add);
+        final List<Integer> expected = new ArrayList<Integer>();
+        try (AsyncPipelinedConsumer<Integer> pipeline = new AsyncPipelinedConsumer<Integer>(stages, 4, 3, AsyncPipelinedConsumer.DAEMON_THREAD_FACTORY)) {
+            for (int i = 0; i != 1000; ++i) {
+                pipeline.accept(i);
+                expected.add(i);
+            }
+        }
+        Assert.assertEquals(expected, got);
+    }
+
+    @Test
+    public void fastStagesRunAheadOfASlowStageUpToTheQueueCapacity() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch seen = new CountDownLatch(3);
+        final List<Consumer<Integer>> stages = Arrays.<Consumer<Integer>>asList(value -> seen.countDown(), value -> await(release));
+        final AsyncPipelinedConsumer<Integer> pipeline = new AsyncPipelinedConsumer<Integer>(stages, 8);
+        for (int i = 0; i != 3; ++i) {
+            pipeline.accept(i);
+        }
+        Assert.assertTrue(seen.await(10, TimeUnit.SECONDS));
+        release.countDown();
+        pipeline.close();
+    }
+
+    @Test
+    public void closingRethrowsTheStageFailure() {
+        final IllegalStateException failure = new IllegalStateException("failed");
+        final AsyncPipelinedConsumer<Integer> pipeline = new AsyncPipelinedConsumer<Integer>(Iterations.<Consumer<Integer>>iterable(value -> {
+            throw failure;
+        }), 1);
+        pipeline.accept(1);
+        try {
+            pipeline.close();
+            Assert.fail("expected the stage failure");
+        } catch (IllegalStateException ex) {
+            Assert.assertSame(failure, ex);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void acceptingOnAClosedPipelineYieldsException() {
+        final AsyncPipelinedConsumer<Integer> pipeline = new AsyncPipelinedConsumer<Integer>(Iterations.<Consumer<Integer>>iterable(value -> {
+        }), 1);
+        pipeline.close();
+        pipeline.accept(1);
+    }
+
+    private static List<String> filter(List<String> bucket, String prefix) {
+        final List<String> filtered = new ArrayList<String>();
+        for (String value : bucket) {
+            if (value.startsWith(prefix)) {
+                filtered.add(value);
+            }
+        }
+        return filtered;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import net.emaze.dysfunctional.testing.O;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentMemoizingFunctionTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullDelegateYieldsException() {
+        new ConcurrentMemoizingFunction<O, O>(null, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullCacheYieldsException() {
+        new ConcurrentMemoizingFunction<O, O>(new ConstantFunction<O, O>(O.ONE), null);
+    }
+
+    @Test
+    public void canInvokeProxiedDelegateOnlyOnceForTheSameParameter() {
+        final AtomicInteger count = new AtomicInteger(1);
+        final Function<O, Integer> function = new ConcurrentMemoizingFunction<>(o -> count.getAndIncrement(), 10);
+        function.apply(O.ONE);
+        final int got = function.apply(O.ONE);
+        Assert.assertEquals(1, got);
+    }
+
+    @Test
+    public void biFunctionIsMemoizedForEachCoupleOfParameters() {
+        final AtomicInteger count = new AtomicInteger();
+        final BiFunction<O, O, Integer> function = new ConcurrentMemoizingBiFunction<>((f, s) -> count.incrementAndGet(), 10);
+        function.apply(O.ONE, O.ANOTHER);
+        function.apply(O.ONE, O.ANOTHER);
+        function.apply(O.ANOTHER, O.ONE);
+        Assert.assertEquals(2, count.get());
+    }
+
+    @Test
+    public void triFunctionIsMemoizedForEachTripleOfParameters() {
+        final AtomicInteger count = new AtomicInteger();
+        final TriFunction<O, O, O, Integer> function = new ConcurrentMemoizingTriFunction<>((f, s, t) -> count.incrementAndGet(), 10);
+        function.apply(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        function.apply(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void exposesStatistics() {
+        final ConcurrentMemoizingFunction<O, O> function = new ConcurrentMemoizingFunction<>(new ConstantFunction<>(O.ONE), 10);
+        function.apply(O.ONE);
+        function.apply(O.ONE);
+        Assert.assertEquals(1, function.statistics().hits());
+    }
+}
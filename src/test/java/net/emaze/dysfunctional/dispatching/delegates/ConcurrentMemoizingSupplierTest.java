@@ -0,0 +1,81 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.testing.O;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentMemoizingSupplierTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullProviderYieldsException() {
+        new ConcurrentMemoizingSupplier<O>(null);
+    }
+
+    @Test
+    public void canObtainProvidedElement() {
+        final Supplier<O> supplier = new ConcurrentMemoizingSupplier<O>(new ConstantSupplier<O>(O.ONE));
+        final O got = supplier.get();
+        Assert.assertEquals(O.ONE, got);
+    }
+
+    @Test
+    public void canInvokeProviderOnlyOnceWhenInnerYieldsNull() {
+        final AtomicInteger count = new AtomicInteger(0);
+        final Supplier<Integer> supplier = new ConcurrentMemoizingSupplier<Integer>(() -> {
+            count.getAndIncrement();
+            return null;
+        });
+        supplier.get();
+        supplier.get();
+        Assert.assertEquals(1, count.get());
+    }
+
+    @Test
+    public void failedEvaluationsAreRetried() {
+        final AtomicInteger count = new AtomicInteger(0);
+        final Supplier<Integer> supplier = new ConcurrentMemoizingSupplier<Integer>(() -> {
+            if (count.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return count.get();
+        });
+        try {
+            supplier.get();
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        final int got = supplier.get();
+        Assert.assertEquals(2, got);
+    }
+
+    @Test
+    public void concurrentCallersEvaluateProviderOnce() throws Exception {
+        final AtomicInteger count = new AtomicInteger(0);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Supplier<Integer> supplier = new ConcurrentMemoizingSupplier<Integer>(() -> count.incrementAndGet());
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int i = 0; i != 8; ++i) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return supplier.get();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(Integer.valueOf(1), result.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.testing.O;
+import net.emaze.dysfunctional.time.WarpingKnobs;
+import net.emaze.dysfunctional.time.WarpingTimeStrategy;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExpiringMemoizingSupplierTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullProviderYieldsException() {
+        new ExpiringMemoizingSupplier<O>(null, new WarpingTimeStrategy(new WarpingKnobs()), 1, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullTimeStrategyYieldsException() {
+        new ExpiringMemoizingSupplier<O>(new ConstantSupplier<O>(O.ONE), null, 1, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNonPositiveTimeToLiveYieldsException() {
+        new ExpiringMemoizingSupplier<O>(new ConstantSupplier<O>(O.ONE), new WarpingTimeStrategy(new WarpingKnobs()), 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void yieldsCachedValueBeforeExpiration() {
+        final WarpingKnobs knobs = new WarpingKnobs();
+        final AtomicInteger count = new AtomicInteger(0);
+        final Supplier<Integer> supplier = new ExpiringMemoizingSupplier<Integer>(() -> count.incrementAndGet(), new WarpingTimeStrategy(knobs), 10, TimeUnit.SECONDS);
+        supplier.get();
+        knobs.add(9, TimeUnit.SECONDS);
+        final int got = supplier.get();
+        Assert.assertEquals(1, got);
+    }
+
+    @Test
+    public void refreshesValueAfterExpiration() {
+        final WarpingKnobs knobs = new WarpingKnobs();
+        final AtomicInteger count = new AtomicInteger(0);
+        final Supplier<Integer> supplier = new ExpiringMemoizingSupplier<Integer>(() -> count.incrementAndGet(), new WarpingTimeStrategy(knobs), 10, TimeUnit.SECONDS);
+        supplier.get();
+        knobs.add(10, TimeUnit.SECONDS);
+        final int got = supplier.get();
+        Assert.assertEquals(2, got);
+    }
+}
@@ -0,0 +1,52 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FrequencySketchTest {
+
+    @Test
+    public void unseenHashesHaveNoFrequency() {
+        Assert.assertEquals(0, new FrequencySketch(10).frequency(42));
+    }
+
+    @Test
+    public void countsIncrements() {
+        final FrequencySketch sketch = new FrequencySketch(10);
+        sketch.increment(42);
+        sketch.increment(42);
+        Assert.assertEquals(2, sketch.frequency(42));
+    }
+
+    @Test
+    public void concurrentIncrementsAreNotLost() throws Exception {
+        final FrequencySketch sketch = new FrequencySketch(10);
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> results = new ArrayList<Future<?>>();
+            for (int i = 0; i != 4; ++i) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    for (int j = 0; j != 500; ++j) {
+                        sketch.increment(42);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Assert.assertEquals(2000, sketch.frequency(42));
+    }
+}
@@ -0,0 +1,153 @@
+package net.emaze.dysfunctional.dispatching.delegates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.emaze.dysfunctional.time.WarpingKnobs;
+import net.emaze.dysfunctional.time.WarpingTimeStrategy;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MemoizingCacheTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNonPositiveSizeYieldsException() {
+        new MemoizingCache<Integer, Integer>(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullEvictionYieldsException() {
+        new MemoizingCache<Integer, Integer>(1, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void gettingWithNullLoaderYieldsException() {
+        new MemoizingCache<Integer, Integer>(1).get(1, null);
+    }
+
+    @Test
+    public void loadsMissingKeysOnce() {
+        final AtomicInteger loads = new AtomicInteger();
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(10);
+        cache.get(1, k -> loads.incrementAndGet());
+        cache.get(1, k -> loads.incrementAndGet());
+        Assert.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void canCacheNullKeysAndValues() {
+        final AtomicInteger loads = new AtomicInteger();
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(10);
+        cache.get(null, k -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        final Integer got = cache.get(null, k -> loads.incrementAndGet());
+        Assert.assertNull(got);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsed() {
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(2);
+        cache.get(1, k -> k);
+        cache.get(2, k -> k);
+        cache.get(1, k -> k);
+        cache.get(3, k -> k);
+        final Integer got = cache.get(2, k -> -k);
+        Assert.assertEquals(Integer.valueOf(-2), got);
+    }
+
+    @Test
+    public void sizeIsBounded() {
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(16);
+        for (int i = 0; i != 1000; ++i) {
+            cache.get(i, k -> k);
+        }
+        Assert.assertEquals(16, cache.size());
+    }
+
+    @Test
+    public void tinyLfuKeepsFrequentlyUsedEntries() {
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(2, MemoizingCache.Eviction.TinyLfu);
+        for (int i = 0; i != 10; ++i) {
+            cache.get(1, k -> k);
+            cache.get(2, k -> k);
+        }
+        for (int i = 100; i != 200; ++i) {
+            cache.get(i, k -> k);
+        }
+        final Integer got = cache.get(1, k -> -k);
+        Assert.assertEquals(Integer.valueOf(1), got);
+    }
+
+    @Test
+    public void entriesExpireAfterWrite() {
+        final WarpingKnobs knobs = new WarpingKnobs();
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(10, MemoizingCache.Eviction.Lru, new WarpingTimeStrategy(knobs), 1, TimeUnit.SECONDS);
+        cache.get(1, k -> k);
+        knobs.add(2, TimeUnit.SECONDS);
+        final Integer got = cache.get(1, k -> -k);
+        Assert.assertEquals(Integer.valueOf(-1), got);
+    }
+
+    @Test
+    public void failedLoadsAreNotCached() {
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(10);
+        try {
+            cache.get(1, k -> {
+                throw new IllegalStateException();
+            });
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        final Integer got = cache.get(1, k -> k);
+        Assert.assertEquals(Integer.valueOf(1), got);
+    }
+
+    @Test
+    public void countsHitsMissesAndEvictions() {
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(1);
+        cache.get(1, k -> k);
+        cache.get(1, k -> k);
+        cache.get(2, k -> k);
+        final MemoizationStatistics got = cache.statistics();
+        Assert.assertEquals("hits: 1, misses: 2, evictions: 1, expirations: 0", got.toString());
+    }
+
+    @Test
+    public void concurrentMissesOnTheSameKeyLoadOnce() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final MemoizingCache<Integer, Integer> cache = new MemoizingCache<Integer, Integer>(10);
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int i = 0; i != 8; ++i) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return cache.get(1, k -> {
+                        loads.incrementAndGet();
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException ex) {
+                            throw new IllegalStateException(ex);
+                        }
+                        return k;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> result : results) {
+                Assert.assertEquals(Integer.valueOf(1), result.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Assert.assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,27 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void smallValuesHaveTheirOwnBucket() {
+        for (int value = 0; value != 8; ++value) {
+            Assert.assertEquals(value, LatencyHistogram.highestValue(LatencyHistogram.bucket(value)));
+        }
+    }
+
+    @Test
+    public void bucketsBoundTheRecordedValue() {
+        for (long value = 1; value > 0; value = value * 3 + 1) {
+            final long highest = LatencyHistogram.highestValue(LatencyHistogram.bucket(value));
+            Assert.assertTrue(highest >= value && highest - value <= value / 8);
+        }
+    }
+
+    @Test
+    public void maxValueFitsTheLastBucket() {
+        Assert.assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucket(Long.MAX_VALUE));
+    }
+}
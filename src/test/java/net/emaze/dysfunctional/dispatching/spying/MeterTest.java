@@ -0,0 +1,68 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.concurrent.TimeUnit;
+import net.emaze.dysfunctional.time.WarpingKnobs;
+import net.emaze.dysfunctional.time.WarpingTimeStrategy;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MeterTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullTimeStrategyYieldsException() {
+        new Meter(null);
+    }
+
+    @Test
+    public void countsCallsAndFailures() {
+        final Meter meter = new Meter();
+        meter.succeeded(meter.started());
+        meter.failed(meter.started());
+        final MeterSnapshot got = meter.snapshot();
+        Assert.assertEquals(2, got.calls());
+        Assert.assertEquals(1, got.failures());
+    }
+
+    @Test
+    public void recordsLatenciesThroughTheTimeStrategy() {
+        final WarpingKnobs knobs = new WarpingKnobs();
+        final Meter meter = new Meter(new WarpingTimeStrategy(knobs));
+        final long started = meter.started();
+        knobs.add(3, TimeUnit.MILLISECONDS);
+        meter.succeeded(started);
+        Assert.assertEquals(TimeUnit.MILLISECONDS.toNanos(3), meter.snapshot().maximumLatency());
+    }
+
+    @Test
+    public void percentilesAreWithinTheHistogramPrecision() {
+        final WarpingKnobs knobs = new WarpingKnobs();
+        final Meter meter = new Meter(new WarpingTimeStrategy(knobs));
+        for (int millis = 1; millis <= 100; ++millis) {
+            final long started = meter.started();
+            knobs.add(millis, TimeUnit.MILLISECONDS);
+            meter.succeeded(started);
+        }
+        final long median = meter.snapshot().latencyAt(0.5);
+        final long expected = TimeUnit.MILLISECONDS.toNanos(50);
+        Assert.assertTrue(median >= expected && median <= expected * 1.125);
+    }
+
+    @Test
+    public void snapshotAndResetClearsTheCounters() {
+        final Meter meter = new Meter();
+        meter.succeeded(meter.started());
+        meter.snapshotAndReset();
+        Assert.assertEquals(0, meter.snapshot().calls());
+    }
+
+    @Test
+    public void latencyOfAnEmptySnapshotIsZero() {
+        final Meter meter = new Meter();
+        Assert.assertEquals(0, meter.snapshot().latencyAt(0.99));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void quantileGreaterThanOneYieldsException() {
+        new Meter().snapshot().latencyAt(1.5);
+    }
+}
@@ -0,0 +1,41 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import java.util.function.Function;
+import net.emaze.dysfunctional.testing.O;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MeteringFunctionTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingMeterWithNullAdaptedYieldsException() {
+        new MeteringFunction<O, O>(null, new Meter());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingMeterWithNullMeterYieldsException() {
+        new MeteringFunction<O, O>(Function.identity(), null);
+    }
+
+    @Test
+    public void callingIncrementsTheCalls() {
+        final Meter meter = new Meter();
+        final Function<O, O> spy = new MeteringFunction<O, O>(Function.identity(), meter);
+        spy.apply(O.ONE);
+        Assert.assertEquals(1l, meter.snapshot().calls());
+    }
+
+    @Test
+    public void throwingIncrementsTheFailures() {
+        final Meter meter = new Meter();
+        final Function<O, O> spy = new MeteringFunction<O, O>(o -> {
+            throw new IllegalStateException();
+        }, meter);
+        try {
+            spy.apply(O.ONE);
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        Assert.assertEquals(1l, meter.snapshot().failures());
+    }
+}
@@ -0,0 +1,25 @@
+package net.emaze.dysfunctional.dispatching.spying;
+
+import net.emaze.dysfunctional.dispatching.actions.Slacker;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MeteringRunnableTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingMeterWithNullAdaptedYieldsException() {
+        new MeteringRunnable(null, new Meter());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingMeterWithNullMeterYieldsException() {
+        new MeteringRunnable(new Slacker(), null);
+    }
+
+    @Test
+    public void callingIncrementsTheCalls() {
+        final Meter meter = new Meter();
+        new MeteringRunnable(new Slacker(), meter).run();
+        Assert.assertEquals(1l, meter.snapshot().calls());
+    }
+}
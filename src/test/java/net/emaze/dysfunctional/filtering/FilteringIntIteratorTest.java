@@ -0,0 +1,41 @@
+package net.emaze.dysfunctional.filtering;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FilteringIntIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingFilteringIntIteratorWithNullIteratorYieldsException() {
+        new FilteringIntIterator(null, value -> true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingFilteringIntIteratorWithNullFilterYieldsException() {
+        new FilteringIntIterator(Arrays.stream(new int[0]).iterator(), null);
+    }
+
+    @Test
+    public void yieldsOnlyMatchingElements() {
+        final PrimitiveIterator.OfInt iterator = new FilteringIntIterator(Arrays.stream(new int[]{1, 2, 3, 4}).iterator(), value -> value % 2 == 0);
+        final int[] got = {iterator.nextInt(), iterator.nextInt()};
+        Assert.assertArrayEquals(new int[]{2, 4}, got);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void hasNextIsIdempotent() {
+        final PrimitiveIterator.OfInt iterator = new FilteringIntIterator(Arrays.stream(new int[]{1, 2}).iterator(), value -> value == 2);
+        iterator.hasNext();
+        iterator.hasNext();
+        Assert.assertEquals(2, iterator.nextInt());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingWhenNothingMatchesYieldsException() {
+        new FilteringIntIterator(Arrays.stream(new int[]{1, 3}).iterator(), value -> value % 2 == 0).nextInt();
+    }
+}
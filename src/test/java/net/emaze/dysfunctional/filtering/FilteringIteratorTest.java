@@ -110,4 +110,21 @@ public class FilteringIteratorTest {
             return true;
         }
     }
+
+    @Test
+    public void nextBatchYieldsMatchingElements() {
+        final FilteringIterator<Integer> iterator = new FilteringIterator<Integer>(Arrays.asList(1, 2, 3, 4, 5, 6).iterator(), i -> i % 2 == 0);
+        final Object[] buffer = new Object[4];
+        final int got = iterator.nextBatch(buffer);
+        Assert.assertEquals(Arrays.asList(3, 2, 4, 6), Arrays.asList(got, buffer[0], buffer[1], buffer[2]));
+    }
+
+    @Test
+    public void nextBatchYieldsPrefetchedElementFirst() {
+        final FilteringIterator<Integer> iterator = new FilteringIterator<Integer>(Arrays.asList(1, 2, 3, 4).iterator(), new Always<Integer>());
+        iterator.hasNext();
+        final Object[] buffer = new Object[2];
+        iterator.nextBatch(buffer);
+        Assert.assertEquals(Arrays.<Object>asList(1, 2), Arrays.asList(buffer));
+    }
 }
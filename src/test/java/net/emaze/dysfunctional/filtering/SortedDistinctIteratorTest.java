@@ -0,0 +1,41 @@
+package net.emaze.dysfunctional.filtering;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.order.ComparableComparator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SortedDistinctIteratorTest {
+
+    private final Comparator<Integer> COMPARATOR = new ComparableComparator<Integer>();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullIteratorYieldsException() {
+        new SortedDistinctIterator<Integer>(null, COMPARATOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullComparatorYieldsException() {
+        new SortedDistinctIterator<Integer>(Iterations.<Integer>iterator(), null);
+    }
+
+    @Test
+    public void dropsConsecutiveDuplicates() {
+        Assert.assertEquals(Arrays.asList(1, 2, 3), Consumers.all(new SortedDistinctIterator<Integer>(Iterations.iterator(1, 1, 2, 3, 3, 3), COMPARATOR)));
+    }
+
+    @Test
+    public void nullsAreDistinctElements() {
+        final Comparator<Integer> nullsFirst = Comparator.nullsFirst(COMPARATOR);
+        Assert.assertEquals(Arrays.asList(null, 1), Consumers.all(new SortedDistinctIterator<Integer>(Iterations.iterator(null, null, 1), nullsFirst)));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingEmptyIteratorYieldsException() {
+        new SortedDistinctIterator<Integer>(Iterations.<Integer>iterator(), COMPARATOR).next();
+    }
+}
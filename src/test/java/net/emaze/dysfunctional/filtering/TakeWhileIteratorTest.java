@@ -79,4 +79,12 @@ public class TakeWhileIteratorTest {
         twi.hasNext();
         Assert.assertTrue(twi.hasNext());
     }
+
+    @Test
+    public void nextBatchStopsAtFirstUnmatchedElement() {
+        final Iterator<Integer> source = Arrays.asList(1, 2, 5, 1).iterator();
+        final TakeWhileIterator<Integer> twi = new TakeWhileIterator<Integer>(source, i -> i < 3);
+        final int got = twi.nextBatch(new Object[10]);
+        Assert.assertEquals(Arrays.asList(2, 1), Arrays.asList(got, source.next()));
+    }
 }
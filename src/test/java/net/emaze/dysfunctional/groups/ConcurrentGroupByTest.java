@@ -0,0 +1,68 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.Compositions;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.casts.Vary;
+import net.emaze.dysfunctional.collections.ArrayListFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrentGroupByTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Supplier<List<Integer>> LIST_FACTORY = Compositions.compose(new Vary<ArrayList<Integer>, List<Integer>>(), new ArrayListFactory<Integer>());
+    private final Function<Integer, Integer> GROUPER = value -> value % 7;
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullMapProviderYieldsException() {
+        new ConcurrentGroupBy<ConcurrentMap<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, null, executor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void groupingNullIteratorYieldsException() {
+        new ConcurrentGroupBy<ConcurrentMap<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, ConcurrentHashMap::new, executor).apply(null);
+    }
+
+    @Test
+    public void everyElementEndsUpInItsGroup() {
+        final List<Integer> values = new ArrayList<>();
+        for (int i = 0; i != 10000; ++i) {
+            values.add(i);
+        }
+        final ConcurrentMap<Integer, List<Integer>> got = new ConcurrentGroupBy<ConcurrentMap<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, ConcurrentHashMap::new, executor, 64, 8).apply(values.iterator());
+        Assert.assertEquals(7, got.size());
+        int total = 0;
+        for (Map.Entry<Integer, List<Integer>> group : got.entrySet()) {
+            for (Integer value : group.getValue()) {
+                Assert.assertEquals(group.getKey().intValue(), value % 7);
+            }
+            total += group.getValue().size();
+        }
+        Assert.assertEquals(10000, total);
+    }
+
+    @Test
+    public void groupsContainEveryElementOnce() {
+        final ConcurrentMap<Integer, List<Integer>> got = new ConcurrentGroupBy<ConcurrentMap<Integer, List<Integer>>, List<Integer>, Integer, Integer>(value -> 0, LIST_FACTORY, ConcurrentHashMap::new, executor, 1, 4).apply(Iterations.iterator(3, 1, 2));
+        final List<Integer> group = new ArrayList<>(got.get(0));
+        Collections.sort(group);
+        Assert.assertEquals(Arrays.asList(1, 2, 3), group);
+    }
+}
@@ -0,0 +1,77 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.Compositions;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.casts.Vary;
+import net.emaze.dysfunctional.collections.ArrayListFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelGroupByTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Supplier<List<Integer>> LIST_FACTORY = Compositions.compose(new Vary<ArrayList<Integer>, List<Integer>>(), new ArrayListFactory<Integer>());
+    private final Function<Integer, Integer> GROUPER = value -> value % 7;
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullGrouperYieldsException() {
+        new ParallelGroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(null, LIST_FACTORY, HashMap::new, executor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullExecutorYieldsException() {
+        new ParallelGroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, HashMap::new, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNonPositiveChunkSizeYieldsException() {
+        new ParallelGroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, HashMap::new, executor, 0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void groupingNullIteratorYieldsException() {
+        new ParallelGroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, HashMap::new, executor).apply(null);
+    }
+
+    @Test
+    public void groupingAnEmptyIteratorYieldsAnEmptyMap() {
+        final Map<Integer, List<Integer>> got = new ParallelGroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, HashMap::new, executor).apply(Iterations.<Integer>iterator());
+        Assert.assertTrue(got.isEmpty());
+    }
+
+    @Test
+    public void yieldsTheSameGroupsInTheSameOrderOfGroupBy() {
+        final List<Integer> values = new ArrayList<>();
+        final Random random = new Random(42);
+        for (int i = 0; i != 10000; ++i) {
+            values.add(random.nextInt(1000));
+        }
+        final Map<Integer, List<Integer>> expected = new GroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, LinkedHashMap::new).apply(values.iterator());
+        final Map<Integer, List<Integer>> got = new ParallelGroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, LIST_FACTORY, LinkedHashMap::new, executor, 37, 3).apply(values.iterator());
+        Assert.assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(got.entrySet()));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void grouperFailuresArePropagated() {
+        final Function<Integer, Integer> failing = value -> {
+            throw new IllegalStateException();
+        };
+        new ParallelGroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(failing, LIST_FACTORY, HashMap::new, executor, 2, 2).apply(Iterations.iterator(1, 2, 3, 4, 5));
+    }
+}
@@ -0,0 +1,42 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import net.emaze.dysfunctional.Iterations;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelIndexByTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Function<String, Character> FIRST_CHAR = value -> value.charAt(0);
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullGrouperYieldsException() {
+        new ParallelIndexBy<Map<Character, String>, Character, String>(null, LinkedHashMap::new, executor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indexingNullIteratorYieldsException() {
+        new ParallelIndexBy<Map<Character, String>, Character, String>(FIRST_CHAR, LinkedHashMap::new, executor).apply(null);
+    }
+
+    @Test
+    public void lastElementForAKeyWins() {
+        final Map<Character, String> got = new ParallelIndexBy<Map<Character, String>, Character, String>(FIRST_CHAR, LinkedHashMap::new, executor, 1, 3).apply(Iterations.iterator("a1", "b1", "a2", "c1", "b2"));
+        final Map<Character, String> expected = new LinkedHashMap<>();
+        expected.put('a', "a2");
+        expected.put('b', "b2");
+        expected.put('c', "c1");
+        Assert.assertEquals(expected.toString(), got.toString());
+    }
+}
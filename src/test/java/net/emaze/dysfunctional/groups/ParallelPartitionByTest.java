@@ -0,0 +1,45 @@
+package net.emaze.dysfunctional.groups;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import net.emaze.dysfunctional.Compositions;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.casts.Vary;
+import net.emaze.dysfunctional.collections.ArrayListFactory;
+import net.emaze.dysfunctional.tuples.Pair;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelPartitionByTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Supplier<List<Integer>> LIST_FACTORY = Compositions.compose(new Vary<ArrayList<Integer>, List<Integer>>(), new ArrayListFactory<Integer>());
+    private final Predicate<Integer> IS_EVEN = value -> value % 2 == 0;
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullPartitionerYieldsException() {
+        new ParallelPartitionBy<Integer, List<Integer>, List<Integer>>(null, LIST_FACTORY, LIST_FACTORY, executor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void partitioningNullIteratorYieldsException() {
+        new ParallelPartitionBy<Integer, List<Integer>, List<Integer>>(IS_EVEN, LIST_FACTORY, LIST_FACTORY, executor).apply(null);
+    }
+
+    @Test
+    public void partitionsKeepEncounterOrder() {
+        final Pair<List<Integer>, List<Integer>> got = new ParallelPartitionBy<Integer, List<Integer>, List<Integer>>(IS_EVEN, LIST_FACTORY, LIST_FACTORY, executor, 2, 2).apply(Iterations.iterator(1, 2, 3, 4, 5, 6, 7));
+        Assert.assertEquals(Pair.of(Arrays.asList(2, 4, 6), Arrays.asList(1, 3, 5, 7)), got);
+    }
+}
@@ -0,0 +1,183 @@
+package net.emaze.dysfunctional.groups;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.order.ComparableComparator;
+import net.emaze.dysfunctional.tuples.Pair;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SpillingGroupByTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+    private final Comparator<Integer> COMPARATOR = new ComparableComparator<Integer>();
+    private final Function<Integer, Integer> GROUPER = value -> value % 10;
+
+    private SpillingGroupBy<Integer, Integer> spilling(long budget) {
+        return new SpillingGroupBy<>(GROUPER, COMPARATOR, new IntegerSpillSerializer(), new IntegerSpillSerializer(), value -> 1, budget, folder.getRoot());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullGrouperYieldsException() {
+        new SpillingGroupBy<Integer, Integer>(null, COMPARATOR, new IntegerSpillSerializer(), new IntegerSpillSerializer(), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullSerializerYieldsException() {
+        new SpillingGroupBy<Integer, Integer>(GROUPER, COMPARATOR, null, new IntegerSpillSerializer(), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNonPositiveBudgetYieldsException() {
+        new SpillingGroupBy<Integer, Integer>(GROUPER, COMPARATOR, new IntegerSpillSerializer(), new IntegerSpillSerializer(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void groupingNullIteratorYieldsException() {
+        spilling(1).apply(null);
+    }
+
+    @Test
+    public void groupingAnEmptyIteratorYieldsNoGroups() {
+        Assert.assertFalse(spilling(1).apply(Iterations.<Integer>iterator()).hasNext());
+    }
+
+    @Test
+    public void groupsFittingTheBudgetAreYieldedInKeyOrder() {
+        final Iterator<Pair<Integer, Iterator<Integer>>> got = spilling(100).apply(Iterations.iterator(12, 1, 2, 11));
+        Assert.assertEquals(Pair.of(1, Arrays.asList(1, 11)), materialize(got.next()));
+        Assert.assertEquals(Pair.of(2, Arrays.asList(12, 2)), materialize(got.next()));
+        Assert.assertFalse(got.hasNext());
+        Assert.assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void spilledGroupsYieldTheSameGroupsOfAnInMemoryGroupBy() {
+        final List<Integer> values = new ArrayList<>();
+        final Random random = new Random(42);
+        for (int i = 0; i != 5000; ++i) {
+            values.add(random.nextInt(100000));
+        }
+        final Map<Integer, List<Integer>> expected = new GroupBy<Map<Integer, List<Integer>>, List<Integer>, Integer, Integer>(GROUPER, ArrayList::new, TreeMap::new).apply(values.iterator());
+        final List<Pair<Integer, List<Integer>>> got = new ArrayList<>();
+        final Iterator<Pair<Integer, Iterator<Integer>>> groups = spilling(37).apply(values.iterator());
+        while (groups.hasNext()) {
+            got.add(materialize(groups.next()));
+        }
+        final List<Pair<Integer, List<Integer>>> wanted = new ArrayList<>();
+        for (Map.Entry<Integer, List<Integer>> group : expected.entrySet()) {
+            wanted.add(Pair.of(group.getKey(), group.getValue()));
+        }
+        Assert.assertEquals(wanted, got);
+        Assert.assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void unreadValuesAreSkipped() {
+        final Iterator<Pair<Integer, Iterator<Integer>>> groups = spilling(2).apply(Iterations.iterator(1, 2, 11, 12, 21, 22));
+        final List<Integer> keys = new ArrayList<>();
+        while (groups.hasNext()) {
+            keys.add(groups.next().first());
+        }
+        Assert.assertEquals(Arrays.asList(1, 2), keys);
+    }
+
+    @Test
+    public void advancingDetachesThePreviousValues() {
+        final Iterator<Pair<Integer, Iterator<Integer>>> groups = spilling(2).apply(Iterations.iterator(1, 2, 11, 12));
+        final Iterator<Integer> first = groups.next().second();
+        groups.next();
+        Assert.assertFalse(first.hasNext());
+    }
+
+    @Test
+    public void closingDeletesTheRuns() {
+        final SpilledGroupsIterator<Integer, Integer> groups = spilling(1).apply(Iterations.iterator(1, 2, 3, 4));
+        Assert.assertNotEquals(0, folder.getRoot().list().length);
+        groups.close();
+        Assert.assertEquals(0, folder.getRoot().list().length);
+        Assert.assertFalse(groups.hasNext());
+    }
+
+    @Test
+    public void runsAreClosedAndDeletedWhenOpeningOneFails() throws IOException {
+        final File fdDirectory = new File("/proc/self/fd");
+        Assume.assumeTrue(fdDirectory.isDirectory());
+        final int openBefore = fdDirectory.list().length;
+        for (int attempt = 0; attempt != 16; ++attempt) {
+            final List<File> spilled = Arrays.asList(emptyRun(), emptyRun(), new File(folder.getRoot(), "missing"), emptyRun());
+            try {
+                new SpilledGroupsIterator<>(spilled, Collections.<Map.Entry<Integer, List<Integer>>>emptyList(), COMPARATOR, new IntegerSpillSerializer(), new IntegerSpillSerializer());
+                Assert.fail("opening a missing run should fail");
+            } catch (UncheckedIOException ex) {
+                Assert.assertEquals(0, folder.getRoot().list().length);
+            }
+        }
+        Assert.assertTrue(fdDirectory.list().length < openBefore + 16);
+    }
+
+    @Test
+    public void runsAreClosedAndDeletedWhenReadingOneFails() throws IOException {
+        final List<File> spilled = Arrays.asList(emptyRun(), folder.newFile(), emptyRun());
+        try {
+            new SpilledGroupsIterator<>(spilled, Collections.<Map.Entry<Integer, List<Integer>>>emptyList(), COMPARATOR, new IntegerSpillSerializer(), new IntegerSpillSerializer());
+            Assert.fail("reading a truncated run should fail");
+        } catch (UncheckedIOException ex) {
+            Assert.assertEquals(0, folder.getRoot().list().length);
+        }
+    }
+
+    @Test
+    public void stringsCanBeSpilled() {
+        final SpillingGroupBy<Character, String> spilling = new SpillingGroupBy<>(value -> value.charAt(0), new ComparableComparator<Character>(), new CharacterSpillSerializer(), new StringSpillSerializer(), value -> value.length(), 4, folder.getRoot());
+        final Iterator<Pair<Character, Iterator<String>>> groups = spilling.apply(Iterations.iterator("b1", "a1", "b2", "a2"));
+        Assert.assertEquals(Arrays.asList("a1", "a2"), Consumers.all(groups.next().second()));
+        Assert.assertEquals(Arrays.asList("b1", "b2"), Consumers.all(groups.next().second()));
+    }
+
+    private File emptyRun() throws IOException {
+        final File run = folder.newFile();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(run))) {
+            out.writeBoolean(false);
+        }
+        return run;
+    }
+
+    private static <K, V> Pair<K, List<V>> materialize(Pair<K, Iterator<V>> group) {
+        return Pair.of(group.first(), Consumers.all(group.second()));
+    }
+
+    private static class CharacterSpillSerializer implements SpillSerializer<Character> {
+
+        @Override
+        public void write(DataOutput out, Character value) throws IOException {
+            out.writeChar(value);
+        }
+
+        @Override
+        public Character read(DataInput in) throws IOException {
+            return in.readChar();
+        }
+    }
+}
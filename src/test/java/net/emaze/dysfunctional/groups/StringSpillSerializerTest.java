@@ -0,0 +1,33 @@
+package net.emaze.dysfunctional.groups;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringSpillSerializerTest {
+
+    private final StringSpillSerializer serializer = new StringSpillSerializer();
+
+    @Test
+    public void stringsSurviveTheRoundTrip() throws IOException {
+        Assert.assertEquals("dysfunctional è 😀", roundTrip("dysfunctional è 😀"));
+    }
+
+    @Test
+    public void stringsLongerThanSixtyFourKilobytesSurviveTheRoundTrip() throws IOException {
+        final char[] chars = new char[100000];
+        Arrays.fill(chars, 'x');
+        Assert.assertEquals(new String(chars), roundTrip(new String(chars)));
+    }
+
+    private String roundTrip(String value) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        serializer.write(new DataOutputStream(bytes), value);
+        return serializer.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import junit.framework.Assert;
 import org.junit.Test;
 
@@ -43,4 +44,21 @@ public class ArrayIteratorTest {
         new ArrayIterator<Integer>(null);
         Assert.assertTrue(true);
     }
+
+    @Test
+    public void spliteratorIsSizedOnTheRemainingElements() {
+        final ArrayIterator<Integer> iter = new ArrayIterator<Integer>(new Integer[]{1, 2, 3, 4, 5});
+        iter.next();
+        final Spliterator<Integer> spliterator = iter.spliterator();
+        Assert.assertEquals(4, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void nextBatchCopiesTheRemainingElements() {
+        final ArrayIterator<Integer> iter = new ArrayIterator<Integer>(new Integer[]{1, 2, 3});
+        iter.next();
+        final Object[] buffer = new Object[3];
+        final int got = iter.nextBatch(buffer);
+        Assert.assertEquals(Arrays.<Object>asList(2, 2, 3), Arrays.asList(got, buffer[0], buffer[1]));
+    }
 }
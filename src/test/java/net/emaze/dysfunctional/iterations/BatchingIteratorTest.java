@@ -0,0 +1,36 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BatchingIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullIteratorYieldsException() {
+        new BatchingIterator<Object>(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void batchOutOfBufferBoundsYieldsException() {
+        new BatchingIterator<Integer>(Arrays.asList(1).iterator()).nextBatch(new Object[2], 1, 2);
+    }
+
+    @Test
+    public void yieldsFewerElementsOnlyWhenExhausted() {
+        final BatchingIterator<Integer> iterator = new BatchingIterator<Integer>(Arrays.asList(1, 2, 3).iterator());
+        final Object[] buffer = new Object[2];
+        final int first = iterator.nextBatch(buffer);
+        final int second = iterator.nextBatch(buffer);
+        Assert.assertEquals(Arrays.asList(2, 1), Arrays.asList(first, second));
+    }
+
+    @Test
+    public void fallbackPullsForeignIteratorsElementByElement() {
+        final Iterator<Integer> foreign = Arrays.asList(1, 2, 3).iterator();
+        final Object[] buffer = new Object[2];
+        final int got = BatchIterator.nextBatch(foreign, buffer, 0, 2);
+        Assert.assertEquals(Arrays.<Object>asList(2, 1, 2, 3), Arrays.asList(got, buffer[0], buffer[1], foreign.next()));
+    }
+}
@@ -0,0 +1,30 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IntCounterIteratorTest {
+
+    @Test
+    public void startsFromZeroByDefault() {
+        final PrimitiveIterator.OfInt iterator = new IntCounterIterator();
+        final int[] got = {iterator.nextInt(), iterator.nextInt(), iterator.nextInt()};
+        Assert.assertArrayEquals(new int[]{0, 1, 2}, got);
+    }
+
+    @Test
+    public void yieldsMaxValueThenStops() {
+        final PrimitiveIterator.OfInt iterator = new IntCounterIterator(Integer.MAX_VALUE);
+        Assert.assertEquals(Integer.MAX_VALUE, iterator.nextInt());
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingPastMaxValueYieldsException() {
+        final PrimitiveIterator.OfInt iterator = new IntCounterIterator(Integer.MAX_VALUE);
+        iterator.nextInt();
+        iterator.nextInt();
+    }
+}
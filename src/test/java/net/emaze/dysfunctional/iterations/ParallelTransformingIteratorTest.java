@@ -0,0 +1,155 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Iterations;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelTransformingIteratorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final Function<Integer, Integer> doubler = i -> i * 2;
+
+    @After
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullIteratorYieldsException() {
+        new ParallelTransformingIterator<Integer, Integer>(null, doubler, executor, 1, 1, ParallelMode.Ordered);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullFunctionYieldsException() {
+        new ParallelTransformingIterator<Integer, Integer>(Iterations.<Integer>iterator(), null, executor, 1, 1, ParallelMode.Ordered);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullExecutorYieldsException() {
+        new ParallelTransformingIterator<Integer, Integer>(Iterations.<Integer>iterator(), doubler, null, 1, 1, ParallelMode.Ordered);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNonPositiveConcurrencyYieldsException() {
+        new ParallelTransformingIterator<Integer, Integer>(Iterations.<Integer>iterator(), doubler, executor, 0, 1, ParallelMode.Ordered);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithWindowSmallerThanConcurrencyYieldsException() {
+        new ParallelTransformingIterator<Integer, Integer>(Iterations.<Integer>iterator(), doubler, executor, 2, 1, ParallelMode.Ordered);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullModeYieldsException() {
+        new ParallelTransformingIterator<Integer, Integer>(Iterations.<Integer>iterator(), doubler, executor, 1, 1, null);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingEmptyIteratorYieldsException() {
+        new ParallelTransformingIterator<Integer, Integer>(Iterations.<Integer>iterator(), doubler, executor, 1, 1, ParallelMode.Ordered).next();
+    }
+
+    @Test
+    public void orderedModeYieldsInEncounterOrder() {
+        final List<Integer> source = new ArrayList<Integer>();
+        final List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i != 1000; ++i) {
+            source.add(i);
+            expected.add(i * 2);
+        }
+        final Function<Integer, Integer> jittering = i -> {
+            if (i % 7 == 0) {
+                Thread.yield();
+            }
+            return i * 2;
+        };
+        Assert.assertEquals(expected, Consumers.all(new ParallelTransformingIterator<Integer, Integer>(source.iterator(), jittering, executor, 4, 8, ParallelMode.Ordered)));
+    }
+
+    @Test
+    public void unorderedModeYieldsCompletedResultsFirst() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Function<Integer, Integer> slowFirst = i -> {
+            if (i == 1) {
+                await(release);
+            }
+            return i;
+        };
+        final Iterator<Integer> transformed = new ParallelTransformingIterator<Integer, Integer>(Iterations.iterator(1, 2), slowFirst, executor, 2, 2, ParallelMode.Unordered);
+        Assert.assertEquals(Integer.valueOf(2), transformed.next());
+        release.countDown();
+        Assert.assertEquals(Integer.valueOf(1), transformed.next());
+        Assert.assertFalse(transformed.hasNext());
+    }
+
+    @Test
+    public void neverExceedsTheConcurrency() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final Function<Integer, Integer> tracking = i -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.yield();
+            running.decrementAndGet();
+            return i;
+        };
+        final List<Integer> source = new ArrayList<Integer>();
+        for (int i = 0; i != 500; ++i) {
+            source.add(i);
+        }
+        Consumers.all(new ParallelTransformingIterator<Integer, Integer>(source.iterator(), tracking, executor, 2, 16, ParallelMode.Unordered));
+        Assert.assertTrue(peak.get() <= 2);
+    }
+
+    @Test
+    public void fetchesAtMostAWindowAheadOfTheConsumer() {
+        final AtomicInteger applied = new AtomicInteger();
+        final Function<Integer, Integer> counting = i -> {
+            applied.incrementAndGet();
+            return i;
+        };
+        final Iterator<Integer> transformed = new ParallelTransformingIterator<Integer, Integer>(new IntCounterIterator(), counting, executor, 2, 4, ParallelMode.Ordered);
+        transformed.next();
+        executor.shutdown();
+        Assert.assertTrue(applied.get() <= 4);
+    }
+
+    @Test
+    public void failuresAreRethrownToTheConsumer() {
+        final IllegalStateException failure = new IllegalStateException("failed");
+        final Function<Integer, Integer> failing = i -> {
+            throw failure;
+        };
+        try {
+            new ParallelTransformingIterator<Integer, Integer>(Iterations.iterator(1), failing, executor, 1, 1, ParallelMode.Ordered).next();
+            Assert.fail("expected the function failure");
+        } catch (IllegalStateException ex) {
+            Assert.assertSame(failure, ex);
+        }
+    }
+
+    @Test
+    public void canTransformOnASingleThreadedExecutor() {
+        final Iterator<Integer> transformed = new ParallelTransformingIterator<Integer, Integer>(Iterations.iterator(1, 2, 3), doubler, Runnable::run, 1, 1, ParallelMode.Unordered);
+        Assert.assertEquals(Arrays.asList(2, 4, 6), Consumers.all(transformed));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
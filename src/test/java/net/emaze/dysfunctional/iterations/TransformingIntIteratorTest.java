@@ -0,0 +1,33 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TransformingIntIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingTransformingIntIteratorWithNullIteratorYieldsException() {
+        new TransformingIntIterator(null, value -> value);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingTransformingIntIteratorWithNullFunctionYieldsException() {
+        new TransformingIntIterator(Arrays.stream(new int[0]).iterator(), null);
+    }
+
+    @Test
+    public void appliesFunctionToEveryElement() {
+        final PrimitiveIterator.OfInt iterator = new TransformingIntIterator(Arrays.stream(new int[]{1, 2, 3}).iterator(), value -> value * 2);
+        final int[] got = {iterator.nextInt(), iterator.nextInt(), iterator.nextInt()};
+        Assert.assertArrayEquals(new int[]{2, 4, 6}, got);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingEmptyIteratorYieldsException() {
+        new TransformingIntIterator(Arrays.stream(new int[0]).iterator(), value -> value).nextInt();
+    }
+}
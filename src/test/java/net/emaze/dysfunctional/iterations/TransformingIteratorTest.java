@@ -54,4 +54,12 @@ public class TransformingIteratorTest {
         TransformingIterator<Integer, String> t = new TransformingIterator<>(bucket.iterator(), new ToStringTransformer<Integer>());
         Assert.assertEquals("1", t.next());
     }
+
+    @Test
+    public void nextBatchTransformsEveryElement() {
+        final TransformingIterator<Integer, String> iterator = new TransformingIterator<Integer, String>(new ArrayIterator<Integer>(new Integer[]{1, 2, 3}), new ToStringTransformer<Integer>());
+        final Object[] buffer = new Object[5];
+        final int got = iterator.nextBatch(buffer, 1, 4);
+        Assert.assertEquals(Arrays.<Object>asList(3, null, "1", "2", "3"), Arrays.asList(got, buffer[0], buffer[1], buffer[2], buffer[3]));
+    }
 }
@@ -0,0 +1,36 @@
+package net.emaze.dysfunctional.iterations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import net.emaze.dysfunctional.Consumers;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UnmodifiableIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateAnUnmodifiableIteratorFromANullIterator() {
+        new UnmodifiableIterator<Object>(null);
+    }
+
+    @Test
+    public void yieldsTheDelegateElements() {
+        final List<Integer> source = Arrays.asList(1, 2, 3);
+        Assert.assertEquals(source, Consumers.all(new UnmodifiableIterator<Integer>(source.iterator())));
+    }
+
+    @Test
+    public void removeIsRejectedAndLeavesTheSourceUntouched() {
+        final List<Integer> source = new ArrayList<Integer>(Arrays.asList(1, 2, 3));
+        final Iterator<Integer> iterator = new UnmodifiableIterator<Integer>(source.iterator());
+        iterator.next();
+        try {
+            iterator.remove();
+            Assert.fail("remove should be unsupported");
+        } catch (UnsupportedOperationException expected) {
+        }
+        Assert.assertEquals(Arrays.asList(1, 2, 3), source);
+    }
+}
@@ -0,0 +1,127 @@
+package net.emaze.dysfunctional.mapped;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.List;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Filtering;
+import net.emaze.dysfunctional.Pagination;
+import net.emaze.dysfunctional.Windowing;
+import net.emaze.dysfunctional.tuples.Pair;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MappedRecordsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullFileYieldsException() {
+        final File file = null;
+        new MappedRecords<Integer>(file, new IntegerRecordCodec());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullCodecYieldsException() throws IOException {
+        new MappedRecords<Integer>(ints(1, 2), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mappingAFileNotMadeOfWholeRecordsYieldsException() throws IOException {
+        new MappedRecords<Long>(ints(1, 2, 3), new LongRecordCodec());
+    }
+
+    @Test
+    public void decodesEveryRecord() throws IOException {
+        final MappedRecords<Integer> records = new MappedRecords<Integer>(ints(1, 2, 3), new IntegerRecordCodec());
+        Assert.assertEquals(Arrays.asList(1, 2, 3), records);
+    }
+
+    @Test
+    public void canMapAnEmptyFile() throws IOException {
+        Assert.assertTrue(new MappedRecords<Integer>(ints(), new IntegerRecordCodec()).isEmpty());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void gettingBeyondTheLastRecordYieldsException() throws IOException {
+        new MappedRecords<Integer>(ints(1), new IntegerRecordCodec()).get(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void recordsAreReadOnly() throws IOException {
+        new MappedRecords<Integer>(ints(1), new IntegerRecordCodec()).add(2);
+    }
+
+    @Test
+    public void recordsCanSpanMultipleSegments() throws IOException {
+        final MappedRecords<Integer> records = new MappedRecords<Integer>(ints(1, 2, 3, 4, 5), ByteOrder.BIG_ENDIAN, new IntegerRecordCodec(), 10);
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), records);
+        Assert.assertEquals(Integer.valueOf(5), records.get(4));
+    }
+
+    @Test
+    public void canMapARegionOfAChannel() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(ints(0, 1, 2, 3), "r")) {
+            final MappedRecords<Integer> records = new MappedRecords<Integer>(file.getChannel(), 4, 8, ByteOrder.BIG_ENDIAN, new IntegerRecordCodec());
+            Assert.assertEquals(Arrays.asList(1, 2), records);
+        }
+    }
+
+    @Test
+    public void decodesInTheGivenByteOrder() throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(ints(1), "r")) {
+            final FileChannel channel = file.getChannel();
+            final MappedRecords<Integer> records = new MappedRecords<Integer>(channel, 0, channel.size(), ByteOrder.LITTLE_ENDIAN, new IntegerRecordCodec());
+            Assert.assertEquals(Integer.valueOf(Integer.reverseBytes(1)), records.get(0));
+        }
+    }
+
+    @Test
+    public void canDecodeLongsAndDoubles() throws IOException {
+        final File file = folder.newFile();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeLong(Long.MAX_VALUE);
+            out.writeDouble(0.5);
+        }
+        Assert.assertEquals(Long.valueOf(Long.MAX_VALUE), new MappedRecords<Long>(file, new LongRecordCodec()).get(0));
+        Assert.assertEquals(Double.valueOf(0.5), new MappedRecords<Double>(file, new DoubleRecordCodec()).get(1));
+    }
+
+    @Test
+    public void canBePaged() throws IOException {
+        final MappedRecords<Integer> records = new MappedRecords<Integer>(ints(0, 1, 2, 3, 4), new IntegerRecordCodec());
+        final Pair<Integer, List<Integer>> page = Pagination.page(2, 2, records);
+        Assert.assertEquals(Pair.of(5, Arrays.asList(2, 3)), page);
+    }
+
+    @Test
+    public void canBeSliced() throws IOException {
+        final MappedRecords<Integer> records = new MappedRecords<Integer>(ints(0, 1, 2, 3, 4), new IntegerRecordCodec());
+        Assert.assertEquals(Arrays.asList(3, 4), Consumers.all(Filtering.slice(3, 10, records)));
+    }
+
+    @Test
+    public void canBeWindowed() throws IOException {
+        final MappedRecords<Integer> records = new MappedRecords<Integer>(ints(0, 1, 2), new IntegerRecordCodec());
+        Assert.assertEquals(Arrays.asList(Arrays.asList(0, 1), Arrays.asList(1, 2)), Consumers.all(Windowing.window(2, records)));
+    }
+
+    private File ints(int... values) throws IOException {
+        final File file = folder.newFile();
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            for (int value : values) {
+                out.writeInt(value);
+            }
+        }
+        return file;
+    }
+}
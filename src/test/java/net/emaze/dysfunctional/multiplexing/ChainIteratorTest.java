@@ -101,4 +101,13 @@ public class ChainIteratorTest {
         iter.next();
         Assert.assertTrue(iteratorsIterator.hasNext());
     }
+
+    @Test
+    public void nextBatchSpansChainedIterators() {
+        final List<Iterator<Integer>> iterators = Arrays.asList(Arrays.asList(1, 2).iterator(), new ArrayList<Integer>().iterator(), Arrays.asList(3).iterator());
+        final ChainIterator<Integer> chain = new ChainIterator<Integer>(iterators.iterator());
+        final Object[] buffer = new Object[4];
+        final int got = chain.nextBatch(buffer);
+        Assert.assertEquals(Arrays.<Object>asList(3, 1, 2, 3), Arrays.asList(got, buffer[0], buffer[1], buffer[2]));
+    }
 }
@@ -0,0 +1,50 @@
+package net.emaze.dysfunctional.multiplexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import net.emaze.dysfunctional.iterations.ArrayIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChainSpliteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullPartsYieldsException() {
+        new ChainSpliterator<Object>(null);
+    }
+
+    @Test
+    public void sizeIsTheSumOfTheParts() {
+        final Spliterator<Integer> spliterator = new ChainSpliterator<Integer>(Arrays.asList(Arrays.asList(1, 2).spliterator(), Arrays.asList(3).spliterator()));
+        Assert.assertEquals(3, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void emptyChainCannotBeSplit() {
+        final Spliterator<Integer> spliterator = new ChainSpliterator<Integer>(Collections.<Spliterator<Integer>>emptyList());
+        Assert.assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    public void chainIteratorSpliteratorYieldsEveryElementInOrder() {
+        final List<ArrayIterator<Integer>> parts = new ArrayList<ArrayIterator<Integer>>();
+        final List<Integer> expected = new ArrayList<Integer>();
+        for (int part = 0; part != 10; ++part) {
+            final Integer[] values = new Integer[1000];
+            for (int i = 0; i != values.length; ++i) {
+                values[i] = part * 1000 + i;
+                expected.add(values[i]);
+            }
+            parts.add(new ArrayIterator<Integer>(values));
+        }
+        final ChainIterator<Integer> chain = new ChainIterator<Integer>(parts.iterator());
+        chain.next();
+        final List<Integer> got = StreamSupport.stream(chain.spliterator(), true).collect(Collectors.toList());
+        Assert.assertEquals(expected.subList(1, expected.size()), got);
+    }
+}
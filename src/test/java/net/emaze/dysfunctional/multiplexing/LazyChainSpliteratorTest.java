@@ -0,0 +1,88 @@
+package net.emaze.dysfunctional.multiplexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LazyChainSpliteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullIteratorsYieldsException() {
+        new LazyChainSpliterator<Object>(null);
+    }
+
+    @Test
+    public void sizeIsUnknown() {
+        final Spliterator<Integer> spliterator = new LazyChainSpliterator<Integer>(Arrays.asList(Arrays.asList(1, 2).iterator()).iterator());
+        Assert.assertEquals(-1, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void emptyChainCannotBeSplit() {
+        final Spliterator<Integer> spliterator = new LazyChainSpliterator<Integer>(new ArrayList<Iterator<Integer>>().iterator());
+        Assert.assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    public void advancingPullsOnlyTheNeededIterators() {
+        final CountingIterators pulled = new CountingIterators();
+        final Spliterator<Integer> spliterator = new LazyChainSpliterator<Integer>(pulled);
+        spliterator.tryAdvance(value -> {
+        });
+        Assert.assertEquals(1, pulled.count);
+    }
+
+    @Test
+    public void creatingDoesNotPullIterators() {
+        final CountingIterators pulled = new CountingIterators();
+        new LazyChainSpliterator<Integer>(pulled).characteristics();
+        Assert.assertEquals(0, pulled.count);
+    }
+
+    @Test
+    public void splitYieldsThePulledPart() {
+        final CountingIterators pulled = new CountingIterators();
+        final Spliterator<Integer> spliterator = new LazyChainSpliterator<Integer>(pulled);
+        final List<Integer> prefix = new ArrayList<Integer>();
+        spliterator.trySplit().forEachRemaining(prefix::add);
+        Assert.assertEquals(Arrays.asList(0), prefix);
+    }
+
+    @Test
+    public void parallelTraversalYieldsEveryElementInOrder() {
+        final List<Iterator<Integer>> parts = new ArrayList<Iterator<Integer>>();
+        final List<Integer> expected = new ArrayList<Integer>();
+        for (int part = 0; part != 10; ++part) {
+            final List<Integer> values = new ArrayList<Integer>();
+            for (int i = 0; i != 1000; ++i) {
+                values.add(part * 1000 + i);
+            }
+            expected.addAll(values);
+            parts.add(values.iterator());
+        }
+        final List<Integer> got = StreamSupport.stream(new LazyChainSpliterator<Integer>(parts.iterator()), true).collect(Collectors.toList());
+        Assert.assertEquals(expected, got);
+    }
+
+    private static class CountingIterators extends ReadOnlyIterator<Iterator<Integer>> {
+
+        private int count;
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+
+        @Override
+        public Iterator<Integer> next() {
+            return Arrays.asList(count++).iterator();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package net.emaze.dysfunctional.multiplexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.order.ComparableComparator;
+import net.emaze.dysfunctional.tuples.Pair;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MergingIteratorTest {
+
+    private final Comparator<Integer> COMPARATOR = new ComparableComparator<Integer>();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullComparatorYieldsException() {
+        new MergingIterator<Integer>(null, Iterations.<Iterator<Integer>>iterator());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullIteratorsYieldsException() {
+        final Iterator<Iterator<Integer>> iterators = null;
+        new MergingIterator<Integer>(COMPARATOR, iterators);
+    }
+
+    @Test
+    public void mergingNoIteratorsYieldsAnEmptyIterator() {
+        Assert.assertFalse(new MergingIterator<Integer>(COMPARATOR, Iterations.<Iterator<Integer>>iterator()).hasNext());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingMergedEmptyIteratorsYieldsException() {
+        new MergingIterator<Integer>(COMPARATOR, Iterations.iterator(Iterations.<Integer>iterator(), Iterations.<Integer>iterator())).next();
+    }
+
+    @Test
+    public void mergesSortedIterators() {
+        final Iterator<Integer> merged = new MergingIterator<Integer>(COMPARATOR, Iterations.iterator(Iterations.iterator(1, 4, 7), Iterations.<Integer>iterator(), Iterations.iterator(2, 5), Iterations.iterator(3, 6)));
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7), Consumers.all(merged));
+    }
+
+    @Test
+    public void mergeIsStable() {
+        final Comparator<Pair<Integer, String>> byFirst = (former, latter) -> Integer.compare(former.first(), latter.first());
+        final Iterator<Pair<Integer, String>> merged = new MergingIterator<Pair<Integer, String>>(byFirst, Iterations.iterator(
+                Iterations.iterator(Pair.of(1, "a"), Pair.of(2, "a")),
+                Iterations.iterator(Pair.of(1, "b"), Pair.of(2, "b")),
+                Iterations.iterator(Pair.of(1, "c"))));
+        Assert.assertEquals(Arrays.asList(Pair.of(1, "a"), Pair.of(1, "b"), Pair.of(1, "c"), Pair.of(2, "a"), Pair.of(2, "b")), Consumers.all(merged));
+    }
+
+    @Test
+    public void yieldsTheSameElementsOfSortingTheConcatenation() {
+        final Random random = new Random(42);
+        for (int k = 1; k != 40; ++k) {
+            final List<Iterator<Integer>> sources = new ArrayList<>();
+            final List<Integer> expected = new ArrayList<>();
+            for (int source = 0; source != k; ++source) {
+                final List<Integer> values = new ArrayList<>();
+                for (int i = random.nextInt(20); i != 0; --i) {
+                    values.add(random.nextInt(50));
+                }
+                Collections.sort(values);
+                expected.addAll(values);
+                sources.add(values.iterator());
+            }
+            Collections.sort(expected);
+            Assert.assertEquals(expected, Consumers.all(new MergingIterator<Integer>(COMPARATOR, sources.iterator())));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package net.emaze.dysfunctional.numbers.statistics;
+
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DoubleStatisticsTest {
+
+    @Test
+    public void emptyStatisticsHaveNeutralValues() {
+        final DoubleStatistics statistics = new DoubleStatistics();
+        Assert.assertEquals(0, statistics.count());
+        Assert.assertEquals(0, statistics.sum(), 0);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, statistics.minimum(), 0);
+        Assert.assertEquals(Double.NEGATIVE_INFINITY, statistics.maximum(), 0);
+        Assert.assertEquals(0, statistics.mean(), 0);
+    }
+
+    @Test
+    public void accumulatesEveryStatistic() {
+        final DoubleStatistics statistics = new DoubleStatistics();
+        for (double value : new double[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            statistics.accept(value);
+        }
+        Assert.assertEquals(8, statistics.count());
+        Assert.assertEquals(40, statistics.sum(), 0);
+        Assert.assertEquals(2, statistics.minimum(), 0);
+        Assert.assertEquals(9, statistics.maximum(), 0);
+        Assert.assertEquals(5, statistics.mean(), 0);
+        Assert.assertEquals(4, statistics.variance(), 1e-12);
+    }
+
+    @Test
+    public void varianceIsStableForLargeOffsets() {
+        final DoubleStatistics statistics = new DoubleStatistics();
+        for (double value : new double[]{1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16}) {
+            statistics.accept(value);
+        }
+        Assert.assertEquals(22.5, statistics.variance(), 1e-6);
+    }
+
+    @Test
+    public void mergingYieldsTheSameStatisticsAsAccumulatingOnce() {
+        final Random random = new Random(42);
+        final DoubleStatistics whole = new DoubleStatistics();
+        final DoubleStatistics former = new DoubleStatistics();
+        final DoubleStatistics latter = new DoubleStatistics();
+        for (int i = 0; i != 1000; ++i) {
+            final double value = random.nextGaussian() * 100;
+            whole.accept(value);
+            (i % 3 == 0 ? former : latter).accept(value);
+        }
+        former.merge(latter);
+        Assert.assertEquals(whole.count(), former.count());
+        Assert.assertEquals(whole.sum(), former.sum(), 1e-9);
+        Assert.assertEquals(whole.minimum(), former.minimum(), 0);
+        Assert.assertEquals(whole.maximum(), former.maximum(), 0);
+        Assert.assertEquals(whole.variance(), former.variance(), 1e-6);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergingNullYieldsException() {
+        new DoubleStatistics().merge(null);
+    }
+}
@@ -0,0 +1,57 @@
+package net.emaze.dysfunctional.numbers.statistics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KahanSumTest {
+
+    @Test
+    public void emptySumIsZero() {
+        Assert.assertEquals(0, new KahanSum().value(), 0);
+    }
+
+    @Test
+    public void smallTermsAreNotLostNextToLargeOnes() {
+        final KahanSum sum = new KahanSum();
+        sum.accept(1e16);
+        for (int i = 0; i != 1000; ++i) {
+            sum.accept(1);
+        }
+        sum.accept(-1e16);
+        Assert.assertEquals(1000, sum.value(), 0);
+    }
+
+    @Test
+    public void compensatesRepeatedTenths() {
+        final KahanSum sum = new KahanSum();
+        for (int i = 0; i != 1000000; ++i) {
+            sum.accept(0.1);
+        }
+        Assert.assertEquals(100000, sum.value(), 1e-9);
+    }
+
+    @Test
+    public void mergingKeepsCompensation() {
+        final KahanSum former = new KahanSum();
+        final KahanSum latter = new KahanSum();
+        former.accept(1e16);
+        latter.accept(1);
+        latter.accept(1);
+        former.merge(latter);
+        former.accept(-1e16);
+        Assert.assertEquals(2, former.value(), 0);
+    }
+
+    @Test
+    public void overflowingSumIsInfinite() {
+        final KahanSum sum = new KahanSum();
+        sum.accept(Double.MAX_VALUE);
+        sum.accept(Double.MAX_VALUE);
+        Assert.assertEquals(Double.POSITIVE_INFINITY, sum.value(), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergingNullYieldsException() {
+        new KahanSum().merge(null);
+    }
+}
@@ -0,0 +1,67 @@
+package net.emaze.dysfunctional.numbers.statistics;
+
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongStatisticsTest {
+
+    @Test
+    public void emptyStatisticsHaveNeutralValues() {
+        final LongStatistics statistics = new LongStatistics();
+        Assert.assertEquals(0, statistics.count());
+        Assert.assertEquals(0, statistics.sum());
+        Assert.assertEquals(Long.MAX_VALUE, statistics.minimum());
+        Assert.assertEquals(Long.MIN_VALUE, statistics.maximum());
+        Assert.assertEquals(0, statistics.mean(), 0);
+        Assert.assertEquals(0, statistics.variance(), 0);
+    }
+
+    @Test
+    public void accumulatesEveryStatistic() {
+        final LongStatistics statistics = new LongStatistics();
+        for (long value : new long[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            statistics.accept(value);
+        }
+        Assert.assertEquals(8, statistics.count());
+        Assert.assertEquals(40, statistics.sum());
+        Assert.assertEquals(2, statistics.minimum());
+        Assert.assertEquals(9, statistics.maximum());
+        Assert.assertEquals(5, statistics.mean(), 0);
+        Assert.assertEquals(4, statistics.variance(), 1e-12);
+        Assert.assertEquals(32d / 7, statistics.sampleVariance(), 1e-12);
+    }
+
+    @Test
+    public void mergingYieldsTheSameStatisticsAsAccumulatingOnce() {
+        final Random random = new Random(42);
+        final LongStatistics whole = new LongStatistics();
+        final LongStatistics former = new LongStatistics();
+        final LongStatistics latter = new LongStatistics();
+        for (int i = 0; i != 1000; ++i) {
+            final long value = random.nextInt(10000);
+            whole.accept(value);
+            (i % 3 == 0 ? former : latter).accept(value);
+        }
+        former.merge(latter);
+        Assert.assertEquals(whole.count(), former.count());
+        Assert.assertEquals(whole.sum(), former.sum());
+        Assert.assertEquals(whole.minimum(), former.minimum());
+        Assert.assertEquals(whole.maximum(), former.maximum());
+        Assert.assertEquals(whole.variance(), former.variance(), 1e-6);
+    }
+
+    @Test
+    public void mergingEmptyStatisticsIsNeutral() {
+        final LongStatistics statistics = new LongStatistics();
+        statistics.accept(3);
+        statistics.merge(new LongStatistics());
+        Assert.assertEquals(1, statistics.count());
+        Assert.assertEquals(3, statistics.minimum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mergingNullYieldsException() {
+        new LongStatistics().merge(null);
+    }
+}
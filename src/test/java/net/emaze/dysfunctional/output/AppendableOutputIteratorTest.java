@@ -0,0 +1,50 @@
+package net.emaze.dysfunctional.output;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AppendableOutputIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithANullAppendable() {
+        new AppendableOutputIterator<StringBuilder>(null);
+    }
+
+    @Test
+    public void appendsEveryElement() {
+        final AppendableOutputIterator<StringBuilder> output = new AppendableOutputIterator<>(new StringBuilder());
+        output.next("1");
+        output.next("2");
+        Assert.assertEquals("12", output.appendable().toString());
+    }
+
+    @Test
+    public void alwaysHasNext() {
+        Assert.assertTrue(new AppendableOutputIterator<>(new StringBuilder()).hasNext());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void ioExceptionsAreRethrownUnchecked() {
+        new AppendableOutputIterator<>(new FailingWriter()).next("1");
+    }
+
+    public static class FailingWriter extends Writer {
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            throw new IOException("failing");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            throw new IOException("failing");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
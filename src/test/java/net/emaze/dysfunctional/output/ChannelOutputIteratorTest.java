@@ -0,0 +1,134 @@
+package net.emaze.dysfunctional.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChannelOutputIteratorTest {
+
+    private static final Charset UTF_16 = StandardCharsets.UTF_16;
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithANullChannel() {
+        new ChannelOutputIterator(null, StandardCharsets.UTF_8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithANullCharset() {
+        new ChannelOutputIterator(Channels.newChannel(new ByteArrayOutputStream()), null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithABufferShorterThanTwoChars() {
+        new ChannelOutputIterator(Channels.newChannel(new ByteArrayOutputStream()), StandardCharsets.UTF_8, 1);
+    }
+
+    @Test
+    public void nothingIsWrittenWithoutElements() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new ChannelOutputIterator(Channels.newChannel(bytes), StandardCharsets.UTF_8).flush();
+        Assert.assertEquals(0, bytes.size());
+    }
+
+    @Test
+    public void encodesEveryElementOnFlush() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ChannelOutputIterator output = new ChannelOutputIterator(Channels.newChannel(bytes), StandardCharsets.UTF_8);
+        output.next("1,");
+        output.next("è€");
+        output.flush();
+        Assert.assertEquals("1,è€", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void canBeFlushedMoreThanOnce() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ChannelOutputIterator output = new ChannelOutputIterator(Channels.newChannel(bytes), StandardCharsets.UTF_8);
+        output.next("a");
+        output.flush();
+        output.next("b");
+        output.flush();
+        Assert.assertEquals("ab", new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void surrogatePairsSpanningBuffersAreEncoded() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ChannelOutputIterator output = new ChannelOutputIterator(Channels.newChannel(bytes), StandardCharsets.UTF_8, 2);
+        final String clef = new String(Character.toChars(0x1D11E));
+        output.next("a");
+        output.next(clef);
+        output.next(clef + "b" + clef);
+        output.flush();
+        Assert.assertEquals("a" + clef + clef + "b" + clef, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void unpairedSurrogatesAreReplaced() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final ChannelOutputIterator output = new ChannelOutputIterator(Channels.newChannel(bytes), StandardCharsets.UTF_8);
+        output.next("a\ud800");
+        output.flush();
+        Assert.assertEquals(new String("a\ud800".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encodesLikeGetBytesWhateverTheBufferSize() {
+        final Random random = new Random(42);
+        for (int attempt = 0; attempt != 200; ++attempt) {
+            final StringBuilder expected = new StringBuilder();
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final Charset charset = attempt % 2 == 0 ? StandardCharsets.UTF_8 : UTF_16;
+            final ChannelOutputIterator output = new ChannelOutputIterator(Channels.newChannel(bytes), charset, 2 + random.nextInt(16));
+            for (int element = random.nextInt(20); element != 0; --element) {
+                final StringBuilder value = new StringBuilder();
+                for (int length = random.nextInt(40); length != 0; --length) {
+                    value.appendCodePoint(random.nextBoolean() ? 'a' + random.nextInt(26) : 0x80 + random.nextInt(0x1FF80));
+                }
+                expected.append(value);
+                output.next(value.toString());
+            }
+            output.flush();
+            Assert.assertArrayEquals(expected.toString().getBytes(charset), bytes.toByteArray());
+        }
+    }
+
+    @Test
+    public void channelIsNotClosed() {
+        final WritableByteChannel channel = Channels.newChannel(new ByteArrayOutputStream());
+        final ChannelOutputIterator output = new ChannelOutputIterator(channel, StandardCharsets.UTF_8);
+        output.next("a");
+        output.flush();
+        Assert.assertTrue(channel.isOpen());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void ioExceptionsAreRethrownUnchecked() {
+        final WritableByteChannel failing = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+                throw new IOException("failing");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final ChannelOutputIterator output = new ChannelOutputIterator(failing, StandardCharsets.UTF_8);
+        output.next("a");
+        output.flush();
+    }
+}
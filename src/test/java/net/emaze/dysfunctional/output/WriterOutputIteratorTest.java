@@ -0,0 +1,50 @@
+package net.emaze.dysfunctional.output;
+
+import java.io.BufferedWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WriterOutputIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithANullWriter() {
+        new WriterOutputIterator(null);
+    }
+
+    @Test
+    public void writesEveryElement() {
+        final StringWriter writer = new StringWriter();
+        final WriterOutputIterator output = new WriterOutputIterator(writer);
+        output.next("1");
+        output.next("2");
+        Assert.assertEquals("12", writer.toString());
+    }
+
+    @Test
+    public void nullElementsAreWrittenAsNull() {
+        final StringWriter writer = new StringWriter();
+        new WriterOutputIterator(writer).next(null);
+        Assert.assertEquals("null", writer.toString());
+    }
+
+    @Test
+    public void flushFlushesTheWriter() {
+        final StringWriter target = new StringWriter();
+        final WriterOutputIterator output = new WriterOutputIterator(new BufferedWriter(target));
+        output.next("1");
+        output.flush();
+        Assert.assertEquals("1", target.toString());
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void ioExceptionsAreRethrownUnchecked() {
+        new WriterOutputIterator(new AppendableOutputIteratorTest.FailingWriter()).next("1");
+    }
+
+    @Test(expected = UncheckedIOException.class)
+    public void flushIOExceptionsAreRethrownUnchecked() {
+        new WriterOutputIterator(new AppendableOutputIteratorTest.FailingWriter()).flush();
+    }
+}
@@ -0,0 +1,75 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import net.emaze.dysfunctional.order.NextLongSequencingPolicy;
+import net.emaze.dysfunctional.order.ComparableComparator;
+import net.emaze.dysfunctional.order.JustBeforeNothingComparator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArithmeticRangeSpliteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithBeginGreaterThanEndYieldsException() {
+        new ArithmeticRangeSpliterator<Long>(2, 1, Long::valueOf);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullBoxerYieldsException() {
+        new ArithmeticRangeSpliterator<Long>(1, 2, null);
+    }
+
+    @Test
+    public void splitsInHalves() {
+        final Spliterator<Long> spliterator = new ArithmeticRangeSpliterator<Long>(0, 10, Long::valueOf);
+        final Spliterator<Long> prefix = spliterator.trySplit();
+        Assert.assertEquals(Arrays.asList(5L, 5L), Arrays.asList(prefix.estimateSize(), spliterator.estimateSize()));
+    }
+
+    @Test
+    public void singletonCannotBeSplit() {
+        final Spliterator<Long> spliterator = new ArithmeticRangeSpliterator<Long>(0, 1, Long::valueOf);
+        Assert.assertNull(spliterator.trySplit());
+    }
+
+    @Test
+    public void prefixPrecedesSuffix() {
+        final Spliterator<Long> spliterator = new ArithmeticRangeSpliterator<Long>(0, 3, Long::valueOf);
+        final List<Long> got = new ArrayList<Long>();
+        spliterator.trySplit().forEachRemaining(got::add);
+        spliterator.forEachRemaining(got::add);
+        Assert.assertEquals(Arrays.asList(0L, 1L, 2L), got);
+    }
+
+    @Test
+    public void integerRangesAreSized() {
+        final DenseRange<Integer> range = RangeMother.r(1, 10);
+        final Spliterator<Integer> spliterator = ((RangeIterator<Integer>) range.iterator()).spliterator();
+        Assert.assertEquals(10, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void parallelStreamsOverLongRangesYieldEveryElementInOrder() {
+        final DenseRange<Long> range = new DenseRange<Long>(new NextLongSequencingPolicy(), new JustBeforeNothingComparator<Long>(new ComparableComparator<Long>()), Range.Endpoint.Include, 0L, Optional.of(10000L), Range.Endpoint.Exclude);
+        final Spliterator<Long> spliterator = ((RangeIterator<Long>) range.iterator()).spliterator();
+        final List<Long> got = StreamSupport.stream(spliterator, true).collect(Collectors.toList());
+        final List<Long> expected = new ArrayList<Long>();
+        for (long i = 0; i != 10000; ++i) {
+            expected.add(i);
+        }
+        Assert.assertEquals(expected, got);
+    }
+
+    @Test
+    public void unboundedRangesAreNotSized() {
+        final DenseRange<Integer> range = new DenseRange<Integer>(RangeMother.sequencer, RangeMother.comparator, Range.Endpoint.Include, 0, Optional.empty(), Range.Endpoint.Exclude);
+        final Spliterator<Integer> spliterator = ((RangeIterator<Integer>) range.iterator()).spliterator();
+        Assert.assertEquals(-1, spliterator.getExactSizeIfKnown());
+    }
+}
@@ -0,0 +1,143 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LongRangeSetTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingLongRangeWithFirstGreaterThanLastYieldsException() {
+        LongRange.closed(2, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingFromNullRangesYieldsException() {
+        LongRangeSet.of((Iterable<LongRange>) null);
+    }
+
+    @Test
+    public void overlappingAndAdjacentRangesAreCoalesced() {
+        final LongRangeSet set = LongRangeSet.of(LongRange.closed(5, 6), LongRange.closed(0, 2), LongRange.closed(3, 4), LongRange.closed(10, 12));
+        Assert.assertEquals(LongRangeSet.of(LongRange.closed(0, 6), LongRange.closed(10, 12)), set);
+    }
+
+    @Test
+    public void canCoalesceRangesEndingAtMaxValue() {
+        final LongRangeSet set = LongRangeSet.of(LongRange.closed(Long.MAX_VALUE - 1, Long.MAX_VALUE), LongRange.degenerate(Long.MAX_VALUE));
+        Assert.assertEquals(1, set.ranges());
+    }
+
+    @Test
+    public void differenceCanReachMaxValue() {
+        final LongRangeSet set = LongRangeSet.closed(0, Long.MAX_VALUE).difference(LongRangeSet.closed(0, Long.MAX_VALUE - 1));
+        Assert.assertEquals(LongRangeSet.closed(Long.MAX_VALUE, Long.MAX_VALUE), set);
+    }
+
+    @Test
+    public void containsValuesInAnyRange() {
+        final LongRangeSet set = LongRangeSet.of(LongRange.closed(0, 2), LongRange.closed(10, 12));
+        Assert.assertTrue(set.contains(11));
+    }
+
+    @Test
+    public void doesNotContainValuesInGaps() {
+        final LongRangeSet set = LongRangeSet.of(LongRange.closed(0, 2), LongRange.closed(10, 12));
+        Assert.assertFalse(set.contains(5));
+    }
+
+    @Test
+    public void iteratesEveryValue() {
+        final LongRangeSet set = LongRangeSet.of(LongRange.closed(0, 1), LongRange.closed(5, 6));
+        final List<Long> got = new ArrayList<Long>();
+        for (PrimitiveIterator.OfLong values = set.iterator(); values.hasNext();) {
+            got.add(values.nextLong());
+        }
+        Assert.assertEquals(Arrays.asList(0L, 1L, 5L, 6L), got);
+    }
+
+    @Test
+    public void canConvertIntegerRanges() {
+        final SparseRange<Integer> range = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(5, 6));
+        final LongRangeSet set = LongRangeSet.of(range, new IntegerLongRangeAdapter());
+        Assert.assertEquals(LongRangeSet.of(LongRange.closed(0, 2), LongRange.closed(5, 6)), set);
+    }
+
+    @Test
+    public void canIterateAdaptedValues() {
+        final LongRangeSet set = LongRangeSet.closed(1, 3);
+        final List<Integer> got = new ArrayList<Integer>();
+        for (Iterator<Integer> values = set.iterator(new IntegerLongRangeAdapter()); values.hasNext();) {
+            got.add(values.next());
+        }
+        Assert.assertEquals(Arrays.asList(1, 2, 3), got);
+    }
+
+    @Test
+    public void inet4AddressAdapterIsUnsigned() throws Exception {
+        final Inet4Address address = (Inet4Address) InetAddress.getByName("255.255.255.254");
+        final Inet4AddressLongRangeAdapter adapter = new Inet4AddressLongRangeAdapter();
+        Assert.assertEquals(0xfffffffeL, adapter.toLong(address));
+    }
+
+    @Test
+    public void inet4AddressAdapterRoundTrips() throws Exception {
+        final Inet4Address address = (Inet4Address) InetAddress.getByName("192.168.1.10");
+        final Inet4AddressLongRangeAdapter adapter = new Inet4AddressLongRangeAdapter();
+        Assert.assertEquals(address, adapter.fromLong(adapter.toLong(address)));
+    }
+
+    @Test
+    public void setOperationsAgreeWithBitSets() {
+        final Random random = new Random(42);
+        for (int round = 0; round != 500; ++round) {
+            final BitSet lhsBits = new BitSet();
+            final BitSet rhsBits = new BitSet();
+            final LongRangeSet lhs = random(random, lhsBits);
+            final LongRangeSet rhs = random(random, rhsBits);
+            final BitSet union = (BitSet) lhsBits.clone();
+            union.or(rhsBits);
+            final BitSet intersection = (BitSet) lhsBits.clone();
+            intersection.and(rhsBits);
+            final BitSet difference = (BitSet) lhsBits.clone();
+            difference.andNot(rhsBits);
+            final BitSet symmetricDifference = (BitSet) lhsBits.clone();
+            symmetricDifference.xor(rhsBits);
+            Assert.assertEquals(union, bits(lhs.union(rhs)));
+            Assert.assertEquals(intersection, bits(lhs.intersection(rhs)));
+            Assert.assertEquals(difference, bits(lhs.difference(rhs)));
+            Assert.assertEquals(symmetricDifference, bits(lhs.symmetricDifference(rhs)));
+            Assert.assertEquals(lhsBits.intersects(rhsBits), lhs.overlaps(rhs));
+            for (int value = 0; value != 64; ++value) {
+                Assert.assertEquals(lhsBits.get(value), lhs.contains(value));
+            }
+        }
+    }
+
+    private static LongRangeSet random(Random random, BitSet bits) {
+        final List<LongRange> ranges = new ArrayList<LongRange>();
+        for (int i = random.nextInt(5); i != 0; --i) {
+            final int first = random.nextInt(60);
+            final int last = first + random.nextInt(5);
+            ranges.add(LongRange.closed(first, last));
+            bits.set(first, last + 1);
+        }
+        return LongRangeSet.of(ranges);
+    }
+
+    private static BitSet bits(LongRangeSet set) {
+        final BitSet bits = new BitSet();
+        for (PrimitiveIterator.OfLong values = set.iterator(); values.hasNext();) {
+            bits.set((int) values.nextLong());
+        }
+        return bits;
+    }
+}
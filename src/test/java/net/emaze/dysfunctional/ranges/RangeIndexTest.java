@@ -0,0 +1,93 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RangeIndexTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingRangeIndexWithNullComparatorYieldsException() {
+        new RangeIndex<Integer>(null, Collections.<Range<Integer>>emptyList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingRangeIndexWithNullRangesYieldsException() {
+        new RangeIndex<Integer>(RangeMother.comparator, null);
+    }
+
+    @Test
+    public void emptyIndexContainsNothing() {
+        final RangeIndex<Integer> index = new RangeIndex<Integer>(RangeMother.comparator, Collections.<Range<Integer>>emptyList());
+        Assert.assertEquals(Collections.emptyList(), index.containing(1));
+    }
+
+    @Test
+    public void yieldsEveryRangeContainingTheElementInInsertionOrder() {
+        final DenseRange<Integer> wide = RangeMother.r(0, 10);
+        final DenseRange<Integer> narrow = RangeMother.r(4, 5);
+        final DenseRange<Integer> far = RangeMother.r(20, 30);
+        final RangeIndex<Integer> index = new RangeIndex<Integer>(RangeMother.comparator, Arrays.asList(narrow, far, wide));
+        Assert.assertEquals(Arrays.<Range<Integer>>asList(narrow, wide), index.containing(5));
+    }
+
+    @Test
+    public void sparseRangesAreYieldedOnce() {
+        final SparseRange<Integer> sparse = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(4, 6));
+        final RangeIndex<Integer> index = new RangeIndex<Integer>(RangeMother.comparator, Arrays.asList(sparse));
+        Assert.assertEquals(Arrays.<Range<Integer>>asList(sparse), index.overlapping(RangeMother.r(0, 10)));
+    }
+
+    @Test
+    public void gapsOfSparseRangesAreNotMatched() {
+        final SparseRange<Integer> sparse = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(4, 6));
+        final RangeIndex<Integer> index = new RangeIndex<Integer>(RangeMother.comparator, Arrays.asList(sparse));
+        Assert.assertEquals(Collections.emptyList(), index.containing(3));
+    }
+
+    @Test
+    public void yieldsSameOverlapsAsLinearScan() {
+        final Random random = new Random(7);
+        final List<Range<Integer>> ranges = new ArrayList<Range<Integer>>();
+        for (int i = 0; i != 300; ++i) {
+            final int lower = random.nextInt(1000);
+            ranges.add(RangeMother.r(lower, lower + random.nextInt(50)));
+        }
+        final RangeIndex<Integer> index = new RangeIndex<Integer>(RangeMother.comparator, ranges);
+        for (int i = 0; i != 300; ++i) {
+            final int lower = random.nextInt(1000);
+            final DenseRange<Integer> query = RangeMother.r(lower, lower + random.nextInt(20));
+            final List<Range<Integer>> expected = new ArrayList<Range<Integer>>();
+            for (Range<Integer> range : ranges) {
+                if (range.overlaps(query)) {
+                    expected.add(range);
+                }
+            }
+            Assert.assertEquals(expected, index.overlapping(query));
+        }
+    }
+
+    @Test
+    public void yieldsSameContainmentsAsLinearScan() {
+        final Random random = new Random(11);
+        final List<Range<Integer>> ranges = new ArrayList<Range<Integer>>();
+        for (int i = 0; i != 300; ++i) {
+            final int lower = random.nextInt(1000);
+            ranges.add(RangeMother.r(lower, lower + random.nextInt(50)));
+        }
+        final RangeIndex<Integer> index = new RangeIndex<Integer>(RangeMother.comparator, ranges);
+        for (int element = -5; element != 1060; ++element) {
+            final List<Range<Integer>> expected = new ArrayList<Range<Integer>>();
+            for (Range<Integer> range : ranges) {
+                if (range.contains(element)) {
+                    expected.add(range);
+                }
+            }
+            Assert.assertEquals(expected, index.containing(element));
+        }
+    }
+}
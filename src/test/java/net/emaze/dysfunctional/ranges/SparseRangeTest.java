@@ -42,6 +42,48 @@ public class SparseRangeTest {
             Assert.assertEquals(former.hashCode(), latter.hashCode());
         }
 
+        @Test
+        public void doesNotContainElementsInGaps() {
+            SparseRange<Integer> sr = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(5, 7), RangeMother.p(10, 12));
+            Assert.assertFalse(sr.contains(8));
+        }
+
+        @Test
+        public void containsElementsOfEveryRange() {
+            SparseRange<Integer> sr = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(5, 7), RangeMother.p(10, 12));
+            Assert.assertTrue(sr.contains(0) && sr.contains(7) && sr.contains(11));
+        }
+
+        @Test
+        public void doesNotContainElementsOutsideBounds() {
+            SparseRange<Integer> sr = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(5, 7));
+            Assert.assertFalse(sr.contains(-1) || sr.contains(8));
+        }
+
+        @Test
+        public void unsortedSparseRangeContainsElementsOfEveryRange() {
+            SparseRange<Integer> sr = new SparseRange<Integer>(RangeMother.sequencer, RangeMother.comparator, Arrays.asList(RangeMother.r(5, 7), RangeMother.r(0, 1)));
+            Assert.assertTrue(sr.contains(0) && sr.contains(6));
+        }
+
+        @Test
+        public void overlapsRangeFallingInAnyRange() {
+            SparseRange<Integer> sr = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(5, 7), RangeMother.p(10, 12));
+            Assert.assertTrue(sr.overlaps(RangeMother.r(7, 9)));
+        }
+
+        @Test
+        public void doesNotOverlapRangeFallingInGap() {
+            SparseRange<Integer> sr = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(5, 7), RangeMother.p(10, 12));
+            Assert.assertFalse(sr.overlaps(RangeMother.r(8, 9)));
+        }
+
+        @Test
+        public void overlapsSparseRangeSharingAnyElement() {
+            SparseRange<Integer> sr = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(5, 7), RangeMother.p(10, 12));
+            Assert.assertTrue(sr.overlaps(RangeMother.r(RangeMother.p(3, 4), RangeMother.p(12, 14))));
+        }
+
         @Test
         public void containsElementIfAnyRangeContainsIt() {
             SparseRange<Integer> sr = RangeMother.r(RangeMother.p(0, 2), RangeMother.p(3, 5));
@@ -0,0 +1,94 @@
+package net.emaze.dysfunctional.ranges;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.BinaryOperator;
+import net.emaze.dysfunctional.ranges.Range.Endpoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SweepTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSweepWithNullOperationYieldsException() {
+        new Sweep<Integer>(RangeMother.sequencer, RangeMother.comparator, RangeMother.emptyValue, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sweepingNullIteratorYieldsException() {
+        new Sweep<Integer>(RangeMother.sequencer, RangeMother.comparator, RangeMother.emptyValue, Sweep.Operation.Union).apply(null);
+    }
+
+    @Test
+    public void unionMergesAdjacentRanges() {
+        final List<Range<Integer>> ranges = new ArrayList<Range<Integer>>();
+        ranges.add(RangeMother.r(5, 9));
+        ranges.add(RangeMother.r(0, 4));
+        final Range<Integer> got = sweep(Sweep.Operation.Union, ranges);
+        Assert.assertEquals(RangeMother.r(0, 9), got);
+    }
+
+    @Test
+    public void intersectionOfUnboundedRangesIsUnbounded() {
+        final List<Range<Integer>> ranges = new ArrayList<Range<Integer>>();
+        ranges.add(new DenseRange<Integer>(RangeMother.sequencer, RangeMother.comparator, Endpoint.Include, 0, Optional.empty(), Endpoint.Exclude));
+        ranges.add(new DenseRange<Integer>(RangeMother.sequencer, RangeMother.comparator, Endpoint.Include, 3, Optional.empty(), Endpoint.Exclude));
+        final Range<Integer> got = sweep(Sweep.Operation.Intersection, ranges);
+        Assert.assertEquals(new DenseRange<Integer>(RangeMother.sequencer, RangeMother.comparator, Endpoint.Include, 3, Optional.empty(), Endpoint.Exclude), got);
+    }
+
+    @Test
+    public void agreesWithPairwiseUnion() {
+        agreesWithPairwise(Sweep.Operation.Union, new Union<Integer>(RangeMother.sequencer, RangeMother.comparator, RangeMother.emptyValue));
+    }
+
+    @Test
+    public void agreesWithPairwiseIntersection() {
+        agreesWithPairwise(Sweep.Operation.Intersection, new Intersection<Integer>(RangeMother.sequencer, RangeMother.comparator, RangeMother.emptyValue));
+    }
+
+    @Test
+    public void agreesWithPairwiseDifference() {
+        agreesWithPairwise(Sweep.Operation.Difference, new Difference<Integer>(RangeMother.sequencer, RangeMother.comparator, RangeMother.emptyValue));
+    }
+
+    @Test
+    public void agreesWithPairwiseSymmetricDifference() {
+        agreesWithPairwise(Sweep.Operation.SymmetricDifference, new SymmetricDifference<Integer>(RangeMother.sequencer, RangeMother.comparator, RangeMother.emptyValue));
+    }
+
+    private static void agreesWithPairwise(Sweep.Operation operation, BinaryOperator<Range<Integer>> pairwise) {
+        final Random random = new Random(7);
+        for (int round = 0; round != 300; ++round) {
+            final List<Range<Integer>> ranges = new ArrayList<Range<Integer>>();
+            for (int i = 1 + random.nextInt(5); i != 0; --i) {
+                ranges.add(random(random));
+            }
+            Range<Integer> expected = ranges.get(0);
+            for (Range<Integer> range : ranges.subList(1, ranges.size())) {
+                expected = pairwise.apply(expected, range);
+            }
+            final Range<Integer> got = sweep(operation, ranges);
+            for (int value = -1; value != 45; ++value) {
+                Assert.assertEquals(String.format("%s of %s at %s", operation, ranges, value), expected.contains(value), got.contains(value));
+            }
+        }
+    }
+
+    private static Range<Integer> random(Random random) {
+        final List<DenseRange<Integer>> parts = new ArrayList<DenseRange<Integer>>();
+        int cursor = random.nextInt(5);
+        for (int i = 1 + random.nextInt(3); i != 0 && cursor < 40; --i) {
+            final int last = cursor + random.nextInt(6);
+            parts.add(RangeMother.r(cursor, last));
+            cursor = last + 2 + random.nextInt(5);
+        }
+        return new MakeRange<Integer>(RangeMother.sequencer, RangeMother.comparator, RangeMother.emptyValue).apply(parts);
+    }
+
+    private static Range<Integer> sweep(Sweep.Operation operation, List<Range<Integer>> ranges) {
+        return new Sweep<Integer>(RangeMother.sequencer, RangeMother.comparator, RangeMother.emptyValue, operation).apply(ranges.iterator());
+    }
+}
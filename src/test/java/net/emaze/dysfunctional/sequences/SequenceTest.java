@@ -12,7 +12,10 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import net.emaze.dysfunctional.Iterations;
 import net.emaze.dysfunctional.Maps;
+import net.emaze.dysfunctional.Multiplexing;
 import net.emaze.dysfunctional.Sequences;
+import net.emaze.dysfunctional.iterations.ArrayIterator;
+import net.emaze.dysfunctional.iterations.ReadOnlyIterator;
 import net.emaze.dysfunctional.options.Box;
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,6 +29,31 @@ public class SequenceTest {
         Assert.assertEquals(4, s.count());
     }
 
+    @Test
+    public void sequencesFromSplittableIteratorsAreSized() {
+        final Sequence<Integer> s = Sequence.from(new ArrayIterator<Integer>(new Integer[]{1, 2, 3, 4}));
+        Assert.assertEquals(4, s.spliterator().getExactSizeIfKnown());
+    }
+
+    @Test
+    public void sequencesFromChainsOfUnboundedIteratorsAreLazy() {
+        final Iterator<Iterator<Integer>> unbounded = new ReadOnlyIterator<Iterator<Integer>>() {
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Iterator<Integer> next() {
+                return Iterations.iterator(++count);
+            }
+        };
+        final Sequence<Integer> s = Sequence.from(Multiplexing.chain(unbounded));
+        Assert.assertEquals(Arrays.asList(1, 2, 3), s.limit(3).toList());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void throwIfIteratorIsNull() {
         final Iterator<Integer> iterator = null;
@@ -0,0 +1,75 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.order.ComparableComparator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GallopingIntersectionIteratorTest {
+
+    private final Comparator<Integer> COMPARATOR = new ComparableComparator<Integer>();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullSmallerYieldsException() {
+        new GallopingIntersectionIterator<Integer>(null, Arrays.asList(1), COMPARATOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullLargerYieldsException() {
+        new GallopingIntersectionIterator<Integer>(Iterations.<Integer>iterator(), null, COMPARATOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNonRandomAccessLargerYieldsException() {
+        new GallopingIntersectionIterator<Integer>(Iterations.<Integer>iterator(), new LinkedList<Integer>(), COMPARATOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullComparatorYieldsException() {
+        new GallopingIntersectionIterator<Integer>(Iterations.<Integer>iterator(), Arrays.asList(1), null);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingEmptyIntersectionYieldsException() {
+        new GallopingIntersectionIterator<Integer>(Iterations.iterator(5), Arrays.asList(1, 2, 3), COMPARATOR).next();
+    }
+
+    @Test
+    public void yieldsElementsOfBothSides() {
+        final List<Integer> larger = new ArrayList<Integer>();
+        for (int i = 0; i != 1000; ++i) {
+            larger.add(i);
+        }
+        final GallopingIntersectionIterator<Integer> iterator = new GallopingIntersectionIterator<Integer>(Iterations.iterator(-1, 3, 900, 999, 1000), larger, COMPARATOR);
+        Assert.assertEquals(Arrays.asList(3, 900, 999), Consumers.all(iterator));
+    }
+
+    @Test
+    public void yieldsTheSameElementsOfALockstepIntersection() {
+        final Random random = new Random(17);
+        for (int round = 0; round != 200; ++round) {
+            final List<Integer> smaller = sorted(random, random.nextInt(10), 100);
+            final List<Integer> larger = sorted(random, random.nextInt(300), 100);
+            final List<Integer> expected = Consumers.all(new SortedIntersectionIterator<Integer>(smaller.iterator(), larger.iterator(), COMPARATOR));
+            Assert.assertEquals(expected, Consumers.all(new GallopingIntersectionIterator<Integer>(smaller.iterator(), larger, COMPARATOR)));
+        }
+    }
+
+    private static List<Integer> sorted(Random random, int size, int bound) {
+        final List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i != size; ++i) {
+            values.add(random.nextInt(bound));
+        }
+        Collections.sort(values);
+        return values;
+    }
+}
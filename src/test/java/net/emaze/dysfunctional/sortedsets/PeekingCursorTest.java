@@ -0,0 +1,37 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PeekingCursorTest {
+
+    @Test
+    public void creatingDoesNotConsumeTheIterator() {
+        final Iterator<Integer> iterator = Arrays.asList(1, 2).iterator();
+        new PeekingCursor<Integer>(iterator);
+        Assert.assertEquals(Integer.valueOf(1), iterator.next());
+    }
+
+    @Test
+    public void headIsNotConsumedByPeeking() {
+        final PeekingCursor<Integer> cursor = new PeekingCursor<Integer>(Arrays.asList(1, 2).iterator());
+        cursor.head();
+        Assert.assertEquals(Integer.valueOf(1), cursor.head());
+    }
+
+    @Test
+    public void advancingBeforePeekingSkipsTheFirstElement() {
+        final PeekingCursor<Integer> cursor = new PeekingCursor<Integer>(Arrays.asList(1, 2).iterator());
+        cursor.advance();
+        Assert.assertEquals(Integer.valueOf(2), cursor.pop());
+        Assert.assertFalse(cursor.present());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void headOfAConsumedCursorYieldsException() {
+        new PeekingCursor<Integer>(Arrays.<Integer>asList().iterator()).head();
+    }
+}
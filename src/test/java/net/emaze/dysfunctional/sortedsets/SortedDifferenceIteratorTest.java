@@ -0,0 +1,86 @@
+package net.emaze.dysfunctional.sortedsets;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.order.ComparableComparator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SortedDifferenceIteratorTest {
+
+    private final Comparator<Integer> COMPARATOR = new ComparableComparator<Integer>();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullFormerYieldsException() {
+        new SortedDifferenceIterator<Integer>(null, Iterations.<Integer>iterator(), COMPARATOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullLatterYieldsException() {
+        new SortedDifferenceIterator<Integer>(Iterations.<Integer>iterator(), null, COMPARATOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullComparatorYieldsException() {
+        new SortedDifferenceIterator<Integer>(Iterations.<Integer>iterator(), Iterations.<Integer>iterator(), null);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingEmptyIteratorsYieldsException() {
+        new SortedDifferenceIterator<Integer>(Iterations.<Integer>iterator(), Iterations.<Integer>iterator(), COMPARATOR).next();
+    }
+
+    @Test
+    public void yieldsElementsOfFormerMissingFromLatter() {
+        final SortedDifferenceIterator<Integer> iterator = new SortedDifferenceIterator<Integer>(Iterations.iterator(1, 2, 2, 4), Iterations.iterator(2, 3), COMPARATOR);
+        Assert.assertEquals(Arrays.asList(1, 2, 4), Consumers.all(iterator));
+    }
+
+    @Test
+    public void yieldsTheSameElementsOfAMultisetComputation() {
+        final Random random = new Random(17);
+        for (int round = 0; round != 200; ++round) {
+            final List<Integer> former = sorted(random);
+            final List<Integer> latter = sorted(random);
+            final SortedDifferenceIterator<Integer> iterator = new SortedDifferenceIterator<Integer>(former.iterator(), latter.iterator(), COMPARATOR);
+            Assert.assertEquals(expected(former, latter), Consumers.all(iterator));
+        }
+    }
+
+    private static List<Integer> sorted(Random random) {
+        final List<Integer> values = new ArrayList<Integer>();
+        final int size = random.nextInt(20);
+        for (int i = 0; i != size; ++i) {
+            values.add(random.nextInt(10));
+        }
+        Collections.sort(values);
+        return values;
+    }
+
+    private static List<Integer> expected(List<Integer> former, List<Integer> latter) {
+        final TreeMap<Integer, Integer> values = new TreeMap<Integer, Integer>();
+        for (Integer value : former) {
+            values.put(value, 0);
+        }
+        for (Integer value : latter) {
+            values.put(value, 0);
+        }
+        final List<Integer> result = new ArrayList<Integer>();
+        for (Integer value : values.keySet()) {
+            final int m = Collections.frequency(former, value);
+            final int n = Collections.frequency(latter, value);
+            for (int i = 0; i != Math.max(m - n, 0); ++i) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+}
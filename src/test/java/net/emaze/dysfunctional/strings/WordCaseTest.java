@@ -0,0 +1,78 @@
+package net.emaze.dysfunctional.strings;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WordCaseTest {
+
+    @Test
+    public void canLowerCaseAsciiWords() {
+        Assert.assertEquals("one1_", WordCase.Lower.appendTo("oNE1_", new StringBuilder()).toString());
+    }
+
+    @Test
+    public void canUpperCaseAsciiWords() {
+        Assert.assertEquals("ONE1_", WordCase.Upper.appendTo("oNe1_", new StringBuilder()).toString());
+    }
+
+    @Test
+    public void canTitleCaseAsciiWords() {
+        Assert.assertEquals("One1_", WordCase.Title.appendTo("oNE1_", new StringBuilder()).toString());
+    }
+
+    @Test
+    public void wordsAreAppended() {
+        Assert.assertEquals("prefix:one", WordCase.Lower.appendTo("ONE", new StringBuilder("prefix:")).toString());
+    }
+
+    @Test
+    public void nonAsciiWordsAreConvertedLikeStrings() {
+        Assert.assertEquals("STRASSE", WordCase.Upper.appendTo("straße", new StringBuilder()).toString());
+        Assert.assertEquals("Èlan", WordCase.Title.appendTo("èLAN", new StringBuilder()).toString());
+        Assert.assertEquals("ωmega", WordCase.Lower.appendTo("ΩMEGA", new StringBuilder()).toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotTitleCaseAnEmptyWord() {
+        WordCase.Title.appendTo("", new StringBuilder());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotConvertANullWord() {
+        WordCase.Lower.appendTo(null, new StringBuilder());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotAppendIntoANullStringBuilder() {
+        WordCase.Lower.appendTo("a", null);
+    }
+
+    @Test
+    public void turkishLocaleIsHonoured() {
+        final Locale previous = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            Assert.assertEquals("TITLE".toLowerCase(), WordCase.Lower.appendTo("TITLE", new StringBuilder()).toString());
+            Assert.assertEquals("title".toUpperCase(), WordCase.Upper.appendTo("title", new StringBuilder()).toString());
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    public void convertsLikeStringCaseConversions() {
+        final Random random = new Random(7);
+        for (int attempt = 0; attempt != 1000; ++attempt) {
+            final StringBuilder word = new StringBuilder();
+            for (int length = 1 + random.nextInt(12); length != 0; --length) {
+                word.appendCodePoint(random.nextInt(8) != 0 ? 0x20 + random.nextInt(0x60) : 0x80 + random.nextInt(0x2000));
+            }
+            final String source = word.toString();
+            Assert.assertEquals(source.toLowerCase(), WordCase.Lower.appendTo(source, new StringBuilder()).toString());
+            Assert.assertEquals(source.toUpperCase(), WordCase.Upper.appendTo(source, new StringBuilder()).toString());
+            Assert.assertEquals(new ToTitleCase().apply(source), WordCase.Title.appendTo(source, new StringBuilder()).toString());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package net.emaze.dysfunctional.strings;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class WordsCaseConverterTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithANullFirstWordCase() {
+        new WordsCaseConverter(null, WordCase.Lower, "");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithANullOtherWordsCase() {
+        new WordsCaseConverter(WordCase.Lower, null, "");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithANullGlyph() {
+        new WordsCaseConverter(WordCase.Lower, WordCase.Lower, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotCreateWithANonPositiveCacheSize() {
+        new WordsCaseConverter(WordCase.Lower, WordCase.Lower, "", 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cannotConvertANullArray() {
+        new WordsCaseConverter(WordCase.Lower, WordCase.Lower, "").apply(null);
+    }
+
+    @Test
+    public void emptyArrayIsConvertedToAnEmptyString() {
+        Assert.assertEquals("", new WordsCaseConverter(WordCase.Lower, WordCase.Title, "").apply(new String[0]));
+    }
+
+    @Test
+    public void firstWordAndOtherWordsAreConvertedToTheirCases() {
+        final String got = new WordsCaseConverter(WordCase.Lower, WordCase.Title, "").apply(new String[]{"ONE", "tWo", "threE"});
+        Assert.assertEquals("oneTwoThree", got);
+    }
+
+    @Test
+    public void glyphIsInterposedBetweenEveryWord() {
+        final String got = new WordsCaseConverter(WordCase.Upper, WordCase.Upper, "_").apply(new String[]{"one", "tWo", "threE"});
+        Assert.assertEquals("ONE_TWO_THREE", got);
+    }
+
+    @Test
+    public void canAppendIntoAStringBuilder() {
+        final StringBuilder builder = new StringBuilder("get");
+        new WordsCaseConverter(WordCase.Title, WordCase.Title, "").appendTo(new String[]{"user", "NAME"}, builder);
+        Assert.assertEquals("getUserName", builder.toString());
+    }
+
+    @Test
+    public void cachedConversionsYieldTheSameResult() {
+        final WordsCaseConverter converter = new WordsCaseConverter(WordCase.Lower, WordCase.Title, "", 2);
+        final String[] words = {"user", "name"};
+        final String first = converter.apply(words);
+        final String second = converter.apply(new String[]{"user", "name"});
+        Assert.assertEquals("userName", first);
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void cacheIsNotAffectedByChangesToConvertedArrays() {
+        final WordsCaseConverter converter = new WordsCaseConverter(WordCase.Lower, WordCase.Title, "", 2);
+        final String[] words = {"user", "name"};
+        converter.apply(words);
+        words[1] = "id";
+        Assert.assertEquals("userName", converter.apply(new String[]{"user", "name"}));
+        Assert.assertEquals("userId", converter.apply(words));
+    }
+
+    @Test
+    public void cacheIsBounded() {
+        final WordsCaseConverter converter = new WordsCaseConverter(WordCase.Lower, WordCase.Lower, "", 1);
+        final String first = converter.apply(new String[]{"a"});
+        converter.apply(new String[]{"b"});
+        Assert.assertNotSame(first, converter.apply(new String[]{"a"}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void cachingConverterRethrowsOnInvalidWords() {
+        new WordsCaseConverter(WordCase.Title, WordCase.Title, "", 10).apply(new String[]{""});
+    }
+}
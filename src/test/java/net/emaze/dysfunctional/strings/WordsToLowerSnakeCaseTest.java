@@ -30,4 +30,10 @@ public class WordsToLowerSnakeCaseTest {
         final String got = new WordsToLowerSnakeCase("-").apply(new String[]{"SomE"});
         Assert.assertEquals("some", got);
     }
+
+    @Test
+    public void glyphIsInterposedBetweenEveryWord() {
+        final String got = new WordsToLowerSnakeCase("-").apply(new String[]{"oNe", "tWo", "threE"});
+        Assert.assertEquals("one-two-three", got);
+    }
 }
@@ -44,4 +44,10 @@ public class ByteTryParserTest {
         final Optional<Byte> got = new ByteTryParser(10).apply("1");
         Assert.assertEquals(Optional.of((byte) 1), got);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parsingOutOfRangeStringYieldsNothing() {
+        final Optional<Byte> got = new ByteTryParser(10).apply("128");
+        Assert.assertFalse(got.isPresent());
+    }
+}
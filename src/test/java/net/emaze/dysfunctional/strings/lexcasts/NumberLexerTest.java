@@ -0,0 +1,159 @@
+package net.emaze.dysfunctional.strings.lexcasts;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NumberLexerTest {
+
+    private static final List<String> INTEGERS = Arrays.asList(
+            "0", "+0", "-0", "1", "-1", "+7", "0012", "2147483647", "-2147483648", "2147483648", "-2147483649",
+            "9223372036854775807", "-9223372036854775808", "9223372036854775808", "-9223372036854775809",
+            "99999999999999999999", "", "+", "-", "--1", "+-1", "1-", " 1", "1 ", "1.0", "a", "0x10", "١٢");
+
+    @Test
+    public void parsesIntegersLikeIntegerParseInt() {
+        for (String value : INTEGERS) {
+            Assert.assertEquals(value, expectedInt(value, 10), NumberLexer.tryParseInt(value, 10));
+        }
+    }
+
+    @Test
+    public void parsesIntegersInAnyRadix() {
+        Assert.assertEquals(OptionalInt.of(255), NumberLexer.tryParseInt("ff", 16));
+        Assert.assertEquals(OptionalInt.of(-35), NumberLexer.tryParseInt("-z", 36));
+        Assert.assertEquals(OptionalInt.empty(), NumberLexer.tryParseInt("2", 2));
+    }
+
+    @Test
+    public void parsesLongsLikeLongParseLong() {
+        for (String value : INTEGERS) {
+            Assert.assertEquals(value, expectedLong(value, 10), NumberLexer.tryParseLong(value, 10));
+        }
+    }
+
+    @Test
+    public void parsingNullYieldsNothing() {
+        Assert.assertFalse(NumberLexer.tryParseInt(null, 10).isPresent());
+        Assert.assertFalse(NumberLexer.tryParseLong(null, 10).isPresent());
+        Assert.assertFalse(NumberLexer.tryParseDouble(null).isPresent());
+    }
+
+    @Test
+    public void canParseASliceOfASequence() {
+        Assert.assertEquals(OptionalInt.of(12), NumberLexer.tryParseInt("a12b", 1, 3, 10));
+        Assert.assertEquals(OptionalLong.of(-12), NumberLexer.tryParseLong(new StringBuilder("x-12"), 1, 4, 10));
+        Assert.assertEquals(OptionalDouble.of(1.5), NumberLexer.tryParseDouble("[1.5]", 1, 4));
+    }
+
+    @Test
+    public void canParseASliceOfBytes() {
+        final byte[] bytes = "id=-42;ratio=0.25;".getBytes(StandardCharsets.US_ASCII);
+        Assert.assertEquals(OptionalInt.of(-42), NumberLexer.tryParseInt(bytes, 3, 3, 10));
+        Assert.assertEquals(OptionalLong.of(-42), NumberLexer.tryParseLong(bytes, 3, 3, 10));
+        Assert.assertEquals(OptionalDouble.of(0.25), NumberLexer.tryParseDouble(bytes, 13, 4));
+        Assert.assertEquals(OptionalInt.empty(), NumberLexer.tryParseInt(bytes, 0, 3, 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parsingASliceOutOfBoundsYieldsException() {
+        NumberLexer.tryParseInt("12", 1, 3, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parsingABytesSliceOutOfBoundsYieldsException() {
+        NumberLexer.tryParseLong(new byte[2], 1, 2, 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parsingWithAnInvalidRadixYieldsException() {
+        NumberLexer.tryParseInt("12", Character.MAX_RADIX + 1);
+    }
+
+    @Test
+    public void parsesDoublesLikeDoubleParseDouble() {
+        final List<String> doubles = Arrays.asList(
+                "0", "-0", "0.0", "-0.0", "1", "1.", ".5", "-.5", "+1.5", "1e10", "1E-10", "1e+3", "123.456e-7",
+                "0.1", "0.3", "1.7976931348623157e308", "4.9e-324", "1e400", "1e-400", "2.2250738585072014E-308",
+                "9007199254740993", "123456789012345678901234567890", "0.000000000000000000000000001234",
+                "NaN", "-NaN", "Infinity", "-Infinity", "+Infinity", " 1.5 ", "1.5d", "1.5f", "1.5D", "0x1p3", "0x1.8p1",
+                "", " ", ".", "-", "e1", "1e", "1e+", "1.5.5", "1x", "1e5x", "nan", "inf", "0x", "1.5dd", "--1", "1 1");
+        for (String value : doubles) {
+            Assert.assertEquals(value, expectedDouble(value), NumberLexer.tryParseDouble(value));
+        }
+    }
+
+    @Test
+    public void hugeExponentsAreBalancedByLongFractions() {
+        final StringBuilder value = new StringBuilder("0.");
+        for (int i = 0; i != 100_010; ++i) {
+            value.append('0');
+        }
+        value.append("1e100020");
+        Assert.assertEquals(OptionalDouble.of(1e9), NumberLexer.tryParseDouble(value));
+        Assert.assertEquals(OptionalDouble.of(Double.POSITIVE_INFINITY), NumberLexer.tryParseDouble("1e99999999999999999999"));
+        Assert.assertEquals(OptionalDouble.of(0.0), NumberLexer.tryParseDouble("1e-99999999999999999999"));
+    }
+
+    @Test
+    public void parsesRandomDoublesLikeDoubleParseDouble() {
+        final Random random = new Random(22);
+        for (int round = 0; round != 100_000; ++round) {
+            final StringBuilder value = new StringBuilder();
+            if (random.nextBoolean()) {
+                value.append('-');
+            }
+            value.append(random.nextInt(1_000_000_000));
+            if (random.nextBoolean()) {
+                value.append('.').append(random.nextInt(1_000_000_000));
+            }
+            if (random.nextBoolean()) {
+                value.append('e').append(random.nextInt(80) - 40);
+            }
+            final String parsee = value.toString();
+            Assert.assertEquals(parsee, expectedDouble(parsee), NumberLexer.tryParseDouble(parsee));
+        }
+    }
+
+    @Test
+    public void parsesFormattedDoublesBackToTheSameValue() {
+        final Random random = new Random(22);
+        for (int round = 0; round != 100_000; ++round) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(value)) {
+                continue;
+            }
+            Assert.assertEquals(OptionalDouble.of(value), NumberLexer.tryParseDouble(Double.toString(value)));
+        }
+    }
+
+    private static OptionalInt expectedInt(String value, int radix) {
+        try {
+            return OptionalInt.of(Integer.parseInt(value, radix));
+        } catch (NumberFormatException ex) {
+            return OptionalInt.empty();
+        }
+    }
+
+    private static OptionalLong expectedLong(String value, int radix) {
+        try {
+            return OptionalLong.of(Long.parseLong(value, radix));
+        } catch (NumberFormatException ex) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static OptionalDouble expectedDouble(String value) {
+        try {
+            return OptionalDouble.of(Double.parseDouble(value));
+        } catch (NumberFormatException ex) {
+            return OptionalDouble.empty();
+        }
+    }
+}
@@ -44,4 +44,10 @@ public class ShortTryParserTest {
         final Optional<Short> got = new ShortTryParser(10).apply("1");
         Assert.assertEquals(Optional.of((short)1), got);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parsingOutOfRangeStringYieldsNothing() {
+        final Optional<Short> got = new ShortTryParser(10).apply("32768");
+        Assert.assertFalse(got.isPresent());
+    }
+}
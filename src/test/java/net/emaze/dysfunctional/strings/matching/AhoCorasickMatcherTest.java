@@ -0,0 +1,94 @@
+package net.emaze.dysfunctional.strings.matching;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AhoCorasickMatcherTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullNeedlesYieldsException() {
+        new AhoCorasickMatcher(null, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithANullNeedleYieldsException() {
+        new AhoCorasickMatcher(Arrays.asList("a", null), true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void searchingANullHaystackYieldsException() {
+        new AhoCorasickMatcher(Arrays.asList("a"), true).indexIn(null);
+    }
+
+    @Test
+    public void withoutNeedlesNothingIsFound() {
+        Assert.assertFalse(new AhoCorasickMatcher(Collections.<String>emptyList(), true).containedIn("abc"));
+    }
+
+    @Test
+    public void emptyNeedleIsFoundAtTheStart() {
+        Assert.assertEquals(0, new AhoCorasickMatcher(Arrays.asList("z", ""), true).indexIn("abc"));
+    }
+
+    @Test
+    public void findsAnyNeedleIgnoringCase() {
+        final AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("timeout", "refused", "he", "she"), true);
+        Assert.assertTrue(matcher.containedIn("Connection REFUSED"));
+        Assert.assertEquals(1, matcher.indexIn("USHERS"));
+        Assert.assertFalse(matcher.containedIn("all good"));
+    }
+
+    @Test
+    public void findsNeedlesThroughFailureLinks() {
+        final AhoCorasickMatcher matcher = new AhoCorasickMatcher(Arrays.asList("abcd", "bc"), false);
+        Assert.assertEquals(1, matcher.indexIn("abce"));
+    }
+
+    @Test
+    public void findsTheSameOccurrencesOfANaiveSearch() {
+        final Random random = new Random(23);
+        for (int round = 0; round != 20_000; ++round) {
+            final String haystack = random(random, random.nextInt(30));
+            final List<String> needles = new ArrayList<String>();
+            for (int i = 1 + random.nextInt(5); i != 0; --i) {
+                needles.add(random(random, 1 + random.nextInt(4)));
+            }
+            int earliestEnd = Integer.MAX_VALUE;
+            for (String needle : needles) {
+                final int index = haystack.toLowerCase(Locale.ROOT).indexOf(needle.toLowerCase(Locale.ROOT));
+                if (index != -1) {
+                    earliestEnd = Math.min(earliestEnd, index + needle.length());
+                }
+            }
+            final int index = new AhoCorasickMatcher(needles, true).indexIn(haystack);
+            Assert.assertEquals(haystack + "/" + needles, earliestEnd != Integer.MAX_VALUE, index != -1);
+            if (index != -1) {
+                Assert.assertTrue(haystack + "/" + needles, matchesAnyAt(haystack, needles, index));
+            }
+        }
+    }
+
+    private static boolean matchesAnyAt(String haystack, List<String> needles, int index) {
+        for (String needle : needles) {
+            if (haystack.regionMatches(true, index, needle, 0, needle.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String random(Random random, int length) {
+        final String alphabet = "abcAB";
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i != length; ++i) {
+            value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package net.emaze.dysfunctional.strings.matching;
+
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HorspoolMatcherTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullNeedleYieldsException() {
+        new HorspoolMatcher(null, true);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void searchingANullHaystackYieldsException() {
+        new HorspoolMatcher("a", true).indexIn(null);
+    }
+
+    @Test
+    public void emptyNeedleIsFoundAtTheStart() {
+        Assert.assertEquals(0, new HorspoolMatcher("", true).indexIn("abc"));
+        Assert.assertEquals(0, new HorspoolMatcher("", false).indexIn(""));
+    }
+
+    @Test
+    public void findsTheFirstOccurrenceIgnoringCase() {
+        Assert.assertEquals(3, new HorspoolMatcher("ERROR", true).indexIn("an error, another Error"));
+    }
+
+    @Test
+    public void honorsCaseWhenNotIgnoringIt() {
+        Assert.assertEquals(18, new HorspoolMatcher("Error", false).indexIn("an error, another Error"));
+    }
+
+    @Test
+    public void missingNeedleIsNotFound() {
+        Assert.assertFalse(new HorspoolMatcher("warning", true).containedIn("an error"));
+    }
+
+    @Test
+    public void foldsCharactersBeyondLatin1() {
+        Assert.assertTrue(new HorspoolMatcher("ĀĒ", true).containedIn("xxāēxx"));
+        Assert.assertTrue(new HorspoolMatcher("ΣΊΣΥΦΟΣ", true).containedIn("ο σίσυφος"));
+    }
+
+    @Test
+    public void charactersSharingTheLowByteDoNotSkipMatches() {
+        Assert.assertEquals(2, new HorspoolMatcher("Ła", false).indexIn("AŁŁa"));
+    }
+
+    @Test
+    public void findsTheSameIndexOfIndexOf() {
+        final Random random = new Random(23);
+        for (int round = 0; round != 20_000; ++round) {
+            final String haystack = random(random, random.nextInt(40));
+            final String needle = random(random, 1 + random.nextInt(4));
+            final int expected = haystack.toLowerCase(Locale.ROOT).indexOf(needle.toLowerCase(Locale.ROOT));
+            Assert.assertEquals(haystack + "/" + needle, expected, new HorspoolMatcher(needle, true).indexIn(haystack));
+            Assert.assertEquals(haystack + "/" + needle, haystack.indexOf(needle), new HorspoolMatcher(needle, false).indexIn(haystack));
+        }
+    }
+
+    private static String random(Random random, int length) {
+        final String alphabet = "abABŁł";
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i != length; ++i) {
+            value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return value.toString();
+    }
+}
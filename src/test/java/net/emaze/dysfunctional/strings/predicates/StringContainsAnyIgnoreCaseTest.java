@@ -0,0 +1,31 @@
+package net.emaze.dysfunctional.strings.predicates;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringContainsAnyIgnoreCaseTest {
+
+    private static final List<String> NEEDLES = Arrays.asList("refused", "timeout");
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullNeedlesYieldsException() {
+        new StringContainsAnyIgnoreCase(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testingWithNullHaystackYieldsException() {
+        new StringContainsAnyIgnoreCase(NEEDLES).test(null);
+    }
+
+    @Test
+    public void testingContainedNeedleYieldsTrue() {
+        Assert.assertTrue(new StringContainsAnyIgnoreCase(NEEDLES).test("a TIMEOUT"));
+    }
+
+    @Test
+    public void testingNotContainedNeedlesYieldsFalse() {
+        Assert.assertFalse(new StringContainsAnyIgnoreCase(NEEDLES).test("all good"));
+    }
+}
@@ -0,0 +1,31 @@
+package net.emaze.dysfunctional.strings.predicates;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StringContainsAnyTest {
+
+    private static final List<String> NEEDLES = Arrays.asList("refused", "timeout");
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingWithNullNeedlesYieldsException() {
+        new StringContainsAny(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testingWithNullHaystackYieldsException() {
+        new StringContainsAny(NEEDLES).test(null);
+    }
+
+    @Test
+    public void testingContainedNeedleYieldsTrue() {
+        Assert.assertTrue(new StringContainsAny(NEEDLES).test("a timeout"));
+    }
+
+    @Test
+    public void testingNotContainedNeedlesYieldsFalse() {
+        Assert.assertFalse(new StringContainsAny(NEEDLES).test("a TIMEOUT"));
+    }
+}
@@ -0,0 +1,54 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.testing.O;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CenteredWindowViewIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingCenteredWindowViewIteratorWithNullIteratorYieldsException() {
+        new CenteredWindowViewIterator<O>(null, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingCenteredWindowViewIteratorWithEvenWindowSizeYieldsException() {
+        new CenteredWindowViewIterator<O>(Iterations.<O>iterator(), 4);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingEmptyIteratorYieldsException() {
+        new CenteredWindowViewIterator<O>(Iterations.<O>iterator(), 3).next();
+    }
+
+    @Test
+    public void windowsAreInOrder() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final CenteredWindowViewIterator<O> win = new CenteredWindowViewIterator<O>(iter, 3);
+        final List<List<Optional<O>>> got = new ArrayList<List<Optional<O>>>();
+        while (win.hasNext()) {
+            got.add(new ArrayList<Optional<O>>(win.next()));
+        }
+        final List<List<Optional<O>>> expected = new ArrayList<List<Optional<O>>>();
+        expected.add(Arrays.asList(Optional.<O>empty(), Optional.of(O.ONE), Optional.of(O.ANOTHER)));
+        expected.add(Arrays.asList(Optional.of(O.ONE), Optional.of(O.ANOTHER), Optional.of(O.YET_ANOTHER)));
+        expected.add(Arrays.asList(Optional.of(O.ANOTHER), Optional.of(O.YET_ANOTHER), Optional.<O>empty()));
+        Assert.assertEquals(expected, got);
+    }
+
+    @Test
+    public void hasNextDoesNotAlterCurrentView() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE, O.ANOTHER);
+        final CenteredWindowViewIterator<O> win = new CenteredWindowViewIterator<O>(iter, 3);
+        final List<Optional<O>> view = win.next();
+        win.hasNext();
+        Assert.assertEquals(Arrays.asList(Optional.<O>empty(), Optional.of(O.ONE), Optional.of(O.ANOTHER)), view);
+    }
+}
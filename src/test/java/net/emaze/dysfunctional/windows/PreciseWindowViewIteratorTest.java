@@ -0,0 +1,68 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.testing.O;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PreciseWindowViewIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingPreciseWindowViewIteratorWithNullIteratorYieldsException() {
+        new PreciseWindowViewIterator<O>(null, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingPreciseWindowViewIteratorWithNonPositiveWindowSizeYieldsException() {
+        new PreciseWindowViewIterator<O>(Collections.<O>emptyList().iterator(), 0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingEmptyIteratorYieldsException() {
+        new PreciseWindowViewIterator<O>(Collections.<O>emptyList().iterator(), 3).next();
+    }
+
+    @Test
+    public void shorterThanWindowIterHasNoNext() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE);
+        Assert.assertFalse(new PreciseWindowViewIterator<O>(iter, 2).hasNext());
+    }
+
+    @Test
+    public void hasNextDoesNotAlterCurrentView() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final PreciseWindowViewIterator<O> win = new PreciseWindowViewIterator<O>(iter, 2);
+        final List<O> view = win.next();
+        win.hasNext();
+        Assert.assertEquals(Arrays.asList(O.ONE, O.ANOTHER), view);
+    }
+
+    @Test
+    public void viewSlidesOnNext() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final PreciseWindowViewIterator<O> win = new PreciseWindowViewIterator<O>(iter, 2);
+        win.next();
+        Assert.assertEquals(Arrays.asList(O.ANOTHER, O.YET_ANOTHER), win.next());
+    }
+
+    @Test
+    public void yieldsOneWindowPerSlide() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final PreciseWindowViewIterator<O> win = new PreciseWindowViewIterator<O>(iter, 2);
+        win.next();
+        win.next();
+        Assert.assertFalse(win.hasNext());
+    }
+
+    @Test
+    public void viewsAreTheSameInstance() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final PreciseWindowViewIterator<O> win = new PreciseWindowViewIterator<O>(iter, 2);
+        Assert.assertSame(win.next(), win.next());
+    }
+}
@@ -0,0 +1,69 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RingBufferTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingRingBufferWithNonPositiveCapacityYieldsException() {
+        new RingBuffer<Integer>(0);
+    }
+
+    @Test
+    public void addingToFullBufferEvictsOldest() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.add(3);
+        Assert.assertEquals(Arrays.asList(2, 3), buffer.view());
+    }
+
+    @Test
+    public void viewReflectsChanges() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        final List<Integer> view = buffer.view();
+        buffer.add(1);
+        Assert.assertEquals(Arrays.asList(1), view);
+    }
+
+    @Test
+    public void removeYieldsOldest() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.add(3);
+        Assert.assertEquals(Integer.valueOf(2), buffer.remove());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void removingFromEmptyBufferYieldsException() {
+        new RingBuffer<Integer>(2).remove();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void gettingOutOfBoundsYieldsException() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        buffer.add(1);
+        buffer.get(1);
+    }
+
+    @Test
+    public void copyingWrappedViewPreservesOrder() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(3);
+        for (int i = 0; i != 5; ++i) {
+            buffer.add(i);
+        }
+        Assert.assertEquals(Arrays.asList(2, 3, 4), new ArrayList<>(buffer.view()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void viewIsReadOnly() {
+        final RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        buffer.view().add(1);
+    }
+}
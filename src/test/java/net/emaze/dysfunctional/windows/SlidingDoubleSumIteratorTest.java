@@ -0,0 +1,41 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SlidingDoubleSumIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingDoubleSumIteratorWithNullIteratorYieldsException() {
+        new SlidingDoubleSumIterator(null, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingDoubleSumIteratorWithNonPositiveWindowSizeYieldsException() {
+        new SlidingDoubleSumIterator(Arrays.stream(new double[0]).iterator(), 0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingShorterThanWindowIteratorYieldsException() {
+        new SlidingDoubleSumIterator(Arrays.stream(new double[]{1}).iterator(), 2).nextDouble();
+    }
+
+    @Test
+    public void yieldsSumOfEveryWindow() {
+        final PrimitiveIterator.OfDouble iterator = new SlidingDoubleSumIterator(Arrays.stream(new double[]{1, 2, 3, 4, 5}).iterator(), 3);
+        final double[] got = {iterator.nextDouble(), iterator.nextDouble(), iterator.nextDouble()};
+        Assert.assertArrayEquals(new double[]{6, 9, 12}, got, 0);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void smallTermsAreNotLostNextToLargeOnes() {
+        final PrimitiveIterator.OfDouble iterator = new SlidingDoubleSumIterator(Arrays.stream(new double[]{1e16, 1, 1, 1}).iterator(), 2);
+        iterator.nextDouble();
+        iterator.nextDouble();
+        Assert.assertEquals(2, iterator.nextDouble(), 0);
+    }
+}
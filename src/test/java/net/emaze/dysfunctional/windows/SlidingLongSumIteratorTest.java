@@ -0,0 +1,40 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SlidingLongSumIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingLongSumIteratorWithNullIteratorYieldsException() {
+        new SlidingLongSumIterator(null, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingLongSumIteratorWithNonPositiveWindowSizeYieldsException() {
+        new SlidingLongSumIterator(Arrays.stream(new long[0]).iterator(), 0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingShorterThanWindowIteratorYieldsException() {
+        new SlidingLongSumIterator(Arrays.stream(new long[]{1}).iterator(), 2).nextLong();
+    }
+
+    @Test
+    public void yieldsSumOfEveryWindow() {
+        final PrimitiveIterator.OfLong iterator = new SlidingLongSumIterator(Arrays.stream(new long[]{1, 2, 3, 4, 5}).iterator(), 3);
+        final long[] got = {iterator.nextLong(), iterator.nextLong(), iterator.nextLong()};
+        Assert.assertArrayEquals(new long[]{6, 9, 12}, got);
+        Assert.assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void windowAsLongAsTheIteratorYieldsOneSum() {
+        final PrimitiveIterator.OfLong iterator = new SlidingLongSumIterator(Arrays.stream(new long[]{1, 2, 3}).iterator(), 3);
+        Assert.assertEquals(6, iterator.nextLong());
+        Assert.assertFalse(iterator.hasNext());
+    }
+}
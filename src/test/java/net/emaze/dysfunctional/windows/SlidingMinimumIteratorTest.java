@@ -0,0 +1,60 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.order.ComparableComparator;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SlidingMinimumIteratorTest {
+
+    private static final Comparator<Integer> COMPARATOR = new ComparableComparator<Integer>();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingMinimumIteratorWithNullIteratorYieldsException() {
+        new SlidingMinimumIterator<Integer>(null, 1, COMPARATOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingMinimumIteratorWithNonPositiveWindowSizeYieldsException() {
+        new SlidingMinimumIterator<Integer>(Iterations.<Integer>iterator(), 0, COMPARATOR);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingMinimumIteratorWithNullComparatorYieldsException() {
+        new SlidingMinimumIterator<Integer>(Iterations.<Integer>iterator(), 1, null);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingShorterThanWindowIteratorYieldsException() {
+        new SlidingMinimumIterator<Integer>(Iterations.iterator(1), 2, COMPARATOR).next();
+    }
+
+    @Test
+    public void yieldsMinimumOfEveryWindow() {
+        final Iterator<Integer> minimums = new SlidingMinimumIterator<Integer>(Iterations.iterator(3, 1, 4, 1, 5, 9, 2, 6), 3, COMPARATOR);
+        Assert.assertEquals(Arrays.asList(1, 1, 1, 1, 2, 2), Consumers.all(minimums));
+    }
+
+    @Test
+    public void yieldsSameMinimumsAsNaiveWindowing() {
+        final Random random = new Random(42);
+        final List<Integer> values = new ArrayList<Integer>();
+        for (int i = 0; i != 500; ++i) {
+            values.add(random.nextInt(100));
+        }
+        final List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i + 7 <= values.size(); ++i) {
+            expected.add(Collections.min(values.subList(i, i + 7)));
+        }
+        Assert.assertEquals(expected, Consumers.all(new SlidingMinimumIterator<Integer>(values.iterator(), 7, COMPARATOR)));
+    }
+}
@@ -0,0 +1,66 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import net.emaze.dysfunctional.Consumers;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.numbers.operations.IntegerOperations;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SlidingSumIteratorTest {
+
+    private static final IntegerOperations OPS = new IntegerOperations();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingSumIteratorWithNullIteratorYieldsException() {
+        new SlidingSumIterator<Integer>(null, 1, OPS, OPS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingSumIteratorWithNonPositiveWindowSizeYieldsException() {
+        new SlidingSumIterator<Integer>(Iterations.<Integer>iterator(), 0, OPS, OPS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingSumIteratorWithNullSumPolicyYieldsException() {
+        new SlidingSumIterator<Integer>(Iterations.<Integer>iterator(), 1, null, OPS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingSlidingSumIteratorWithNullSubtractPolicyYieldsException() {
+        new SlidingSumIterator<Integer>(Iterations.<Integer>iterator(), 1, OPS, null);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingShorterThanWindowIteratorYieldsException() {
+        new SlidingSumIterator<Integer>(Iterations.iterator(1), 2, OPS, OPS).next();
+    }
+
+    @Test
+    public void yieldsSumOfEveryWindow() {
+        final Iterator<Integer> sums = new SlidingSumIterator<Integer>(Iterations.iterator(1, 2, 3, 4, 5), 3, OPS, OPS);
+        Assert.assertEquals(Arrays.asList(6, 9, 12), Consumers.all(sums));
+    }
+
+    @Test
+    public void unitWindowYieldsElements() {
+        final Iterator<Integer> sums = new SlidingSumIterator<Integer>(Iterations.iterator(1, 2, 3), 1, OPS, OPS);
+        Assert.assertEquals(Arrays.asList(1, 2, 3), Consumers.all(sums));
+    }
+
+    @Test
+    public void canCallHasNextTwoTimes() {
+        final Iterator<Integer> sums = new SlidingSumIterator<Integer>(Iterations.iterator(1, 2), 2, OPS, OPS);
+        sums.hasNext();
+        Assert.assertTrue(sums.hasNext());
+    }
+
+    @Test
+    public void yieldsOneSumPerWindow() {
+        final List<Integer> got = Consumers.all(new SlidingSumIterator<Integer>(Iterations.iterator(1, 2, 3, 4), 2, OPS, OPS));
+        Assert.assertEquals(3, got.size());
+    }
+}
@@ -0,0 +1,44 @@
+package net.emaze.dysfunctional.windows;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import net.emaze.dysfunctional.Iterations;
+import net.emaze.dysfunctional.testing.O;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TrailsViewIteratorTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingTrailsViewIteratorWithNullIteratorYieldsException() {
+        new TrailsViewIterator<O>(null, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void creatingTrailsViewIteratorWithNonPositiveTrailSizeYieldsException() {
+        new TrailsViewIterator<O>(Iterations.<O>iterator(), 0);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void consumingEmptyIteratorYieldsException() {
+        new TrailsViewIterator<O>(Iterations.<O>iterator(), 2).next();
+    }
+
+    @Test
+    public void firstTrailIsPaddedWithNothing() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE, O.ANOTHER);
+        final TrailsViewIterator<O> trails = new TrailsViewIterator<O>(iter, 2);
+        Assert.assertEquals(Arrays.asList(Optional.<O>empty(), Optional.of(O.ONE)), trails.next());
+    }
+
+    @Test
+    public void trailsSlide() {
+        final Iterator<O> iter = Iterations.iterator(O.ONE, O.ANOTHER, O.YET_ANOTHER);
+        final TrailsViewIterator<O> trails = new TrailsViewIterator<O>(iter, 2);
+        trails.next();
+        trails.next();
+        Assert.assertEquals(Arrays.asList(Optional.of(O.ANOTHER), Optional.of(O.YET_ANOTHER)), trails.next());
+    }
+}